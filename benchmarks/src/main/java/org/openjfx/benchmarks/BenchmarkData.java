@@ -0,0 +1,178 @@
+package org.openjfx.benchmarks;
+
+import org.openjfx.model.Booking;
+import org.openjfx.model.BookingRow;
+import org.openjfx.model.BookingSeat;
+import org.openjfx.model.Event;
+import org.openjfx.service.BookingService;
+import org.openjfx.util.IntSet;
+import org.openjfx.util.RowLabels;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic data for the benchmarks (no database)
+ */
+final class BenchmarkData {
+
+    static final long SEED = 20250101L;
+
+    private static final String[] FIRST_NAMES = {"Andi", "Budi", "Citra", "Dewi", "Eko", "Fajar", "Gita", "Hadi"};
+    private static final String[] LAST_NAMES = {"Pratama", "Saputra", "Wijaya", "Lestari", "Santoso", "Kusuma"};
+    private static final int EVENTS = 50;
+
+    /** Columns of the booking list query, as BookingService.BOOKING_MAPPER reads them */
+    private static final String[] BOOKING_COLUMNS = {
+        "BookingID", "EventID", "BookingNumber", "CustomerName", "CustomerEmail", "CustomerPhone",
+        "TotalSeats", "TotalPrice", "BookingStatus", "BookingDate", "CreatedAt", "UpdatedAt", "EventName"
+    };
+
+    private static final int[] BOOKING_COLUMN_TYPES = {
+        Types.INTEGER, Types.INTEGER, Types.NVARCHAR, Types.NVARCHAR, Types.NVARCHAR, Types.NVARCHAR,
+        Types.INTEGER, Types.DECIMAL, Types.NVARCHAR, Types.TIMESTAMP, Types.TIMESTAMP, Types.TIMESTAMP,
+        Types.NVARCHAR
+    };
+
+    private BenchmarkData() {}
+
+    /**
+     * Seats of one section as parallel arrays, in generation order (row by row)
+     */
+    static final class SectionSeats {
+        final int sectionId;
+        final int[] seatIds;
+        final int[] rows;
+        final int[] seatNumbers;
+        final IntSet bookedSeatIds;
+
+        SectionSeats(int sectionId, int totalRows, int seatsPerRow, double bookedRatio) {
+            int count = totalRows * seatsPerRow;
+            this.sectionId = sectionId;
+            this.seatIds = new int[count];
+            this.rows = new int[count];
+            this.seatNumbers = new int[count];
+            this.bookedSeatIds = new IntSet((int) (count * bookedRatio) + 1);
+
+            Random random = new Random(SEED);
+            int i = 0;
+            for (int row = 1; row <= totalRows; row++) {
+                for (int seat = 1; seat <= seatsPerRow; seat++) {
+                    seatIds[i] = 100_000 + i;
+                    rows[i] = row;
+                    seatNumbers[i] = seat;
+                    if (random.nextDouble() < bookedRatio) {
+                        bookedSeatIds.add(seatIds[i]);
+                    }
+                    i++;
+                }
+            }
+        }
+
+        /** Row labels as the database returns them (one String per seat) */
+        String[] rowLabels() {
+            String[] labels = new String[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                labels[i] = new String(RowLabels.rowLabel(rows[i]));
+            }
+            return labels;
+        }
+    }
+
+    static List<BookingRow> bookingRows(int count) {
+        List<BookingRow> rows = new ArrayList<>(count);
+        String[] eventNames = new String[EVENTS];
+        for (int e = 0; e < EVENTS; e++) {
+            eventNames[e] = "Liga 1: Matchday " + (e + 1);
+        }
+
+        Random random = new Random(SEED);
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < count; i++) {
+            int eventId = random.nextInt(EVENTS) + 1;
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            LocalDate day = start.plusDays(i % 365);
+
+            rows.add(new BookingRow(
+                i + 1, eventId,
+                BookingService.formatBookingNumber(day, i % 9999 + 1),
+                eventNames[eventId - 1],
+                first + " " + last,
+                first.toLowerCase() + "." + last.toLowerCase() + i + "@example.com",
+                "0812" + (10_000_000 + i),
+                random.nextInt(6) + 1, 150_000.0 * (random.nextInt(6) + 1),
+                random.nextInt(10) == 0 ? BookingRow.Status.CANCELLED : BookingRow.Status.CONFIRMED,
+                Timestamp.valueOf(day.atTime(10, 0)).getTime()));
+        }
+        return rows;
+    }
+
+    static Event event() {
+        Timestamp now = Timestamp.valueOf(LocalDate.of(2025, 1, 1).atStartOfDay());
+        return new Event(1, "Liga 1: Persija vs Persib", "Football", LocalDate.of(2025, 3, 15),
+                         LocalTime.of(19, 30), "Benchmark event", "Active", 40_000, 12_000, now, now);
+    }
+
+    static Booking bookingWithSeats(int seats) {
+        Timestamp now = Timestamp.valueOf(LocalDate.of(2025, 1, 1).atTime(10, 0));
+        Booking booking = new Booking(1, 1, "BK-20250101-0001", "Citra Wijaya", "citra@example.com",
+                                      "081212345678", seats, 150_000.0 * seats, "CONFIRMED", now, now, now);
+
+        List<BookingSeat> bookingSeats = new ArrayList<>(seats);
+        for (int i = 0; i < seats; i++) {
+            BookingSeat seat = new BookingSeat(i + 1, 1, 1, 3, 100 + i, RowLabels.rowLabel(12), 7 + i,
+                                               150_000.0, "BOOKED", now);
+            seat.setSectionName("Tribune East");
+            bookingSeats.add(seat);
+        }
+        booking.setBookingSeats(bookingSeats);
+        return booking;
+    }
+
+    /**
+     * In-memory ResultSet (CachedRowSet) of booking rows with the booking list columns
+     */
+    static CachedRowSet bookingsResultSet(int rows) throws SQLException {
+        RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+        metaData.setColumnCount(BOOKING_COLUMNS.length);
+        for (int i = 0; i < BOOKING_COLUMNS.length; i++) {
+            metaData.setColumnName(i + 1, BOOKING_COLUMNS[i]);
+            metaData.setColumnLabel(i + 1, BOOKING_COLUMNS[i]);
+            metaData.setColumnType(i + 1, BOOKING_COLUMN_TYPES[i]);
+        }
+
+        CachedRowSet rowSet = RowSetProvider.newFactory().createCachedRowSet();
+        rowSet.setMetaData(metaData);
+        rowSet.moveToInsertRow();
+        for (int i = 0; i < rows; i++) {
+            Timestamp date = new Timestamp(1735689600000L + i * 60_000L);
+            rowSet.updateInt(1, i + 1);
+            rowSet.updateInt(2, i % EVENTS + 1);
+            rowSet.updateString(3, "BK-20250101-" + (1000 + i % 9000));
+            rowSet.updateString(4, "Customer " + i);
+            rowSet.updateString(5, "customer" + i + "@example.com");
+            rowSet.updateString(6, "0812" + (10_000_000 + i));
+            rowSet.updateInt(7, 2);
+            rowSet.updateDouble(8, 150_000.0);
+            rowSet.updateString(9, i % 10 == 0 ? "CANCELLED" : "CONFIRMED");
+            rowSet.updateTimestamp(10, date);
+            rowSet.updateTimestamp(11, date);
+            rowSet.updateTimestamp(12, date);
+            rowSet.updateString(13, "Event " + (i % EVENTS + 1));
+            rowSet.insertRow();
+        }
+        rowSet.moveToCurrentRow();
+        rowSet.beforeFirst();
+        return rowSet;
+    }
+}
@@ -0,0 +1,59 @@
+package org.openjfx.benchmarks;
+
+import org.openjfx.model.BookingRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * BookingsManagementView filtering (search text and status) over large booking lists
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BookingFilterBenchmark {
+
+    @Param({"100000", "500000"})
+    public int rows;
+
+    private List<BookingRow> bookings;
+
+    @Setup
+    public void setup() {
+        bookings = BenchmarkData.bookingRows(rows);
+    }
+
+    @Benchmark
+    public List<BookingRow> statusOnly() {
+        return filter(null, BookingRow.Status.CONFIRMED);
+    }
+
+    @Benchmark
+    public List<BookingRow> searchAndStatus() {
+        return filter("citra", BookingRow.Status.CONFIRMED);
+    }
+
+    /**
+     * Same pipeline as BookingsManagementView.applyFilters
+     */
+    private List<BookingRow> filter(String search, BookingRow.Status status) {
+        return bookings.stream()
+            .filter(booking -> booking.matches(search, status))
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,149 @@
+package org.openjfx.benchmarks;
+
+import org.openjfx.model.Booking;
+import org.openjfx.model.BookingRow;
+
+import java.lang.ref.Reference;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Heap comparison of the booking list models
+ * Builds synthetic booking lists the way BookingService creates them from a ResultSet
+ * (a fresh String per column value, as the JDBC driver returns) as full Booking objects
+ * and as compact BookingRow records, and reports the heap retained by each list.
+ * Needs no database.
+ *
+ * Usage: java -Xmx4g -cp benchmarks/target/benchmarks.jar org.openjfx.benchmarks.BookingHeapComparison [rows...]
+ * Defaults to 100,000, 500,000 and 1,000,000 rows.
+ */
+public class BookingHeapComparison {
+
+    private static final int EVENTS = 50;
+    private static final String[] FIRST_NAMES = {"Andi", "Budi", "Citra", "Dewi", "Eko", "Fajar", "Gita", "Hadi"};
+    private static final String[] LAST_NAMES = {"Pratama", "Saputra", "Wijaya", "Lestari", "Santoso", "Kusuma"};
+
+    public static void main(String[] args) {
+        int[] sizes = {100_000, 500_000, 1_000_000};
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) sizes[i] = Integer.parseInt(args[i]);
+        }
+
+        System.out.println("========================================");
+        System.out.println("BOOKING LIST HEAP COMPARISON");
+        System.out.println("========================================");
+        System.out.println(String.format("%10s %16s %16s %10s %10s %8s",
+                                         "rows", "Booking (MB)", "BookingRow (MB)", "B/row", "Row/row", "saved"));
+
+        for (int rows : sizes) {
+            long bookingBytes = retained(() -> buildBookings(rows));
+            long rowBytes = retained(() -> buildRows(rows));
+
+            System.out.println(String.format("%10d %16.1f %16.1f %10d %10d %7.0f%%",
+                                             rows, bookingBytes / 1048576.0, rowBytes / 1048576.0,
+                                             bookingBytes / rows, rowBytes / rows,
+                                             100.0 * (bookingBytes - rowBytes) / bookingBytes));
+        }
+    }
+
+    private interface ListBuilder {
+        List<?> build();
+    }
+
+    /**
+     * Heap retained by the list a builder creates (used heap after GC, with and without it)
+     */
+    private static long retained(ListBuilder builder) {
+        long before = usedAfterGc();
+        List<?> list = builder.build();
+        long after = usedAfterGc();
+        Reference.reachabilityFence(list);
+        return after - before;
+    }
+
+    private static long usedAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static List<Booking> buildBookings(int rows) {
+        List<Booking> bookings = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Timestamp date = new Timestamp(bookingMillis(i));
+            Booking booking = new Booking(i + 1, eventId(i), bookingNumber(i),
+                                          customerName(i), customerEmail(i), customerPhone(i),
+                                          2, 150000.0, status(i),
+                                          date, new Timestamp(date.getTime()), new Timestamp(date.getTime()));
+            booking.setEventName(eventName(i));
+            bookings.add(booking);
+        }
+        return bookings;
+    }
+
+    /**
+     * Same mapping as BookingService.getAllBookingRows
+     */
+    private static List<BookingRow> buildRows(int rows) {
+        List<BookingRow> list = new ArrayList<>(rows);
+        Map<Integer, String> eventNames = new HashMap<>();
+        for (int i = 0; i < rows; i++) {
+            int eventId = eventId(i);
+            String eventName = eventNames.get(eventId);
+            if (eventName == null) {
+                eventName = eventName(i);
+                eventNames.put(eventId, eventName);
+            }
+            list.add(new BookingRow(i + 1, eventId, bookingNumber(i), eventName,
+                                    customerName(i), customerEmail(i), customerPhone(i),
+                                    2, 150000.0, BookingRow.Status.of(status(i)),
+                                    BookingRow.toMillis(new Timestamp(bookingMillis(i)))));
+        }
+        return list;
+    }
+
+    // Synthetic column values; each call returns a new String like a ResultSet does
+
+    private static int eventId(int i) {
+        return i % EVENTS + 1;
+    }
+
+    private static long bookingMillis(int i) {
+        return 1735689600000L + i * 60_000L;
+    }
+
+    private static String bookingNumber(int i) {
+        return String.format("BK%08d%04d", 20250101 + i % 28, i % 10000);
+    }
+
+    private static String eventName(int i) {
+        return "Liga 1: Persija vs Persib Matchday " + eventId(i);
+    }
+
+    private static String customerName(int i) {
+        return FIRST_NAMES[i % FIRST_NAMES.length] + " " + LAST_NAMES[(i / 8) % LAST_NAMES.length];
+    }
+
+    private static String customerEmail(int i) {
+        return FIRST_NAMES[i % FIRST_NAMES.length].toLowerCase() + i + "@example.com";
+    }
+
+    private static String customerPhone(int i) {
+        return "0812" + String.format("%08d", i);
+    }
+
+    private static String status(int i) {
+        return new String(i % 10 == 0 ? "CANCELLED" : "CONFIRMED");
+    }
+}
@@ -0,0 +1,48 @@
+package org.openjfx.benchmarks;
+
+import org.openjfx.service.BookingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Booking number formatting (BookingService.formatBookingNumber), without the sequence query
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingNumberBenchmark {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final LocalDate day = LocalDate.of(2025, 1, 1);
+    private int sequence;
+
+    @Benchmark
+    public String formatBookingNumber() {
+        sequence = sequence % 9999 + 1;
+        return BookingService.formatBookingNumber(day, sequence);
+    }
+
+    /**
+     * String.format, as generateBookingNumber formatted before, for reference
+     */
+    @Benchmark
+    public String stringFormat() {
+        sequence = sequence % 9999 + 1;
+        return String.format("BK-%s-%04d", day.format(DATE_FORMAT), sequence);
+    }
+}
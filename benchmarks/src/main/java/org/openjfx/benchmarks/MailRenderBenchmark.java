@@ -0,0 +1,52 @@
+package org.openjfx.benchmarks;
+
+import org.openjfx.model.Booking;
+import org.openjfx.model.Event;
+import org.openjfx.util.MailUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTML rendering of the booking emails (MailUtils), without sending
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MailRenderBenchmark {
+
+    @Param({"1", "10"})
+    public int seats;
+
+    private Booking booking;
+    private Event event;
+
+    @Setup
+    public void setup() {
+        booking = BenchmarkData.bookingWithSeats(seats);
+        event = BenchmarkData.event();
+    }
+
+    @Benchmark
+    public String bookingConfirmation() {
+        return MailUtils.buildBookingConfirmationEmail(booking, event);
+    }
+
+    @Benchmark
+    public String bookingCancellation() {
+        return MailUtils.buildBookingCancellationEmail(booking, event);
+    }
+}
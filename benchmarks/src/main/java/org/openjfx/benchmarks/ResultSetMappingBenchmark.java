@@ -0,0 +1,86 @@
+package org.openjfx.benchmarks;
+
+import org.openjfx.model.Booking;
+import org.openjfx.service.BookingService;
+import org.openjfx.util.RowMappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.sql.rowset.CachedRowSet;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResultSet -> Booking mapping over an in-memory CachedRowSet, per row:
+ * by column name on every row (the previous mapResultSetToBooking) and with
+ * the cached column-index mapper (BookingService.BOOKING_MAPPER)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultSetMappingBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private CachedRowSet rowSet;
+
+    @Setup
+    public void setup() throws SQLException {
+        rowSet = BenchmarkData.bookingsResultSet(ROWS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long byColumnName() throws SQLException {
+        long sum = 0;
+        rowSet.beforeFirst();
+        while (rowSet.next()) {
+            sum += mapByName(rowSet).getBookingId();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long cachedIndexMapper() throws SQLException {
+        long sum = 0;
+        rowSet.beforeFirst();
+        RowMappers.RowMapper<Booking> mapper = RowMappers.forResultSet(rowSet, BookingService.BOOKING_MAPPER);
+        while (rowSet.next()) {
+            sum += mapper.map(rowSet).getBookingId();
+        }
+        return sum;
+    }
+
+    private static Booking mapByName(ResultSet rs) throws SQLException {
+        Booking booking = new Booking(
+            rs.getInt("BookingID"),
+            rs.getInt("EventID"),
+            rs.getString("BookingNumber"),
+            rs.getString("CustomerName"),
+            rs.getString("CustomerEmail"),
+            rs.getString("CustomerPhone"),
+            rs.getInt("TotalSeats"),
+            rs.getDouble("TotalPrice"),
+            rs.getString("BookingStatus"),
+            rs.getTimestamp("BookingDate"),
+            rs.getTimestamp("CreatedAt"),
+            rs.getTimestamp("UpdatedAt")
+        );
+        booking.setEventName(rs.getString("EventName"));
+        return booking;
+    }
+}
@@ -0,0 +1,58 @@
+package org.openjfx.benchmarks;
+
+import org.openjfx.util.RowLabels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Row-label generation and decoding (RowLabels) for every row of a section
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowLabelBenchmark {
+
+    @Param({"26", "702", "5000"})
+    public int rows;
+
+    private String[] labels;
+
+    @Setup
+    public void setup() {
+        labels = new String[rows];
+        for (int row = 1; row <= rows; row++) {
+            labels[row - 1] = new String(RowLabels.rowLabel(row));
+        }
+    }
+
+    @Benchmark
+    public void rowLabels(Blackhole blackhole) {
+        for (int row = 1; row <= rows; row++) {
+            blackhole.consume(RowLabels.rowLabel(row));
+        }
+    }
+
+    @Benchmark
+    public int rowIndexes() {
+        int sum = 0;
+        for (String label : labels) {
+            sum += RowLabels.rowIndex(label);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,152 @@
+package org.openjfx.benchmarks;
+
+import org.openjfx.service.SeatGenerationService;
+import org.openjfx.util.DatabaseUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark for seat generation throughput (seats/second)
+ * Creates temporary tribune sections, generates their seats with the previous
+ * row-by-row JDBC batch approach and with the set-based generator at several
+ * parallelism levels, then removes the temporary sections again.
+ *
+ * Usage: java -cp benchmarks/target/benchmarks.jar org.openjfx.benchmarks.SeatGenerationBenchmark [sections] [rows] [seatsPerRow]
+ * Defaults to 8 sections x 100 rows x 100 seats = 80,000 seats per run.
+ * Run against a local/test database only.
+ */
+public class SeatGenerationBenchmark {
+
+    private static final String SECTION_PREFIX = "BENCH-SEATGEN-";
+    private static final int[] PARALLELISM_LEVELS = {1, 2, 4, 8};
+
+    public static void main(String[] args) {
+        int sections = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int rows = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int seatsPerRow = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+        int seatsPerRun = sections * rows * seatsPerRow;
+
+        System.out.println("========================================");
+        System.out.println("SEAT GENERATION BENCHMARK");
+        System.out.println("========================================");
+        System.out.println(sections + " sections x " + rows + " rows x " + seatsPerRow +
+                           " seats = " + seatsPerRun + " seats per run");
+        System.out.println("");
+
+        SeatGenerationService service = new SeatGenerationService();
+        List<Integer> sectionIds = new ArrayList<>();
+
+        try {
+            cleanup();
+            sectionIds = createSections(sections, rows, seatsPerRow);
+
+            long start = System.nanoTime();
+            for (int sectionId : sectionIds) {
+                generateWithJdbcBatch(sectionId, rows, seatsPerRow);
+            }
+            report("JDBC batch of 500, sequential (previous)", seatsPerRun, System.nanoTime() - start);
+
+            for (int parallelism : PARALLELISM_LEVELS) {
+                start = System.nanoTime();
+                List<SeatGenerationService.SectionResult> results =
+                    service.regenerateSections(sectionIds, parallelism, null);
+                long elapsed = System.nanoTime() - start;
+
+                int created = 0;
+                for (SeatGenerationService.SectionResult result : results) {
+                    if (!result.isSuccess()) throw result.getError();
+                    created += result.getSeatsCreated();
+                }
+                report("Set-based, parallelism " + parallelism, created, elapsed);
+            }
+
+        } catch (Exception e) {
+            System.err.println("\n❌ ERROR: Benchmark failed");
+            System.err.println("Error message: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } finally {
+            try {
+                cleanup();
+            } catch (SQLException e) {
+                System.err.println("Could not remove benchmark sections: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void report(String label, int seats, long nanos) {
+        double seconds = nanos / 1_000_000_000.0;
+        System.out.println(String.format("%-42s %8d seats %8.2f s %12.0f seats/sec",
+                                         label, seats, seconds, seats / seconds));
+    }
+
+    private static List<Integer> createSections(int count, int rows, int seatsPerRow) throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        String sql = "INSERT INTO Sections (SectionName, SectionType, TotalRows, SeatsPerRow, Description, IsActive) " +
+                     "VALUES (?, 'TRIBUNE', ?, ?, 'Seat generation benchmark', 0)";
+
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+
+            for (int i = 1; i <= count; i++) {
+                stmt.setString(1, SECTION_PREFIX + i);
+                stmt.setInt(2, rows);
+                stmt.setInt(3, seatsPerRow);
+                stmt.executeUpdate();
+                try (ResultSet rs = stmt.getGeneratedKeys()) {
+                    if (rs.next()) ids.add(rs.getInt(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * The row-by-row batch insert SeatGenerationService used before the set-based generator
+     */
+    private static void generateWithJdbcBatch(int sectionId, int rows, int seatsPerRow) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement delete = conn.prepareStatement("DELETE FROM Seats WHERE SectionID = ?");
+                 PreparedStatement insert = conn.prepareStatement(
+                     "INSERT INTO Seats (SectionID, RowNumber, SeatNumber) VALUES (?, ?, ?)")) {
+
+                delete.setInt(1, sectionId);
+                delete.executeUpdate();
+
+                int seatsCreated = 0;
+                for (int rowNum = 1; rowNum <= rows; rowNum++) {
+                    String rowLabel = SeatGenerationService.generateRowLabel(rowNum);
+                    for (int seatNum = 1; seatNum <= seatsPerRow; seatNum++) {
+                        insert.setInt(1, sectionId);
+                        insert.setString(2, rowLabel);
+                        insert.setInt(3, seatNum);
+                        insert.addBatch();
+                        if (++seatsCreated % 500 == 0) insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private static void cleanup() throws SQLException {
+        // Seats are removed by ON DELETE CASCADE
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("DELETE FROM Sections WHERE SectionName LIKE ?")) {
+            stmt.setString(1, SECTION_PREFIX + "%");
+            stmt.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package org.openjfx.benchmarks;
+
+import org.openjfx.model.Seat;
+import org.openjfx.model.SeatTable;
+import org.openjfx.service.SeatGenerationService;
+import org.openjfx.service.SeatService;
+import org.openjfx.util.DatabaseUtil;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntSupplier;
+
+/**
+ * Benchmark for allocation per seat-map load
+ * Creates a temporary tribune section, then loads its seat map the way SeatMapGrid
+ * used to (List<Seat> of all and available seats, indexed in a HashMap/HashSet) and
+ * with SeatService.getSeatMap (SeatTable + IntSet), measuring bytes allocated by
+ * the loading thread per load and per seat. The temporary section is removed again.
+ *
+ * Usage: java -cp benchmarks/target/benchmarks.jar org.openjfx.benchmarks.SeatMapAllocationBenchmark [rows] [seatsPerRow] [eventId] [iterations]
+ * Defaults to 100 rows x 100 seats, event 0 (no bookings), 20 iterations.
+ * Run against a local/test database only.
+ */
+public class SeatMapAllocationBenchmark {
+
+    private static final String SECTION_NAME = "BENCH-SEATMAP-1";
+    private static final int WARMUP_ITERATIONS = 5;
+
+    /** Keeps the loaded results observable so the loads are not optimized away */
+    private static volatile int sink;
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int seatsPerRow = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int eventId = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+        int iterations = args.length > 3 ? Integer.parseInt(args[3]) : 20;
+
+        System.out.println("========================================");
+        System.out.println("SEAT MAP ALLOCATION BENCHMARK");
+        System.out.println("========================================");
+
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            System.err.println("❌ ERROR: This JVM does not report per-thread allocation");
+            System.exit(1);
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        SeatService seatService = new SeatService();
+
+        try {
+            cleanup();
+            int sectionId = createSection(rows, seatsPerRow);
+            new SeatGenerationService().regenerateSections(Collections.singletonList(sectionId), 1, null);
+
+            int seats = seatService.getSeatMap(eventId, sectionId).size();
+            System.out.println(rows + " rows x " + seatsPerRow + " seats = " + seats +
+                               " seats, event " + eventId + ", " + iterations + " iterations");
+            System.out.println("");
+
+            measure(threads, "List<Seat> + HashMap/HashSet (previous)", seats, iterations, () -> {
+                List<Seat> allSeats = seatService.getSeatsBySection(sectionId);
+                List<Seat> availableSeats = seatService.getAvailableSeats(eventId, sectionId);
+
+                Map<String, Seat> seatsByKey = new HashMap<>(allSeats.size() * 2);
+                for (Seat seat : allSeats) {
+                    seatsByKey.put(seat.getSeatLabel(), seat);
+                }
+                Set<Integer> availableSeatIds = new HashSet<>(availableSeats.size() * 2);
+                for (Seat seat : availableSeats) {
+                    availableSeatIds.add(seat.getSeatId());
+                }
+                return seatsByKey.size() + availableSeatIds.size();
+            });
+
+            measure(threads, "SeatTable + IntSet", seats, iterations, () -> {
+                SeatTable seatMap = seatService.getSeatMap(eventId, sectionId);
+                return seatMap.size();
+            });
+
+        } catch (Exception e) {
+            System.err.println("\n❌ ERROR: Benchmark failed");
+            System.err.println("Error message: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        } finally {
+            try {
+                cleanup();
+            } catch (SQLException e) {
+                System.err.println("Could not remove benchmark section: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void measure(com.sun.management.ThreadMXBean threads, String label,
+                                int seats, int iterations, IntSupplier load) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += load.getAsInt();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += load.getAsInt();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        double perLoad = (double) allocated / iterations;
+        System.out.println(String.format("%-42s %12.0f bytes/load %8.1f bytes/seat %8.1f ms/load",
+                                         label, perLoad, perLoad / Math.max(seats, 1),
+                                         elapsed / 1_000_000.0 / iterations));
+    }
+
+    private static int createSection(int rows, int seatsPerRow) throws SQLException {
+        String sql = "INSERT INTO Sections (SectionName, SectionType, TotalRows, SeatsPerRow, Description, IsActive) " +
+                     "VALUES (?, 'TRIBUNE', ?, ?, 'Seat map benchmark', 0)";
+
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+
+            stmt.setString(1, SECTION_NAME);
+            stmt.setInt(2, rows);
+            stmt.setInt(3, seatsPerRow);
+            stmt.executeUpdate();
+            try (ResultSet rs = stmt.getGeneratedKeys()) {
+                if (rs.next()) return rs.getInt(1);
+            }
+        }
+        throw new SQLException("Could not create benchmark section");
+    }
+
+    private static void cleanup() throws SQLException {
+        // Seats are removed by ON DELETE CASCADE
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("DELETE FROM Sections WHERE SectionName = ?")) {
+            stmt.setString(1, SECTION_NAME);
+            stmt.executeUpdate();
+        }
+    }
+}
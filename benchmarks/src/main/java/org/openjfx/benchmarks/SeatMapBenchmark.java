@@ -0,0 +1,61 @@
+package org.openjfx.benchmarks;
+
+import org.openjfx.model.SeatTable;
+import org.openjfx.util.RowLabels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Seat-map assembly as SeatService.getSeatMap and SeatMapGrid.populateSeatGrid do it,
+ * minus JDBC and JavaFX: decode row labels, fill a SeatTable, mark booked seats and
+ * select the slots inside the section layout.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeatMapBenchmark {
+
+    /** Section layout as rows x seats per row */
+    @Param({"30x25", "100x100"})
+    public String layout;
+
+    private int totalRows;
+    private int seatsPerRow;
+    private BenchmarkData.SectionSeats seats;
+    private String[] rowLabels;
+
+    @Setup
+    public void setup() {
+        String[] parts = layout.split("x");
+        totalRows = Integer.parseInt(parts[0]);
+        seatsPerRow = Integer.parseInt(parts[1]);
+        seats = new BenchmarkData.SectionSeats(1, totalRows, seatsPerRow, 0.3);
+        rowLabels = seats.rowLabels();
+    }
+
+    @Benchmark
+    public int[] assembleSeatMap() {
+        int count = seats.seatIds.length;
+        SeatTable table = new SeatTable(count);
+        for (int i = 0; i < count; i++) {
+            int row = RowLabels.rowIndex(rowLabels[i]);
+            table.add(seats.seatIds[i], seats.sectionId, row, seats.seatNumbers[i], SeatTable.STATUS_AVAILABLE);
+        }
+        table.markBooked(seats.bookedSeatIds);
+        return table.slotsWithin(totalRows, seatsPerRow);
+    }
+}
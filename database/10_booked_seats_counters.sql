@@ -0,0 +1,60 @@
+-- ============================================================================
+-- Stadium Management System - Booked Seats Counters Migration
+-- Version: 1.5.0
+-- Description: Backfills the stored seat counters that the application now
+--              maintains inside booking transactions:
+--              - Events.BookedSeats (seats of CONFIRMED bookings)
+--              - EventSections.AvailableCapacity (TotalCapacity - booked seats)
+--              Event lists read Events.BookedSeats directly instead of a
+--              correlated SUM over Bookings.
+-- ============================================================================
+
+USE StadiumDB;
+GO
+
+PRINT 'Backfilling Events.BookedSeats...';
+
+UPDATE Events SET BookedSeats = 0 WHERE BookedSeats IS NULL;
+
+UPDATE e
+SET BookedSeats = ISNULL(c.Booked, 0),
+    UpdatedAt = GETDATE()
+FROM Events e
+LEFT JOIN (
+    SELECT bs.EventID, COUNT(*) AS Booked
+    FROM BookingSeats bs
+    INNER JOIN Bookings b ON b.BookingID = bs.BookingID
+    WHERE b.BookingStatus = 'CONFIRMED'
+    GROUP BY bs.EventID
+) c ON c.EventID = e.EventID
+WHERE e.BookedSeats <> ISNULL(c.Booked, 0);
+
+PRINT '✓ Events.BookedSeats backfilled';
+GO
+
+PRINT 'Backfilling EventSections.AvailableCapacity...';
+
+UPDATE es
+SET AvailableCapacity = es.TotalCapacity - ISNULL(c.Booked, 0),
+    UpdatedAt = GETDATE()
+FROM EventSections es
+LEFT JOIN (
+    SELECT bs.EventID, bs.SectionID, COUNT(*) AS Booked
+    FROM BookingSeats bs
+    INNER JOIN Bookings b ON b.BookingID = bs.BookingID
+    WHERE b.BookingStatus = 'CONFIRMED'
+    GROUP BY bs.EventID, bs.SectionID
+) c ON c.EventID = es.EventID AND c.SectionID = es.SectionID
+WHERE es.AvailableCapacity <> es.TotalCapacity - ISNULL(c.Booked, 0);
+
+PRINT '✓ EventSections.AvailableCapacity backfilled';
+GO
+
+PRINT '';
+PRINT '============================================================';
+PRINT 'Migration completed! Summary:';
+PRINT '- Events.BookedSeats recomputed from confirmed BookingSeats';
+PRINT '- EventSections.AvailableCapacity recomputed from confirmed BookingSeats';
+PRINT '- The application keeps both in sync and repairs drift every 10 minutes';
+PRINT '============================================================';
+GO
@@ -33,7 +33,7 @@ echo "Database: $DB_NAME"
 echo ""
 
 # Run each migration file in order
-echo "[1/6] Running 01_initial_setup.sql..."
+echo "[1/10] Running 01_initial_setup.sql..."
 sqlcmd -S "$DB_SERVER" -U "$DB_USER" -P "$DB_PASSWORD" -i "database/01_initial_setup.sql"
 if [ $? -ne 0 ]; then
     echo "ERROR: Failed to run 01_initial_setup.sql"
@@ -42,7 +42,7 @@ fi
 echo "[OK] Initial setup completed"
 echo ""
 
-echo "[2/6] Running 02_sync_seats.sql..."
+echo "[2/10] Running 02_sync_seats.sql..."
 sqlcmd -S "$DB_SERVER" -U "$DB_USER" -P "$DB_PASSWORD" -d "$DB_NAME" -i "database/02_sync_seats.sql"
 if [ $? -ne 0 ]; then
     echo "ERROR: Failed to run 02_sync_seats.sql"
@@ -51,7 +51,7 @@ fi
 echo "[OK] Sync seats completed"
 echo ""
 
-echo "[3/6] Running 03_features_roles_staff_inventory.sql..."
+echo "[3/10] Running 03_features_roles_staff_inventory.sql..."
 sqlcmd -S "$DB_SERVER" -U "$DB_USER" -P "$DB_PASSWORD" -d "$DB_NAME" -i "database/03_features_roles_staff_inventory.sql"
 if [ $? -ne 0 ]; then
     echo "ERROR: Failed to run 03_features_roles_staff_inventory.sql"
@@ -60,7 +60,7 @@ fi
 echo "[OK] Features, roles, staff, and inventory setup completed"
 echo ""
 
-echo "[4/6] Running 04_add_inventory_fields.sql..."
+echo "[4/10] Running 04_add_inventory_fields.sql..."
 sqlcmd -S "$DB_SERVER" -U "$DB_USER" -P "$DB_PASSWORD" -d "$DB_NAME" -i "database/04_add_inventory_fields.sql"
 if [ $? -ne 0 ]; then
     echo "ERROR: Failed to run 04_add_inventory_fields.sql"
@@ -69,7 +69,7 @@ fi
 echo "[OK] Inventory fields added"
 echo ""
 
-echo "[5/6] Running 06_event_expenses.sql..."
+echo "[5/10] Running 06_event_expenses.sql..."
 sqlcmd -S "$DB_SERVER" -U "$DB_USER" -P "$DB_PASSWORD" -d "$DB_NAME" -i "database/06_event_expenses.sql"
 if [ $? -ne 0 ]; then
     echo "ERROR: Failed to run 06_event_expenses.sql"
@@ -78,7 +78,7 @@ fi
 echo "[OK] Event expenses setup completed"
 echo ""
 
-echo "[6/6] Running 07_allow_null_seatid_for_standing_areas.sql..."
+echo "[6/10] Running 07_allow_null_seatid_for_standing_areas.sql..."
 sqlcmd -S "$DB_SERVER" -U "$DB_USER" -P "$DB_PASSWORD" -d "$DB_NAME" -i "database/07_allow_null_seatid_for_standing_areas.sql"
 if [ $? -ne 0 ]; then
     echo "ERROR: Failed to run 07_allow_null_seatid_for_standing_areas.sql"
@@ -87,6 +87,42 @@ fi
 echo "[OK] Standing areas configuration completed"
 echo ""
 
+echo "[7/10] Running 08_daily_rollups.sql..."
+sqlcmd -S "$DB_SERVER" -U "$DB_USER" -P "$DB_PASSWORD" -d "$DB_NAME" -i "database/08_daily_rollups.sql"
+if [ $? -ne 0 ]; then
+    echo "ERROR: Failed to run 08_daily_rollups.sql"
+    exit 1
+fi
+echo "[OK] Daily rollups created"
+echo ""
+
+echo "[8/10] Running 09_booking_indexes.sql..."
+sqlcmd -S "$DB_SERVER" -U "$DB_USER" -P "$DB_PASSWORD" -d "$DB_NAME" -i "database/09_booking_indexes.sql"
+if [ $? -ne 0 ]; then
+    echo "ERROR: Failed to run 09_booking_indexes.sql"
+    exit 1
+fi
+echo "[OK] Booking and expense indexes created"
+echo ""
+
+echo "[9/10] Running 10_booked_seats_counters.sql..."
+sqlcmd -S "$DB_SERVER" -U "$DB_USER" -P "$DB_PASSWORD" -d "$DB_NAME" -i "database/10_booked_seats_counters.sql"
+if [ $? -ne 0 ]; then
+    echo "ERROR: Failed to run 10_booked_seats_counters.sql"
+    exit 1
+fi
+echo "[OK] Booked seats counters backfilled"
+echo ""
+
+echo "[10/10] Running 11_change_feed.sql..."
+sqlcmd -S "$DB_SERVER" -U "$DB_USER" -P "$DB_PASSWORD" -d "$DB_NAME" -i "database/11_change_feed.sql"
+if [ $? -ne 0 ]; then
+    echo "ERROR: Failed to run 11_change_feed.sql"
+    exit 1
+fi
+echo "[OK] Change feed log and triggers created"
+echo ""
+
 echo "========================================"
 echo "SUCCESS! Database setup completed"
 echo "========================================"
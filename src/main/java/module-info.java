@@ -3,6 +3,9 @@ module org.openjfx {
     requires javafx.graphics;
     requires javafx.fxml;
     requires java.sql;
+    requires java.sql.rowset;
+    requires jdk.management;
+    requires jdk.jfr;
     requires de.jensd.fx.glyphs.fontawesome;
     requires de.jensd.fx.glyphs.commons;
     requires java.mail;
@@ -1,9 +1,16 @@
 package org.openjfx;
 
+import io.github.cdimascio.dotenv.Dotenv;
 import javafx.application.Application;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 import org.openjfx.controller.LoginController;
+import org.openjfx.service.ChangeFeedService;
+import org.openjfx.util.FxWatchdog;
+import org.openjfx.util.JfrRecording;
+import org.openjfx.util.Log;
+
+import java.util.Arrays;
 
 
 /**
@@ -11,8 +18,13 @@ import org.openjfx.controller.LoginController;
  */
 public class App extends Application {
 
+    private static final Log LOG = Log.get(App.class);
+
     @Override
     public void start(Stage stage) {
+        // Watch the FX thread for stalls and database calls (see FxWatchdog)
+        FxWatchdog.start();
+        
         // Set up the primary stage
 javafx.scene.text.Font font = javafx.scene.text.Font.loadFont(
             de.jensd.fx.glyphs.fontawesome.FontAwesomeIconView.class
@@ -22,11 +34,11 @@ javafx.scene.text.Font font = javafx.scene.text.Font.loadFont(
 
          // 2. Check if it is NULL
          if (font == null) {
-            System.out.println("❌ FAILED: loadFont returned NULL. The path is wrong or module is blocked.");
+            LOG.warn("loadFont returned NULL. The path is wrong or module is blocked.");
          } else {
-            System.out.println("✅ SUCCESS: Loaded font: " + font.getFamily());
+            LOG.debug("Loaded font: " + font.getFamily());
             // 3. Print all families to verify it is registered
-            System.out.println("Registered Families: " + javafx.scene.text.Font.getFamilies());
+            LOG.debug(() -> "Registered Families: " + javafx.scene.text.Font.getFamilies());
          }
         stage.setTitle("Stadium Management System - Login");
         stage.setResizable(false);
@@ -39,8 +51,30 @@ javafx.scene.text.Font font = javafx.scene.text.Font.loadFont(
         stage.show();
     }
 
+    @Override
+    public void stop() {
+        // Leave the FX thread summary in the log when anything was caught
+        if (FxWatchdog.getStallCount() > 0 || !FxWatchdog.getJdbcViolations().isEmpty()) {
+            LOG.warn(FxWatchdog.report());
+        }
+        Log.flush();
+    }
+
     public static void main(String[] args) {
-        launch();
+        // Continuous flight recording for diagnosing slowdowns on site (see JfrRecording)
+        Dotenv dotenv = Dotenv.configure().directory("./").ignoreIfMissing().load();
+        if (Arrays.asList(args).contains("--jfr") || "true".equalsIgnoreCase(dotenv.get("JFR_RECORDING", "false"))) {
+            JfrRecording.start();
+        }
+        
+        // How often other terminals' changes are picked up (see ChangeFeedService), 0 = off
+        try {
+            ChangeFeedService.setPollIntervalMillis(Long.parseLong(dotenv.get("CHANGE_FEED_POLL_MS", "2000")));
+        } catch (NumberFormatException e) {
+            LOG.warn("Invalid CHANGE_FEED_POLL_MS, using " + ChangeFeedService.getPollIntervalMillis() + " ms");
+        }
+        
+        launch(args);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,375 @@
+package org.openjfx;
+
+import org.openjfx.model.Booking;
+import org.openjfx.model.Event;
+import org.openjfx.model.EventSection;
+import org.openjfx.model.Seat;
+import org.openjfx.model.SeatTable;
+import org.openjfx.service.BookingService;
+import org.openjfx.service.EventSectionService;
+import org.openjfx.service.EventService;
+import org.openjfx.service.SeatService;
+import org.openjfx.util.DatabaseUtil;
+import org.openjfx.util.IntIntMap;
+import org.openjfx.util.MailUtils;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Concurrent box-office load test
+ * Simulates N terminals that each, in a loop, browse the Active upcoming events, open the sections
+ * and seat map of one of them, book a group of adjacent seats and now and then cancel one
+ * of their earlier bookings, all through the real EventService, EventSectionService,
+ * SeatService and BookingService. Email delivery is stubbed (MailUtils.setDeliveryEnabled).
+ *
+ * Reports throughput, p50/p95/p99 latency per operation, failed operations, deadlock
+ * retries, booking number conflicts, and afterwards checks the touched events for
+ * double-sold seats and stored counters that drifted from the booked seats.
+ *
+ * Usage: BoxOfficeLoadTest [terminals] [seconds] [cancelRatio]
+ * Defaults to 8 terminals for 60 seconds, cancelling after 10% of the bookings.
+ * Needs Active upcoming events with sections (e.g. from GenerateDataset).
+ * Run against a local/test database only: it creates and cancels real bookings.
+ */
+public class BoxOfficeLoadTest {
+
+    private static final int MAX_GROUP_SIZE = 4;
+    private static final long SEED = 42L;
+
+    private enum Operation { BROWSE, SEAT_MAP, BOOK, CANCEL }
+
+    /**
+     * Latencies (nanoseconds) and failures of one terminal, merged after the run
+     */
+    private static class TerminalStats {
+        final long[][] latencies = new long[Operation.values().length][];
+        final int[] counts = new int[Operation.values().length];
+        final int[] failures = new int[Operation.values().length];
+        int soldOut;
+
+        TerminalStats() {
+            for (int i = 0; i < latencies.length; i++) {
+                latencies[i] = new long[1024];
+            }
+        }
+
+        void record(Operation op, long nanos, boolean ok) {
+            int i = op.ordinal();
+            if (counts[i] == latencies[i].length) {
+                latencies[i] = Arrays.copyOf(latencies[i], counts[i] * 2);
+            }
+            latencies[i][counts[i]++] = nanos;
+            if (!ok) failures[i]++;
+        }
+    }
+
+    public static void main(String[] args) {
+        int terminals = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 60;
+        double cancelRatio = args.length > 2 ? Double.parseDouble(args[2]) : 0.1;
+
+        System.out.println("========================================");
+        System.out.println("BOX OFFICE LOAD TEST");
+        System.out.println("========================================");
+        System.out.println(terminals + " terminals, " + seconds + " s, cancel ratio " + cancelRatio);
+
+        if (!DatabaseUtil.testConnection()) {
+            System.err.println("\n❌ ERROR: Cannot connect to the database");
+            System.exit(1);
+        }
+        if (bookableEvents(new EventService().getAllEvents()).isEmpty()) {
+            System.err.println("\n❌ ERROR: No upcoming events to book (run GenerateDataset first)");
+            System.exit(1);
+        }
+
+        MailUtils.setDeliveryEnabled(false);
+        long deadlocksBefore = BookingService.getDeadlockRetryCount();
+        long conflictsBefore = BookingService.getBookingNumberConflictCount();
+        Set<Integer> touchedEvents = ConcurrentHashMap.newKeySet();
+        List<TerminalStats> stats = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(terminals);
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+
+        // The services log every connection to System.out; keep it quiet during the run
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        long started = System.nanoTime();
+
+        for (int t = 0; t < terminals; t++) {
+            TerminalStats terminalStats = new TerminalStats();
+            stats.add(terminalStats);
+            Random random = new Random(SEED + t);
+            Thread thread = new Thread(() -> {
+                try {
+                    runTerminal(random, cancelRatio, deadline, terminalStats, touchedEvents);
+                } catch (Exception e) {
+                    System.err.println("Terminal stopped: " + e.getMessage());
+                    e.printStackTrace();
+                } finally {
+                    done.countDown();
+                }
+            }, "terminal-" + (t + 1));
+            thread.start();
+        }
+
+        try {
+            done.await();
+            // Let the asynchronous (stubbed) email threads finish their queries
+            Thread.sleep(2_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        double elapsed = (System.nanoTime() - started) / 1e9;
+        System.setOut(out);
+
+        report(stats, elapsed,
+               BookingService.getDeadlockRetryCount() - deadlocksBefore,
+               BookingService.getBookingNumberConflictCount() - conflictsBefore);
+
+        boolean consistent = checkConsistency(touchedEvents);
+        if (!consistent) {
+            System.exit(1);
+        }
+    }
+
+    private static void runTerminal(Random random, double cancelRatio, long deadline,
+                                    TerminalStats stats, Set<Integer> touchedEvents) {
+        EventService eventService = new EventService();
+        EventSectionService eventSectionService = new EventSectionService();
+        SeatService seatService = new SeatService();
+        BookingService bookingService = new BookingService();
+        List<Integer> ownBookings = new ArrayList<>();
+        int terminal = Integer.parseInt(Thread.currentThread().getName().substring("terminal-".length()));
+
+        while (System.nanoTime() < deadline) {
+            // Browse: the event list (as the booking wizard loads it), then the sections of one event
+            long start = System.nanoTime();
+            List<Event> events = bookableEvents(eventService.getAllEvents());
+            List<EventSection> sections = Collections.emptyList();
+            Event event = null;
+            if (!events.isEmpty()) {
+                event = events.get(random.nextInt(events.size()));
+                sections = eventSectionService.getEventSections(event.getId());
+            }
+            stats.record(Operation.BROWSE, System.nanoTime() - start, event != null);
+
+            List<EventSection> open = new ArrayList<>();
+            for (EventSection section : sections) {
+                if (section.getAvailableSeats() > 0) open.add(section);
+            }
+            if (event == null || open.isEmpty()) {
+                stats.soldOut++;
+                continue;
+            }
+            EventSection section = open.get(random.nextInt(open.size()));
+            int groupSize = 1 + random.nextInt(MAX_GROUP_SIZE);
+
+            List<Seat> seats;
+            if ("TRIBUNE".equals(section.getSectionType())) {
+                start = System.nanoTime();
+                SeatTable seatMap = seatService.getSeatMap(event.getId(), section.getSectionId());
+                stats.record(Operation.SEAT_MAP, System.nanoTime() - start, seatMap.size() > 0);
+                seats = pickAdjacentSeats(seatMap, groupSize, random);
+            } else {
+                seats = new ArrayList<>();
+                for (int i = 0; i < Math.min(groupSize, section.getAvailableSeats()); i++) {
+                    Seat ticket = new Seat();
+                    ticket.setSectionId(section.getSectionId());
+                    seats.add(ticket);
+                }
+            }
+            if (seats.isEmpty()) {
+                stats.soldOut++;
+                continue;
+            }
+
+            Booking booking = new Booking();
+            booking.setEventId(event.getId());
+            booking.setCustomerName("Load Terminal " + terminal);
+            booking.setCustomerEmail("terminal" + terminal + "@loadtest.local");
+            booking.setCustomerPhone("0800000000" + terminal % 10);
+            booking.setTotalSeats(seats.size());
+            booking.setTotalPrice(section.getPrice() * seats.size());
+            booking.setBookingStatus("CONFIRMED");
+
+            start = System.nanoTime();
+            Booking saved = bookingService.createBooking(booking, seats);
+            stats.record(Operation.BOOK, System.nanoTime() - start, saved != null);
+            touchedEvents.add(event.getId());
+            if (saved != null) {
+                ownBookings.add(saved.getBookingId());
+            }
+
+            if (!ownBookings.isEmpty() && random.nextDouble() < cancelRatio) {
+                int bookingId = ownBookings.remove(random.nextInt(ownBookings.size()));
+                start = System.nanoTime();
+                boolean cancelled = bookingService.cancelBooking(bookingId);
+                stats.record(Operation.CANCEL, System.nanoTime() - start, cancelled);
+            }
+        }
+    }
+
+    /**
+     * Active events that have not taken place yet
+     */
+    private static List<Event> bookableEvents(List<Event> events) {
+        LocalDate today = LocalDate.now();
+        List<Event> bookable = new ArrayList<>();
+        for (Event event : events) {
+            if ("Active".equalsIgnoreCase(event.getStatus()) && event.getEventDate() != null
+                    && !event.getEventDate().isBefore(today)) {
+                bookable.add(event);
+            }
+        }
+        return bookable;
+    }
+
+    /**
+     * Up to count available seats next to each other in one row, starting at a random available seat
+     * (the seat map comes in database order, so neighbours are looked up by row and seat number)
+     */
+    private static List<Seat> pickAdjacentSeats(SeatTable seatMap, int count, Random random) {
+        List<Seat> seats = new ArrayList<>();
+        int size = seatMap.size();
+        if (size == 0) return seats;
+
+        int offset = random.nextInt(size);
+        int first = -1;
+        for (int i = 0; i < size && first < 0; i++) {
+            if (seatMap.isAvailable((offset + i) % size)) first = (offset + i) % size;
+        }
+        if (first < 0) return seats;
+
+        IntIntMap slotByPosition = new IntIntMap(size);
+        for (int slot = 0; slot < size; slot++) {
+            slotByPosition.put(seatMap.getRow(slot) << 16 | seatMap.getSeatNumber(slot), slot);
+        }
+
+        int row = seatMap.getRow(first);
+        seats.add(seatMap.toSeat(first));
+        for (int number = seatMap.getSeatNumber(first) + 1; seats.size() < count; number++) {
+            int slot = slotByPosition.get(row << 16 | number, -1);
+            if (slot < 0 || !seatMap.isAvailable(slot)) break;
+            seats.add(seatMap.toSeat(slot));
+        }
+        return seats;
+    }
+
+    private static void report(List<TerminalStats> stats, double elapsed, long deadlockRetries, long numberConflicts) {
+        System.out.println("");
+        System.out.printf("Elapsed: %.1f s%n%n", elapsed);
+        System.out.printf("%-10s %9s %9s %10s %10s %10s %10s%n",
+                          "Operation", "Count", "Failed", "Per sec", "p50 ms", "p95 ms", "p99 ms");
+
+        for (Operation op : Operation.values()) {
+            int i = op.ordinal();
+            int count = 0;
+            int failed = 0;
+            for (TerminalStats s : stats) {
+                count += s.counts[i];
+                failed += s.failures[i];
+            }
+
+            long[] all = new long[count];
+            int pos = 0;
+            for (TerminalStats s : stats) {
+                System.arraycopy(s.latencies[i], 0, all, pos, s.counts[i]);
+                pos += s.counts[i];
+            }
+            Arrays.sort(all);
+
+            System.out.printf("%-10s %9d %9d %10.1f %10.1f %10.1f %10.1f%n",
+                              op, count, failed, count / elapsed,
+                              percentile(all, 0.50), percentile(all, 0.95), percentile(all, 0.99));
+        }
+
+        int soldOut = 0;
+        for (TerminalStats s : stats) {
+            soldOut += s.soldOut;
+        }
+        System.out.println("");
+        System.out.println("Sold-out picks (no seats to book): " + soldOut);
+        System.out.println("Deadlock retries: " + deadlockRetries);
+        System.out.println("Booking number conflicts: " + numberConflicts);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+    }
+
+    /**
+     * Double-sell and counter checks over the events the terminals booked
+     */
+    private static boolean checkConsistency(Set<Integer> eventIds) {
+        if (eventIds.isEmpty()) {
+            System.out.println("\nNo bookings attempted, nothing to check.");
+            return true;
+        }
+
+        StringBuilder in = new StringBuilder();
+        for (int id : eventIds) {
+            if (in.length() > 0) in.append(',');
+            in.append(id);
+        }
+
+        String doubleSold =
+            "SELECT COUNT(*) FROM (SELECT bs.EventID, bs.SeatID FROM BookingSeats bs " +
+            "INNER JOIN Bookings b ON b.BookingID = bs.BookingID " +
+            "WHERE bs.SeatID IS NOT NULL AND bs.Status = 'BOOKED' AND b.BookingStatus != 'CANCELLED' " +
+            "AND bs.EventID IN (" + in + ") GROUP BY bs.EventID, bs.SeatID HAVING COUNT(*) > 1) d";
+
+        String eventDrift =
+            "SELECT COUNT(*) FROM Events e WHERE e.EventID IN (" + in + ") AND e.BookedSeats <> " +
+            "(SELECT COUNT(*) FROM BookingSeats bs INNER JOIN Bookings b ON b.BookingID = bs.BookingID " +
+            " WHERE bs.EventID = e.EventID AND b.BookingStatus = 'CONFIRMED')";
+
+        String sectionDrift =
+            "SELECT COUNT(*) FROM EventSections es WHERE es.EventID IN (" + in + ") AND es.AvailableCapacity <> " +
+            "es.TotalCapacity - (SELECT COUNT(*) FROM BookingSeats bs INNER JOIN Bookings b ON b.BookingID = bs.BookingID " +
+            " WHERE bs.EventID = es.EventID AND bs.SectionID = es.SectionID AND b.BookingStatus = 'CONFIRMED')";
+
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            if (conn == null) {
+                throw new SQLException("No database connection");
+            }
+            int seats = count(conn, doubleSold);
+            int events = count(conn, eventDrift);
+            int sections = count(conn, sectionDrift);
+
+            System.out.println("");
+            System.out.println("Checked " + eventIds.size() + " events:");
+            System.out.println((seats == 0 ? "✅" : "❌") + " Double-sold seats: " + seats);
+            System.out.println((events == 0 ? "✅" : "❌") + " Events with drifted BookedSeats: " + events);
+            System.out.println((sections == 0 ? "✅" : "❌") + " Event sections with drifted AvailableCapacity: " + sections);
+            return seats == 0 && events == 0 && sections == 0;
+
+        } catch (SQLException e) {
+            System.err.println("\n❌ ERROR: Consistency check failed: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    private static int count(Connection conn, String sql) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.openjfx;
+
+import org.openjfx.service.DatasetGenerationService;
+import org.openjfx.util.DatabaseUtil;
+import org.openjfx.util.EmbeddedDatabase;
+import org.openjfx.util.Log;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+
+/**
+ * Utility to fill a database with a synthetic stadium dataset for load and benchmark runs
+ * (sections, seats, events, clustered bookings, cancellations, purchases and expenses).
+ *
+ * Usage: GenerateDataset [--target=sqlserver|embedded] [--db=path] [--key=value ...]
+ *   --target=sqlserver  the database configured in .env (default)
+ *   --target=embedded   a local H2 stand-in file database (default path: data/stadium-standin)
+ * Generator settings (defaults in DatasetGenerationService.Config):
+ *   --seed --events --tribuneSections --fieldSections --minRows --maxRows --minSeatsPerRow
+ *   --maxSeatsPerRow --fieldCapacity --historyDays --futureDays --salesWindowDays --minFill
+ *   --maxFill --cancellationRate --purchasesPerEvent --expensesPerEvent --generalPurchases --batchSize
+ *
+ * The same seed and settings give the same data. Run against an empty local/test database only.
+ */
+public class GenerateDataset {
+
+    private static final Path DEFAULT_EMBEDDED_PATH = Paths.get("data", "stadium-standin");
+
+    public static void main(String[] args) {
+        // Show the generator progress in the terminal
+        Log.setConsoleLevel(Log.Level.INFO);
+
+        System.out.println("========================================");
+        System.out.println("SYNTHETIC DATASET GENERATOR");
+        System.out.println("========================================");
+
+        String target = "sqlserver";
+        Path embeddedPath = DEFAULT_EMBEDDED_PATH;
+        DatasetGenerationService.Config config = new DatasetGenerationService.Config();
+
+        try {
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("Expected --key=value, got: " + arg);
+                }
+                String key = arg.substring(2, arg.indexOf('='));
+                String value = arg.substring(arg.indexOf('=') + 1);
+
+                if (key.equals("target")) {
+                    target = value.toLowerCase();
+                } else if (key.equals("db")) {
+                    embeddedPath = Paths.get(value);
+                } else {
+                    applySetting(config, key, value);
+                }
+            }
+            if (!target.equals("sqlserver") && !target.equals("embedded")) {
+                throw new IllegalArgumentException("Unknown target: " + target);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("\n❌ ERROR: " + e.getMessage());
+            System.exit(1);
+        }
+
+        System.out.println("Target: " + (target.equals("embedded")
+            ? "embedded stand-in (" + embeddedPath.toAbsolutePath() + ")" : "SQL Server (.env)"));
+        System.out.println("Seed: " + config.getSeed() + ", events: " + config.getEvents()
+            + ", sections: " + config.getTribuneSections() + " tribune + " + config.getFieldSections() + " field");
+        System.out.println("");
+
+        try (Connection conn = target.equals("embedded")
+                ? EmbeddedDatabase.open(embeddedPath)
+                : DatabaseUtil.getBulkInsertConnection()) {
+            if (conn == null) {
+                throw new IllegalStateException("Could not connect to the database");
+            }
+
+            DatasetGenerationService.Summary summary = new DatasetGenerationService(config).generate(conn);
+            Log.flush();
+            System.out.println("\n✅ SUCCESS! Generated " + summary);
+
+        } catch (Exception e) {
+            System.err.println("\n❌ ERROR: Failed to generate the dataset");
+            System.err.println("Error message: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private static void applySetting(DatasetGenerationService.Config config, String key, String value) {
+        try {
+            switch (key) {
+                case "seed": config.setSeed(Long.parseLong(value)); break;
+                case "events": config.setEvents(Integer.parseInt(value)); break;
+                case "tribuneSections": config.setTribuneSections(Integer.parseInt(value)); break;
+                case "fieldSections": config.setFieldSections(Integer.parseInt(value)); break;
+                case "minRows": config.setMinRows(Integer.parseInt(value)); break;
+                case "maxRows": config.setMaxRows(Integer.parseInt(value)); break;
+                case "minSeatsPerRow": config.setMinSeatsPerRow(Integer.parseInt(value)); break;
+                case "maxSeatsPerRow": config.setMaxSeatsPerRow(Integer.parseInt(value)); break;
+                case "fieldCapacity": config.setFieldCapacity(Integer.parseInt(value)); break;
+                case "historyDays": config.setHistoryDays(Integer.parseInt(value)); break;
+                case "futureDays": config.setFutureDays(Integer.parseInt(value)); break;
+                case "salesWindowDays": config.setSalesWindowDays(Integer.parseInt(value)); break;
+                case "minFill": config.setMinFill(Double.parseDouble(value)); break;
+                case "maxFill": config.setMaxFill(Double.parseDouble(value)); break;
+                case "cancellationRate": config.setCancellationRate(Double.parseDouble(value)); break;
+                case "purchasesPerEvent": config.setPurchasesPerEvent(Integer.parseInt(value)); break;
+                case "expensesPerEvent": config.setExpensesPerEvent(Integer.parseInt(value)); break;
+                case "generalPurchases": config.setGeneralPurchases(Integer.parseInt(value)); break;
+                case "batchSize": config.setBatchSize(Integer.parseInt(value)); break;
+                default: throw new IllegalArgumentException("Unknown setting: --" + key);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for --" + key + ": " + value);
+        }
+    }
+}
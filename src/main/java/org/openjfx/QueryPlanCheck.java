@@ -0,0 +1,271 @@
+package org.openjfx;
+
+import org.openjfx.service.BookingService;
+import org.openjfx.service.DailyRollupService;
+import org.openjfx.service.EventExpenseService;
+import org.openjfx.service.InventoryPurchaseService;
+import org.openjfx.service.ReportService;
+import org.openjfx.service.SeatService;
+import org.openjfx.util.DatabaseUtil;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Query plan regression check
+ * Runs the hot booking/report statements of the services (their SQL constants, with parameters
+ * bound to rows from the database) under SET STATISTICS XML ON and fails if any of them scans
+ * the table, or seeks an index that does not cover it (Key Lookup), instead of seeking on the
+ * index added by database/09_booking_indexes.sql. Only SELECTs are run.
+ *
+ * Run against a local database (best after GenerateDataset, small tables are always scanned):
+ *   java -cp target/stadium-management-*.jar org.openjfx.QueryPlanCheck
+ */
+public class QueryPlanCheck {
+
+    private static final Pattern PHYSICAL_OP = Pattern.compile("PhysicalOp=\"([^\"]+)\"");
+    private static final Pattern OBJECT_TAG = Pattern.compile("<Object [^>]*>");
+    private static final Pattern TABLE_ATTR = Pattern.compile("Table=\"\\[([^\\]]+)\\]\"");
+    private static final Pattern INDEX_ATTR = Pattern.compile("Index=\"\\[([^\\]]+)\\]\"");
+
+    /**
+     * IDs and dates to bind, taken from the most recent booked seat
+     */
+    private static class Sample {
+        int bookingId = 1;
+        int eventId = 1;
+        int sectionId = 1;
+        int seatId = 1;
+        final LocalDate periodStart = LocalDate.now().minusDays(6);
+        final LocalDate periodEnd = LocalDate.now().plusDays(1);
+    }
+
+    private interface Binder {
+        void bind(PreparedStatement stmt, Sample sample) throws SQLException;
+    }
+
+    /**
+     * One statement to check: the table it must seek on and the expected index (name prefix)
+     */
+    private static class PlanCheck {
+        final String name;
+        final String sql;
+        final Binder binder;
+        final String table;
+        final String indexPrefix;
+
+        PlanCheck(String name, String sql, Binder binder, String table, String indexPrefix) {
+            this.name = name;
+            this.sql = sql;
+            this.binder = binder;
+            this.table = table;
+            this.indexPrefix = indexPrefix;
+        }
+    }
+
+    private static final Binder NO_PARAMETERS = (stmt, sample) -> {};
+
+    private static final Binder ROLLUP_PERIOD = (stmt, sample) -> {
+        stmt.setDate(1, Date.valueOf(sample.periodStart));
+        stmt.setDate(2, Date.valueOf(sample.periodEnd));
+    };
+
+    private static final Binder TIMESTAMP_PERIOD = (stmt, sample) -> {
+        stmt.setTimestamp(1, Timestamp.valueOf(sample.periodStart.atStartOfDay()));
+        stmt.setTimestamp(2, Timestamp.valueOf(sample.periodEnd.atStartOfDay()));
+    };
+
+    private static final PlanCheck[] CHECKS = {
+        new PlanCheck("Today's bookings (BookingService.getTodayBookingsCount)",
+            BookingService.TODAY_BOOKINGS_COUNT_SQL, NO_PARAMETERS,
+            "Bookings", "IX_Bookings_BookingDate"),
+
+        new PlanCheck("Confirmed revenue of an event (ReportService.getRevenueForEvent)",
+            ReportService.EVENT_REVENUE_SQL, (stmt, sample) -> stmt.setInt(1, sample.eventId),
+            "Bookings", "IX_Bookings_EventID_Status"),
+
+        new PlanCheck("Revenue per day (DailyRollupService.rebuild)",
+            DailyRollupService.REBUILD_SOURCES.get(0), ROLLUP_PERIOD,
+            "Bookings", "IX_Bookings_BookingDate"),
+
+        new PlanCheck("Tickets per day (DailyRollupService.rebuild)",
+            DailyRollupService.REBUILD_SOURCES.get(1), ROLLUP_PERIOD,
+            "Bookings", "IX_Bookings_BookingDate"),
+
+        new PlanCheck("Purchases per day (DailyRollupService.rebuild)",
+            DailyRollupService.REBUILD_SOURCES.get(2), ROLLUP_PERIOD,
+            "InventoryPurchases", "IX_InventoryPurchases_PurchaseDate"),
+
+        new PlanCheck("Event expenses per day (DailyRollupService.rebuild)",
+            DailyRollupService.REBUILD_SOURCES.get(3), ROLLUP_PERIOD,
+            "EventExpenses", "IX_EventExpenses_CreatedAt"),
+
+        new PlanCheck("Booked seats of a section (SeatService.getBookedSeatIds)",
+            SeatService.BOOKED_SEAT_IDS_SQL, (stmt, sample) -> {
+                stmt.setInt(1, sample.eventId);
+                stmt.setInt(2, sample.sectionId);
+            },
+            "BookingSeats", "IX_BookingSeats_EventID_SectionID_SeatID"),
+
+        new PlanCheck("Seat availability (SeatService.isSeatAvailable)",
+            SeatService.SEAT_BOOKED_COUNT_SQL, (stmt, sample) -> {
+                stmt.setInt(1, sample.eventId);
+                stmt.setInt(2, sample.seatId);
+            },
+            "BookingSeats", "IX_BookingSeats_EventID_SectionID_SeatID"),
+
+        new PlanCheck("Seats of a booking (BookingService.getBookingSeats)",
+            BookingService.BOOKING_SEATS_SQL, (stmt, sample) -> stmt.setInt(1, sample.bookingId),
+            "BookingSeats", "IX_BookingSeats_BookingID"),
+
+        new PlanCheck("Event expenses in a period (EventExpenseService.getTotalExpensesInPeriod)",
+            EventExpenseService.EXPENSES_IN_PERIOD_SQL, TIMESTAMP_PERIOD,
+            "EventExpenses", "IX_EventExpenses_CreatedAt"),
+
+        new PlanCheck("Purchases in a period (InventoryPurchaseService.getTotalExpensesInPeriod)",
+            InventoryPurchaseService.PURCHASES_IN_PERIOD_SQL, TIMESTAMP_PERIOD,
+            "InventoryPurchases", "IX_InventoryPurchases_PurchaseDate")
+    };
+
+    public static void main(String[] args) {
+        System.out.println("========================================");
+        System.out.println("QUERY PLAN CHECK");
+        System.out.println("========================================");
+
+        int failures = 0;
+
+        try (Connection conn = DatabaseUtil.getConnection();
+             Statement stmt = conn.createStatement()) {
+
+            Sample sample = loadSample(stmt);
+            System.out.println("Parameters: booking " + sample.bookingId + ", event " + sample.eventId +
+                               ", section " + sample.sectionId + ", seat " + sample.seatId +
+                               ", period " + sample.periodStart + " .. " + sample.periodEnd);
+
+            stmt.execute("SET STATISTICS XML ON");
+            try {
+                for (PlanCheck check : CHECKS) {
+                    String plan;
+                    try (PreparedStatement ps = conn.prepareStatement(check.sql)) {
+                        check.binder.bind(ps, sample);
+                        plan = executeForPlan(ps);
+                    }
+
+                    String problem = plan == null ? "no plan returned" : verify(plan, check);
+                    if (problem == null) {
+                        System.out.println("✅ " + check.name);
+                    } else {
+                        failures++;
+                        System.out.println("❌ " + check.name + " - " + problem);
+                    }
+                }
+            } finally {
+                stmt.execute("SET STATISTICS XML OFF");
+            }
+
+        } catch (Exception e) {
+            System.err.println("\n❌ ERROR: Could not check query plans");
+            System.err.println("Error message: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(2);
+        }
+
+        System.out.println("");
+        if (failures > 0) {
+            System.out.println(failures + " of " + CHECKS.length + " queries do not seek a covering index. " +
+                               "Has 09_booking_indexes.sql been applied?");
+            System.exit(1);
+        }
+        System.out.println("All " + CHECKS.length + " queries use covering index seeks.");
+    }
+
+    private static Sample loadSample(Statement stmt) throws SQLException {
+        Sample sample = new Sample();
+        try (ResultSet rs = stmt.executeQuery(
+                "SELECT TOP 1 BookingID, EventID, SectionID, SeatID FROM BookingSeats " +
+                "WHERE SeatID IS NOT NULL ORDER BY BookingSeatID DESC")) {
+            if (rs.next()) {
+                sample.bookingId = rs.getInt(1);
+                sample.eventId = rs.getInt(2);
+                sample.sectionId = rs.getInt(3);
+                sample.seatId = rs.getInt(4);
+            }
+        }
+        return sample;
+    }
+
+    /**
+     * Run a statement and return the actual plan that STATISTICS XML appends to its results
+     */
+    private static String executeForPlan(PreparedStatement stmt) throws SQLException {
+        String plan = null;
+        boolean isResultSet = stmt.execute();
+        while (true) {
+            if (isResultSet) {
+                try (ResultSet rs = stmt.getResultSet()) {
+                    boolean showplan = rs.getMetaData().getColumnName(1).contains("Showplan");
+                    while (rs.next()) {
+                        if (showplan) plan = rs.getString(1);
+                    }
+                }
+            } else if (stmt.getUpdateCount() == -1) {
+                break;
+            }
+            isResultSet = stmt.getMoreResults();
+        }
+        return plan;
+    }
+
+    /**
+     * Inspect every operator that reads the checked table
+     * @return Description of the problem, or null if the table is only read through seeks on the expected index
+     */
+    private static String verify(String plan, PlanCheck check) {
+        List<String> accesses = new ArrayList<>();
+        boolean seeksExpectedIndex = false;
+
+        // Each "<RelOp " starts an operator; its own <Object> comes before any nested operator
+        String[] operators = plan.split("<RelOp ");
+        for (int i = 1; i < operators.length; i++) {
+            String op = operators[i];
+            Matcher physical = PHYSICAL_OP.matcher(op);
+            Matcher object = OBJECT_TAG.matcher(op);
+            if (!physical.find() || !object.find()) continue;
+
+            Matcher table = TABLE_ATTR.matcher(object.group());
+            if (!table.find() || !table.group(1).equalsIgnoreCase(check.table)) continue;
+
+            Matcher index = INDEX_ATTR.matcher(object.group());
+            String indexName = index.find() ? index.group(1) : "(heap)";
+            String physicalOp = physical.group(1);
+            accesses.add(physicalOp + " on " + indexName);
+
+            if (physicalOp.contains("Scan")) {
+                return physicalOp + " on " + check.table + "." + indexName;
+            }
+            if (physicalOp.contains("Lookup")) {
+                // the seek index misses columns the statement reads
+                return physicalOp + " on " + check.table + "." + indexName + " (index does not cover the query)";
+            }
+            if (physicalOp.contains("Seek") && indexName.startsWith(check.indexPrefix)) {
+                seeksExpectedIndex = true;
+            }
+        }
+
+        if (!seeksExpectedIndex) {
+            return "expected a seek on " + check.indexPrefix + ", plan reads " + check.table + " via " +
+                   (accesses.isEmpty() ? "nothing" : String.join(", ", accesses));
+        }
+        return null;
+    }
+}
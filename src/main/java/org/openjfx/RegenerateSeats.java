@@ -1,6 +1,7 @@
 package org.openjfx;
 
 import org.openjfx.service.SeatGenerationService;
+import org.openjfx.util.Log;
 
 /**
  * Utility to regenerate all seats in the database
@@ -9,6 +10,9 @@ import org.openjfx.service.SeatGenerationService;
 public class RegenerateSeats {
     
     public static void main(String[] args) {
+        // Show the service progress in the terminal
+        Log.setConsoleLevel(Log.Level.INFO);
+
         System.out.println("========================================");
         System.out.println("SEAT REGENERATION UTILITY");
         System.out.println("========================================");
@@ -20,6 +24,7 @@ public class RegenerateSeats {
         
         try {
             service.regenerateAllSeats();
+            Log.flush();
             System.out.println("\n✅ SUCCESS! All seats have been regenerated.");
             System.out.println("You can now use the booking system with all seats available.");
             
@@ -0,0 +1,172 @@
+package org.openjfx;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.layout.StackPane;
+import org.openjfx.component.FinancialReportView;
+import org.openjfx.service.DomainEventBus;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leak check for report navigation
+ * Navigates to the financial report and away again the way DashboardController swaps its
+ * content area (a new FinancialReportView added to a content pane in a scene, then removed),
+ * then runs GC and fails unless the DomainEventBus subscriber count is back where it started,
+ * the detached views were collected and the used heap stayed within MAX_HEAP_GROWTH_MB.
+ *
+ * This is a manual check, not an automated test: it starts the JavaFX toolkit, so it needs
+ * a display, and the views load their data from the database in .env (use a local/test one;
+ * without a database the loads fail and are logged, which does not affect the result).
+ *
+ * Usage: ReportsLeakCheck [navigations]
+ * Defaults to 100 navigations.
+ */
+public class ReportsLeakCheck {
+
+    /** Detached views still reachable after GC before the check fails */
+    private static final int MAX_RETAINED_VIEWS = 2;
+    private static final long MAX_HEAP_GROWTH_MB = 16;
+    private static final int WARMUP_NAVIGATIONS = 3;
+    /** Time for the views' background loads to finish before measuring */
+    private static final long SETTLE_MS = 3000;
+
+    /** Subscriber count while the last navigated view was on screen */
+    private static volatile int lastShowingSubscribers;
+
+    public static void main(String[] args) {
+        int navigations = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+
+        System.out.println("========================================");
+        System.out.println("REPORTS LEAK CHECK");
+        System.out.println("========================================");
+
+        int failures = 0;
+
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            Platform.startup(started::countDown);
+            started.await();
+            Platform.setImplicitExit(false);
+
+            StackPane contentArea = new StackPane();
+            onFx(() -> new Scene(contentArea, 1200, 800));
+
+            // first navigations load classes, styles and caches that stay for the whole session
+            for (int i = 0; i < WARMUP_NAVIGATIONS; i++) {
+                navigate(contentArea);
+            }
+            settle();
+            int subscribersBefore = DomainEventBus.getSubscriberCount();
+            long heapBefore = usedHeapAfterGc();
+
+            List<WeakReference<FinancialReportView>> views = new ArrayList<>(navigations);
+            int subscribersShowing = 0;
+            for (int i = 0; i < navigations; i++) {
+                views.add(new WeakReference<>(navigate(contentArea)));
+                if (i == 0) {
+                    subscribersShowing = lastShowingSubscribers;
+                }
+            }
+            settle();
+
+            int subscribersAfter = DomainEventBus.getSubscriberCount();
+            long heapAfter = usedHeapAfterGc();
+            int retained = 0;
+            for (WeakReference<FinancialReportView> view : views) {
+                if (view.get() != null) retained++;
+            }
+            long heapGrowthMb = (heapAfter - heapBefore) / (1024 * 1024);
+
+            System.out.println("Navigations:        " + navigations);
+            System.out.println("Subscribers:        " + subscribersBefore + " before, " + subscribersShowing +
+                               " while a report is shown, " + subscribersAfter + " after");
+            System.out.println("Views retained:     " + retained + " of " + navigations);
+            System.out.println("Used heap after GC: " + heapBefore / (1024 * 1024) + " MB before, " +
+                               heapAfter / (1024 * 1024) + " MB after");
+            System.out.println("");
+
+            if (subscribersShowing <= subscribersBefore) {
+                failures++;
+                System.out.println("❌ A shown report did not subscribe to ReportsChanged");
+            }
+            if (subscribersAfter > subscribersBefore) {
+                failures++;
+                System.out.println("❌ " + (subscribersAfter - subscribersBefore) +
+                                   " subscriptions outlived their report views");
+            }
+            if (retained > MAX_RETAINED_VIEWS) {
+                failures++;
+                System.out.println("❌ " + retained + " detached report views are still reachable");
+            }
+            if (heapGrowthMb > MAX_HEAP_GROWTH_MB) {
+                failures++;
+                System.out.println("❌ Used heap grew by " + heapGrowthMb + " MB (limit " + MAX_HEAP_GROWTH_MB + " MB)");
+            }
+
+        } catch (Exception e) {
+            System.err.println("\n❌ ERROR: Could not run the leak check");
+            System.err.println("Error message: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(2);
+        }
+
+        if (failures > 0) {
+            System.out.println(failures + " leak checks failed.");
+            System.exit(1);
+        }
+        System.out.println("✅ Report views and their subscriptions are released after navigating away.");
+        Platform.exit();
+        System.exit(0);
+    }
+
+    /**
+     * Show a new financial report in the content area, then navigate away from it
+     */
+    private static FinancialReportView navigate(StackPane contentArea) throws InterruptedException {
+        FinancialReportView[] view = new FinancialReportView[1];
+        onFx(() -> {
+            view[0] = new FinancialReportView();
+            contentArea.getChildren().clear();
+            contentArea.getChildren().add(view[0]);
+            lastShowingSubscribers = DomainEventBus.getSubscriberCount();
+        });
+        onFx(() -> contentArea.getChildren().clear());
+        return view[0];
+    }
+
+    /**
+     * Wait for the views' background loads, then for the FX updates they posted
+     */
+    private static void settle() throws InterruptedException {
+        Thread.sleep(SETTLE_MS);
+        onFx(() -> {});
+    }
+
+    private static void onFx(Runnable action) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                action.run();
+            } finally {
+                done.countDown();
+            }
+        });
+        if (!done.await(30, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("FX thread did not respond within 30 seconds");
+        }
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
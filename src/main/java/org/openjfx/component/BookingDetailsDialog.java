@@ -9,6 +9,7 @@ import javafx.stage.Modality;
 import org.openjfx.model.Booking;
 import org.openjfx.model.BookingSeat;
 import org.openjfx.service.BookingService;
+import org.openjfx.util.Log;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIconView;
 
@@ -22,6 +23,8 @@ import java.util.function.Consumer;
  * Dialog showing complete booking details
  */
 public class BookingDetailsDialog extends Dialog<ButtonType> {
+
+    private static final Log LOG = Log.get(BookingDetailsDialog.class);
     
     private final Booking booking;
     private final BookingService bookingService;
@@ -256,7 +259,7 @@ public class BookingDetailsDialog extends Dialog<ButtonType> {
                 });
                 
             } catch (Exception e) {
-                e.printStackTrace();
+                LOG.error("Error loading booking seats", e);
                 Platform.runLater(() -> {
                     VBox seatsSection = (VBox) getDialogPane().getContent().lookup("#seatsSection");
                     if (seatsSection != null && seatsSection.getChildren().size() > 1) {
@@ -15,6 +15,7 @@ import org.openjfx.model.Seat;
 import org.openjfx.service.BookingService;
 import org.openjfx.service.EventService;
 import org.openjfx.util.IconUtil;
+import org.openjfx.util.Log;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 
 import java.util.ArrayList;
@@ -25,6 +26,8 @@ import java.util.List;
  * Steps: Select Event → Choose Section → Pick Seats → Enter Details → Confirm
  */
 public class BookingWizardDialog extends Stage {
+
+    private static final Log LOG = Log.get(BookingWizardDialog.class);
     
     // Wizard steps
     private enum Step {
@@ -250,7 +253,7 @@ public class BookingWizardDialog extends Stage {
                 });
                 
             } catch (Exception e) {
-                e.printStackTrace();
+                LOG.error("Error loading events", e);
                 Platform.runLater(() -> {
                     showError("Failed to load events");
                 });
@@ -584,7 +587,7 @@ public class BookingWizardDialog extends Stage {
                 });
                 
             } catch (Exception e) {
-                e.printStackTrace();
+                LOG.error("Error creating booking", e);
                 Platform.runLater(() -> {
                     showError("An error occurred: " + e.getMessage());
                     nextButton.setDisable(false);
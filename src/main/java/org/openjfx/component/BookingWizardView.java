@@ -12,6 +12,7 @@ import org.openjfx.model.Seat;
 import org.openjfx.service.BookingService;
 import org.openjfx.service.EventService;
 import org.openjfx.util.IconUtil;
+import org.openjfx.util.Log;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 
 import java.time.LocalDate;
@@ -24,6 +25,8 @@ import java.util.List;
  * Steps: Select Event → Choose Section → Pick Seats → Enter Details → Confirm
  */
 public class BookingWizardView extends VBox {
+
+    private static final Log LOG = Log.get(BookingWizardView.class);
     
     // Wizard steps
     private enum Step {
@@ -231,7 +234,7 @@ public class BookingWizardView extends VBox {
                 });
                 
             } catch (Exception e) {
-                e.printStackTrace();
+                LOG.error("Error loading events", e);
                 Platform.runLater(() -> {
                     showError("Failed to load events");
                 });
@@ -515,7 +518,7 @@ public class BookingWizardView extends VBox {
                 });
                 
             } catch (Exception e) {
-                e.printStackTrace();
+                LOG.error("Error creating booking", e);
                 Platform.runLater(() -> {
                     showError("Error creating booking: " + e.getMessage());
                     nextButton.setDisable(false);
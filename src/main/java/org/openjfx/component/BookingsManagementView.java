@@ -6,17 +6,29 @@ import javafx.geometry.Pos;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import org.openjfx.model.Booking;
+import org.openjfx.model.BookingRow;
+import org.openjfx.model.DomainEvent;
 import org.openjfx.service.BookingService;
+import org.openjfx.service.DomainEventBus;
+import org.openjfx.util.Log;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIconView;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Main view for bookings management
+ * While shown, bookings created or changed on any terminal are merged into the list (see DomainEventBus)
  */
 public class BookingsManagementView extends VBox {
+
+    private static final Log LOG = Log.get(BookingsManagementView.class);
     
     private final BookingService bookingService;
     private final BookingFilterBar filterBar;
@@ -25,7 +37,8 @@ public class BookingsManagementView extends VBox {
     private final Label totalRevenueLabel;
     private final ProgressIndicator loadingIndicator;
     
-    private List<Booking> allBookings;
+    private List<BookingRow> allBookings;
+    private BookingFilterBar.FilterCriteria currentCriteria;
     
     public BookingsManagementView() {
         this.bookingService = new BookingService();
@@ -37,6 +50,10 @@ public class BookingsManagementView extends VBox {
         
         initializeUI();
         loadBookings();
+        
+        // Follow booking changes only while the view is on screen
+        SceneSubscriptions.whileShowing(this, () -> DomainEventBus.subscribe(this, DomainEvent.BookingEvent.class,
+            (view, events) -> view.onBookingsChanged(events)));
     }
     
     private void initializeUI() {
@@ -232,7 +249,7 @@ public class BookingsManagementView extends VBox {
         
         new Thread(() -> {
             try {
-                List<Booking> bookings = bookingService.getAllBookings();
+                List<BookingRow> bookings = bookingService.getAllBookingRows();
                 
                 Platform.runLater(() -> {
                     allBookings = bookings;
@@ -242,7 +259,7 @@ public class BookingsManagementView extends VBox {
                 });
                 
             } catch (Exception e) {
-                e.printStackTrace();
+                LOG.error("Error loading bookings", e);
                 Platform.runLater(() -> {
                     showLoading(false);
                     showError("Failed to load bookings: " + e.getMessage());
@@ -251,44 +268,84 @@ public class BookingsManagementView extends VBox {
         }).start();
     }
     
+    /**
+     * Domain event batch (bus worker): reload just the bookings that changed
+     */
+    private void onBookingsChanged(List<DomainEvent.BookingEvent> events) {
+        Set<Integer> changedIds = new LinkedHashSet<>();
+        for (DomainEvent.BookingEvent event : events) {
+            changedIds.add(event.getBookingId());
+        }
+        
+        List<BookingRow> changedRows = bookingService.getBookingRows(changedIds);
+        Platform.runLater(() -> mergeBookings(changedIds, changedRows));
+    }
+    
+    /**
+     * Replace changed rows, add new ones at the top and drop deleted ones
+     */
+    private void mergeBookings(Set<Integer> changedIds, List<BookingRow> changedRows) {
+        if (allBookings == null) return; // the initial load will include them
+        
+        Map<Integer, BookingRow> byId = new HashMap<>();
+        for (BookingRow row : changedRows) {
+            byId.put(row.getBookingId(), row);
+        }
+        
+        List<BookingRow> kept = new ArrayList<>(allBookings.size());
+        for (BookingRow row : allBookings) {
+            if (!changedIds.contains(row.getBookingId())) {
+                kept.add(row);
+            } else {
+                BookingRow updated = byId.remove(row.getBookingId());
+                if (updated != null) kept.add(updated);
+            }
+        }
+        
+        // What is left in byId is new; changedRows is newest first
+        List<BookingRow> merged = new ArrayList<>(kept.size() + byId.size());
+        for (BookingRow row : changedRows) {
+            if (byId.containsKey(row.getBookingId())) merged.add(row);
+        }
+        merged.addAll(kept);
+        
+        allBookings = merged;
+        if (currentCriteria != null) {
+            applyFilters(currentCriteria);
+        } else {
+            tableView.setBookings(merged);
+            updateSummary(merged);
+        }
+    }
+    
     private void applyFilters(BookingFilterBar.FilterCriteria criteria) {
+        currentCriteria = criteria;
         if (allBookings == null) return;
         
-        List<Booking> filtered = allBookings.stream()
-            .filter(booking -> matchesSearchCriteria(booking, criteria.searchText))
-            .filter(booking -> matchesBookingStatus(booking, criteria.bookingStatus))
+        String search = criteria.searchText != null ? criteria.searchText.toLowerCase() : null;
+        BookingRow.Status status = criteria.bookingStatus != null ? BookingRow.Status.of(criteria.bookingStatus) : null;
+        
+        List<BookingRow> filtered = allBookings.stream()
+            .filter(booking -> booking.matches(search, status))
             .collect(Collectors.toList());
         
         tableView.setBookings(filtered);
         updateSummary(filtered);
     }
     
-    private boolean matchesSearchCriteria(Booking booking, String searchText) {
-        if (searchText == null || searchText.isEmpty()) return true;
-        
-        String search = searchText.toLowerCase();
-        return booking.getBookingNumber().toLowerCase().contains(search) ||
-               booking.getCustomerName().toLowerCase().contains(search) ||
-               booking.getCustomerEmail().toLowerCase().contains(search);
-    }
-    
-    private boolean matchesBookingStatus(Booking booking, String bookingStatus) {
-        return bookingStatus == null || booking.getBookingStatus().equals(bookingStatus);
-    }
-    
-    private void updateSummary(List<Booking> bookings) {
+    private void updateSummary(List<BookingRow> bookings) {
         int totalBookings = bookings.size();
         double totalRevenue = bookings.stream()
-            .filter(b -> "CONFIRMED".equals(b.getBookingStatus()))
-            .mapToDouble(Booking::getTotalPrice)
+            .filter(BookingRow::isConfirmed)
+            .mapToDouble(BookingRow::getTotalPrice)
             .sum();
         
         totalBookingsLabel.setText(String.valueOf(totalBookings));
         totalRevenueLabel.setText(String.format("Rp %,.0f", totalRevenue));
     }
     
-    private void handleViewDetails(Booking booking) {
-        if (booking == null) {
+    private void handleViewDetails(BookingRow row) {
+        if (row == null) {
             Alert alert = new Alert(Alert.AlertType.WARNING);
             alert.setTitle("No Selection");
             alert.setHeaderText("No Booking Selected");
@@ -297,15 +354,28 @@ public class BookingsManagementView extends VBox {
             return;
         }
         
-        BookingDetailsDialog dialog = new BookingDetailsDialog(booking);
-        dialog.setOnBookingUpdated(updatedBooking -> {
-            // Refresh table to show updated status
-            tableView.refresh();
-            if (allBookings != null) {
-                updateSummary(allBookings);
-            }
-        });
-        dialog.showAndWait();
+        // List rows are compact; load the full booking for the dialog
+        new Thread(() -> {
+            Booking booking = bookingService.getBookingById(row.getBookingId());
+            
+            Platform.runLater(() -> {
+                if (booking == null) {
+                    showError("Booking #" + row.getBookingNumber() + " could not be loaded.");
+                    return;
+                }
+                
+                BookingDetailsDialog dialog = new BookingDetailsDialog(booking);
+                dialog.setOnBookingUpdated(updatedBooking -> {
+                    // Refresh table to show updated status
+                    row.setStatus(BookingRow.Status.of(updatedBooking.getBookingStatus()));
+                    tableView.refresh();
+                    if (allBookings != null) {
+                        updateSummary(allBookings);
+                    }
+                });
+                dialog.showAndWait();
+            });
+        }).start();
     }
     
     private void showLoading(boolean show) {
@@ -1,28 +1,29 @@
 package org.openjfx.component;
 
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
-import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.layout.VBox;
-import org.openjfx.model.Booking;
+import org.openjfx.model.BookingRow;
 
-import java.sql.Timestamp;
 import java.text.NumberFormat;
 import java.text.SimpleDateFormat;
+import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.function.Consumer;
 
 /**
  * Table view component for displaying bookings
+ * Rows are compact BookingRow records; cells read their fields directly.
  */
 public class BookingsTableView extends VBox {
     
-    private final TableView<Booking> table;
-    private final ObservableList<Booking> bookings;
-    private Consumer<Booking> onBookingSelected;
+    private final TableView<BookingRow> table;
+    private final ObservableList<BookingRow> bookings;
+    private Consumer<BookingRow> onBookingSelected;
     
     public BookingsTableView() {
         this.bookings = FXCollections.observableArrayList();
@@ -38,43 +39,43 @@ public class BookingsTableView extends VBox {
         table.setPlaceholder(new Label("No bookings found"));
         
         // Booking Number column
-        TableColumn<Booking, String> bookingNumCol = new TableColumn<>("Booking #");
-        bookingNumCol.setCellValueFactory(new PropertyValueFactory<>("bookingNumber"));
+        TableColumn<BookingRow, String> bookingNumCol = new TableColumn<>("Booking #");
+        bookingNumCol.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(data.getValue().getBookingNumber()));
         bookingNumCol.setPrefWidth(120);
         bookingNumCol.setStyle("-fx-alignment: CENTER;");
         
         // Event column
-        TableColumn<Booking, String> eventCol = new TableColumn<>("Event");
-        eventCol.setCellValueFactory(new PropertyValueFactory<>("eventName"));
+        TableColumn<BookingRow, String> eventCol = new TableColumn<>("Event");
+        eventCol.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(data.getValue().getEventName()));
         eventCol.setPrefWidth(200);
         
         // Customer column
-        TableColumn<Booking, String> customerCol = new TableColumn<>("Customer");
-        customerCol.setCellValueFactory(new PropertyValueFactory<>("customerName"));
+        TableColumn<BookingRow, String> customerCol = new TableColumn<>("Customer");
+        customerCol.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(data.getValue().getCustomerName()));
         customerCol.setPrefWidth(150);
         
         // Email column
-        TableColumn<Booking, String> emailCol = new TableColumn<>("Email");
-        emailCol.setCellValueFactory(new PropertyValueFactory<>("customerEmail"));
+        TableColumn<BookingRow, String> emailCol = new TableColumn<>("Email");
+        emailCol.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(data.getValue().getCustomerEmail()));
         emailCol.setPrefWidth(180);
         
         // Phone column
-        TableColumn<Booking, String> phoneCol = new TableColumn<>("Phone");
-        phoneCol.setCellValueFactory(new PropertyValueFactory<>("customerPhone"));
+        TableColumn<BookingRow, String> phoneCol = new TableColumn<>("Phone");
+        phoneCol.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(data.getValue().getCustomerPhone()));
         phoneCol.setPrefWidth(120);
         
         // Seats column
-        TableColumn<Booking, Integer> seatsCol = new TableColumn<>("Seats");
-        seatsCol.setCellValueFactory(new PropertyValueFactory<>("totalSeats"));
+        TableColumn<BookingRow, Integer> seatsCol = new TableColumn<>("Seats");
+        seatsCol.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(data.getValue().getTotalSeats()));
         seatsCol.setPrefWidth(70);
         seatsCol.setStyle("-fx-alignment: CENTER;");
         
         // Price column
-        TableColumn<Booking, Double> priceCol = new TableColumn<>("Total Price");
-        priceCol.setCellValueFactory(new PropertyValueFactory<>("totalPrice"));
+        TableColumn<BookingRow, Double> priceCol = new TableColumn<>("Total Price");
+        priceCol.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(data.getValue().getTotalPrice()));
         priceCol.setPrefWidth(120);
         priceCol.setStyle("-fx-alignment: CENTER-RIGHT;");
-        priceCol.setCellFactory(col -> new TableCell<Booking, Double>() {
+        priceCol.setCellFactory(col -> new TableCell<BookingRow, Double>() {
             @Override
             protected void updateItem(Double price, boolean empty) {
                 super.updateItem(price, empty);
@@ -88,11 +89,14 @@ public class BookingsTableView extends VBox {
         });
         
         // Booking Status column
-        TableColumn<Booking, String> statusCol = new TableColumn<>("Status");
-        statusCol.setCellValueFactory(new PropertyValueFactory<>("bookingStatus"));
+        TableColumn<BookingRow, String> statusCol = new TableColumn<>("Status");
+        statusCol.setCellValueFactory(data -> {
+            BookingRow.Status status = data.getValue().getStatus();
+            return new ReadOnlyObjectWrapper<>(status != null ? status.name() : null);
+        });
         statusCol.setPrefWidth(120);
         statusCol.setStyle("-fx-alignment: CENTER;");
-        statusCol.setCellFactory(col -> new TableCell<Booking, String>() {
+        statusCol.setCellFactory(col -> new TableCell<BookingRow, String>() {
             @Override
             protected void updateItem(String status, boolean empty) {
                 super.updateItem(status, empty);
@@ -113,20 +117,21 @@ public class BookingsTableView extends VBox {
         });
         
         // Booking Date column
-        TableColumn<Booking, Timestamp> dateCol = new TableColumn<>("Booking Date");
-        dateCol.setCellValueFactory(new PropertyValueFactory<>("bookingDate"));
+        TableColumn<BookingRow, Long> dateCol = new TableColumn<>("Booking Date");
+        dateCol.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(
+            data.getValue().hasBookingDate() ? data.getValue().getBookingDateMillis() : null));
         dateCol.setPrefWidth(150);
         dateCol.setStyle("-fx-alignment: CENTER;");
-        dateCol.setCellFactory(col -> new TableCell<Booking, Timestamp>() {
+        dateCol.setCellFactory(col -> new TableCell<BookingRow, Long>() {
             private final SimpleDateFormat format = new SimpleDateFormat("dd MMM yyyy HH:mm");
             
             @Override
-            protected void updateItem(Timestamp date, boolean empty) {
-                super.updateItem(date, empty);
-                if (empty || date == null) {
+            protected void updateItem(Long millis, boolean empty) {
+                super.updateItem(millis, empty);
+                if (empty || millis == null) {
                     setText(null);
                 } else {
-                    setText(format.format(date));
+                    setText(format.format(new Date(millis)));
                 }
             }
         });
@@ -146,7 +151,7 @@ public class BookingsTableView extends VBox {
         
         // Row double-click listener
         table.setRowFactory(tv -> {
-            TableRow<Booking> row = new TableRow<>();
+            TableRow<BookingRow> row = new TableRow<>();
             row.setOnMouseClicked(event -> {
                 if (event.getClickCount() == 2 && !row.isEmpty() && onBookingSelected != null) {
                     onBookingSelected.accept(row.getItem());
@@ -172,7 +177,7 @@ public class BookingsTableView extends VBox {
     /**
      * Set the bookings data
      */
-    public void setBookings(List<Booking> bookingsList) {
+    public void setBookings(List<BookingRow> bookingsList) {
         bookings.clear();
         if (bookingsList != null) {
             bookings.addAll(bookingsList);
@@ -182,7 +187,7 @@ public class BookingsTableView extends VBox {
     /**
      * Get selected booking
      */
-    public Booking getSelectedBooking() {
+    public BookingRow getSelectedBooking() {
         return table.getSelectionModel().getSelectedItem();
     }
     
@@ -196,7 +201,7 @@ public class BookingsTableView extends VBox {
     /**
      * Set callback for booking selection
      */
-    public void setOnBookingSelected(Consumer<Booking> callback) {
+    public void setOnBookingSelected(Consumer<BookingRow> callback) {
         this.onBookingSelected = callback;
     }
     
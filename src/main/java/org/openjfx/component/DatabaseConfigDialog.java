@@ -9,6 +9,7 @@ import javafx.stage.Modality;
 import javafx.stage.Stage;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 import org.openjfx.util.IconUtil;
+import org.openjfx.util.Log;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -22,6 +23,8 @@ import java.util.Map;
  * Allows users to set SSMS connection parameters
  */
 public class DatabaseConfigDialog extends Stage {
+
+    private static final Log LOG = Log.get(DatabaseConfigDialog.class);
     
     private TextField hostField;
     private TextField portField;
@@ -277,7 +280,7 @@ public class DatabaseConfigDialog extends Stage {
                 Files.createDirectories(appDataPath);
             }
         } catch (Exception e) {
-            System.err.println("Failed to create config directory: " + e.getMessage());
+            LOG.error("Failed to create config directory", e);
         }
         
         return appDataPath.resolve(".env");
@@ -390,7 +393,7 @@ public class DatabaseConfigDialog extends Stage {
                 java.nio.file.StandardOpenOption.TRUNCATE_EXISTING,
                 java.nio.file.StandardOpenOption.WRITE);
             
-            System.out.println("Configuration saved to: " + envPath.toAbsolutePath());
+            LOG.info("Configuration saved to: " + envPath.toAbsolutePath());
             
             showStatus("✓ Configuration saved successfully!", true);
             configSaved = true;
@@ -401,7 +404,7 @@ public class DatabaseConfigDialog extends Stage {
                     Thread.sleep(1000);
                     javafx.application.Platform.runLater(() -> close());
                 } catch (InterruptedException e) {
-                    e.printStackTrace();
+                    LOG.error("Interrupted before closing the dialog", e);
                 }
             }).start();
             
@@ -543,7 +546,11 @@ public class DatabaseConfigDialog extends Stage {
                     "/database/03_features_roles_staff_inventory.sql",
                     "/database/04_add_inventory_fields.sql",
                     "/database/06_event_expenses.sql",
-                    "/database/07_allow_null_seatid_for_standing_areas.sql"
+                    "/database/07_allow_null_seatid_for_standing_areas.sql",
+                    "/database/08_daily_rollups.sql",
+                    "/database/09_booking_indexes.sql",
+                    "/database/10_booked_seats_counters.sql",
+                    "/database/11_change_feed.sql"
                 };
                 
                 StringBuilder result = new StringBuilder();
@@ -569,10 +576,10 @@ public class DatabaseConfigDialog extends Stage {
                         
                         executeSqlScript(connectionUrl, username, password, sqlContent);
                         successCount++;
-                        result.append("✓ ").append(fileName).append("\\n");
+                        result.append("✓ ").append(fileName).append("\n");
                         
                     } catch (Exception e) {
-                        result.append("✗ ").append(fileName).append(": ").append(e.getMessage()).append("\\n");
+                        result.append("✗ ").append(fileName).append(": ").append(e.getMessage()).append("\n");
                     }
                 }
                 
@@ -610,7 +617,7 @@ public class DatabaseConfigDialog extends Stage {
             StringBuilder content = new StringBuilder();
             String line;
             while ((line = reader.readLine()) != null) {
-                content.append(line).append("\\n");
+                content.append(line).append("\n");
             }
             return content.toString();
         }
@@ -620,23 +627,33 @@ public class DatabaseConfigDialog extends Stage {
         try (Connection conn = java.sql.DriverManager.getConnection(connectionUrl, username, password);
              java.sql.Statement stmt = conn.createStatement()) {
             
-            // Split by GO statement (SQL Server batch separator)
-            String[] batches = sqlScript.split("(?i)\\\\bGO\\\\b");
+            // Split by GO lines (SQL Server batch separator)
+            String[] batches = sqlScript.split("(?im)^\\s*GO\\s*$");
             
             for (String batch : batches) {
                 String trimmedBatch = batch.trim();
-                if (!trimmedBatch.isEmpty() && !trimmedBatch.startsWith("--")) {
+                if (!trimmedBatch.isEmpty() && !isCommentOnly(trimmedBatch)) {
                     try {
                         stmt.execute(trimmedBatch);
                     } catch (Exception e) {
                         // Log but continue (some statements may fail if already exist)
-                        System.err.println("Warning: " + e.getMessage());
+                        LOG.warn("Schema batch skipped: " + e.getMessage());
                     }
                 }
             }
         }
     }
     
+    private static boolean isCommentOnly(String batch) {
+        for (String line : batch.split("\n")) {
+            String trimmed = line.trim();
+            if (!trimmed.isEmpty() && !trimmed.startsWith("--")) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     private String createInputStyle() {
         return "-fx-font-size: 13px;" +
                "-fx-padding: 8px 12px;" +
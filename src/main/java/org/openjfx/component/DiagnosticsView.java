@@ -0,0 +1,265 @@
+package org.openjfx.component;
+
+import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
+import de.jensd.fx.glyphs.fontawesome.FontAwesomeIconView;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.*;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import org.openjfx.model.DiagnosticsSnapshot;
+import org.openjfx.service.DiagnosticsService;
+import org.openjfx.util.BackgroundExecutors;
+
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * DiagnosticsView
+ * Live performance numbers of this terminal: database connections, SQL statements,
+ * caches, background executors, FX thread stalls, email outbox and JVM memory/GC.
+ * Refreshes every REFRESH_MILLIS while shown; Export writes everything to a text file.
+ */
+public class DiagnosticsView extends VBox {
+
+    private static final long REFRESH_MILLIS = 5_000;
+
+    private final DiagnosticsService diagnosticsService = new DiagnosticsService();
+
+    private final StatCard connectionsCard = new StatCard(FontAwesomeIcon.DATABASE, "DB Connections", "-", " ", "#3498db");
+    private final StatCard slowSqlCard = new StatCard(FontAwesomeIcon.CLOCK_ALT, "Slow Queries", "-", " ", "#e67e22");
+    private final StatCard stallsCard = new StatCard(FontAwesomeIcon.DESKTOP, "UI Stalls", "-", " ", "#e74c3c");
+    private final StatCard emailCard = new StatCard(FontAwesomeIcon.ENVELOPE, "Email Outbox", "-", " ", "#9b59b6");
+    private final StatCard heapCard = new StatCard(FontAwesomeIcon.SERVER, "Heap Used", "-", " ", "#27ae60");
+
+    private final TableView<DiagnosticsSnapshot.CacheStats> cachesTable = new TableView<>();
+    private final TableView<BackgroundExecutors.Stats> executorsTable = new TableView<>();
+    private final ListView<String> fxList = new ListView<>();
+    private final ListView<String> jvmList = new ListView<>();
+    private final SqlMetricsView sqlView = new SqlMetricsView();
+    private final Label updatedLabel = new Label();
+    private final Button exportBtn = new Button("Export Snapshot");
+
+    private ScheduledFuture<?> refreshTask;
+
+    public DiagnosticsView() {
+        setSpacing(20);
+        setPadding(new Insets(30));
+        setStyle("-fx-background-color: #ecf0f1;");
+
+        HBox cards = new HBox(15, connectionsCard, slowSqlCard, stallsCard, emailCard, heapCard);
+        for (StatCard card : new StatCard[] { connectionsCard, slowSqlCard, stallsCard, emailCard, heapCard }) {
+            HBox.setHgrow(card, Priority.ALWAYS);
+            card.setMaxWidth(Double.MAX_VALUE);
+        }
+
+        setupCachesTable();
+        setupExecutorsTable();
+        HBox tables = new HBox(15, createCard("Caches", cachesTable), createCard("Background Executors", executorsTable));
+        HBox lists = new HBox(15, createCard("FX Thread", fxList), createCard("JVM", jvmList));
+
+        sqlView.setPrefHeight(520);
+
+        getChildren().addAll(createHeader(), cards, tables, sqlView, lists);
+
+        // Refresh only while the page is on screen
+        sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (newScene != null) {
+                startRefresh();
+            } else {
+                stopRefresh();
+            }
+        });
+    }
+
+    private HBox createHeader() {
+        HBox header = new HBox(15);
+        header.setAlignment(Pos.CENTER_LEFT);
+
+        FontAwesomeIconView icon = new FontAwesomeIconView(FontAwesomeIcon.TACHOMETER);
+        icon.setSize("32");
+        icon.setFill(javafx.scene.paint.Color.web("#2c3e50"));
+
+        VBox textBox = new VBox(5);
+        Label titleLabel = new Label("Diagnostics");
+        titleLabel.setFont(Font.font("System", FontWeight.BOLD, 28));
+        titleLabel.setStyle("-fx-text-fill: #2c3e50;");
+        Label subtitleLabel = new Label("Live performance numbers of this terminal");
+        subtitleLabel.setFont(Font.font("System", 14));
+        subtitleLabel.setStyle("-fx-text-fill: #7f8c8d;");
+        textBox.getChildren().addAll(titleLabel, subtitleLabel);
+
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+
+        updatedLabel.setStyle("-fx-text-fill: #7f8c8d;");
+        exportBtn.setStyle(
+            "-fx-background-color: #27ae60; " +
+            "-fx-text-fill: white; " +
+            "-fx-font-size: 13px; " +
+            "-fx-padding: 8 16; " +
+            "-fx-background-radius: 5; " +
+            "-fx-cursor: hand;"
+        );
+        exportBtn.setOnAction(e -> export());
+
+        header.getChildren().addAll(icon, textBox, spacer, updatedLabel, exportBtn);
+        return header;
+    }
+
+    private VBox createCard(String title, Control content) {
+        VBox card = new VBox(10);
+        card.setPadding(new Insets(20));
+        card.setStyle(
+            "-fx-background-color: white; " +
+            "-fx-background-radius: 10; " +
+            "-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.1), 10, 0, 0, 2);"
+        );
+        Label label = new Label(title);
+        label.setFont(Font.font("System", FontWeight.BOLD, 16));
+        label.setStyle("-fx-text-fill: #2c3e50;");
+        content.setPrefHeight(180);
+        card.getChildren().addAll(label, content);
+        HBox.setHgrow(card, Priority.ALWAYS);
+        return card;
+    }
+
+    private void setupCachesTable() {
+        TableColumn<DiagnosticsSnapshot.CacheStats, String> colName = new TableColumn<>("Cache");
+        colName.setCellValueFactory(data -> new SimpleStringProperty(data.getValue().getName()));
+        colName.setPrefWidth(160);
+        TableColumn<DiagnosticsSnapshot.CacheStats, Long> colHits = new TableColumn<>("Hits");
+        colHits.setCellValueFactory(data -> new SimpleObjectProperty<>(data.getValue().getHits()));
+        TableColumn<DiagnosticsSnapshot.CacheStats, Long> colMisses = new TableColumn<>("Misses");
+        colMisses.setCellValueFactory(data -> new SimpleObjectProperty<>(data.getValue().getMisses()));
+        TableColumn<DiagnosticsSnapshot.CacheStats, String> colRatio = new TableColumn<>("Hit Ratio");
+        colRatio.setCellValueFactory(data ->
+            new SimpleStringProperty(String.format("%.1f%%", data.getValue().getHitRatio() * 100)));
+        TableColumn<DiagnosticsSnapshot.CacheStats, Integer> colSize = new TableColumn<>("Entries");
+        colSize.setCellValueFactory(data -> new SimpleObjectProperty<>(data.getValue().getSize()));
+
+        cachesTable.getColumns().add(colName);
+        cachesTable.getColumns().add(colHits);
+        cachesTable.getColumns().add(colMisses);
+        cachesTable.getColumns().add(colRatio);
+        cachesTable.getColumns().add(colSize);
+    }
+
+    private void setupExecutorsTable() {
+        TableColumn<BackgroundExecutors.Stats, String> colName = new TableColumn<>("Executor");
+        colName.setCellValueFactory(data -> new SimpleStringProperty(data.getValue().getName()));
+        colName.setPrefWidth(200);
+        TableColumn<BackgroundExecutors.Stats, Integer> colQueued = new TableColumn<>("Queued");
+        colQueued.setCellValueFactory(data -> new SimpleObjectProperty<>(data.getValue().getQueued()));
+        TableColumn<BackgroundExecutors.Stats, Integer> colActive = new TableColumn<>("Active");
+        colActive.setCellValueFactory(data -> new SimpleObjectProperty<>(data.getValue().getActive()));
+        TableColumn<BackgroundExecutors.Stats, Long> colCompleted = new TableColumn<>("Completed");
+        colCompleted.setCellValueFactory(data -> new SimpleObjectProperty<>(data.getValue().getCompleted()));
+
+        executorsTable.getColumns().add(colName);
+        executorsTable.getColumns().add(colQueued);
+        executorsTable.getColumns().add(colActive);
+        executorsTable.getColumns().add(colCompleted);
+    }
+
+    private void startRefresh() {
+        if (refreshTask != null) return;
+        refreshTask = DiagnosticsService.scheduleRefresh(() -> {
+            DiagnosticsSnapshot snapshot = diagnosticsService.capture();
+            Platform.runLater(() -> render(snapshot));
+        }, REFRESH_MILLIS);
+    }
+
+    private void stopRefresh() {
+        if (refreshTask != null) {
+            refreshTask.cancel(false);
+            refreshTask = null;
+        }
+    }
+
+    private void render(DiagnosticsSnapshot s) {
+        updatedLabel.setText("Updated " + s.getCapturedAt().format(DateTimeFormatter.ofPattern("HH:mm:ss")));
+
+        setCard(connectionsCard, String.valueOf(s.getConnectionsOpened()),
+            s.getConnectionsOpen() + " open, connect p95 " + String.format("%.0f ms", s.getConnectP95Millis()));
+        setCard(slowSqlCard, String.valueOf(s.getSlowQueries().size()),
+            s.isSqlMetricsEnabled() ? "recent, over threshold" : "SQL metrics disabled");
+        setCard(stallsCard, String.valueOf(s.getFxStalls()), "longest " + s.getFxMaxGapMillis() + " ms");
+        setCard(emailCard, String.valueOf(s.getEmailBacklog()), "waiting to send");
+        setCard(heapCard, DiagnosticsService.mb(s.getHeapUsed()),
+            "of " + (s.getHeapMax() > 0 ? DiagnosticsService.mb(s.getHeapMax()) : "unlimited"));
+
+        cachesTable.setItems(FXCollections.observableArrayList(s.getCaches()));
+        executorsTable.setItems(FXCollections.observableArrayList(s.getExecutors()));
+
+        List<String> fx = new ArrayList<>();
+        fx.add("Stalls: " + s.getFxStalls() + ", longest gap " + s.getFxMaxGapMillis() + " ms");
+        if (s.getFxJdbcViolations().isEmpty()) {
+            fx.add("No database calls on the FX thread");
+        }
+        for (Map.Entry<String, Long> v : s.getFxJdbcViolations().entrySet()) {
+            fx.add(v.getValue() + " database calls from " + v.getKey());
+        }
+        fxList.setItems(FXCollections.observableArrayList(fx));
+
+        List<String> jvm = new ArrayList<>();
+        jvm.add("Heap: " + DiagnosticsService.mb(s.getHeapUsed()) + " used / "
+            + DiagnosticsService.mb(s.getHeapCommitted()) + " committed");
+        jvm.add("Non-heap: " + DiagnosticsService.mb(s.getNonHeapUsed()));
+        for (DiagnosticsSnapshot.GcStats gc : s.getGarbageCollectors()) {
+            jvm.add("GC " + gc.getName() + ": " + gc.getCount() + " collections, " + gc.getTimeMillis() + " ms");
+        }
+        jvm.add("Threads: " + s.getThreadCount() + ", uptime " + DiagnosticsService.formatDuration(s.getUptimeMillis()));
+        // should stay flat while navigating; growth means views are kept alive
+        jvm.add("Event subscriptions: " + s.getEventSubscribers() + " live, "
+            + s.getEventsDelivered() + " events delivered (" + s.getEventsCoalesced() + " coalesced)");
+        jvm.add("Flight recording: " + (s.isFlightRecording() ? "on" : "off (start with --jfr)"));
+        jvmList.setItems(FXCollections.observableArrayList(jvm));
+
+        sqlView.refresh();
+    }
+
+    /**
+     * Update a card only when its value changed (updateValue animates)
+     */
+    private void setCard(StatCard card, String value, String subtitle) {
+        if (!value.equals(card.getValue())) {
+            card.updateValue(value);
+        }
+        card.updateSubtitle(subtitle);
+    }
+
+    private void export() {
+        exportBtn.setDisable(true);
+        new Thread(() -> {
+            DiagnosticsSnapshot snapshot = diagnosticsService.capture();
+            Path file = diagnosticsService.export(snapshot);
+
+            Platform.runLater(() -> {
+                exportBtn.setDisable(false);
+                render(snapshot);
+                Alert alert;
+                if (file != null) {
+                    alert = new Alert(Alert.AlertType.INFORMATION,
+                        "Diagnostics saved to:\n" + file.toAbsolutePath() + "\n\nPlease send this file to support.");
+                } else {
+                    alert = new Alert(Alert.AlertType.ERROR, "Could not save the diagnostics snapshot.");
+                }
+                alert.setHeaderText(null);
+                alert.showAndWait();
+            });
+        }, "diagnostics-export").start();
+    }
+}
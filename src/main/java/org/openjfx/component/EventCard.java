@@ -1,6 +1,7 @@
 package org.openjfx.component;
 
 import org.openjfx.model.Event;
+import org.openjfx.util.Log;
 
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIconView;
@@ -20,6 +21,8 @@ import javafx.scene.text.FontWeight;
  * Features hover effects, status-based styling, and click interactions.
  */
 public class EventCard extends HBox {
+
+   private static final Log LOG = Log.get(EventCard.class);
    
    private static final String BASE_STYLE = 
       "-fx-background-color: white; " +
@@ -208,7 +211,7 @@ public class EventCard extends HBox {
       
       // Click handler - can be customized by external code
       this.setOnMouseClicked(e -> {
-         System.out.println("EventCard clicked: " + titleLabel.getText());
+         LOG.debug("EventCard clicked: " + titleLabel.getText());
          // This can be overridden by setting a new handler externally
       });
    }
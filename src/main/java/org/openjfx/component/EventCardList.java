@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 
 import org.openjfx.model.Event;
 import org.openjfx.service.EventService;
+import org.openjfx.util.Log;
 
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 import javafx.application.Platform;
@@ -22,6 +23,8 @@ import javafx.scene.text.FontWeight;
  * Features lazy loading, filtering, sorting, and dynamic updates.
  */
 public class EventCardList extends VBox {
+
+   private static final Log LOG = Log.get(EventCardList.class);
    
    private final EventService eventService;
    private VBox cardContainer;
@@ -102,7 +105,7 @@ public class EventCardList extends VBox {
             });
          } catch (Exception e) {
             Platform.runLater(() -> showError("Failed to load events: " + e.getMessage()));
-            e.printStackTrace();
+            LOG.error("Error loading events", e);
          }
       }).start();
    }
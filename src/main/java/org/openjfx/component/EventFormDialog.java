@@ -9,6 +9,7 @@ import javafx.stage.Modality;
 import javafx.stage.Stage;
 import org.openjfx.model.Event;
 import org.openjfx.service.EventService;
+import org.openjfx.util.Log;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -18,6 +19,8 @@ import java.time.LocalTime;
  * Create or edit event dialog
  */
 public class EventFormDialog {
+
+    private static final Log LOG = Log.get(EventFormDialog.class);
     
     private final Stage dialog;
     private final Event existingEvent;
@@ -187,14 +190,14 @@ public class EventFormDialog {
     private void handleSave() {
         if (!validateForm()) return;
         
-        System.out.println("DEBUG: handleSave called - starting save process");
+        LOG.debug("handleSave called - starting save process");
         
         LocalTime time = LocalTime.parse(timeField.getText().trim());
         int totalSeats = Integer.parseInt(seatsField.getText().trim());
 
         if (existingEvent == null) {
             // Creating new event - run in background thread
-            System.out.println("DEBUG: Creating new event in background thread");
+            LOG.debug("Creating new event in background thread");
             
             // Map combo box value to database event type
             String eventType = typeCombo.getValue().toUpperCase().contains("FOOTBALL") ? "Football" : "Concert";
@@ -212,21 +215,21 @@ public class EventFormDialog {
             // Disable form while saving
             saveBtn.setDisable(true);
             saveBtn.setText("Creating...");
-            System.out.println("DEBUG: Button disabled, showing 'Creating...'");
+            LOG.debug("Button disabled, showing 'Creating...'");
             
             new Thread(() -> {
-                System.out.println("DEBUG: Background thread started, calling createEvent");
+                LOG.debug("Background thread started, calling createEvent");
                 boolean success = eventService.createEvent(newEvent); // This sets the ID on newEvent
-                System.out.println("DEBUG: createEvent returned: " + success);
+                LOG.debug("createEvent returned: " + success);
                 
                 Platform.runLater(() -> {
-                    System.out.println("DEBUG: Back on UI thread with Platform.runLater");
+                    LOG.debug("Back on UI thread with Platform.runLater");
                     if (success) {
-                        System.out.println("DEBUG: Event created successfully with ID: " + newEvent.getId());
+                        LOG.debug("Event created successfully with ID: " + newEvent.getId());
                         dialog.close();
                         
                         // Automatically open section configuration dialog
-                        System.out.println("DEBUG: Opening EventSectionConfigDialog for event ID: " + newEvent.getId());
+                        LOG.debug("Opening EventSectionConfigDialog for event ID: " + newEvent.getId());
                         
                         EventSectionConfigDialog configDialog = new EventSectionConfigDialog(
                             newEvent.getId(), // ID was set by createEvent
@@ -236,7 +239,7 @@ public class EventFormDialog {
                         
                         // When section config is complete, refresh the event list
                         configDialog.setOnSaveComplete(() -> {
-                            System.out.println("DEBUG: Section configuration completed");
+                            LOG.debug("Section configuration completed");
                             if (onSuccess != null) {
                                 onSuccess.run();
                             }
@@ -244,7 +247,7 @@ public class EventFormDialog {
                         
                         // If user closes the config dialog without saving, still refresh
                         configDialog.setOnHidden(e -> {
-                            System.out.println("DEBUG: Section config dialog closed");
+                            LOG.debug("Section config dialog closed");
                             if (onSuccess != null) {
                                 onSuccess.run();
                             }
@@ -13,6 +13,7 @@ import org.openjfx.model.Section;
 import org.openjfx.service.EventService;
 import org.openjfx.service.EventSectionService;
 import org.openjfx.service.SectionService;
+import org.openjfx.util.Log;
 
 import java.time.LocalTime;
 import java.util.ArrayList;
@@ -22,6 +23,8 @@ import java.util.List;
  * Unified event creation form with integrated section configuration
  */
 public class EventFormView extends VBox {
+
+    private static final Log LOG = Log.get(EventFormView.class);
     
     private final EventService eventService;
     private final SectionService sectionService;
@@ -543,7 +546,7 @@ public class EventFormView extends VBox {
                         es.setPrice(row.getPrice());
                         es.setSectionTitle(row.getSection().getSectionName());
                         
-                        System.out.println("DEBUG: Creating EventSection - " +
+                        LOG.debug("Creating EventSection - " +
                                          "SectionID=" + row.getSection().getSectionId() +
                                          ", Title=" + row.getSection().getSectionName() +
                                          ", TotalCapacity=" + row.getCapacity() +
@@ -566,7 +569,7 @@ public class EventFormView extends VBox {
                     });
                 }
             } catch (Exception e) {
-                e.printStackTrace();
+                LOG.error("Error saving event", e);
                 javafx.application.Platform.runLater(() -> {
                     showError("Error: " + e.getMessage());
                     saveButton.setDisable(false);
@@ -12,22 +12,17 @@ import javafx.scene.layout.*;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.util.Duration;
-import org.openjfx.model.Booking;
-import org.openjfx.model.BookingSeat;
 import org.openjfx.model.Event;
-import org.openjfx.model.InventoryPurchase;
-import org.openjfx.service.BookingService;
+import org.openjfx.model.EventReportSummary;
 import org.openjfx.service.EventService;
 import org.openjfx.service.EventExpenseService;
+import org.openjfx.service.EventReportService;
 import org.openjfx.service.InventoryService;
-import org.openjfx.service.InventoryPurchaseService;
 import org.openjfx.model.EventExpense;
 
 import java.time.LocalDate;
-import java.time.ZoneId;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 /**
  * EventReportView
@@ -37,9 +32,7 @@ import java.util.Map;
 public class EventReportView extends BorderPane {
 
     private final EventService eventService = new EventService();
-    private final BookingService bookingService = new BookingService();
-    // reportService not currently required by this view; keep purchaseService and other services
-    private final InventoryPurchaseService purchaseService = new InventoryPurchaseService();
+    private final EventReportService eventReportService = new EventReportService();
     private final EventExpenseService eventExpenseService = new EventExpenseService();
     private final InventoryService inventoryService = new InventoryService();
 
@@ -221,47 +214,10 @@ public class EventReportView extends BorderPane {
         LocalDate start = startDate.getValue();
         LocalDate end = endDate.getValue();
 
-        List<Booking> bookings = bookingService.getBookingsByEvent(event.getId());
-
-        // Filter by date range if provided
-        if (start != null || end != null) {
-            bookings.removeIf(b -> {
-                java.sql.Timestamp ts = b.getBookingDate();
-                if (ts == null) return true;
-                LocalDate d = ts.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
-                if (start != null && d.isBefore(start)) return true;
-                if (end != null && d.isAfter(end)) return true;
-                return false;
-            });
-        }
-
-        // Filter only CONFIRMED bookings for visitor count
-        bookings.removeIf(b -> !"CONFIRMED".equals(b.getBookingStatus()));
-
-        int totalBookings = bookings.size();
-        int totalTickets = 0;
-        double totalRevenue = 0.0;
-
-        for (Booking b : bookings) {
-            List<BookingSeat> seats = bookingService.getBookingSeats(b.getBookingId());
-            for (BookingSeat s : seats) {
-                // Count all seats from CONFIRMED bookings (not just ACTIVE status)
-                totalTickets++;
-                totalRevenue += s.getPrice();
-            }
-        }
-
-        // Expenses: include both inventory purchases and event-level expenses
-        double totalExpenses = 0.0;
-        if (start != null && end != null) {
-            List<InventoryPurchase> purchases = purchaseService.getPurchasesInPeriod(start, end);
-            for (InventoryPurchase p : purchases) {
-                if (p.getEventId() != null && p.getEventId() == event.getId()) totalExpenses += p.getTotalCost();
-            }
-            // include event expenses in the period for this event
-            totalExpenses += eventExpenseService.getTotalExpensesForEventInPeriod(start, end, event.getId());
-        } else {
-            totalExpenses = purchaseService.getTotalExpensesForEvent(event.getId()) + eventExpenseService.getTotalExpensesForEvent(event.getId());
+        // Tickets, revenue, expenses and section breakdown in two grouped queries
+        EventReportSummary summary = eventReportService.summarize(event.getId(), start, end);
+        if (summary == null) {
+            summary = new EventReportSummary(event.getId(), 0, 0, 0.0, 0.0, 0.0, Collections.emptyList());
         }
 
         // Populate event details table
@@ -270,8 +226,17 @@ public class EventReportView extends BorderPane {
             new EventDetailRow("Event Date", event.getEventDate() != null ? event.getEventDate().toString() : "-"),
             new EventDetailRow("Event Time", event.getEventTime() != null ? event.getEventTime().toString() : "-"),
             new EventDetailRow("Event Type", event.getEventType() != null ? event.getEventType() : "-"),
-            new EventDetailRow("Visitor Count", String.valueOf(totalTickets))
+            new EventDetailRow("Visitor Count", String.valueOf(summary.getTotalTickets())),
+            new EventDetailRow("Bookings", String.valueOf(summary.getTotalBookings())),
+            new EventDetailRow("Revenue", String.format("Rp %,.2f", summary.getTotalRevenue())),
+            new EventDetailRow("Expenses", String.format("Rp %,.2f", summary.getTotalExpenses())),
+            new EventDetailRow("Profit", String.format("Rp %,.2f", summary.getProfit()))
         );
+        for (EventReportSummary.SectionBreakdown section : summary.getSections()) {
+            String name = section.getSectionName() != null ? section.getSectionName() : "Section " + section.getSectionId();
+            rows.add(new EventDetailRow("  " + name,
+                String.format("%d tickets - Rp %,.2f", section.getTickets(), section.getRevenue())));
+        }
         eventDetailsTable.setItems(rows);
 
         // load recent expenses for this event
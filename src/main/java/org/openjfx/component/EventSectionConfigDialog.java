@@ -13,6 +13,7 @@ import org.openjfx.model.Section;
 import org.openjfx.service.EventSectionService;
 import org.openjfx.service.SectionService;
 import org.openjfx.util.IconUtil;
+import org.openjfx.util.Log;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 
 import java.util.ArrayList;
@@ -23,6 +24,8 @@ import java.util.List;
  * Used when creating or editing events
  */
 public class EventSectionConfigDialog extends Stage {
+
+    private static final Log LOG = Log.get(EventSectionConfigDialog.class);
     
     private final int eventId;
     private final String eventType; // FOOTBALL or CONCERT
@@ -178,7 +181,7 @@ public class EventSectionConfigDialog extends Stage {
                 });
                 
             } catch (Exception e) {
-                e.printStackTrace();
+                LOG.error("Error loading sections", e);
                 Platform.runLater(() -> {
                     showError("Failed to load sections");
                 });
@@ -234,7 +237,7 @@ public class EventSectionConfigDialog extends Stage {
     }
     
     private void saveConfiguration() {
-        System.out.println("DEBUG: saveConfiguration called");
+        LOG.debug("saveConfiguration called");
         
         // First, identify which rows have been filled in (sections user wants to include)
         List<SectionConfigRow> configuredRows = new ArrayList<>();
@@ -265,7 +268,7 @@ public class EventSectionConfigDialog extends Stage {
             configuredRows.add(row);
         }
         
-        System.out.println("DEBUG: Configured sections: " + configuredRows.size());
+        LOG.debug("Configured sections: " + configuredRows.size());
         
         // Check if at least one section is configured
         if (configuredRows.isEmpty()) {
@@ -279,12 +282,12 @@ public class EventSectionConfigDialog extends Stage {
             totalCapacity += row.getTotalCapacity();
         }
         
-        System.out.println("DEBUG: Total capacity: " + totalCapacity + ", Event max: " + eventTotalSeats);
+        LOG.debug("Total capacity: " + totalCapacity + ", Event max: " + eventTotalSeats);
         
         // For Concert events with field/standing areas, allow flexible capacity
         // Only validate if total capacity exceeds event maximum
         if (totalCapacity > eventTotalSeats) {
-            System.out.println("DEBUG: CAPACITY EXCEEDED! Showing error");
+            LOG.debug("Capacity exceeded, showing error");
             showError(
                 "Total section capacity exceeds event maximum!\n\n" +
                 "Event Maximum: " + eventTotalSeats + " seats\n" +
@@ -318,7 +321,7 @@ public class EventSectionConfigDialog extends Stage {
                     eventSection.setTotalCapacity(row.getTotalCapacity());
                     eventSection.setAvailableSeats(row.getTotalCapacity());
                     
-                    System.out.println("DEBUG: Creating EventSection - " +
+                    LOG.debug("Creating EventSection - " +
                                      "SectionID=" + row.getSection().getSectionId() +
                                      ", Title=" + row.getSectionTitle() +
                                      ", TotalCapacity=" + row.getTotalCapacity() +
@@ -347,7 +350,7 @@ public class EventSectionConfigDialog extends Stage {
                 });
                 
             } catch (Exception e) {
-                e.printStackTrace();
+                LOG.error("Error saving section configuration", e);
                 Platform.runLater(() -> {
                     showError("An error occurred: " + e.getMessage());
                     saveButton.setDisable(false);
@@ -9,6 +9,7 @@ import javafx.scene.layout.*;
 import org.openjfx.model.EventSection;
 import org.openjfx.service.EventSectionService;
 import org.openjfx.util.IconUtil;
+import org.openjfx.util.Log;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 
 import java.util.List;
@@ -19,6 +20,8 @@ import java.util.function.Consumer;
  * Displays available sections as clickable cards with pricing and capacity
  */
 public class EventSectionSelector extends VBox {
+
+    private static final Log LOG = Log.get(EventSectionSelector.class);
     
     private final int eventId;
     private VBox sectionsContainer;
@@ -68,13 +71,13 @@ public class EventSectionSelector extends VBox {
     private void loadSections() {
         new Thread(() -> {
             try {
-                System.out.println("Loading sections for event ID: " + eventId);
+                LOG.debug("Loading sections for event ID: " + eventId);
                 List<EventSection> sections = eventSectionService.getEventSections(eventId);
-                System.out.println("Found " + sections.size() + " sections");
+                LOG.debug("Found " + sections.size() + " sections");
                 
                 Platform.runLater(() -> {
                     if (sections.isEmpty()) {
-                        System.out.println("No sections found in database");
+                        LOG.debug("No sections found in database");
                         showEmptyState();
                     } else {
                         populateSections(sections);
@@ -82,8 +85,7 @@ public class EventSectionSelector extends VBox {
                 });
                 
             } catch (Exception e) {
-                System.err.println("Error loading sections: " + e.getMessage());
-                e.printStackTrace();
+                LOG.error("Error loading sections", e);
                 Platform.runLater(this::showErrorState);
             }
         }).start();
@@ -94,7 +96,7 @@ public class EventSectionSelector extends VBox {
         
         int availableCount = 0;
         for (EventSection section : sections) {
-            System.out.println("Section: " + section.getSectionTitle() + 
+            LOG.debug(() -> "Section: " + section.getSectionTitle() + 
                              ", Available: " + section.getAvailableSeats() + 
                              ", Total: " + section.getTotalCapacity());
             
@@ -112,7 +114,7 @@ public class EventSectionSelector extends VBox {
         
         // If no sections with available seats, show message
         if (availableCount == 0) {
-            System.out.println("All sections are fully booked");
+            LOG.debug("All sections are fully booked");
             showFullyBookedState();
         }
     }
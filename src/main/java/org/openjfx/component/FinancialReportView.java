@@ -8,6 +8,7 @@ import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.chart.BarChart;
 import javafx.scene.chart.CategoryAxis;
+import javafx.scene.chart.LineChart;
 import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.XYChart;
 import javafx.scene.control.*;
@@ -21,12 +22,16 @@ import javafx.scene.text.FontWeight;
 import javafx.scene.effect.DropShadow;
 import javafx.application.Platform;
 import javafx.util.Duration;
+import org.openjfx.model.DomainEvent;
 import org.openjfx.model.Event;
+import org.openjfx.service.DailyRollupService;
+import org.openjfx.service.DomainEventBus;
 import org.openjfx.service.EventService;
 import org.openjfx.service.ReportService;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Financial report UI: shows revenue/expenses/profit for a date range and per-event summary
@@ -52,6 +57,9 @@ public class FinancialReportView extends VBox {
     private final Label pageLabel = new Label("");
     private boolean showAll = false;
 
+    private final LineChart<String, Number> trendChart;
+    private final ComboBox<DailyRollupService.Granularity> granularityBox = new ComboBox<>();
+
     public FinancialReportView() {
         setSpacing(20);
         setPadding(new Insets(0));
@@ -133,11 +141,38 @@ public class FinancialReportView extends VBox {
         chartCard.setPadding(new Insets(20));
         VBox.setVgrow(chartCard, Priority.ALWAYS);
 
-        getChildren().addAll(summaryCards, controlsCard, chartCard);
+        // Revenue/expense trend chart (answered from daily rollups)
+        granularityBox.getItems().addAll(DailyRollupService.Granularity.values());
+        granularityBox.setValue(DailyRollupService.Granularity.DAY);
+        granularityBox.setOnAction(e -> updateTrend());
+
+        HBox trendControls = new HBox(12);
+        trendControls.setAlignment(Pos.CENTER_LEFT);
+        trendControls.getChildren().addAll(new Label("Group by:"), granularityBox);
+
+        CategoryAxis trendXAxis = new CategoryAxis();
+        NumberAxis trendYAxis = new NumberAxis();
+        trendYAxis.setLabel("Amount (Rp)");
+        trendChart = new LineChart<>(trendXAxis, trendYAxis);
+        trendChart.setTitle("Revenue & Expenses Trend");
+        trendChart.setAnimated(false);
+        trendChart.setCreateSymbols(false);
+        trendChart.setPrefHeight(350);
+
+        VBox trendCard = new VBox(15, trendControls, trendChart);
+        trendCard.setStyle(
+            "-fx-background-color: white; " +
+            "-fx-background-radius: 10; " +
+            "-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.1), 10, 0, 0, 2);"
+        );
+        trendCard.setPadding(new Insets(20));
+
+        getChildren().addAll(summaryCards, controlsCard, trendCard, chartCard);
 
         refresh();
-        // register for data-change notifications so charts refresh when expenses are added
-        ReportService.addRefreshListener(() -> Platform.runLater(this::refresh));
+        // refresh the charts when report data changes, only while the view is on screen
+        SceneSubscriptions.whileShowing(this, () -> DomainEventBus.subscribe(this, DomainEvent.ReportsChanged.class,
+            Platform::runLater, (view, events) -> view.refresh()));
     }
     
     private HBox createSummaryCards() {
@@ -204,6 +239,8 @@ public class FinancialReportView extends VBox {
         lblExpenses.setText(String.format("%,.2f", expenses));
         lblProfit.setText(String.format("%,.2f", profit));
 
+        updateTrend();
+
         // load events list once and then update chart view
         Task<List<Event>> loadTask = new Task<>() {
             @Override
@@ -272,6 +309,33 @@ public class FinancialReportView extends VBox {
         new Thread(task).start();
     }
 
+    private void updateTrend() {
+        LocalDate start = startDate.getValue() != null ? startDate.getValue() : LocalDate.now().minusMonths(1);
+        LocalDate end = endDate.getValue() != null ? endDate.getValue() : LocalDate.now();
+        DailyRollupService.Granularity granularity = granularityBox.getValue();
+
+        Task<List<XYChart.Series<String, Number>>> task = new Task<>() {
+            @Override
+            protected List<XYChart.Series<String, Number>> call() throws Exception {
+                XYChart.Series<String, Number> revenueSeries = new XYChart.Series<>();
+                revenueSeries.setName("Revenue");
+                for (Map.Entry<String, Double> e : reportService.getRevenueTrend(granularity, start, end).entrySet()) {
+                    revenueSeries.getData().add(new XYChart.Data<>(e.getKey(), e.getValue()));
+                }
+
+                XYChart.Series<String, Number> expenseSeries = new XYChart.Series<>();
+                expenseSeries.setName("Expenses");
+                for (Map.Entry<String, Double> e : reportService.getExpenseTrend(granularity, start, end).entrySet()) {
+                    expenseSeries.getData().add(new XYChart.Data<>(e.getKey(), e.getValue()));
+                }
+                return List.of(revenueSeries, expenseSeries);
+            }
+        };
+
+        task.setOnSucceeded(evt -> trendChart.getData().setAll(task.getValue()));
+        new Thread(task).start();
+    }
+
     public static class EventRow {
         private final javafx.beans.property.SimpleStringProperty eventName;
         private final javafx.beans.property.SimpleDoubleProperty revenue;
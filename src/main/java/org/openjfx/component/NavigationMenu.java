@@ -10,12 +10,15 @@ import javafx.scene.layout.*;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import org.openjfx.model.Admin;
+import org.openjfx.util.Log;
 
 /**
  * Navigation Menu Component
  * Left sidebar with menu buttons and user info
  */
 public class NavigationMenu extends VBox {
+
+    private static final Log LOG = Log.get(NavigationMenu.class);
     
     private final Admin admin;
     private Button homeButton;
@@ -26,6 +29,7 @@ public class NavigationMenu extends VBox {
     private Button staffButton;      // NEW: Staff Management
     private Button inventoryButton;  // NEW: Inventory Management
     private Button reportsButton;
+    private Button diagnosticsButton;
     
     public NavigationMenu(Admin admin) {
         super(5);
@@ -103,6 +107,7 @@ public class NavigationMenu extends VBox {
         staffButton = createMenuButton("Staff Management", FontAwesomeIcon.USERS, false);
         inventoryButton = createMenuButton("Inventory", FontAwesomeIcon.CUBES, false);
         reportsButton = createMenuButton("Reports", FontAwesomeIcon.BAR_CHART, false);
+        diagnosticsButton = createMenuButton("Diagnostics", FontAwesomeIcon.TACHOMETER, false);
         
         // Hide management buttons by default
         adminButton.setVisible(false);
@@ -116,7 +121,7 @@ public class NavigationMenu extends VBox {
         menuBox.getChildren().addAll(
             homeButton, eventsButton, seatsButton, bookingsButton,
             adminButton, staffButton, inventoryButton, reportsButton,
-            spacer
+            diagnosticsButton, spacer
         );
         VBox.setVgrow(menuBox, Priority.ALWAYS);
         
@@ -176,7 +181,7 @@ public class NavigationMenu extends VBox {
     
     public void highlightButton(Button active) {
         Button[] allButtons = {homeButton, eventsButton, seatsButton, bookingsButton, 
-                              adminButton, staffButton, inventoryButton, reportsButton};
+                              adminButton, staffButton, inventoryButton, reportsButton, diagnosticsButton};
         
         for (Button button : allButtons) {
             if (button == active) {
@@ -212,6 +217,8 @@ public class NavigationMenu extends VBox {
         inventoryButton.setManaged(true);
         reportsButton.setVisible(true);
         reportsButton.setManaged(true);
+        diagnosticsButton.setVisible(true);
+        diagnosticsButton.setManaged(true);
         
         // Only SUPER_ADMIN can access admin and staff management
         if ("SUPER_ADMIN".equals(role)) {
@@ -220,14 +227,14 @@ public class NavigationMenu extends VBox {
             staffButton.setVisible(true);
             staffButton.setManaged(true);
             
-            System.out.println("✓ SUPER_ADMIN privileges granted");
+            LOG.debug("SUPER_ADMIN privileges granted");
         } else {
             adminButton.setVisible(false);
             adminButton.setManaged(false);
             staffButton.setVisible(false);
             staffButton.setManaged(false);
             
-            System.out.println("✓ ADMIN privileges granted");
+            LOG.debug("ADMIN privileges granted");
         }
     }
     
@@ -240,6 +247,7 @@ public class NavigationMenu extends VBox {
     public Button getStaffButton() { return staffButton; }        // NEW
     public Button getInventoryButton() { return inventoryButton; } // NEW
     public Button getReportsButton() { return reportsButton; }
+    public Button getDiagnosticsButton() { return diagnosticsButton; }
     public Button getLogoutButton() { 
         return (Button) getChildren().get(getChildren().size() - 1); 
     }
@@ -0,0 +1,48 @@
+package org.openjfx.component;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import org.openjfx.service.DomainEventBus;
+
+import java.util.function.Supplier;
+
+/**
+ * Ties a DomainEventBus subscription to a node being on screen: it is opened when the node
+ * is added to a scene and cancelled when the node leaves it, so a view that is navigated
+ * away from stops receiving events at once instead of when it is garbage collected.
+ *
+ * The listener lives on the node itself, so it adds no path from anything static to the view.
+ */
+final class SceneSubscriptions implements ChangeListener<Scene> {
+
+    private final Supplier<DomainEventBus.Subscription> subscribe;
+    private DomainEventBus.Subscription subscription;
+
+    private SceneSubscriptions(Supplier<DomainEventBus.Subscription> subscribe) {
+        this.subscribe = subscribe;
+    }
+
+    /**
+     * Keep the subscription made by subscribe open only while node is in a scene
+     * @param subscribe Opens the subscription; called again each time the node is shown
+     */
+    static void whileShowing(Node node, Supplier<DomainEventBus.Subscription> subscribe) {
+        SceneSubscriptions binding = new SceneSubscriptions(subscribe);
+        node.sceneProperty().addListener(binding);
+        if (node.getScene() != null) {
+            binding.changed(node.sceneProperty(), null, node.getScene());
+        }
+    }
+
+    @Override
+    public void changed(ObservableValue<? extends Scene> obs, Scene oldScene, Scene newScene) {
+        if (newScene != null && subscription == null) {
+            subscription = subscribe.get();
+        } else if (newScene == null && subscription != null) {
+            subscription.cancel();
+            subscription = null;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.Tooltip;
 import org.openjfx.model.Seat;
+import org.openjfx.model.SeatTable;
 
 /**
  * Individual seat button component with visual states
@@ -11,7 +12,9 @@ import org.openjfx.model.Seat;
  */
 public class SeatButton extends Button {
     
-    private final Seat seat;
+    private Seat seat;
+    private final SeatTable seatTable;
+    private final int slot;
     private SeatState state;
     
     public enum SeatState {
@@ -22,6 +25,8 @@ public class SeatButton extends Button {
     
     public SeatButton(Seat seat) {
         this.seat = seat;
+        this.seatTable = null;
+        this.slot = -1;
         this.state = seat.isAvailable() ? SeatState.AVAILABLE : SeatState.BOOKED;
         
         initializeUI();
@@ -30,9 +35,23 @@ public class SeatButton extends Button {
         setupClickHandler();
     }
     
+    /**
+     * Button for one slot of a seat table; the Seat object is only created when asked for
+     */
+    public SeatButton(SeatTable seatTable, int slot) {
+        this.seatTable = seatTable;
+        this.slot = slot;
+        this.state = seatTable.isAvailable(slot) ? SeatState.AVAILABLE : SeatState.BOOKED;
+        
+        initializeUI();
+        setupStyles();
+        setupTooltip();
+        setupClickHandler();
+    }
+    
     private void initializeUI() {
         // Display seat number only
-        setText(String.valueOf(seat.getSeatNumber()));
+        setText(String.valueOf(seatTable != null ? seatTable.getSeatNumber(slot) : seat.getSeatNumber()));
         setMinSize(35, 35);
         setMaxSize(35, 35);
         setPrefSize(35, 35);
@@ -58,7 +77,7 @@ public class SeatButton extends Button {
     }
     
     private void setupTooltip() {
-        String tooltipText = seat.getSeatLabel();
+        String tooltipText = seatTable != null ? seatTable.getSeatLabel(slot) : seat.getSeatLabel();
         if (state == SeatState.BOOKED) {
             tooltipText += " (Booked)";
         }
@@ -113,7 +132,25 @@ public class SeatButton extends Button {
         }
     }
     
+    /**
+     * Mark the seat booked (disabled) or available again after another terminal's change;
+     * a seat this user has selected loses its selection when it gets booked
+     */
+    public void setBooked(boolean booked) {
+        if (booked == (state == SeatState.BOOKED)) return;
+        setState(booked ? SeatState.BOOKED : SeatState.AVAILABLE);
+        setDisable(booked);
+        setupTooltip();
+    }
+    
+    public int getSeatId() {
+        return seatTable != null ? seatTable.getSeatId(slot) : seat.getSeatId();
+    }
+    
     public Seat getSeat() {
+        if (seat == null) {
+            seat = seatTable.toSeat(slot);
+        }
         return seat;
     }
     
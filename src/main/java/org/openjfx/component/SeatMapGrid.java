@@ -7,10 +7,17 @@ import javafx.scene.control.Label;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
+import org.openjfx.model.DomainEvent;
 import org.openjfx.model.Seat;
+import org.openjfx.model.SeatTable;
 import org.openjfx.model.Section;
+import org.openjfx.service.DomainEventBus;
 import org.openjfx.service.SeatService;
 import org.openjfx.service.SectionService;
+import org.openjfx.util.IntSet;
+import org.openjfx.util.JfrEvents;
+import org.openjfx.util.Log;
+import org.openjfx.util.RowLabels;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,8 +26,11 @@ import java.util.stream.Collectors;
 /**
  * Component displaying a grid of seats for a tribune section
  * Dynamically shows seats based on section configuration
+ * While shown, seats booked or released on any terminal are updated in place (see DomainEventBus)
  */
 public class SeatMapGrid extends VBox {
+
+    private static final Log LOG = Log.get(SeatMapGrid.class);
     
     private final int eventId;
     private final int sectionId;
@@ -55,6 +65,10 @@ public class SeatMapGrid extends VBox {
         
         initializeUI();
         loadSeats();
+        
+        // Follow capacity changes only while the grid is on screen
+        SceneSubscriptions.whileShowing(this, () -> DomainEventBus.subscribe(this, DomainEvent.CapacityChanged.class,
+            (grid, events) -> grid.onCapacityChanged(events)));
     }
     
     private void loadSectionDimensions() {
@@ -63,20 +77,19 @@ public class SeatMapGrid extends VBox {
             if (section != null) {
                 this.totalRows = section.getTotalRows();
                 this.seatsPerRow = section.getSeatsPerRow();
-                System.out.println("DEBUG: SeatMapGrid loaded section dimensions - " +
+                LOG.debug(() -> "Loaded section dimensions - " +
                                  "Rows=" + totalRows + ", SeatsPerRow=" + seatsPerRow);
             } else {
                 // Fallback to defaults if section not found
                 this.totalRows = 30;
                 this.seatsPerRow = 25;
-                System.err.println("WARNING: Section not found, using default dimensions");
+                LOG.warn("Section not found, using default dimensions");
             }
         } catch (Exception e) {
             // Fallback to defaults on error
             this.totalRows = 30;
             this.seatsPerRow = 25;
-            System.err.println("ERROR: Failed to load section dimensions: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Failed to load section dimensions", e);
         }
     }
     
@@ -185,15 +198,15 @@ public class SeatMapGrid extends VBox {
     private void loadSeats() {
         new Thread(() -> {
             try {
-                // Get all available seats for this section in this event
-                List<Seat> seats = seatService.getAvailableSeats(eventId, sectionId);
+                // All seats of the section, with the ones booked for this event marked
+                SeatTable seatMap = seatService.getSeatMap(eventId, sectionId);
                 
                 Platform.runLater(() -> {
-                    populateSeatGrid(seats);
+                    populateSeatGrid(seatMap);
                 });
                 
             } catch (Exception e) {
-                e.printStackTrace();
+                LOG.error("Error loading seat map", e);
                 Platform.runLater(() -> {
                     Label errorLabel = new Label("Failed to load seats");
                     errorLabel.setStyle("-fx-text-fill: red; -fx-font-size: 14px;");
@@ -203,41 +216,15 @@ public class SeatMapGrid extends VBox {
         }).start();
     }
     
-    private void populateSeatGrid(List<Seat> availableSeats) {
+    private void populateSeatGrid(SeatTable seatMap) {
+        JfrEvents.SeatMapPhase event = new JfrEvents.SeatMapPhase();
+        event.begin();
         seatGrid.getChildren().clear();
         seatButtons.clear();
         
-        // Get all seats for this section (both available and booked)
-        List<Seat> allSeats;
-        try {
-            allSeats = seatService.getSeatsBySection(sectionId);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return;
-        }
-        
-        // Use actual section dimensions
-        String[] rows = generateRowLabels(totalRows);
-        
-        System.out.println("DEBUG: Populating seat grid - " +
+        LOG.debug(() -> "Populating seat grid - " +
                          "Rows=" + totalRows + ", SeatsPerRow=" + seatsPerRow +
-                         ", TotalSeats=" + allSeats.size());
-        
-        // Check actual seat distribution
-        if (!allSeats.isEmpty()) {
-            int maxSeatNum = allSeats.stream()
-                .mapToInt(Seat::getSeatNumber)
-                .max()
-                .orElse(0);
-            System.out.println("DEBUG: Maximum seat number in database: " + maxSeatNum);
-            
-            // Sample first row
-            String firstRow = rows[0];
-            long seatsInFirstRow = allSeats.stream()
-                .filter(s -> s.getRowNumber().equals(firstRow))
-                .count();
-            System.out.println("DEBUG: Seats in first row (" + firstRow + "): " + seatsInFirstRow);
-        }
+                         ", TotalSeats=" + seatMap.size());
         
         // Add column headers (seat numbers)
         for (int col = 0; col < seatsPerRow; col++) {
@@ -252,12 +239,9 @@ public class SeatMapGrid extends VBox {
             seatGrid.add(colLabel, col + 1, 0);
         }
         
-        // Add seats with row labels
-        for (int row = 0; row < rows.length; row++) {
-            String rowLabel = rows[row];
-            
-            // Row label
-            Label rowLabelNode = new Label(rowLabel);
+        // Row labels
+        for (int row = 1; row <= totalRows; row++) {
+            Label rowLabelNode = new Label(RowLabels.rowLabel(row));
             rowLabelNode.setStyle(
                 "-fx-font-size: 11px;" +
                 "-fx-font-weight: bold;" +
@@ -265,64 +249,63 @@ public class SeatMapGrid extends VBox {
             );
             rowLabelNode.setMinWidth(30);
             rowLabelNode.setAlignment(Pos.CENTER);
-            seatGrid.add(rowLabelNode, 0, row + 1);
+            seatGrid.add(rowLabelNode, 0, row);
+        }
+        
+        // Seats inside the configured layout; each slot already knows its grid cell (row, seat number)
+        for (int slot : seatMap.slotsWithin(totalRows, seatsPerRow)) {
+            int row = seatMap.getRow(slot);
+            int seatNum = seatMap.getSeatNumber(slot);
             
-            // Seats in this row
-            for (int seatNum = 1; seatNum <= seatsPerRow; seatNum++) {
-                final String currentRow = rowLabel;
-                final int currentSeatNum = seatNum;
-                
-                // Find the seat from database
-                Seat seat = allSeats.stream()
-                    .filter(s -> s.getRowNumber().equals(currentRow) && 
-                                 s.getSeatNumber() == currentSeatNum)
-                    .findFirst()
-                    .orElse(null);
-                
-                if (seat != null) {
-                    // Check if available in this event
-                    boolean isAvailable = availableSeats.stream()
-                        .anyMatch(s -> s.getSeatId() == seat.getSeatId());
-                    
-                    if (!isAvailable) {
-                        seat.setStatus("BOOKED");
-                    }
-                    
-                    SeatButton seatButton = new SeatButton(seat);
-                    // Add additional action after the button's internal handler
-                    seatButton.setOnAction(e -> {
-                        // First, toggle the seat state (handled by SeatButton internally)
-                        if (seatButton.getState() == SeatButton.SeatState.AVAILABLE) {
-                            seatButton.setState(SeatButton.SeatState.SELECTED);
-                        } else if (seatButton.getState() == SeatButton.SeatState.SELECTED) {
-                            seatButton.setState(SeatButton.SeatState.AVAILABLE);
-                        }
-                        // Then update the summary
-                        updateSummary();
-                    });
-                    seatButtons.add(seatButton);
-                    
-                    seatGrid.add(seatButton, seatNum, row + 1);
+            SeatButton seatButton = new SeatButton(seatMap, slot);
+            // Add additional action after the button's internal handler
+            seatButton.setOnAction(e -> {
+                // First, toggle the seat state (handled by SeatButton internally)
+                if (seatButton.getState() == SeatButton.SeatState.AVAILABLE) {
+                    seatButton.setState(SeatButton.SeatState.SELECTED);
+                } else if (seatButton.getState() == SeatButton.SeatState.SELECTED) {
+                    seatButton.setState(SeatButton.SeatState.AVAILABLE);
                 }
-            }
+                // Then update the summary
+                updateSummary();
+            });
+            seatButtons.add(seatButton);
+            
+            seatGrid.add(seatButton, seatNum, row);
         }
+        
+        event.phase = "RENDER";
+        event.eventId = eventId;
+        event.sectionId = sectionId;
+        event.seats = seatButtons.size();
+        event.commit();
     }
     
-    private String[] generateRowLabels(int totalRows) {
-        String[] labels = new String[totalRows];
+    /**
+     * Domain event batch (bus worker): reread the booked seats if this section was touched
+     */
+    private void onCapacityChanged(List<DomainEvent.CapacityChanged> events) {
+        boolean affected = events.stream().anyMatch(e ->
+            e.getEventId() == eventId && e.getSectionId() == sectionId);
+        if (!affected) return;
         
-        // First 26 rows: A-Z
-        for (int i = 0; i < Math.min(26, totalRows); i++) {
-            labels[i] = String.valueOf((char) ('A' + i));
+        IntSet booked = seatService.getBookedSeatIds(eventId, sectionId);
+        if (booked != null) {
+            Platform.runLater(() -> applyBookedSeats(booked));
         }
-        
-        // Remaining rows: AA, AB, AC, AD
-        for (int i = 26; i < totalRows; i++) {
-            int index = i - 26;
-            labels[i] = "A" + (char) ('A' + index);
+    }
+    
+    private void applyBookedSeats(IntSet booked) {
+        int lostSelections = 0;
+        for (SeatButton button : seatButtons) {
+            boolean isBooked = booked.contains(button.getSeatId());
+            if (isBooked && button.isSelected()) lostSelections++;
+            button.setBooked(isBooked);
+        }
+        if (lostSelections > 0) {
+            LOG.info(lostSelections + " selected seat(s) in " + sectionName + " were booked in the meantime");
+            updateSummary();
         }
-        
-        return labels;
     }
     
     private void updateSummary() {
@@ -0,0 +1,171 @@
+package org.openjfx.component;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.*;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.stage.FileChooser;
+import org.openjfx.util.SqlMetrics;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SqlMetricsView
+ * Top: per-statement calls, rows and execute/fetch latency percentiles (SqlMetrics)
+ * Bottom: recent slow queries with their calling service frames
+ * Reads in-memory counters only, so refreshing never touches the database
+ */
+public class SqlMetricsView extends VBox {
+
+    private final TableView<SqlMetrics.StatementStats> statementsTable = new TableView<>();
+    private final ListView<String> slowList = new ListView<>();
+    private final Label summaryLabel = new Label();
+
+    public SqlMetricsView() {
+        setSpacing(15);
+        setPadding(new Insets(20));
+        setStyle(
+            "-fx-background-color: white; " +
+            "-fx-background-radius: 10; " +
+            "-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.1), 10, 0, 0, 2);"
+        );
+
+        Label title = new Label("SQL Statements");
+        title.setFont(Font.font("System", FontWeight.BOLD, 16));
+        title.setStyle("-fx-text-fill: #2c3e50;");
+
+        summaryLabel.setStyle("-fx-text-fill: #7f8c8d;");
+
+        Button refreshBtn = createButton("Refresh", "#3498db");
+        refreshBtn.setOnAction(e -> refresh());
+        Button resetBtn = createButton("Reset", "#95a5a6");
+        resetBtn.setOnAction(e -> {
+            SqlMetrics.reset();
+            refresh();
+        });
+        Button exportBtn = createButton("Export...", "#27ae60");
+        exportBtn.setOnAction(e -> export());
+
+        HBox toolbar = new HBox(10, title, summaryLabel);
+        toolbar.setAlignment(Pos.CENTER_LEFT);
+        HBox spacer = new HBox();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+        toolbar.getChildren().addAll(spacer, refreshBtn, resetBtn, exportBtn);
+
+        setupStatementsTable();
+        VBox.setVgrow(statementsTable, Priority.ALWAYS);
+
+        Label slowLabel = new Label("Recent Slow Queries");
+        slowLabel.setFont(Font.font("System", FontWeight.BOLD, 14));
+        slowLabel.setStyle("-fx-text-fill: #2c3e50;");
+        slowList.setPrefHeight(180);
+
+        getChildren().addAll(toolbar, statementsTable, slowLabel, slowList);
+        refresh();
+    }
+
+    private void setupStatementsTable() {
+        statementsTable.getColumns().add(numberColumn("Calls", 70, s -> s.getCalls()));
+        statementsTable.getColumns().add(numberColumn("Rows", 80, s -> s.getRows()));
+        statementsTable.getColumns().add(numberColumn("Errors", 60, s -> s.getErrors()));
+        statementsTable.getColumns().add(numberColumn("Slow", 60, s -> s.getSlowCalls()));
+        statementsTable.getColumns().add(millisColumn("Total ms", 90, s -> s.getTotalMillis()));
+        statementsTable.getColumns().add(millisColumn("p50 ms", 70, s -> s.getExecute().getPercentileMillis(50)));
+        statementsTable.getColumns().add(millisColumn("p95 ms", 70, s -> s.getExecute().getPercentileMillis(95)));
+        statementsTable.getColumns().add(millisColumn("p99 ms", 70, s -> s.getExecute().getPercentileMillis(99)));
+        statementsTable.getColumns().add(millisColumn("Max ms", 70, s -> s.getExecute().getMaxMillis()));
+        statementsTable.getColumns().add(millisColumn("Fetch p95", 80, s -> s.getFetch().getPercentileMillis(95)));
+
+        TableColumn<SqlMetrics.StatementStats, String> colSql = new TableColumn<>("SQL");
+        colSql.setCellValueFactory(data -> new SimpleStringProperty(data.getValue().getSql()));
+        colSql.setPrefWidth(520);
+        statementsTable.getColumns().add(colSql);
+
+        statementsTable.setPlaceholder(new Label("No SQL executed yet"));
+    }
+
+    private interface StatsValue<T> {
+        T get(SqlMetrics.StatementStats stats);
+    }
+
+    private TableColumn<SqlMetrics.StatementStats, Long> numberColumn(String name, double width,
+                                                                       StatsValue<Long> value) {
+        TableColumn<SqlMetrics.StatementStats, Long> col = new TableColumn<>(name);
+        col.setCellValueFactory(data -> new SimpleObjectProperty<>(value.get(data.getValue())));
+        col.setPrefWidth(width);
+        return col;
+    }
+
+    private TableColumn<SqlMetrics.StatementStats, String> millisColumn(String name, double width,
+                                                                         StatsValue<Double> value) {
+        TableColumn<SqlMetrics.StatementStats, String> col = new TableColumn<>(name);
+        col.setCellValueFactory(data -> new SimpleStringProperty(String.format("%.2f", value.get(data.getValue()))));
+        col.setPrefWidth(width);
+        return col;
+    }
+
+    private Button createButton(String text, String color) {
+        Button button = new Button(text);
+        button.setStyle(
+            "-fx-background-color: " + color + "; " +
+            "-fx-text-fill: white; " +
+            "-fx-font-size: 12px; " +
+            "-fx-padding: 6 12; " +
+            "-fx-background-radius: 4; " +
+            "-fx-cursor: hand;"
+        );
+        return button;
+    }
+
+    /**
+     * Reload the table and slow query list from SqlMetrics
+     */
+    public void refresh() {
+        List<SqlMetrics.StatementStats> statements = SqlMetrics.getStatements();
+        statementsTable.setItems(FXCollections.observableArrayList(statements));
+
+        DateTimeFormatter fmt = DateTimeFormatter.ofPattern("HH:mm:ss");
+        List<String> slow = new ArrayList<>();
+        for (SqlMetrics.SlowQuery q : SqlMetrics.getSlowQueries()) {
+            slow.add(String.format("%s  %.1f ms  %d rows  [%s]  %s  <- %s",
+                q.getTime().format(fmt), q.getMillis(), q.getRows(), q.getThread(), q.getSql(),
+                String.join(" <- ", q.getCaller())));
+        }
+        slowList.setItems(FXCollections.observableArrayList(slow));
+
+        summaryLabel.setText(SqlMetrics.isEnabled()
+            ? statements.size() + " statements, slow threshold " + SqlMetrics.getSlowThresholdMillis() + " ms"
+            : "Instrumentation disabled (SQL_METRICS=false)");
+    }
+
+    private void export() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Export SQL Metrics");
+        chooser.setInitialFileName("sql-metrics-"
+            + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".txt");
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Text Files", "*.txt"));
+
+        File file = chooser.showSaveDialog(getScene() != null ? getScene().getWindow() : null);
+        if (file == null) return;
+
+        Alert alert;
+        if (SqlMetrics.dump(file.toPath())) {
+            alert = new Alert(Alert.AlertType.INFORMATION, "SQL metrics saved to " + file.getAbsolutePath());
+        } else {
+            alert = new Alert(Alert.AlertType.ERROR, "Could not save SQL metrics to " + file.getAbsolutePath());
+        }
+        alert.setHeaderText(null);
+        alert.showAndWait();
+    }
+}
@@ -8,6 +8,7 @@ import javafx.scene.layout.*;
 import org.openjfx.model.Section;
 import org.openjfx.service.SectionService;
 import org.openjfx.service.SeatGenerationService;
+import org.openjfx.util.Log;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIconView;
 
@@ -19,6 +20,8 @@ import java.util.List;
  * Displays stadium sections, capacities, and configuration for different event types
  */
 public class StadiumConfigView extends VBox {
+
+    private static final Log LOG = Log.get(StadiumConfigView.class);
     
     private final SectionService sectionService;
     private VBox tribunesContainer;
@@ -219,7 +222,7 @@ public class StadiumConfigView extends VBox {
                 });
                 
             } catch (Exception e) {
-                e.printStackTrace();
+                LOG.error("Error loading stadium sections", e);
                 Platform.runLater(() -> {
                     showError("Failed to load stadium data: " + e.getMessage());
                 });
@@ -450,12 +453,15 @@ public class StadiumConfigView extends VBox {
                 try {
                     boolean success = sectionService.updateSection(updatedSection);
                     
-                    // If dimensions changed and it's a TRIBUNE section, regenerate seats
+                    // If dimensions changed and it's a TRIBUNE section, apply the new layout
+                    // (adds/deactivates only the changed seats; booked seats are kept)
+                    SeatGenerationService.LayoutChange layoutChange = null;
                     if (success && dimensionsChanged && "TRIBUNE".equals(updatedSection.getSectionType())) {
-                        System.out.println("Section dimensions changed - regenerating seats...");
+                        LOG.info("Section dimensions changed - applying seat layout");
                         SeatGenerationService seatGenService = new SeatGenerationService();
-                        seatGenService.regenerateSeatsForSection(updatedSection.getSectionId());
+                        layoutChange = seatGenService.applyLayoutChange(updatedSection.getSectionId());
                     }
+                    final SeatGenerationService.LayoutChange appliedChange = layoutChange;
                     
                     Platform.runLater(() -> {
                         if (success) {
@@ -464,8 +470,8 @@ public class StadiumConfigView extends VBox {
                             alert.setTitle("Success");
                             alert.setHeaderText("Section Updated");
                             String message = "Section has been updated successfully!";
-                            if (dimensionsChanged && "TRIBUNE".equals(updatedSection.getSectionType())) {
-                                message += "\n\nSeats have been automatically regenerated to match the new configuration.";
+                            if (appliedChange != null) {
+                                message += "\n\nSeats have been updated to match the new configuration:\n" + appliedChange;
                             }
                             alert.setContentText(message);
                             alert.showAndWait();
@@ -482,7 +488,7 @@ public class StadiumConfigView extends VBox {
                         }
                     });
                 } catch (Exception e) {
-                    e.printStackTrace();
+                    LOG.error("Error updating section", e);
                     Platform.runLater(() -> {
                         Alert alert = new Alert(Alert.AlertType.ERROR);
                         alert.setTitle("Error");
@@ -504,12 +510,12 @@ public class StadiumConfigView extends VBox {
         confirmAlert.setTitle("Sync Seats");
         confirmAlert.setHeaderText("Regenerate Seats for " + section.getSectionName() + "?");
         confirmAlert.setContentText(
-            "This will:\n" +
-            "• Delete all existing seat records for this section\n" +
-            "• Generate new seats based on current configuration:\n" +
+            "This will match the seat records to the current configuration:\n" +
             "  " + section.getTotalRows() + " rows × " + section.getSeatsPerRow() + " seats = " + 
             section.getTotalCapacity() + " total seats\n\n" +
-            "⚠️ Warning: Cannot proceed if there are existing bookings.\n\n" +
+            "• Missing seats are added\n" +
+            "• Seats outside the layout are deactivated\n" +
+            "• Booked seats are left untouched\n\n" +
             "Continue?"
         );
         
@@ -519,15 +525,14 @@ public class StadiumConfigView extends VBox {
                 new Thread(() -> {
                     try {
                         SeatGenerationService seatGenService = new SeatGenerationService();
-                        seatGenService.regenerateSeatsForSection(section.getSectionId());
+                        SeatGenerationService.LayoutChange change = seatGenService.applyLayoutChange(section.getSectionId());
                         
                         Platform.runLater(() -> {
                             Alert successAlert = new Alert(Alert.AlertType.INFORMATION);
                             successAlert.setTitle("Success");
                             successAlert.setHeaderText("Seats Synchronized");
                             successAlert.setContentText(
-                                "Successfully regenerated " + section.getTotalCapacity() + 
-                                " seats for " + section.getSectionName() + "!\n\n" +
+                                "Seats for " + section.getSectionName() + " are in sync: " + change + "\n\n" +
                                 "Configuration:\n" +
                                 "• Rows: " + section.getTotalRows() + "\n" +
                                 "• Seats per row: " + section.getSeatsPerRow() + "\n" +
@@ -540,21 +545,13 @@ public class StadiumConfigView extends VBox {
                         });
                         
                     } catch (SQLException e) {
-                        e.printStackTrace();
+                        LOG.error("Error applying seat layout", e);
                         Platform.runLater(() -> {
                             Alert errorAlert = new Alert(Alert.AlertType.ERROR);
                             errorAlert.setTitle("Sync Failed");
                             errorAlert.setHeaderText("Failed to Synchronize Seats");
                             
-                            // Check if error is due to existing bookings
-                            if (e.getMessage() != null && e.getMessage().contains("existing bookings")) {
-                                errorAlert.setContentText(
-                                    "Cannot regenerate seats because some seats have existing bookings.\n\n" +
-                                    "Please cancel or complete those bookings first, then try again."
-                                );
-                            } else {
-                                errorAlert.setContentText("An error occurred: " + e.getMessage());
-                            }
+                            errorAlert.setContentText("An error occurred: " + e.getMessage());
                             
                             errorAlert.showAndWait();
                         });
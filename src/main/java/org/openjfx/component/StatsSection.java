@@ -6,15 +6,24 @@ import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
-import org.openjfx.service.EventService;
+import org.openjfx.model.DashboardSnapshot;
+import org.openjfx.model.DomainEvent;
+import org.openjfx.service.DashboardSnapshotService;
+import org.openjfx.service.DomainEventBus;
+import org.openjfx.util.Log;
+
+import java.util.List;
 
 /**
  * A section that displays multiple statistics cards with real-time data.
- * Automatically loads and refreshes statistics from the database.
+ * Automatically loads and refreshes statistics from the database,
+ * and again while shown whenever any terminal changes bookings, events or stock.
  */
 public class StatsSection extends HBox {
+
+    private static final Log LOG = Log.get(StatsSection.class);
     
-    private final EventService eventService;
+    private final DashboardSnapshotService snapshotService;
     
     private StatCard eventsCard;
     private StatCard bookingsCard;
@@ -25,20 +34,24 @@ public class StatsSection extends HBox {
      * Creates a StatsSection with default services
      */
     public StatsSection() {
-        this(new EventService());
+        this(new DashboardSnapshotService());
     }
     
     /**
      * Creates a StatsSection with custom services
      * 
-     * @param eventService Service for event operations
+     * @param snapshotService Service providing the dashboard headline numbers
      */
-    public StatsSection(EventService eventService) {
+    public StatsSection(DashboardSnapshotService snapshotService) {
         super(20);
-        this.eventService = eventService;
+        this.snapshotService = snapshotService;
         
         initializeUI();
         loadStatistics();
+        
+        // Follow domain events only while the cards are on screen
+        SceneSubscriptions.whileShowing(this, () -> DomainEventBus.subscribe(this, DomainEvent.class,
+            (section, events) -> section.onDomainEvents(events)));
     }
     
     /**
@@ -91,55 +104,27 @@ public class StatsSection extends HBox {
     }
     
     /**
-     * Load statistics from the database in background thread
+     * Load statistics in background thread.
+     * Renders the last cached snapshot immediately (if any), then the fresh one.
      */
     private void loadStatistics() {
+        DashboardSnapshot cached = snapshotService.getCachedSnapshot();
+        if (cached != null) {
+            showSnapshot(cached);
+        }
+        
         new Thread(() -> {
             try {
-                // Get total events count
-                int totalEvents = eventService.getAllEvents().size();
-                
-                // Get active events count
-                long activeEvents = eventService.getAllEvents().stream()
-                    .filter(e -> "ACTIVE".equalsIgnoreCase(e.getStatus()) || 
-                                 "ONGOING".equalsIgnoreCase(e.getStatus()) ||
-                                 "UPCOMING".equalsIgnoreCase(e.getStatus()))
-                    .count();
-                
-                // Get total booked seats across all events
-                int totalBookedSeats = eventService.getAllEvents().stream()
-                    .mapToInt(e -> e.getBookedSeats())
-                    .sum();
-                
-                // Calculate total revenue (estimate based on seat price)
-                double estimatedRevenue = totalBookedSeats * 50.0; // $50 per seat estimate
-                
-                // Get total available seats
-                int totalSeats = eventService.getAllEvents().stream()
-                    .mapToInt(e -> e.getTotalSeats())
-                    .sum();
-                int availableSeats = totalSeats - totalBookedSeats;
-                
-                // Calculate occupancy rate
-                double occupancyRate = totalSeats > 0 ? (totalBookedSeats * 100.0 / totalSeats) : 0;
+                DashboardSnapshot snapshot = snapshotService.getSnapshot();
+                if (snapshot == null) {
+                    throw new IllegalStateException("Dashboard snapshot unavailable");
+                }
                 
                 // Update UI on JavaFX thread
-                Platform.runLater(() -> {
-                    eventsCard.updateValue(String.valueOf(totalEvents));
-                    eventsCard.updateSubtitle(activeEvents + " active");
-                    
-                    bookingsCard.updateValue(String.valueOf(totalBookedSeats));
-                    bookingsCard.updateSubtitle("Total bookings");
-                    
-                    revenueCard.updateValue(String.format("$%.2f", estimatedRevenue));
-                    revenueCard.updateSubtitle("Estimated revenue");
-                    
-                    seatsCard.updateValue(String.valueOf(availableSeats));
-                    seatsCard.updateSubtitle(String.format("%.1f%% occupied", occupancyRate));
-                });
+                Platform.runLater(() -> showSnapshot(snapshot));
                 
             } catch (Exception e) {
-                e.printStackTrace();
+                LOG.error("Error loading dashboard statistics", e);
                 
                 // Show error state
                 Platform.runLater(() -> {
@@ -149,7 +134,7 @@ public class StatsSection extends HBox {
                     bookingsCard.updateValue("0");
                     bookingsCard.updateSubtitle("No data");
                     
-                    revenueCard.updateValue("$0.00");
+                    revenueCard.updateValue("Rp 0.00");
                     revenueCard.updateSubtitle("No data");
                     
                     seatsCard.updateValue("0");
@@ -159,6 +144,39 @@ public class StatsSection extends HBox {
         }).start();
     }
     
+    /**
+     * Domain event batch (bus worker): reload the snapshot and update the cards without a loading state
+     */
+    private void onDomainEvents(List<DomainEvent> events) {
+        // seat-level changes arrive with their booking; ReportsChanged follows changes already seen here
+        boolean affected = events.stream().anyMatch(e ->
+            !(e instanceof DomainEvent.CapacityChanged) && !(e instanceof DomainEvent.ReportsChanged));
+        if (!affected) return;
+        
+        snapshotService.invalidate();
+        DashboardSnapshot snapshot = snapshotService.getSnapshot();
+        if (snapshot != null) {
+            Platform.runLater(() -> showSnapshot(snapshot));
+        }
+    }
+    
+    /**
+     * Render a snapshot into the stat cards (FX thread only)
+     */
+    private void showSnapshot(DashboardSnapshot snapshot) {
+        eventsCard.updateValue(String.valueOf(snapshot.getTotalEvents()));
+        eventsCard.updateSubtitle(snapshot.getActiveEvents() + " active");
+        
+        bookingsCard.updateValue(String.valueOf(snapshot.getTodayBookings()));
+        bookingsCard.updateSubtitle(snapshot.getBookedSeats() + " seats booked in total");
+        
+        revenueCard.updateValue(String.format("Rp %,.2f", snapshot.getTotalRevenue()));
+        revenueCard.updateSubtitle("Confirmed bookings");
+        
+        seatsCard.updateValue(String.valueOf(snapshot.getAvailableSeats()));
+        seatsCard.updateSubtitle(String.format("%.1f%% occupied", snapshot.getOccupancyRate()));
+    }
+    
     /**
      * Refresh all statistics from the database
      */
@@ -168,6 +186,7 @@ public class StatsSection extends HBox {
         revenueCard.updateValue("Loading...");
         seatsCard.updateValue("Loading...");
         
+        snapshotService.invalidate();
         loadStatistics();
     }
     
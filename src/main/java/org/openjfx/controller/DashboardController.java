@@ -118,6 +118,11 @@ public class DashboardController {
             showReportsPage();
         });
         
+        navigationMenu.getDiagnosticsButton().setOnAction(e -> {
+            navigationMenu.highlightButton(navigationMenu.getDiagnosticsButton());
+            showDiagnosticsPage();
+        });
+        
         navigationMenu.getLogoutButton().setOnAction(e -> handleLogout());
     }
     
@@ -493,6 +498,20 @@ public class DashboardController {
         contentArea.getChildren().add(scrollPane);
     }
     
+    /**
+     * Show diagnostics page (live performance numbers, snapshot export)
+     */
+    private void showDiagnosticsPage() {
+        DiagnosticsView diagnosticsView = new DiagnosticsView();
+        
+        ScrollPane scrollPane = new ScrollPane(diagnosticsView);
+        scrollPane.setFitToWidth(true);
+        scrollPane.setStyle("-fx-background: #ecf0f1; -fx-background-color: #ecf0f1;");
+        
+        contentArea.getChildren().clear();
+        contentArea.getChildren().add(scrollPane);
+    }
+    
     /**
      * Show Admin Management page (SUPER_ADMIN only)
      */
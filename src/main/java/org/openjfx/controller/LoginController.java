@@ -14,13 +14,21 @@ import javafx.stage.Stage;
 import org.openjfx.component.DatabaseConfigDialog;
 import org.openjfx.model.Admin;
 import org.openjfx.service.AdminService;
+import org.openjfx.service.ChangeFeedService;
+import org.openjfx.service.DailyRollupService;
+import org.openjfx.service.DashboardSnapshotService;
+import org.openjfx.service.SeatCounterService;
+import org.openjfx.service.StadiumConfigCache;
 import org.openjfx.util.IconUtil;
+import org.openjfx.util.Log;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 
 /**
  * Controller for the Login page
  */
 public class LoginController {
+
+    private static final Log LOG = Log.get(LoginController.class);
     
     private Stage stage;
     private AdminService adminService;
@@ -166,7 +174,7 @@ public class LoginController {
             
             if (admin != null) {
                 showMessage(messageLabel, "Login successful! Welcome, " + admin.getUsername(), "success");
-                System.out.println("Admin logged in: " + admin);
+                LOG.info("Admin logged in: " + admin);
                 
                 // Navigate to dashboard after a short delay
                 javafx.application.Platform.runLater(() -> {
@@ -174,7 +182,7 @@ public class LoginController {
                         Thread.sleep(800);
                         showDashboard(admin);
                     } catch (InterruptedException ex) {
-                        ex.printStackTrace();
+                        LOG.warn("Interrupted before showing the dashboard", ex);
                     }
                 });
                 
@@ -184,8 +192,7 @@ public class LoginController {
             }
         } catch (Exception ex) {
             showMessage(messageLabel, "Error connecting to database. Please check your connection.", "error");
-            System.err.println("Login error: " + ex.getMessage());
-            ex.printStackTrace();
+            LOG.error("Login error", ex);
         }
     }
     
@@ -215,9 +222,9 @@ public class LoginController {
             try {
                 // Reload dotenv
                 io.github.cdimascio.dotenv.Dotenv.configure().ignoreIfMissing().load();
-                System.out.println("Database configuration reloaded successfully");
+                LOG.info("Database configuration reloaded successfully");
             } catch (Exception e) {
-                System.err.println("Error reloading configuration: " + e.getMessage());
+                LOG.error("Error reloading configuration", e);
             }
         }
     }
@@ -226,6 +233,21 @@ public class LoginController {
      * Show dashboard
      */
     private void showDashboard(Admin admin) {
+        // Keep report rollups in sync with the raw tables (runs nightly in background)
+        DailyRollupService.startNightlyCompaction();
+        
+        // Keep the dashboard headline numbers warm so the home page renders instantly
+        DashboardSnapshotService.startBackgroundRefresh();
+        
+        // Repair any drift in the stored seat counters (Events.BookedSeats, section capacity)
+        SeatCounterService.startReconciler();
+        
+        // Sections and layouts are read by every seat map and event form; load them once now
+        StadiumConfigCache.preload();
+        
+        // Pick up bookings and changes made on the other box-office terminals
+        ChangeFeedService.start();
+        
         DashboardController dashboardController = new DashboardController(stage, admin);
         Scene dashboardScene = dashboardController.getScene();
         
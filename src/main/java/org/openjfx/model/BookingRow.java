@@ -0,0 +1,171 @@
+package org.openjfx.model;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+
+/**
+ * Compact read model of a booking for list views (BookingsManagementView)
+ *
+ * Unlike Booking it holds no Timestamp objects (epoch millis instead), no seat list,
+ * the status as a shared enum constant, and the event name shared between all rows
+ * of the same event. Customer name, email and phone are kept together as one UTF-8
+ * byte array and only decoded into Strings when a cell or filter asks for them.
+ * Use BookingService.getBookingById for the full Booking.
+ */
+public class BookingRow {
+
+    public enum Status {
+        CONFIRMED, CANCELLED;
+
+        /**
+         * Parse a Bookings.BookingStatus value (case-insensitive)
+         * @return Status, or null if the value is not a known status
+         */
+        public static Status of(String value) {
+            if (value == null) return null;
+            for (Status status : values()) {
+                if (status.name().equalsIgnoreCase(value)) return status;
+            }
+            return null;
+        }
+    }
+
+    private static final byte SEPARATOR = 0;
+
+    private final int bookingId;
+    private final int eventId;
+    private final String bookingNumber;
+    private final String eventName;
+    private final int totalSeats;
+    private final double totalPrice;
+    private final long bookingDateMillis;
+    private final byte[] customer; // name \0 email \0 phone, UTF-8
+    private Status status;
+
+    /**
+     * @param eventName Should be the same String instance for every row of an event
+     * @param bookingDateMillis Epoch millis, or Long.MIN_VALUE if unknown
+     */
+    public BookingRow(int bookingId, int eventId, String bookingNumber, String eventName,
+                      String customerName, String customerEmail, String customerPhone,
+                      int totalSeats, double totalPrice, Status status, long bookingDateMillis) {
+        this.bookingId = bookingId;
+        this.eventId = eventId;
+        this.bookingNumber = bookingNumber;
+        this.eventName = eventName;
+        this.customer = encodeCustomer(customerName, customerEmail, customerPhone);
+        this.totalSeats = totalSeats;
+        this.totalPrice = totalPrice;
+        this.status = status;
+        this.bookingDateMillis = bookingDateMillis;
+    }
+
+    public int getBookingId() {
+        return bookingId;
+    }
+
+    public int getEventId() {
+        return eventId;
+    }
+
+    public String getBookingNumber() {
+        return bookingNumber;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+
+    public String getCustomerName() {
+        return customerField(0);
+    }
+
+    public String getCustomerEmail() {
+        return customerField(1);
+    }
+
+    public String getCustomerPhone() {
+        return customerField(2);
+    }
+
+    public int getTotalSeats() {
+        return totalSeats;
+    }
+
+    public double getTotalPrice() {
+        return totalPrice;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public long getBookingDateMillis() {
+        return bookingDateMillis;
+    }
+
+    public boolean hasBookingDate() {
+        return bookingDateMillis != Long.MIN_VALUE;
+    }
+
+    public boolean isConfirmed() {
+        return status == Status.CONFIRMED;
+    }
+
+    /**
+     * Filter used by the bookings list
+     * @param searchLower Lower-cased text matched against booking number, customer name and email (null/empty = any)
+     * @param status Required status (null = any)
+     */
+    public boolean matches(String searchLower, Status status) {
+        if (status != null && this.status != status) return false;
+        if (searchLower == null || searchLower.isEmpty()) return true;
+
+        return bookingNumber.toLowerCase().contains(searchLower) ||
+               getCustomerName().toLowerCase().contains(searchLower) ||
+               getCustomerEmail().toLowerCase().contains(searchLower);
+    }
+
+    public static long toMillis(Timestamp timestamp) {
+        return timestamp != null ? timestamp.getTime() : Long.MIN_VALUE;
+    }
+
+    /**
+     * Decode the index-th customer field (0 = name, 1 = email, 2 = phone)
+     */
+    private String customerField(int index) {
+        int start = 0;
+        for (int i = 0; i < index; i++) {
+            while (customer[start] != SEPARATOR) start++;
+            start++;
+        }
+        int end = start;
+        while (end < customer.length && customer[end] != SEPARATOR) end++;
+        return new String(customer, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] encodeCustomer(String name, String email, String phone) {
+        byte[] n = bytes(name);
+        byte[] e = bytes(email);
+        byte[] p = bytes(phone);
+        byte[] packed = new byte[n.length + e.length + p.length + 2];
+        System.arraycopy(n, 0, packed, 0, n.length);
+        System.arraycopy(e, 0, packed, n.length + 1, e.length);
+        System.arraycopy(p, 0, packed, n.length + e.length + 2, p.length);
+        return packed;
+    }
+
+    private static byte[] bytes(String value) {
+        // NUL never occurs in customer data entered through the app; strip it defensively
+        return value == null ? new byte[0] : value.replace("\0", "").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return bookingNumber + " - " + getCustomerName();
+    }
+}
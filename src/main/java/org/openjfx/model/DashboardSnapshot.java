@@ -0,0 +1,80 @@
+package org.openjfx.model;
+
+/**
+ * Immutable model holding the headline numbers shown on the dashboard
+ */
+public class DashboardSnapshot {
+    private final int totalEvents;
+    private final int activeEvents;
+    private final int totalSeats;
+    private final int bookedSeats;
+    private final int todayBookings;
+    private final double totalRevenue;
+    private final int lowStockCount;
+    private final int activeStaffCount;
+    private final long loadedAtMillis;
+
+    public DashboardSnapshot(int totalEvents, int activeEvents, int totalSeats, int bookedSeats,
+                             int todayBookings, double totalRevenue, int lowStockCount,
+                             int activeStaffCount, long loadedAtMillis) {
+        this.totalEvents = totalEvents;
+        this.activeEvents = activeEvents;
+        this.totalSeats = totalSeats;
+        this.bookedSeats = bookedSeats;
+        this.todayBookings = todayBookings;
+        this.totalRevenue = totalRevenue;
+        this.lowStockCount = lowStockCount;
+        this.activeStaffCount = activeStaffCount;
+        this.loadedAtMillis = loadedAtMillis;
+    }
+
+    // Getters
+    public int getTotalEvents() {
+        return totalEvents;
+    }
+
+    public int getActiveEvents() {
+        return activeEvents;
+    }
+
+    public int getTotalSeats() {
+        return totalSeats;
+    }
+
+    public int getBookedSeats() {
+        return bookedSeats;
+    }
+
+    public int getTodayBookings() {
+        return todayBookings;
+    }
+
+    public double getTotalRevenue() {
+        return totalRevenue;
+    }
+
+    public int getLowStockCount() {
+        return lowStockCount;
+    }
+
+    public int getActiveStaffCount() {
+        return activeStaffCount;
+    }
+
+    public long getLoadedAtMillis() {
+        return loadedAtMillis;
+    }
+
+    // Helper methods
+    public int getAvailableSeats() {
+        return totalSeats - bookedSeats;
+    }
+
+    public double getOccupancyRate() {
+        return totalSeats > 0 ? (bookedSeats * 100.0 / totalSeats) : 0;
+    }
+
+    public long getAgeMillis() {
+        return System.currentTimeMillis() - loadedAtMillis;
+    }
+}
@@ -0,0 +1,74 @@
+package org.openjfx.model;
+
+/**
+ * One row of the ChangeLog table: an insert, update or delete made by any terminal
+ */
+public class DataChange {
+
+    public enum Table {
+        BOOKINGS("Bookings"),
+        BOOKING_SEATS("BookingSeats"),
+        EVENT_SECTIONS("EventSections"),
+        EVENTS("Events"),
+        INVENTORY_ITEMS("InventoryItems");
+
+        private final String tableName;
+
+        Table(String tableName) {
+            this.tableName = tableName;
+        }
+
+        public String getTableName() {
+            return tableName;
+        }
+
+        /**
+         * Parse a ChangeLog.TableName value
+         * @return Table, or null if the value is not a known table
+         */
+        public static Table of(String value) {
+            for (Table table : values()) {
+                if (table.tableName.equalsIgnoreCase(value)) return table;
+            }
+            return null;
+        }
+    }
+
+    public enum Type { INSERT, UPDATE, DELETE }
+
+    private final long changeId;
+    private final Table table;
+    private final Type type;
+    private final int rowId;
+    private final Integer eventId;
+    private final Integer sectionId;
+    private final boolean local;
+
+    /**
+     * @param rowId Primary key of the changed row (the BookingID for BookingSeats)
+     * @param local Whether this terminal made the change
+     */
+    public DataChange(long changeId, Table table, Type type, int rowId,
+                      Integer eventId, Integer sectionId, boolean local) {
+        this.changeId = changeId;
+        this.table = table;
+        this.type = type;
+        this.rowId = rowId;
+        this.eventId = eventId;
+        this.sectionId = sectionId;
+        this.local = local;
+    }
+
+    public long getChangeId() { return changeId; }
+    public Table getTable() { return table; }
+    public Type getType() { return type; }
+    public int getRowId() { return rowId; }
+    public Integer getEventId() { return eventId; }
+    public Integer getSectionId() { return sectionId; }
+    public boolean isLocal() { return local; }
+
+    @Override
+    public String toString() {
+        return type + " " + table.getTableName() + " " + rowId + (eventId != null ? " (event " + eventId + ")" : "");
+    }
+}
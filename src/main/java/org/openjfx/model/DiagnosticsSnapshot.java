@@ -0,0 +1,161 @@
+package org.openjfx.model;
+
+import org.openjfx.util.BackgroundExecutors;
+import org.openjfx.util.SqlMetrics;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Point-in-time performance numbers shown on the Diagnostics page and written by its export
+ */
+public class DiagnosticsSnapshot {
+
+    /**
+     * Hit/miss counters of one in-memory cache
+     */
+    public static class CacheStats {
+        private final String name;
+        private final long hits;
+        private final long misses;
+        private final int size;
+
+        public CacheStats(String name, long hits, long misses, int size) {
+            this.name = name;
+            this.hits = hits;
+            this.misses = misses;
+            this.size = size;
+        }
+
+        public String getName() { return name; }
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+        public int getSize() { return size; }
+
+        public double getHitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
+    /**
+     * Collections and total pause time of one garbage collector
+     */
+    public static class GcStats {
+        private final String name;
+        private final long count;
+        private final long timeMillis;
+
+        public GcStats(String name, long count, long timeMillis) {
+            this.name = name;
+            this.count = count;
+            this.timeMillis = timeMillis;
+        }
+
+        public String getName() { return name; }
+        public long getCount() { return count; }
+        public long getTimeMillis() { return timeMillis; }
+    }
+
+    private final LocalDateTime capturedAt;
+
+    // Database connections
+    private final boolean sqlMetricsEnabled;
+    private final long connectionsOpened;
+    private final long connectionsOpen;
+    private final long connectionFailures;
+    private final double connectP95Millis;
+    private final List<SqlMetrics.StatementStats> topStatements;
+    private final List<SqlMetrics.SlowQuery> slowQueries;
+
+    private final List<CacheStats> caches;
+    private final List<BackgroundExecutors.Stats> executors;
+    private final int emailBacklog;
+
+    // Domain events
+    private final int eventSubscribers;
+    private final long eventsPublished;
+    private final long eventsDelivered;
+    private final long eventsCoalesced;
+
+    // FX thread
+    private final long fxStalls;
+    private final long fxMaxGapMillis;
+    private final Map<String, Long> fxJdbcViolations;
+
+    // JVM
+    private final long heapUsed;
+    private final long heapCommitted;
+    private final long heapMax;
+    private final long nonHeapUsed;
+    private final int threadCount;
+    private final long uptimeMillis;
+    private final List<GcStats> garbageCollectors;
+    private final boolean flightRecording;
+
+    public DiagnosticsSnapshot(LocalDateTime capturedAt, boolean sqlMetricsEnabled, long connectionsOpened,
+                               long connectionsOpen, long connectionFailures, double connectP95Millis,
+                               List<SqlMetrics.StatementStats> topStatements, List<SqlMetrics.SlowQuery> slowQueries,
+                               List<CacheStats> caches, List<BackgroundExecutors.Stats> executors, int emailBacklog,
+                               int eventSubscribers, long eventsPublished, long eventsDelivered, long eventsCoalesced,
+                               long fxStalls, long fxMaxGapMillis, Map<String, Long> fxJdbcViolations,
+                               long heapUsed, long heapCommitted, long heapMax, long nonHeapUsed,
+                               int threadCount, long uptimeMillis, List<GcStats> garbageCollectors,
+                               boolean flightRecording) {
+        this.capturedAt = capturedAt;
+        this.sqlMetricsEnabled = sqlMetricsEnabled;
+        this.connectionsOpened = connectionsOpened;
+        this.connectionsOpen = connectionsOpen;
+        this.connectionFailures = connectionFailures;
+        this.connectP95Millis = connectP95Millis;
+        this.topStatements = topStatements;
+        this.slowQueries = slowQueries;
+        this.caches = caches;
+        this.executors = executors;
+        this.emailBacklog = emailBacklog;
+        this.eventSubscribers = eventSubscribers;
+        this.eventsPublished = eventsPublished;
+        this.eventsDelivered = eventsDelivered;
+        this.eventsCoalesced = eventsCoalesced;
+        this.fxStalls = fxStalls;
+        this.fxMaxGapMillis = fxMaxGapMillis;
+        this.fxJdbcViolations = fxJdbcViolations;
+        this.heapUsed = heapUsed;
+        this.heapCommitted = heapCommitted;
+        this.heapMax = heapMax;
+        this.nonHeapUsed = nonHeapUsed;
+        this.threadCount = threadCount;
+        this.uptimeMillis = uptimeMillis;
+        this.garbageCollectors = garbageCollectors;
+        this.flightRecording = flightRecording;
+    }
+
+    // Getters
+    public LocalDateTime getCapturedAt() { return capturedAt; }
+    public boolean isSqlMetricsEnabled() { return sqlMetricsEnabled; }
+    public long getConnectionsOpened() { return connectionsOpened; }
+    public long getConnectionsOpen() { return connectionsOpen; }
+    public long getConnectionFailures() { return connectionFailures; }
+    public double getConnectP95Millis() { return connectP95Millis; }
+    public List<SqlMetrics.StatementStats> getTopStatements() { return topStatements; }
+    public List<SqlMetrics.SlowQuery> getSlowQueries() { return slowQueries; }
+    public List<CacheStats> getCaches() { return caches; }
+    public List<BackgroundExecutors.Stats> getExecutors() { return executors; }
+    public int getEmailBacklog() { return emailBacklog; }
+    public int getEventSubscribers() { return eventSubscribers; }
+    public long getEventsPublished() { return eventsPublished; }
+    public long getEventsDelivered() { return eventsDelivered; }
+    public long getEventsCoalesced() { return eventsCoalesced; }
+    public long getFxStalls() { return fxStalls; }
+    public long getFxMaxGapMillis() { return fxMaxGapMillis; }
+    public Map<String, Long> getFxJdbcViolations() { return fxJdbcViolations; }
+    public long getHeapUsed() { return heapUsed; }
+    public long getHeapCommitted() { return heapCommitted; }
+    public long getHeapMax() { return heapMax; }
+    public long getNonHeapUsed() { return nonHeapUsed; }
+    public int getThreadCount() { return threadCount; }
+    public long getUptimeMillis() { return uptimeMillis; }
+    public List<GcStats> getGarbageCollectors() { return garbageCollectors; }
+    public boolean isFlightRecording() { return flightRecording; }
+}
@@ -0,0 +1,171 @@
+package org.openjfx.model;
+
+/**
+ * A committed change, published on DomainEventBus by the service that made it
+ * or, for changes made on another terminal, by ChangeFeedService (isRemote()).
+ * Events carry IDs only; subscribers read whatever else they need.
+ */
+public abstract class DomainEvent {
+
+    private final boolean remote;
+
+    protected DomainEvent(boolean remote) {
+        this.remote = remote;
+    }
+
+    /**
+     * Whether another terminal made the change
+     */
+    public boolean isRemote() {
+        return remote;
+    }
+
+    /**
+     * Events with the same key that a subscriber has not received yet are merged into the newest one
+     */
+    public abstract Object coalesceKey();
+
+    /**
+     * A booking was created, cancelled or deleted
+     */
+    public abstract static class BookingEvent extends DomainEvent {
+        private final int bookingId;
+        private final int eventId;
+
+        protected BookingEvent(int bookingId, int eventId, boolean remote) {
+            super(remote);
+            this.bookingId = bookingId;
+            this.eventId = eventId;
+        }
+
+        public int getBookingId() { return bookingId; }
+        public int getEventId() { return eventId; }
+
+        @Override
+        public Object coalesceKey() {
+            return "booking:" + bookingId;
+        }
+    }
+
+    public static final class BookingCreated extends BookingEvent {
+        public BookingCreated(int bookingId, int eventId, boolean remote) {
+            super(bookingId, eventId, remote);
+        }
+    }
+
+    public static final class BookingCancelled extends BookingEvent {
+        private final boolean deleted;
+
+        /**
+         * @param deleted Whether the booking was deleted rather than marked CANCELLED
+         */
+        public BookingCancelled(int bookingId, int eventId, boolean deleted, boolean remote) {
+            super(bookingId, eventId, remote);
+            this.deleted = deleted;
+        }
+
+        public boolean isDeleted() { return deleted; }
+    }
+
+    /**
+     * An event was created, edited or deleted
+     */
+    public static final class EventUpdated extends DomainEvent {
+        private final int eventId;
+        private final boolean deleted;
+
+        public EventUpdated(int eventId, boolean deleted, boolean remote) {
+            super(remote);
+            this.eventId = eventId;
+            this.deleted = deleted;
+        }
+
+        public int getEventId() { return eventId; }
+        public boolean isDeleted() { return deleted; }
+
+        @Override
+        public Object coalesceKey() {
+            return "event:" + eventId;
+        }
+    }
+
+    /**
+     * Seats of an event section were booked or released, or the section was added to the event
+     */
+    public static final class CapacityChanged extends DomainEvent {
+        private final int eventId;
+        private final int sectionId;
+
+        public CapacityChanged(int eventId, int sectionId, boolean remote) {
+            super(remote);
+            this.eventId = eventId;
+            this.sectionId = sectionId;
+        }
+
+        public int getEventId() { return eventId; }
+        public int getSectionId() { return sectionId; }
+
+        @Override
+        public Object coalesceKey() {
+            return "capacity:" + eventId + ":" + sectionId;
+        }
+    }
+
+    /**
+     * An inventory item was added, edited, restocked, used or deleted
+     */
+    public static final class StockChanged extends DomainEvent {
+        private final int itemId;
+        private final boolean deleted;
+
+        public StockChanged(int itemId, boolean deleted, boolean remote) {
+            super(remote);
+            this.itemId = itemId;
+            this.deleted = deleted;
+        }
+
+        public int getItemId() { return itemId; }
+        public boolean isDeleted() { return deleted; }
+
+        @Override
+        public Object coalesceKey() {
+            return "stock:" + itemId;
+        }
+    }
+
+    /**
+     * An expense was recorded for an event (never coalesced: each one adds to the totals)
+     */
+    public static final class ExpenseAdded extends DomainEvent {
+        private final int eventId;
+        private final double totalCost;
+
+        public ExpenseAdded(int eventId, double totalCost) {
+            super(false);
+            this.eventId = eventId;
+            this.totalCost = totalCost;
+        }
+
+        public int getEventId() { return eventId; }
+        public double getTotalCost() { return totalCost; }
+
+        @Override
+        public Object coalesceKey() {
+            return this;
+        }
+    }
+
+    /**
+     * Cached report results were dropped; ReportService publishes one per burst of changes
+     */
+    public static final class ReportsChanged extends DomainEvent {
+        public ReportsChanged() {
+            super(false);
+        }
+
+        @Override
+        public Object coalesceKey() {
+            return ReportsChanged.class;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.openjfx.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable model holding the aggregated report numbers for one event
+ */
+public class EventReportSummary {
+    private final int eventId;
+    private final int totalBookings;
+    private final int totalTickets;
+    private final double totalRevenue;
+    private final double purchaseExpenses;
+    private final double eventExpenses;
+    private final List<SectionBreakdown> sections;
+
+    public EventReportSummary(int eventId, int totalBookings, int totalTickets, double totalRevenue,
+                              double purchaseExpenses, double eventExpenses, List<SectionBreakdown> sections) {
+        this.eventId = eventId;
+        this.totalBookings = totalBookings;
+        this.totalTickets = totalTickets;
+        this.totalRevenue = totalRevenue;
+        this.purchaseExpenses = purchaseExpenses;
+        this.eventExpenses = eventExpenses;
+        this.sections = Collections.unmodifiableList(sections);
+    }
+
+    // Getters
+    public int getEventId() {
+        return eventId;
+    }
+
+    public int getTotalBookings() {
+        return totalBookings;
+    }
+
+    public int getTotalTickets() {
+        return totalTickets;
+    }
+
+    public double getTotalRevenue() {
+        return totalRevenue;
+    }
+
+    public double getPurchaseExpenses() {
+        return purchaseExpenses;
+    }
+
+    public double getEventExpenses() {
+        return eventExpenses;
+    }
+
+    public List<SectionBreakdown> getSections() {
+        return sections;
+    }
+
+    // Helper methods
+    public double getTotalExpenses() {
+        return purchaseExpenses + eventExpenses;
+    }
+
+    public double getProfit() {
+        return totalRevenue - getTotalExpenses();
+    }
+
+    /**
+     * Tickets and revenue sold in one section of the event
+     */
+    public static class SectionBreakdown {
+        private final int sectionId;
+        private final String sectionName;
+        private final int tickets;
+        private final double revenue;
+
+        public SectionBreakdown(int sectionId, String sectionName, int tickets, double revenue) {
+            this.sectionId = sectionId;
+            this.sectionName = sectionName;
+            this.tickets = tickets;
+            this.revenue = revenue;
+        }
+
+        public int getSectionId() {
+            return sectionId;
+        }
+
+        public String getSectionName() {
+            return sectionName;
+        }
+
+        public int getTickets() {
+            return tickets;
+        }
+
+        public double getRevenue() {
+            return revenue;
+        }
+    }
+}
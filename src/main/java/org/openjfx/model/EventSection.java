@@ -143,7 +143,18 @@ public class EventSection {
     public boolean hasAvailableSeats() {
         return availableSeats > 0;
     }
-    
+
+    /**
+     * Independent copy (used to hand out cached event sections)
+     */
+    public EventSection copy() {
+        EventSection copy = new EventSection(eventSectionId, eventId, sectionId, sectionTitle,
+                                             price, totalCapacity, availableSeats, createdAt, updatedAt);
+        copy.setSectionName(sectionName);
+        copy.setSectionType(sectionType);
+        return copy;
+    }
+
     @Override
     public String toString() {
         return sectionTitle + " - Rp " + String.format("%.2f", price);
@@ -0,0 +1,159 @@
+package org.openjfx.model;
+
+import org.openjfx.util.IntIntMap;
+import org.openjfx.util.IntSet;
+import org.openjfx.util.RowLabels;
+
+import java.util.Arrays;
+
+/**
+ * Struct-of-arrays table of seats, used for seat maps of large sections
+ *
+ * Each seat is a slot across parallel primitive arrays (seatId, sectionId, row,
+ * seat number, status byte) instead of a Seat object with String fields.
+ * Row labels come from the shared RowLabels table, and seatId -> slot is an
+ * IntIntMap, so a loaded map allocates no per-seat objects.
+ */
+public class SeatTable {
+
+    public static final byte STATUS_AVAILABLE = 0;
+    public static final byte STATUS_BOOKED = 1;
+
+    private int[] seatIds;
+    private int[] sectionIds;
+    private int[] rows;
+    private int[] seatNumbers;
+    private byte[] statuses;
+    private int size;
+    private final IntIntMap slotBySeatId;
+
+    public SeatTable(int expectedSize) {
+        int capacity = Math.max(expectedSize, 16);
+        seatIds = new int[capacity];
+        sectionIds = new int[capacity];
+        rows = new int[capacity];
+        seatNumbers = new int[capacity];
+        statuses = new byte[capacity];
+        slotBySeatId = new IntIntMap(capacity);
+    }
+
+    /**
+     * Append a seat
+     * @param row 1-based row number (see RowLabels.rowIndex)
+     * @return Slot of the seat
+     */
+    public int add(int seatId, int sectionId, int row, int seatNumber, byte status) {
+        if (size == seatIds.length) {
+            grow();
+        }
+        int slot = size++;
+        seatIds[slot] = seatId;
+        sectionIds[slot] = sectionId;
+        rows[slot] = row;
+        seatNumbers[slot] = seatNumber;
+        statuses[slot] = status;
+        slotBySeatId.put(seatId, slot);
+        return slot;
+    }
+
+    /**
+     * Mark every seat whose ID is in bookedSeatIds as booked
+     */
+    public void markBooked(IntSet bookedSeatIds) {
+        for (int slot = 0; slot < size; slot++) {
+            if (bookedSeatIds.contains(seatIds[slot])) {
+                statuses[slot] = STATUS_BOOKED;
+            }
+        }
+    }
+
+    /**
+     * Slots of the seats that fall inside a rows x seatsPerRow layout, in table order
+     * (the cells a seat map shows; seats outside the configured layout are left out)
+     */
+    public int[] slotsWithin(int totalRows, int seatsPerRow) {
+        int[] slots = new int[size];
+        int count = 0;
+        for (int slot = 0; slot < size; slot++) {
+            if (rows[slot] <= totalRows && seatNumbers[slot] <= seatsPerRow) {
+                slots[count++] = slot;
+            }
+        }
+        return count == size ? slots : Arrays.copyOf(slots, count);
+    }
+
+    /**
+     * Slot of a seat ID, or -1 if the seat is not in this table
+     */
+    public int slotOf(int seatId) {
+        return slotBySeatId.get(seatId, -1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getSeatId(int slot) {
+        return seatIds[slot];
+    }
+
+    public int getSectionId(int slot) {
+        return sectionIds[slot];
+    }
+
+    public int getRow(int slot) {
+        return rows[slot];
+    }
+
+    public String getRowLabel(int slot) {
+        return RowLabels.rowLabel(rows[slot]);
+    }
+
+    public int getSeatNumber(int slot) {
+        return seatNumbers[slot];
+    }
+
+    public byte getStatus(int slot) {
+        return statuses[slot];
+    }
+
+    public void setStatus(int slot, byte status) {
+        statuses[slot] = status;
+    }
+
+    public boolean isAvailable(int slot) {
+        return statuses[slot] == STATUS_AVAILABLE;
+    }
+
+    public String getSeatLabel(int slot) {
+        return getRowLabel(slot) + "-" + seatNumbers[slot];
+    }
+
+    /**
+     * Materialize one slot as a Seat object (e.g. for a selected seat handed to booking)
+     */
+    public Seat toSeat(int slot) {
+        return new Seat(seatIds[slot], sectionIds[slot], getRowLabel(slot), seatNumbers[slot],
+                        isAvailable(slot) ? "AVAILABLE" : "BOOKED");
+    }
+
+    /**
+     * Independent copy with the same seats and statuses (used to hand out cached layouts)
+     */
+    public SeatTable copy() {
+        SeatTable copy = new SeatTable(size);
+        for (int slot = 0; slot < size; slot++) {
+            copy.add(seatIds[slot], sectionIds[slot], rows[slot], seatNumbers[slot], statuses[slot]);
+        }
+        return copy;
+    }
+
+    private void grow() {
+        int capacity = seatIds.length * 2;
+        seatIds = Arrays.copyOf(seatIds, capacity);
+        sectionIds = Arrays.copyOf(sectionIds, capacity);
+        rows = Arrays.copyOf(rows, capacity);
+        seatNumbers = Arrays.copyOf(seatNumbers, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+    }
+}
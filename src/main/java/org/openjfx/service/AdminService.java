@@ -2,6 +2,7 @@ package org.openjfx.service;
 
 import org.openjfx.model.Admin;
 import org.openjfx.util.DatabaseUtil;
+import org.openjfx.util.Log;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -15,6 +16,8 @@ import java.util.List;
  * Enhanced with role-based access control
  */
 public class AdminService {
+
+    private static final Log LOG = Log.get(AdminService.class);
     
     /**
      * Authenticate admin user
@@ -43,8 +46,7 @@ public class AdminService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error during authentication!");
-            e.printStackTrace();
+            LOG.error("Error during authentication!", e);
         }
         
         return null;
@@ -66,7 +68,7 @@ public class AdminService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Admin table might not exist yet.");
+            LOG.warn("Admin table might not exist yet.");
             return false;
         }
         
@@ -96,8 +98,7 @@ public class AdminService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error getting all admins!");
-            e.printStackTrace();
+            LOG.error("Error getting all admins!", e);
         }
         
         return admins;
@@ -124,8 +125,7 @@ public class AdminService {
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error creating admin!");
-            e.printStackTrace();
+            LOG.error("Error creating admin!", e);
             return false;
         }
     }
@@ -149,8 +149,7 @@ public class AdminService {
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error updating admin role!");
-            e.printStackTrace();
+            LOG.error("Error updating admin role!", e);
             return false;
         }
     }
@@ -172,8 +171,7 @@ public class AdminService {
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error deleting admin!");
-            e.printStackTrace();
+            LOG.error("Error deleting admin!", e);
             return false;
         }
     }
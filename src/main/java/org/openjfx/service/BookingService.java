@@ -1,34 +1,224 @@
 package org.openjfx.service;
 
 import org.openjfx.model.Booking;
+import org.openjfx.model.BookingRow;
 import org.openjfx.model.BookingSeat;
+import org.openjfx.model.DomainEvent;
 import org.openjfx.model.Event;
 import org.openjfx.model.Seat;
+import org.openjfx.util.BackgroundExecutors;
 import org.openjfx.util.DatabaseUtil;
+import org.openjfx.util.JfrEvents;
+import org.openjfx.util.Log;
 import org.openjfx.util.MailUtils;
+import org.openjfx.util.RowMappers;
 
 import java.sql.*;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 /**
  * Service class for Booking-related database operations
  */
 public class BookingService {
+
+    private static final Log LOG = Log.get(BookingService.class);
+    
+    /** Columns read by BOOKING_MAPPER (Bookings aliased as b) */
+    private static final String BOOKING_COLUMNS =
+        "b.BookingID, b.EventID, b.BookingNumber, b.CustomerName, b.CustomerEmail, b.CustomerPhone, " +
+        "b.TotalSeats, b.TotalPrice, b.BookingStatus, b.BookingDate, b.CreatedAt, b.UpdatedAt";
+    
+    /** Columns read by BOOKING_SEAT_MAPPER (BookingSeats aliased as bs) */
+    private static final String BOOKING_SEAT_COLUMNS =
+        "bs.BookingSeatID, bs.BookingID, bs.EventID, bs.SectionID, bs.SeatID, bs.RowNumber, bs.SeatNumber, " +
+        "bs.Price, bs.Status, bs.CreatedAt";
+    
+    /** Seats of a booking (parameter: BookingID); public so QueryPlanCheck checks the real statement */
+    public static final String BOOKING_SEATS_SQL =
+        "SELECT " + BOOKING_SEAT_COLUMNS + ", s.SectionName, es.SectionTitle " +
+        "FROM BookingSeats bs " +
+        "INNER JOIN Sections s ON bs.SectionID = s.SectionID " +
+        "LEFT JOIN EventSections es ON bs.EventID = es.EventID AND bs.SectionID = es.SectionID " +
+        "WHERE bs.BookingID = ? " +
+        "ORDER BY bs.RowNumber, bs.SeatNumber";
+    
+    /** Bookings made today (no parameters) */
+    public static final String TODAY_BOOKINGS_COUNT_SQL =
+        "SELECT COUNT(*) FROM Bookings " +
+        "WHERE BookingDate >= CAST(GETDATE() AS DATE) " +
+        "AND BookingDate < DATEADD(DAY, 1, CAST(GETDATE() AS DATE))";
+    
+    /**
+     * Map a row of Bookings to Booking (plus EventName when the query joins Events);
+     * column indexes are resolved once per query shape
+     */
+    public static final RowMappers.Factory<Booking> BOOKING_MAPPER = columns -> {
+        int bookingId = columns.index("BookingID");
+        int eventId = columns.index("EventID");
+        int bookingNumber = columns.index("BookingNumber");
+        int customerName = columns.index("CustomerName");
+        int customerEmail = columns.index("CustomerEmail");
+        int customerPhone = columns.index("CustomerPhone");
+        int totalSeats = columns.index("TotalSeats");
+        int totalPrice = columns.index("TotalPrice");
+        int bookingStatus = columns.index("BookingStatus");
+        int bookingDate = columns.index("BookingDate");
+        int createdAt = columns.index("CreatedAt");
+        int updatedAt = columns.index("UpdatedAt");
+        int eventName = columns.optional("EventName");
+        
+        return rs -> {
+            Booking booking = new Booking(
+                rs.getInt(bookingId),
+                rs.getInt(eventId),
+                rs.getString(bookingNumber),
+                rs.getString(customerName),
+                rs.getString(customerEmail),
+                rs.getString(customerPhone),
+                rs.getInt(totalSeats),
+                rs.getDouble(totalPrice),
+                rs.getString(bookingStatus),
+                rs.getTimestamp(bookingDate),
+                rs.getTimestamp(createdAt),
+                rs.getTimestamp(updatedAt)
+            );
+            if (eventName > 0) {
+                booking.setEventName(rs.getString(eventName));
+            }
+            return booking;
+        };
+    };
+    
+    /**
+     * Map a row of BookingSeats to BookingSeat (plus SectionName/SectionTitle when joined);
+     * column indexes are resolved once per query shape
+     */
+    public static final RowMappers.Factory<BookingSeat> BOOKING_SEAT_MAPPER = columns -> {
+        int bookingSeatId = columns.index("BookingSeatID");
+        int bookingId = columns.index("BookingID");
+        int eventId = columns.index("EventID");
+        int sectionId = columns.index("SectionID");
+        int seatId = columns.index("SeatID");
+        int rowNumber = columns.index("RowNumber");
+        int seatNumber = columns.index("SeatNumber");
+        int price = columns.index("Price");
+        int status = columns.index("Status");
+        int createdAt = columns.index("CreatedAt");
+        int sectionName = columns.optional("SectionName");
+        int sectionTitle = columns.optional("SectionTitle");
+        
+        return rs -> {
+            BookingSeat bookingSeat = new BookingSeat(
+                rs.getInt(bookingSeatId),
+                rs.getInt(bookingId),
+                rs.getInt(eventId),
+                rs.getInt(sectionId),
+                rs.getObject(seatId, Integer.class),
+                rs.getString(rowNumber),
+                rs.getObject(seatNumber, Integer.class),
+                rs.getDouble(price),
+                rs.getString(status),
+                rs.getTimestamp(createdAt)
+            );
+            if (sectionName > 0) {
+                bookingSeat.setSectionName(rs.getString(sectionName));
+            }
+            if (sectionTitle > 0) {
+                bookingSeat.setSectionTitle(rs.getString(sectionTitle));
+            }
+            return bookingSeat;
+        };
+    };
+    
+    private static final DateTimeFormatter BOOKING_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    
+    /** SQL Server error code for a deadlock victim; the booking is retried */
+    private static final int DEADLOCK_ERROR_CODE = 1205;
+    private static final int MAX_ATTEMPTS = 3;
+    
+    /** SQL Server unique constraint / unique index violations (BookingNumber) */
+    private static final int DUPLICATE_KEY_ERROR_CODE = 2627;
+    private static final int DUPLICATE_INDEX_ERROR_CODE = 2601;
+    
+    /** Longest booking number sequence generateBookingNumber continues from */
+    private static final int MAX_SEQUENCE_DIGITS = 8;
+    
+    /** Sends confirmation/cancellation emails one at a time, off the booking path */
+    private static final ThreadPoolExecutor EMAIL_OUTBOX = BackgroundExecutors.newWorker("email-outbox");
+    
+    private static final AtomicLong deadlockRetries = new AtomicLong();
+    private static final AtomicLong bookingNumberConflicts = new AtomicLong();
+    
+    private final DailyRollupService rollupService = new DailyRollupService();
+    private final EventService eventService = new EventService();
+    private final EventSectionService eventSectionService = new EventSectionService();
     
     /**
      * Create a new booking with seats
+     * A transaction chosen as deadlock victim, or whose booking number another terminal
+     * committed first, is retried (up to MAX_ATTEMPTS).
      */
     public Booking createBooking(Booking booking, List<Seat> selectedSeats) {
+        JfrEvents.BookingCommit event = new JfrEvents.BookingCommit();
+        event.begin();
+        event.eventId = booking.getEventId();
+        event.sectionId = selectedSeats.isEmpty() ? 0 : selectedSeats.get(0).getSectionId();
+        event.seatCount = selectedSeats.size();
+        
+        for (int attempt = 1; ; attempt++) {
+            event.attempts = attempt;
+            try {
+                Booking created = insertBooking(booking, selectedSeats);
+                event.outcome = created != null ? "CONFIRMED" : "FAILED";
+                event.commit();
+                return created;
+            } catch (SQLException e) {
+                if (e.getErrorCode() == DEADLOCK_ERROR_CODE && attempt < MAX_ATTEMPTS) {
+                    deadlockRetries.incrementAndGet();
+                    LOG.warn("Deadlock creating booking, retrying (" + attempt + ")");
+                    continue;
+                }
+                boolean duplicate = e.getErrorCode() == DUPLICATE_KEY_ERROR_CODE
+                                 || e.getErrorCode() == DUPLICATE_INDEX_ERROR_CODE;
+                if (duplicate) {
+                    bookingNumberConflicts.incrementAndGet();
+                }
+                if (duplicate && attempt < MAX_ATTEMPTS) {
+                    LOG.warn("Booking number " + booking.getBookingNumber() + " already taken, retrying (" + attempt + ")");
+                    continue;
+                }
+                if (duplicate) {
+                    event.outcome = "BOOKING_NUMBER_CONFLICT";
+                } else {
+                    event.outcome = e.getErrorCode() == DEADLOCK_ERROR_CODE ? "DEADLOCK" : "FAILED";
+                }
+                event.commit();
+                LOG.error("Error creating booking", e);
+                return null;
+            }
+        }
+    }
+    
+    /**
+     * One attempt at createBooking: everything in one transaction, rolled back on error
+     */
+    private Booking insertBooking(Booking booking, List<Seat> selectedSeats) throws SQLException {
         Connection conn = null;
         try {
             conn = DatabaseUtil.getConnection();
             conn.setAutoCommit(false); // Start transaction
             
             // Generate booking number
-            String bookingNumber = generateBookingNumber();
+            String bookingNumber = generateBookingNumber(conn);
             booking.setBookingNumber(bookingNumber);
             
             // Insert booking
@@ -111,7 +301,20 @@ public class BookingService {
                 }
             }
             
+            // Update booked seats counter and daily rollups IN THE SAME TRANSACTION
+            if (booking.isConfirmed()) {
+                eventService.adjustBookedSeats(conn, booking.getEventId(), selectedSeats.size());
+                applyRollups(conn, null, booking, 1);
+            }
+            
             conn.commit(); // Commit transaction
+            DomainEventBus.publish(new DomainEvent.BookingCreated(bookingId, booking.getEventId(), false));
+            if (selectedSeats.size() > 0) {
+                int sectionId = selectedSeats.get(0).getSectionId();
+                EventSectionCache.invalidate(booking.getEventId());
+                DomainEventBus.publish(new DomainEvent.CapacityChanged(booking.getEventId(), sectionId, false));
+            }
+            ReportService.notifyDataChanged(booking.getEventId(), LocalDate.now());
             
             // Send booking confirmation email asynchronously
             sendBookingConfirmationEmailAsync(booking);
@@ -123,19 +326,17 @@ public class BookingService {
                 try {
                     conn.rollback(); // Rollback on error
                 } catch (SQLException ex) {
-                    ex.printStackTrace();
+                    LOG.error("Error rolling back transaction", ex);
                 }
             }
-            System.err.println("Error creating booking: " + e.getMessage());
-            e.printStackTrace();
-            return null;
+            throw e;
         } finally {
             if (conn != null) {
                 try {
                     conn.setAutoCommit(true);
                     conn.close();
                 } catch (SQLException e) {
-                    e.printStackTrace();
+                    LOG.error("Error closing connection", e);
                 }
             }
         }
@@ -146,7 +347,7 @@ public class BookingService {
      */
     public List<Booking> getBookingsByEvent(int eventId) {
         List<Booking> bookings = new ArrayList<>();
-        String query = "SELECT b.*, e.EventName FROM Bookings b " +
+        String query = "SELECT " + BOOKING_COLUMNS + ", e.EventName FROM Bookings b " +
                       "INNER JOIN Events e ON b.EventID = e.EventID " +
                       "WHERE b.EventID = ? " +
                       "ORDER BY b.BookingDate DESC";
@@ -157,15 +358,14 @@ public class BookingService {
             stmt.setInt(1, eventId);
             
             try (ResultSet rs = stmt.executeQuery()) {
+                RowMappers.RowMapper<Booking> mapper = RowMappers.forResultSet(rs, BOOKING_MAPPER);
                 while (rs.next()) {
-                    Booking booking = mapResultSetToBooking(rs);
-                    booking.setEventName(rs.getString("EventName"));
+                    Booking booking = mapper.map(rs);
                     bookings.add(booking);
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Error fetching bookings: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error fetching bookings", e);
         }
         
         return bookings;
@@ -176,7 +376,7 @@ public class BookingService {
      */
     public List<Booking> getAllBookings() {
         List<Booking> bookings = new ArrayList<>();
-        String query = "SELECT b.*, e.EventName FROM Bookings b " +
+        String query = "SELECT " + BOOKING_COLUMNS + ", e.EventName FROM Bookings b " +
                       "INNER JOIN Events e ON b.EventID = e.EventID " +
                       "ORDER BY b.BookingDate DESC";
         
@@ -184,79 +384,149 @@ public class BookingService {
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(query)) {
             
+            RowMappers.RowMapper<Booking> mapper = RowMappers.forResultSet(rs, BOOKING_MAPPER);
             while (rs.next()) {
-                Booking booking = mapResultSetToBooking(rs);
-                booking.setEventName(rs.getString("EventName"));
+                Booking booking = mapper.map(rs);
                 bookings.add(booking);
             }
         } catch (SQLException e) {
-            System.err.println("Error fetching all bookings: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error fetching all bookings", e);
         }
         
         return bookings;
     }
     
+    /**
+     * Get all bookings as compact list rows (no seats, no Timestamp objects)
+     * Intended for large list views; use getBookingById for the full booking.
+     */
+    public List<BookingRow> getAllBookingRows() {
+        return getBookingRows("", "Error fetching booking rows");
+    }
+    
+    /**
+     * Get the list rows of some bookings (used to update a list in place after changes)
+     * @return Rows of the bookings that still exist, newest first
+     */
+    public List<BookingRow> getBookingRows(Collection<Integer> bookingIds) {
+        if (bookingIds.isEmpty()) return new ArrayList<>();
+        String in = bookingIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return getBookingRows("WHERE b.BookingID IN (" + in + ") ", "Error fetching changed booking rows");
+    }
+    
+    private List<BookingRow> getBookingRows(String where, String errorMessage) {
+        List<BookingRow> rows = new ArrayList<>();
+        String query = "SELECT b.BookingID, b.EventID, b.BookingNumber, e.EventName, " +
+                      "b.CustomerName, b.CustomerEmail, b.CustomerPhone, " +
+                      "b.TotalSeats, b.TotalPrice, b.BookingStatus, b.BookingDate " +
+                      "FROM Bookings b " +
+                      "INNER JOIN Events e ON b.EventID = e.EventID " +
+                      where +
+                      "ORDER BY b.BookingDate DESC";
+        
+        // One shared event name instance per event instead of one String per row
+        Map<Integer, String> eventNames = new HashMap<>();
+        
+        try (Connection conn = DatabaseUtil.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(query)) {
+            
+            while (rs.next()) {
+                int eventId = rs.getInt(2);
+                String eventName = eventNames.get(eventId);
+                if (eventName == null) {
+                    eventName = rs.getString(4);
+                    eventNames.put(eventId, eventName);
+                }
+                
+                rows.add(new BookingRow(
+                    rs.getInt(1),
+                    eventId,
+                    rs.getString(3),
+                    eventName,
+                    rs.getString(5),
+                    rs.getString(6),
+                    rs.getString(7),
+                    rs.getInt(8),
+                    rs.getDouble(9),
+                    BookingRow.Status.of(rs.getString(10)),
+                    BookingRow.toMillis(rs.getTimestamp(11))
+                ));
+            }
+        } catch (SQLException e) {
+            LOG.error(errorMessage, e);
+        }
+        
+        return rows;
+    }
+    
     /**
      * Get booking by ID with seats
      */
     public Booking getBookingById(int bookingId) {
-        String query = "SELECT b.*, e.EventName FROM Bookings b " +
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            return getBookingById(conn, bookingId);
+        } catch (SQLException e) {
+            LOG.error("Error fetching booking", e);
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Get booking by ID with seats on the caller's connection (e.g. inside its transaction)
+     * @return The booking, or null if it does not exist
+     */
+    public Booking getBookingById(Connection conn, int bookingId) throws SQLException {
+        String query = "SELECT " + BOOKING_COLUMNS + ", e.EventName FROM Bookings b " +
                       "INNER JOIN Events e ON b.EventID = e.EventID " +
                       "WHERE b.BookingID = ?";
         
-        try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query)) {
-            
+        try (PreparedStatement stmt = conn.prepareStatement(query)) {
             stmt.setInt(1, bookingId);
             
             try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    Booking booking = mapResultSetToBooking(rs);
-                    booking.setEventName(rs.getString("EventName"));
-                    
-                    // Load booking seats
-                    booking.setBookingSeats(getBookingSeats(bookingId));
-                    
-                    return booking;
+                if (!rs.next()) {
+                    return null;
                 }
+                Booking booking = RowMappers.forResultSet(rs, BOOKING_MAPPER).map(rs);
+                
+                // Load booking seats
+                booking.setBookingSeats(getBookingSeats(conn, bookingId));
+                
+                return booking;
             }
-        } catch (SQLException e) {
-            System.err.println("Error fetching booking: " + e.getMessage());
-            e.printStackTrace();
         }
-        
-        return null;
     }
     
     /**
      * Get booking seats for a booking
      */
     public List<BookingSeat> getBookingSeats(int bookingId) {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            return getBookingSeats(conn, bookingId);
+        } catch (SQLException e) {
+            LOG.error("Error fetching booking seats", e);
+        }
+        
+        return new ArrayList<>();
+    }
+    
+    /**
+     * Get booking seats for a booking on the caller's connection
+     */
+    public List<BookingSeat> getBookingSeats(Connection conn, int bookingId) throws SQLException {
         List<BookingSeat> bookingSeats = new ArrayList<>();
-        String query = "SELECT bs.*, s.SectionName, es.SectionTitle " +
-                      "FROM BookingSeats bs " +
-                      "INNER JOIN Sections s ON bs.SectionID = s.SectionID " +
-                      "LEFT JOIN EventSections es ON bs.EventID = es.EventID AND bs.SectionID = es.SectionID " +
-                      "WHERE bs.BookingID = ? " +
-                      "ORDER BY bs.RowNumber, bs.SeatNumber";
         
-        try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query)) {
-            
+        try (PreparedStatement stmt = conn.prepareStatement(BOOKING_SEATS_SQL)) {
             stmt.setInt(1, bookingId);
             
             try (ResultSet rs = stmt.executeQuery()) {
+                RowMappers.RowMapper<BookingSeat> mapper = RowMappers.forResultSet(rs, BOOKING_SEAT_MAPPER);
                 while (rs.next()) {
-                    BookingSeat bookingSeat = mapResultSetToBookingSeat(rs);
-                    bookingSeat.setSectionName(rs.getString("SectionName"));
-                    bookingSeat.setSectionTitle(rs.getString("SectionTitle"));
-                    bookingSeats.add(bookingSeat);
+                    bookingSeats.add(mapper.map(rs));
                 }
             }
-        } catch (SQLException e) {
-            System.err.println("Error fetching booking seats: " + e.getMessage());
-            e.printStackTrace();
         }
         
         return bookingSeats;
@@ -264,25 +534,55 @@ public class BookingService {
     
     /**
      * Cancel a booking
+     * A transaction chosen as deadlock victim is retried (up to MAX_ATTEMPTS).
      */
     public boolean cancelBooking(int bookingId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return markCancelled(bookingId);
+            } catch (SQLException e) {
+                if (e.getErrorCode() == DEADLOCK_ERROR_CODE && attempt < MAX_ATTEMPTS) {
+                    deadlockRetries.incrementAndGet();
+                    LOG.warn("Deadlock cancelling booking " + bookingId + ", retrying (" + attempt + ")");
+                    continue;
+                }
+                LOG.error("Error cancelling booking", e);
+                return false;
+            }
+        }
+    }
+    
+    /**
+     * One attempt at cancelBooking; false if the booking does not exist
+     */
+    private boolean markCancelled(int bookingId) throws SQLException {
         Connection conn = null;
         try {
             conn = DatabaseUtil.getConnection();
             conn.setAutoCommit(false);
             
-            // Get booking details
-            Booking booking = getBookingById(bookingId);
+            // Lock the booking first so a concurrent cancel/delete waits and then sees our result
+            String status = lockBookingStatus(conn, bookingId);
+            Booking booking = status != null ? getBookingById(conn, bookingId) : null;
             if (booking == null) {
+                conn.rollback();
                 return false;
             }
+            boolean wasConfirmed = "CONFIRMED".equals(status);
             
             // Update booking status
             String bookingQuery = "UPDATE Bookings SET BookingStatus = 'CANCELLED', UpdatedAt = GETDATE() " +
-                                "WHERE BookingID = ?";
+                                "WHERE BookingID = ? AND BookingStatus <> 'CANCELLED'";
+            int cancelled;
             try (PreparedStatement stmt = conn.prepareStatement(bookingQuery)) {
                 stmt.setInt(1, bookingId);
-                stmt.executeUpdate();
+                cancelled = stmt.executeUpdate();
+            }
+            if (cancelled == 0) {
+                // already cancelled (e.g. on another terminal): nothing to release or announce
+                conn.rollback();
+                LOG.info("Booking " + booking.getBookingNumber() + " was already cancelled");
+                return true;
             }
             
             // Update booking seats status
@@ -292,14 +592,17 @@ public class BookingService {
                 stmt.executeUpdate();
             }
             
-            // Increase event section capacity back
-            if (booking.getBookingSeats().size() > 0) {
-                int sectionId = booking.getBookingSeats().get(0).getSectionId();
-                EventSectionService eventSectionService = new EventSectionService();
-                eventSectionService.increaseCapacity(booking.getEventId(), sectionId, booking.getTotalSeats());
+            // Release the seats from the counters and the daily rollups
+            // (only a booking that was still confirmed under our lock holds any)
+            if (wasConfirmed) {
+                restoreSeatCounters(conn, booking);
+                applyRollups(conn, bookingDay(booking), booking, -1);
             }
             
             conn.commit();
+            DomainEventBus.publish(new DomainEvent.BookingCancelled(bookingId, booking.getEventId(), false, false));
+            if (wasConfirmed) releaseCachedSeats(booking);
+            ReportService.notifyDataChanged(booking.getEventId(), bookingDay(booking));
             
             // Send cancellation email asynchronously
             sendBookingCancellationEmailAsync(booking);
@@ -311,24 +614,36 @@ public class BookingService {
                 try {
                     conn.rollback();
                 } catch (SQLException ex) {
-                    ex.printStackTrace();
+                    LOG.error("Error rolling back transaction", ex);
                 }
             }
-            System.err.println("Error cancelling booking: " + e.getMessage());
-            e.printStackTrace();
-            return false;
+            throw e;
         } finally {
             if (conn != null) {
                 try {
                     conn.setAutoCommit(true);
                     conn.close();
                 } catch (SQLException e) {
-                    e.printStackTrace();
+                    LOG.error("Error closing connection", e);
                 }
             }
         }
     }
     
+    /**
+     * Read a booking's status under an update lock held until the caller's transaction ends
+     * @return The status, or null if the booking does not exist
+     */
+    private String lockBookingStatus(Connection conn, int bookingId) throws SQLException {
+        String query = "SELECT BookingStatus FROM Bookings WITH (UPDLOCK, ROWLOCK) WHERE BookingID = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            stmt.setInt(1, bookingId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+    
     /**
      * Delete a booking permanently
      * This will remove the booking and all related data from the database
@@ -339,12 +654,15 @@ public class BookingService {
             conn = DatabaseUtil.getConnection();
             conn.setAutoCommit(false);
             
-            // Get booking details before deletion
-            Booking booking = getBookingById(bookingId);
+            // Lock the booking first so a concurrent cancel/delete waits and then sees our result
+            String status = lockBookingStatus(conn, bookingId);
+            Booking booking = status != null ? getBookingById(conn, bookingId) : null;
             if (booking == null) {
-                System.err.println("Booking not found: " + bookingId);
+                LOG.warn("Booking not found: " + bookingId);
+                conn.rollback();
                 return false;
             }
+            boolean wasConfirmed = "CONFIRMED".equals(status);
             
             // Delete in correct order: BookingSeats first, then Booking
             
@@ -353,7 +671,7 @@ public class BookingService {
             try (PreparedStatement stmt = conn.prepareStatement(deleteBookingSeatsSql)) {
                 stmt.setInt(1, bookingId);
                 int seatsDeleted = stmt.executeUpdate();
-                System.out.println("Deleted " + seatsDeleted + " booking seats");
+                LOG.debug("Deleted " + seatsDeleted + " booking seats");
             }
             
             // 2. Delete Booking
@@ -363,22 +681,24 @@ public class BookingService {
                 int deleted = stmt.executeUpdate();
                 
                 if (deleted == 0) {
-                    System.err.println("Failed to delete booking");
+                    LOG.error("Failed to delete booking");
                     conn.rollback();
                     return false;
                 }
             }
             
-            // 3. Restore event section capacity if booking was CONFIRMED
-            if ("CONFIRMED".equals(booking.getBookingStatus()) && booking.getBookingSeats().size() > 0) {
-                int sectionId = booking.getBookingSeats().get(0).getSectionId();
-                EventSectionService eventSectionService = new EventSectionService();
-                eventSectionService.increaseCapacity(booking.getEventId(), sectionId, booking.getTotalSeats());
-                System.out.println("Restored capacity: " + booking.getTotalSeats() + " seats");
+            // 3. Release the seats from the counters and the daily rollups if the booking was CONFIRMED
+            if (wasConfirmed) {
+                restoreSeatCounters(conn, booking);
+                applyRollups(conn, bookingDay(booking), booking, -1);
+                LOG.debug("Restored capacity: " + booking.getTotalSeats() + " seats");
             }
             
             conn.commit();
-            System.out.println("Booking deleted successfully: " + booking.getBookingNumber());
+            DomainEventBus.publish(new DomainEvent.BookingCancelled(bookingId, booking.getEventId(), true, false));
+            if (wasConfirmed) releaseCachedSeats(booking);
+            ReportService.notifyDataChanged(booking.getEventId(), bookingDay(booking));
+            LOG.info("Booking deleted successfully: " + booking.getBookingNumber());
             return true;
             
         } catch (SQLException e) {
@@ -386,11 +706,10 @@ public class BookingService {
                 try {
                     conn.rollback();
                 } catch (SQLException ex) {
-                    ex.printStackTrace();
+                    LOG.error("Error rolling back transaction", ex);
                 }
             }
-            System.err.println("Error deleting booking: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error deleting booking", e);
             return false;
         } finally {
             if (conn != null) {
@@ -398,7 +717,7 @@ public class BookingService {
                     conn.setAutoCommit(true);
                     conn.close();
                 } catch (SQLException e) {
-                    e.printStackTrace();
+                    LOG.error("Error closing connection", e);
                 }
             }
         }
@@ -408,19 +727,15 @@ public class BookingService {
      * Get today's bookings count
      */
     public int getTodayBookingsCount() {
-        String query = "SELECT COUNT(*) FROM Bookings " +
-                      "WHERE CAST(BookingDate AS DATE) = CAST(GETDATE() AS DATE)";
-        
         try (Connection conn = DatabaseUtil.getConnection();
              Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(query)) {
+             ResultSet rs = stmt.executeQuery(TODAY_BOOKINGS_COUNT_SQL)) {
             
             if (rs.next()) {
                 return rs.getInt(1);
             }
         } catch (SQLException e) {
-            System.err.println("Error getting today's bookings count: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting today's bookings count", e);
         }
         
         return 0;
@@ -441,89 +756,125 @@ public class BookingService {
                 return rs.getDouble(1);
             }
         } catch (SQLException e) {
-            System.err.println("Error getting total revenue: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting total revenue", e);
         }
         
         return 0.0;
     }
     
     /**
-     * Generate unique booking number
+     * Format a booking number: BK-yyyyMMdd-NNNN (sequence zero-padded to at least 4 digits)
+     */
+    public static String formatBookingNumber(LocalDate day, int sequence) {
+        String seq = Integer.toString(sequence);
+        StringBuilder sb = new StringBuilder(16).append("BK-").append(day.format(BOOKING_DATE_FORMAT)).append('-');
+        for (int i = seq.length(); i < 4; i++) {
+            sb.append('0');
+        }
+        return sb.append(seq).toString();
+    }
+    
+    /**
+     * Deadlocked booking transactions retried since startup
+     */
+    public static long getDeadlockRetryCount() {
+        return deadlockRetries.get();
+    }
+    
+    /**
+     * Booking attempts since startup whose booking number another terminal took first
+     * (retried with the next number up to MAX_ATTEMPTS)
+     */
+    public static long getBookingNumberConflictCount() {
+        return bookingNumberConflicts.get();
+    }
+    
+    /**
+     * Emails waiting in (or being sent from) the outbox
+     */
+    public static int getEmailBacklog() {
+        return EMAIL_OUTBOX.getQueue().size() + EMAIL_OUTBOX.getActiveCount();
+    }
+    
+    /**
+     * Generate the next booking number of today, inside the caller's booking transaction
+     * Follows the highest number issued today (not a count, which repeats after a delete).
+     * Two terminals can still read the same number; the UNIQUE constraint rejects the later
+     * insert and createBooking retries it.
      */
-    private String generateBookingNumber() {
+    private String generateBookingNumber(Connection conn) throws SQLException {
         LocalDate today = LocalDate.now();
-        String dateStr = today.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        String prefix = "BK-" + today.format(BOOKING_DATE_FORMAT) + "-";
         
-        // Get count of bookings today
-        String query = "SELECT COUNT(*) FROM Bookings WHERE BookingNumber LIKE 'BK-" + dateStr + "-%'";
+        // Longest first so that BK-...-10000 sorts above BK-...-9999
+        String query = "SELECT TOP 1 BookingNumber FROM Bookings " +
+                       "WHERE BookingNumber LIKE ? AND LEN(BookingNumber) <= ? " +
+                       "ORDER BY LEN(BookingNumber) DESC, BookingNumber DESC";
         
-        try (Connection conn = DatabaseUtil.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(query)) {
-            
-            int count = 0;
-            if (rs.next()) {
-                count = rs.getInt(1);
+        int last = 0;
+        try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            stmt.setString(1, prefix + "%");
+            stmt.setInt(2, prefix.length() + MAX_SEQUENCE_DIGITS);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    try {
+                        last = Integer.parseInt(rs.getString(1).substring(prefix.length()));
+                    } catch (NumberFormatException e) {
+                        LOG.warn("Ignoring unexpected booking number " + rs.getString(1));
+                    }
+                }
             }
-            
-            return String.format("BK-%s-%04d", dateStr, count + 1);
-            
-        } catch (SQLException e) {
-            System.err.println("Error generating booking number: " + e.getMessage());
-            e.printStackTrace();
-            return "BK-" + dateStr + "-" + System.currentTimeMillis();
+        }
+        
+        return formatBookingNumber(today, last + 1);
+    }
+    
+    /**
+     * Give a booking's seats back to the event and section counters, inside the caller's transaction
+     */
+    private void restoreSeatCounters(Connection conn, Booking booking) throws SQLException {
+        eventService.adjustBookedSeats(conn, booking.getEventId(), -booking.getTotalSeats());
+        if (booking.getBookingSeats().size() > 0) {
+            int sectionId = booking.getBookingSeats().get(0).getSectionId();
+            eventSectionService.increaseCapacity(conn, booking.getEventId(), sectionId, booking.getTotalSeats());
+        }
+    }
+    
+    /**
+     * After restoreSeatCounters committed: drop the event from EventSectionCache, and announce the change
+     */
+    private void releaseCachedSeats(Booking booking) {
+        if (booking.getBookingSeats().size() > 0) {
+            int sectionId = booking.getBookingSeats().get(0).getSectionId();
+            EventSectionCache.invalidate(booking.getEventId());
+            DomainEventBus.publish(new DomainEvent.CapacityChanged(booking.getEventId(), sectionId, false));
         }
     }
     
     /**
-     * Map ResultSet to Booking object
+     * Add (sign = 1) or remove (sign = -1) a booking's revenue and tickets
+     * from the daily rollups using the caller's transaction
      */
-    private Booking mapResultSetToBooking(ResultSet rs) throws SQLException {
-        return new Booking(
-            rs.getInt("BookingID"),
-            rs.getInt("EventID"),
-            rs.getString("BookingNumber"),
-            rs.getString("CustomerName"),
-            rs.getString("CustomerEmail"),
-            rs.getString("CustomerPhone"),
-            rs.getInt("TotalSeats"),
-            rs.getDouble("TotalPrice"),
-            rs.getString("BookingStatus"),
-            rs.getTimestamp("BookingDate"),
-            rs.getTimestamp("CreatedAt"),
-            rs.getTimestamp("UpdatedAt")
-        );
+    private void applyRollups(Connection conn, LocalDate day, Booking booking, int sign) throws SQLException {
+        rollupService.applyDelta(conn, day, booking.getEventId(),
+                                 DailyRollupService.Category.REVENUE, sign * booking.getTotalPrice());
+        rollupService.applyDelta(conn, day, booking.getEventId(),
+                                 DailyRollupService.Category.TICKETS, sign * booking.getTotalSeats());
     }
     
     /**
-     * Map ResultSet to BookingSeat object
+     * Day a booking is counted on in the rollups (null = today on the server)
      */
-    private BookingSeat mapResultSetToBookingSeat(ResultSet rs) throws SQLException {
-        Integer seatId = rs.getObject("SeatID", Integer.class);
-        String rowNumber = rs.getString("RowNumber");
-        Integer seatNumber = rs.getObject("SeatNumber", Integer.class);
-        
-        return new BookingSeat(
-            rs.getInt("BookingSeatID"),
-            rs.getInt("BookingID"),
-            rs.getInt("EventID"),
-            rs.getInt("SectionID"),
-            seatId,
-            rowNumber,
-            seatNumber,
-            rs.getDouble("Price"),
-            rs.getString("Status"),
-            rs.getTimestamp("CreatedAt")
-        );
+    private LocalDate bookingDay(Booking booking) {
+        return booking.getBookingDate() != null ? booking.getBookingDate().toLocalDateTime().toLocalDate() : null;
     }
     
     /**
      * Send booking confirmation email asynchronously
-     * This runs in a separate thread to avoid blocking the booking process
+     * Queued on the email outbox thread to avoid blocking the booking process
      */
     private void sendBookingConfirmationEmailAsync(Booking booking) {
-        new Thread(() -> {
+        EMAIL_OUTBOX.execute(() -> {
             try {
                 // Get event details
                 EventService eventService = new EventService();
@@ -537,25 +888,24 @@ public class BookingService {
                     boolean sent = MailUtils.sendBookingConfirmation(booking, event);
                     
                     if (sent) {
-                        System.out.println("✓ Booking confirmation email sent successfully for booking: " + booking.getBookingNumber());
+                        LOG.debug("Booking confirmation email sent for booking: " + booking.getBookingNumber());
                     } else {
-                        System.err.println("✗ Failed to send booking confirmation email for booking: " + booking.getBookingNumber());
+                        LOG.error("Failed to send booking confirmation email for booking: " + booking.getBookingNumber());
                     }
                 } else {
-                    System.err.println("✗ Event not found for booking: " + booking.getBookingNumber());
+                    LOG.error("Event not found for booking: " + booking.getBookingNumber());
                 }
             } catch (Exception e) {
-                System.err.println("✗ Error sending booking confirmation email: " + e.getMessage());
-                e.printStackTrace();
+                LOG.error("Error sending booking confirmation email", e);
             }
-        }).start();
+        });
     }
     
     /**
      * Send booking cancellation email asynchronously
      */
     private void sendBookingCancellationEmailAsync(Booking booking) {
-        new Thread(() -> {
+        EMAIL_OUTBOX.execute(() -> {
             try {
                 // Get event details
                 EventService eventService = new EventService();
@@ -566,17 +916,16 @@ public class BookingService {
                     boolean sent = MailUtils.sendBookingCancellation(booking, event);
                     
                     if (sent) {
-                        System.out.println("✓ Booking cancellation email sent successfully for booking: " + booking.getBookingNumber());
+                        LOG.debug("Booking cancellation email sent for booking: " + booking.getBookingNumber());
                     } else {
-                        System.err.println("✗ Failed to send booking cancellation email for booking: " + booking.getBookingNumber());
+                        LOG.error("Failed to send booking cancellation email for booking: " + booking.getBookingNumber());
                     }
                 } else {
-                    System.err.println("✗ Event not found for cancellation email: " + booking.getBookingNumber());
+                    LOG.error("Event not found for cancellation email: " + booking.getBookingNumber());
                 }
             } catch (Exception e) {
-                System.err.println("✗ Error sending booking cancellation email: " + e.getMessage());
-                e.printStackTrace();
+                LOG.error("Error sending booking cancellation email", e);
             }
-        }).start();
+        });
     }
 }
@@ -0,0 +1,320 @@
+package org.openjfx.service;
+
+import org.openjfx.model.DataChange;
+import org.openjfx.model.DomainEvent;
+import org.openjfx.util.BackgroundExecutors;
+import org.openjfx.util.DatabaseUtil;
+import org.openjfx.util.Log;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service that reads the ChangeLog (database/11_change_feed.sql) so each terminal sees
+ * the bookings, event sections, events and inventory changes made on the others.
+ *
+ * A background poller fetches the rows above the last ChangeID it has seen every
+ * CHANGE_FEED_POLL_MS, drops the affected cache entries for changes made elsewhere
+ * (this terminal already wrote its own through) and republishes them on
+ * DomainEventBus as remote events, so open screens update in place whichever
+ * terminal made the change. ChangeIDs are handed out when a
+ * row is written but become visible when its transaction commits, so an ID skipped
+ * by one poll is looked for again for GAP_WAIT_MILLIS before it is given up
+ * (rolled back transactions leave such gaps for good).
+ */
+public class ChangeFeedService {
+
+    private static final Log LOG = Log.get(ChangeFeedService.class);
+
+    /** Rows fetched per query; a longer backlog is read in several pages */
+    private static final int PAGE_SIZE = 500;
+
+    /** How long a missing ChangeID is waited for before it is treated as rolled back */
+    private static final long GAP_WAIT_MILLIS = 10_000;
+
+    /** How long ChangeLog rows are kept */
+    private static final int RETENTION_HOURS = 24;
+
+    private static final long PURGE_INTERVAL_MILLIS = 60 * 60_000;
+
+    /** SQL Server error for a missing table (migration not applied) */
+    private static final int INVALID_OBJECT_ERROR_CODE = 208;
+
+    private static volatile long pollIntervalMillis = 2_000;
+
+    private static ScheduledExecutorService pollScheduler;
+
+    // Poller state, only touched on the poller thread
+    private static long lastChangeId = -1;
+    private static final Map<Long, Long> gaps = new TreeMap<>(); // missing ChangeID -> first noticed
+    private static long lastPurge;
+
+    private static final AtomicLong polls = new AtomicLong();
+    private static final AtomicLong changesReceived = new AtomicLong();
+    private static final AtomicLong remoteChanges = new AtomicLong();
+
+    /**
+     * Set how often the poller reads the ChangeLog (0 turns the change feed off)
+     */
+    public static void setPollIntervalMillis(long millis) {
+        pollIntervalMillis = Math.max(0, millis);
+    }
+
+    public static long getPollIntervalMillis() {
+        return pollIntervalMillis;
+    }
+
+    /**
+     * Start polling the ChangeLog in the background.
+     * Safe to call more than once; only one poller is started.
+     */
+    public static synchronized void start() {
+        if (pollScheduler != null || pollIntervalMillis == 0) return;
+
+        pollScheduler = BackgroundExecutors.newScheduler("change-feed");
+        pollScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                poll();
+            } catch (SQLException e) {
+                if (e.getErrorCode() == INVALID_OBJECT_ERROR_CODE) {
+                    LOG.warn("Change feed disabled: ChangeLog table missing (run database/11_change_feed.sql)");
+                    stop();
+                } else {
+                    LOG.error("Change feed poll failed", e);
+                }
+            } catch (Exception e) {
+                // keep the poller alive; the next run will retry
+                LOG.error("Change feed poll failed", e);
+            }
+        }, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static synchronized void stop() {
+        if (pollScheduler != null) {
+            pollScheduler.shutdown();
+            pollScheduler = null;
+        }
+    }
+
+    /**
+     * Highest ChangeID in the log (0 if it is empty)
+     */
+    public long getLatestChangeId() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT ISNULL(MAX(ChangeID), 0) FROM ChangeLog")) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    /**
+     * Changes with a ChangeID above afterId, oldest first
+     * @param limit Maximum number of rows returned
+     */
+    public List<DataChange> getChangesSince(long afterId, int limit) throws SQLException {
+        String query = "SELECT TOP (?) ChangeID, TableName, ChangeType, RowID, EventID, SectionID, Origin " +
+                      "FROM ChangeLog WHERE ChangeID > ? ORDER BY ChangeID";
+        String terminal = DatabaseUtil.getTerminalId();
+        List<DataChange> changes = new ArrayList<>();
+
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            stmt.setInt(1, limit);
+            stmt.setLong(2, afterId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    DataChange.Table table = DataChange.Table.of(rs.getString(2));
+                    if (table == null) continue;
+                    int eventId = rs.getInt(5);
+                    Integer event = rs.wasNull() ? null : eventId;
+                    int sectionId = rs.getInt(6);
+                    Integer section = rs.wasNull() ? null : sectionId;
+                    changes.add(new DataChange(rs.getLong(1), table, toType(rs.getString(3)), rs.getInt(4),
+                                               event, section, terminal.equals(rs.getString(7))));
+                }
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Delete ChangeLog rows older than RETENTION_HOURS
+     * @return Number of rows deleted
+     */
+    public int purgeOldChanges() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             Statement stmt = conn.createStatement()) {
+            return stmt.executeUpdate(
+                "DELETE FROM ChangeLog WHERE ChangedAt < DATEADD(HOUR, -" + RETENTION_HOURS + ", GETDATE())");
+        }
+    }
+
+    private static DataChange.Type toType(String code) {
+        switch (code) {
+            case "I": return DataChange.Type.INSERT;
+            case "D": return DataChange.Type.DELETE;
+            default: return DataChange.Type.UPDATE;
+        }
+    }
+
+    // Poller thread only. Gaps wider than a page (e.g. after the log was reseeded) are not tracked.
+    private static void poll() throws SQLException {
+        ChangeFeedService feed = new ChangeFeedService();
+        if (lastChangeId < 0) {
+            // Start from now; history before this terminal started is already in what it loads
+            lastChangeId = feed.getLatestChangeId();
+            LOG.info("Change feed started at ChangeID " + lastChangeId);
+            return;
+        }
+        polls.incrementAndGet();
+        long now = System.currentTimeMillis();
+
+        // Give up on IDs that never showed up
+        gaps.values().removeIf(noticed -> now - noticed > GAP_WAIT_MILLIS);
+
+        // Read from below the oldest gap so late commits are still picked up
+        long from = gaps.isEmpty() ? lastChangeId : Collections.min(gaps.keySet()) - 1;
+        List<DataChange> batch = new ArrayList<>();
+        while (true) {
+            List<DataChange> page = feed.getChangesSince(from, PAGE_SIZE);
+            for (DataChange change : page) {
+                long id = change.getChangeId();
+                if (id <= lastChangeId) {
+                    if (gaps.remove(id) != null) batch.add(change);
+                    continue;
+                }
+                if (id - lastChangeId <= PAGE_SIZE) {
+                    for (long missing = lastChangeId + 1; missing < id; missing++) {
+                        gaps.put(missing, now);
+                    }
+                }
+                lastChangeId = id;
+                batch.add(change);
+            }
+            if (page.size() < PAGE_SIZE) break;
+            from = page.get(page.size() - 1).getChangeId();
+        }
+
+        if (!batch.isEmpty()) {
+            publish(batch);
+        }
+
+        if (now - lastPurge > PURGE_INTERVAL_MILLIS) {
+            lastPurge = now;
+            int purged = feed.purgeOldChanges();
+            if (purged > 0) LOG.debug("Purged " + purged + " change log rows");
+        }
+    }
+
+    private static void publish(List<DataChange> batch) {
+        changesReceived.addAndGet(batch.size());
+        applyToCaches(batch);
+
+        // This terminal published its own changes when it committed them
+        for (DataChange change : batch) {
+            if (change.isLocal()) continue;
+            DomainEvent event = toDomainEvent(change);
+            if (event != null) DomainEventBus.publish(event);
+        }
+    }
+
+    private static DomainEvent toDomainEvent(DataChange change) {
+        boolean deleted = change.getType() == DataChange.Type.DELETE;
+        Integer eventId = change.getEventId();
+        switch (change.getTable()) {
+            case BOOKINGS:
+                if (eventId == null) return null;
+                // the application only updates a booking to cancel it
+                return change.getType() == DataChange.Type.INSERT
+                    ? new DomainEvent.BookingCreated(change.getRowId(), eventId, true)
+                    : new DomainEvent.BookingCancelled(change.getRowId(), eventId, deleted, true);
+            case BOOKING_SEATS:
+            case EVENT_SECTIONS:
+                if (eventId == null || change.getSectionId() == null) return null;
+                return new DomainEvent.CapacityChanged(eventId, change.getSectionId(), true);
+            case EVENTS:
+                return new DomainEvent.EventUpdated(change.getRowId(), deleted, true);
+            case INVENTORY_ITEMS:
+                return new DomainEvent.StockChanged(change.getRowId(), deleted, true);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Drop what other terminals changed from this terminal's caches
+     */
+    private static void applyToCaches(List<DataChange> batch) {
+        Set<Integer> sectionEvents = new HashSet<>();
+        Set<Integer> reportEvents = new HashSet<>();
+        boolean inventory = false;
+
+        for (DataChange change : batch) {
+            if (change.isLocal()) continue;
+            remoteChanges.incrementAndGet();
+            switch (change.getTable()) {
+                case EVENT_SECTIONS:
+                    if (change.getEventId() != null) sectionEvents.add(change.getEventId());
+                    break;
+                case EVENTS:
+                    if (change.getType() == DataChange.Type.DELETE) sectionEvents.add(change.getRowId());
+                    reportEvents.add(change.getRowId());
+                    break;
+                case BOOKINGS:
+                    if (change.getEventId() != null) reportEvents.add(change.getEventId());
+                    break;
+                case INVENTORY_ITEMS:
+                    inventory = true;
+                    break;
+                default:
+                    break; // seat rows only matter to open seat maps
+            }
+        }
+
+        for (int eventId : sectionEvents) {
+            EventSectionCache.invalidate(eventId);
+        }
+        for (int eventId : reportEvents) {
+            ReportService.notifyDataChanged(eventId, null);
+        }
+        if (inventory) {
+            ReportService.notifyDataChanged(null, null);
+        }
+        if (!reportEvents.isEmpty() || inventory) {
+            new DashboardSnapshotService().invalidate();
+        }
+    }
+
+    public static long getPollCount() {
+        return polls.get();
+    }
+
+    /**
+     * Changes received since startup (from any terminal)
+     */
+    public static long getChangesReceived() {
+        return changesReceived.get();
+    }
+
+    /**
+     * Changes received that were made on other terminals
+     */
+    public static long getRemoteChanges() {
+        return remoteChanges.get();
+    }
+}
@@ -0,0 +1,337 @@
+package org.openjfx.service;
+
+import org.openjfx.util.BackgroundExecutors;
+import org.openjfx.util.DatabaseUtil;
+import org.openjfx.util.Log;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service for the DailyRollups table: pre-aggregated revenue, tickets and
+ * expenses per day, event and category.
+ *
+ * Rollups are maintained incrementally by the services that write bookings,
+ * purchases and expenses, and rebuilt from the raw tables by a nightly
+ * compaction that repairs any drift.
+ */
+public class DailyRollupService {
+
+    private static final Log LOG = Log.get(DailyRollupService.class);
+
+    /** Rollup categories stored in DailyRollups.Category */
+    public enum Category { REVENUE, TICKETS, PURCHASES, EVENT_EXPENSES }
+
+    /** Bucket size for trend queries */
+    public enum Granularity { DAY, WEEK, MONTH }
+
+    /** EventID used for amounts that are not attributed to any event */
+    public static final int NO_EVENT = 0;
+
+    /**
+     * Per-day totals that rebuild() recomputes from the raw tables (parameters: [from, to) dates),
+     * in DailyRollups column order; public so QueryPlanCheck checks the real statements
+     */
+    public static final List<String> REBUILD_SOURCES = List.of(
+        "SELECT CAST(BookingDate AS DATE), EventID, 'REVENUE', SUM(TotalPrice) FROM Bookings " +
+        "WHERE BookingStatus = 'CONFIRMED' AND BookingDate >= ? AND BookingDate < ? " +
+        "GROUP BY CAST(BookingDate AS DATE), EventID",
+
+        "SELECT CAST(BookingDate AS DATE), EventID, 'TICKETS', SUM(TotalSeats) FROM Bookings " +
+        "WHERE BookingStatus = 'CONFIRMED' AND BookingDate >= ? AND BookingDate < ? " +
+        "GROUP BY CAST(BookingDate AS DATE), EventID",
+
+        "SELECT CAST(PurchaseDate AS DATE), ISNULL(EventID, 0), 'PURCHASES', SUM(TotalCost) FROM InventoryPurchases " +
+        "WHERE PurchaseDate >= ? AND PurchaseDate < ? " +
+        "GROUP BY CAST(PurchaseDate AS DATE), ISNULL(EventID, 0)",
+
+        "SELECT CAST(CreatedAt AS DATE), EventID, 'EVENT_EXPENSES', SUM(TotalCost) FROM EventExpenses " +
+        "WHERE CreatedAt >= ? AND CreatedAt < ? " +
+        "GROUP BY CAST(CreatedAt AS DATE), EventID"
+    );
+
+    /** Number of recent days rebuilt by the nightly compaction */
+    private static final int COMPACTION_WINDOW_DAYS = 7;
+
+    /** Local time at which the nightly compaction runs */
+    private static final LocalTime COMPACTION_TIME = LocalTime.of(2, 0);
+
+    private static ScheduledExecutorService compactionScheduler;
+
+    /**
+     * Add a delta to a rollup bucket using the caller's connection, so the
+     * rollup update commits or rolls back together with the source row.
+     *
+     * @param conn Open connection (may be inside a transaction)
+     * @param date Bucket date, or null to use the database server's current date
+     * @param eventId Event the amount belongs to, or {@link #NO_EVENT}
+     * @param category Rollup category
+     * @param delta Amount to add (negative to subtract)
+     */
+    public void applyDelta(Connection conn, LocalDate date, int eventId, Category category, double delta)
+            throws SQLException {
+        if (delta == 0) return;
+
+        String sql = "MERGE DailyRollups WITH (HOLDLOCK) AS t " +
+                     "USING (SELECT CAST(COALESCE(?, GETDATE()) AS DATE) AS RollupDate, ? AS EventID, ? AS Category) AS s " +
+                     "ON t.RollupDate = s.RollupDate AND t.EventID = s.EventID AND t.Category = s.Category " +
+                     "WHEN MATCHED THEN UPDATE SET Amount = t.Amount + ?, UpdatedAt = GETDATE() " +
+                     "WHEN NOT MATCHED THEN INSERT (RollupDate, EventID, Category, Amount) " +
+                     "VALUES (s.RollupDate, s.EventID, s.Category, ?);";
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            if (date != null) stmt.setDate(1, Date.valueOf(date)); else stmt.setNull(1, Types.DATE);
+            stmt.setInt(2, eventId);
+            stmt.setString(3, category.name());
+            stmt.setDouble(4, delta);
+            stmt.setDouble(5, delta);
+            stmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Sum of a category between two dates (inclusive)
+     */
+    public double getTotal(Category category, LocalDate start, LocalDate end) {
+        String sql = "SELECT ISNULL(SUM(Amount), 0) FROM DailyRollups " +
+                     "WHERE Category = ? AND RollupDate >= ? AND RollupDate <= ?";
+
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, category.name());
+            stmt.setDate(2, Date.valueOf(start));
+            stmt.setDate(3, Date.valueOf(end));
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) return rs.getDouble(1);
+            }
+
+        } catch (SQLException e) {
+            LOG.error("Error getting rollup total for " + category, e);
+        }
+        return 0.0;
+    }
+
+    /**
+     * All-time totals per category for a single event
+     */
+    public Map<Category, Double> getEventTotals(int eventId) {
+        Map<Category, Double> totals = new EnumMap<>(Category.class);
+        for (Category c : Category.values()) totals.put(c, 0.0);
+
+        String sql = "SELECT Category, SUM(Amount) AS Total FROM DailyRollups " +
+                     "WHERE EventID = ? GROUP BY Category";
+
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, eventId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    totals.put(Category.valueOf(rs.getString("Category")), rs.getDouble("Total"));
+                }
+            }
+
+        } catch (SQLException e) {
+            LOG.error("Error getting rollup totals for event", e);
+        }
+        return totals;
+    }
+
+    /**
+     * Trend of a category between two dates, bucketed by day, week or month.
+     * Every bucket in the range is present (zero when there was no activity).
+     *
+     * @return Map of bucket label to amount, in chronological order
+     */
+    public Map<String, Double> getTrend(Category category, Granularity granularity,
+                                        LocalDate start, LocalDate end) {
+        Map<String, Double> trend = new LinkedHashMap<>();
+        for (LocalDate d = bucketStart(start, granularity); !d.isAfter(end); d = nextBucket(d, granularity)) {
+            trend.put(bucketLabel(d, granularity), 0.0);
+        }
+
+        String sql = "SELECT RollupDate, SUM(Amount) AS Total FROM DailyRollups " +
+                     "WHERE Category = ? AND RollupDate >= ? AND RollupDate <= ? " +
+                     "GROUP BY RollupDate";
+
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, category.name());
+            stmt.setDate(2, Date.valueOf(start));
+            stmt.setDate(3, Date.valueOf(end));
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    LocalDate day = rs.getDate("RollupDate").toLocalDate();
+                    String label = bucketLabel(bucketStart(day, granularity), granularity);
+                    trend.merge(label, rs.getDouble("Total"), Double::sum);
+                }
+            }
+
+        } catch (SQLException e) {
+            LOG.error("Error getting rollup trend for " + category, e);
+        }
+        return trend;
+    }
+
+    /**
+     * Monthly totals of a category across the whole history
+     *
+     * @return Map of "MMM yyyy" to amount, in chronological order
+     */
+    public Map<String, Double> getMonthlyTotals(Category category) {
+        Map<String, Double> monthly = new LinkedHashMap<>();
+        String sql = "SELECT YEAR(RollupDate) AS Y, MONTH(RollupDate) AS M, SUM(Amount) AS Total " +
+                     "FROM DailyRollups WHERE Category = ? " +
+                     "GROUP BY YEAR(RollupDate), MONTH(RollupDate) " +
+                     "ORDER BY YEAR(RollupDate), MONTH(RollupDate)";
+
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, category.name());
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    LocalDate month = LocalDate.of(rs.getInt("Y"), rs.getInt("M"), 1);
+                    monthly.put(bucketLabel(month, Granularity.MONTH), rs.getDouble("Total"));
+                }
+            }
+
+        } catch (SQLException e) {
+            LOG.error("Error getting monthly rollups for " + category, e);
+        }
+        return monthly;
+    }
+
+    /**
+     * Rebuild rollups for a date range (inclusive) from the raw tables.
+     * Replaces whatever the incremental updates produced for those days.
+     */
+    public boolean compact(LocalDate start, LocalDate end) {
+        Connection conn = null;
+        try {
+            conn = DatabaseUtil.getConnection();
+            conn.setAutoCommit(false);
+
+            rebuild(conn, start, end);
+
+            conn.commit();
+            LOG.info("Daily rollups compacted for " + start + " to " + end);
+            return true;
+
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException ex) {
+                    LOG.error("Error rolling back transaction", ex);
+                }
+            }
+            LOG.error("Error compacting daily rollups", e);
+            return false;
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                    conn.close();
+                } catch (SQLException e) {
+                    LOG.error("Error closing connection", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replace the rollups of a date range (inclusive) with totals recomputed from the raw
+     * tables, on the caller's connection and transaction
+     */
+    public void rebuild(Connection conn, LocalDate start, LocalDate end) throws SQLException {
+        Date from = Date.valueOf(start);
+        Date to = Date.valueOf(end.plusDays(1));
+
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "DELETE FROM DailyRollups WHERE RollupDate >= ? AND RollupDate < ?")) {
+            stmt.setDate(1, from);
+            stmt.setDate(2, to);
+            stmt.executeUpdate();
+        }
+
+        for (String source : REBUILD_SOURCES) {
+            String sql = "INSERT INTO DailyRollups (RollupDate, EventID, Category, Amount) " + source;
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setDate(1, from);
+                stmt.setDate(2, to);
+                stmt.executeUpdate();
+            }
+        }
+    }
+
+    /**
+     * Start the nightly compaction of the last few days.
+     * Safe to call more than once; only one scheduler is started.
+     */
+    public static synchronized void startNightlyCompaction() {
+        if (compactionScheduler != null) return;
+
+        compactionScheduler = BackgroundExecutors.newScheduler("rollup-compaction");
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime nextRun = now.toLocalDate().atTime(COMPACTION_TIME);
+        if (!nextRun.isAfter(now)) nextRun = nextRun.plusDays(1);
+        long initialDelay = Duration.between(now, nextRun).toMillis();
+
+        compactionScheduler.scheduleAtFixedRate(() -> {
+            try {
+                LocalDate today = LocalDate.now();
+                if (new DailyRollupService().compact(today.minusDays(COMPACTION_WINDOW_DAYS), today)) {
+                    ReportService.notifyRefreshListeners();
+                }
+            } catch (Exception e) {
+                // keep the scheduler alive; tomorrow's run will retry
+                LOG.error("Daily rollup compaction failed", e);
+            }
+        }, initialDelay, TimeUnit.DAYS.toMillis(1), TimeUnit.MILLISECONDS);
+    }
+
+    private static LocalDate bucketStart(LocalDate date, Granularity granularity) {
+        switch (granularity) {
+            case WEEK:  return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH: return date.withDayOfMonth(1);
+            default:    return date;
+        }
+    }
+
+    private static LocalDate nextBucket(LocalDate bucket, Granularity granularity) {
+        switch (granularity) {
+            case WEEK:  return bucket.plusWeeks(1);
+            case MONTH: return bucket.plusMonths(1);
+            default:    return bucket.plusDays(1);
+        }
+    }
+
+    private static String bucketLabel(LocalDate bucket, Granularity granularity) {
+        switch (granularity) {
+            case WEEK:  return "Wk " + bucket.format(DateTimeFormatter.ofPattern("dd MMM yyyy"));
+            case MONTH: return bucket.format(DateTimeFormatter.ofPattern("MMM yyyy"));
+            default:    return bucket.format(DateTimeFormatter.ofPattern("dd MMM yyyy"));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package org.openjfx.service;
+
+import org.openjfx.model.DashboardSnapshot;
+import org.openjfx.util.BackgroundExecutors;
+import org.openjfx.util.DatabaseUtil;
+import org.openjfx.util.Log;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service that loads all dashboard headline numbers in one database round-trip.
+ *
+ * The last snapshot is shared by every caller and kept for a short TTL.
+ * A background refresher keeps it warm so the dashboard can render from a
+ * ready snapshot instead of waiting on the database.
+ */
+public class DashboardSnapshotService {
+
+    private static final Log LOG = Log.get(DashboardSnapshotService.class);
+
+    /** How long a snapshot is served before it is reloaded on demand */
+    private static final long TTL_MILLIS = 15_000;
+
+    /** How often the background refresher reloads the snapshot */
+    private static final long REFRESH_INTERVAL_MILLIS = 30_000;
+
+    /**
+     * One batch, five result sets:
+     * events, confirmed bookings, today's bookings, low stock items, active staff
+     */
+    private static final String SNAPSHOT_BATCH =
+        "SELECT COUNT(*) AS TotalEvents, " +
+        "ISNULL(SUM(CASE WHEN Status IN ('ACTIVE', 'ONGOING', 'UPCOMING') THEN 1 ELSE 0 END), 0) AS ActiveEvents, " +
+        "ISNULL(SUM(TotalSeats), 0) AS TotalSeats " +
+        "FROM Events; " +
+        "SELECT ISNULL(SUM(TotalSeats), 0) AS BookedSeats, ISNULL(SUM(TotalPrice), 0) AS TotalRevenue " +
+        "FROM Bookings WHERE BookingStatus = 'CONFIRMED'; " +
+        "SELECT COUNT(*) AS TodayBookings FROM Bookings " +
+        "WHERE BookingDate >= CAST(GETDATE() AS DATE) AND BookingDate < DATEADD(DAY, 1, CAST(GETDATE() AS DATE)); " +
+        "SELECT COUNT(*) AS LowStockCount FROM InventoryItems WHERE Quantity < MinStockLevel; " +
+        "SELECT COUNT(*) AS ActiveStaffCount FROM Staff WHERE IsActive = 1;";
+
+    private static volatile DashboardSnapshot cachedSnapshot;
+    private static ScheduledExecutorService refreshScheduler;
+
+    /**
+     * Get the current snapshot, reloading it if the cached one is older than the TTL.
+     * Blocks on the database when a reload is needed, so call from a background thread.
+     */
+    public DashboardSnapshot getSnapshot() {
+        DashboardSnapshot snapshot = cachedSnapshot;
+        if (snapshot != null && snapshot.getAgeMillis() < TTL_MILLIS) {
+            return snapshot;
+        }
+        return refresh();
+    }
+
+    /**
+     * Get the last loaded snapshot without touching the database
+     * @return Cached snapshot (possibly older than the TTL), or null if none was loaded yet
+     */
+    public DashboardSnapshot getCachedSnapshot() {
+        return cachedSnapshot;
+    }
+
+    /**
+     * Drop the cached snapshot so the next {@link #getSnapshot()} reloads it
+     */
+    public void invalidate() {
+        cachedSnapshot = null;
+    }
+
+    /**
+     * Reload the snapshot from the database and cache it
+     * @return The new snapshot, or the previous one if loading failed
+     */
+    public DashboardSnapshot refresh() {
+        int totalEvents = 0, activeEvents = 0, totalSeats = 0, bookedSeats = 0;
+        int todayBookings = 0, lowStockCount = 0, activeStaffCount = 0;
+        double totalRevenue = 0.0;
+
+        try (Connection conn = DatabaseUtil.getConnection();
+             Statement stmt = conn.createStatement()) {
+
+            boolean isResultSet = stmt.execute(SNAPSHOT_BATCH);
+            int index = 0;
+
+            while (true) {
+                if (isResultSet) {
+                    try (ResultSet rs = stmt.getResultSet()) {
+                        if (rs.next()) {
+                            switch (index) {
+                                case 0:
+                                    totalEvents = rs.getInt("TotalEvents");
+                                    activeEvents = rs.getInt("ActiveEvents");
+                                    totalSeats = rs.getInt("TotalSeats");
+                                    break;
+                                case 1:
+                                    bookedSeats = rs.getInt("BookedSeats");
+                                    totalRevenue = rs.getDouble("TotalRevenue");
+                                    break;
+                                case 2:
+                                    todayBookings = rs.getInt("TodayBookings");
+                                    break;
+                                case 3:
+                                    lowStockCount = rs.getInt("LowStockCount");
+                                    break;
+                                case 4:
+                                    activeStaffCount = rs.getInt("ActiveStaffCount");
+                                    break;
+                                default:
+                                    break;
+                            }
+                        }
+                    }
+                    index++;
+                } else if (stmt.getUpdateCount() == -1) {
+                    break; // no more results
+                }
+                isResultSet = stmt.getMoreResults();
+            }
+
+            DashboardSnapshot snapshot = new DashboardSnapshot(
+                totalEvents, activeEvents, totalSeats, bookedSeats, todayBookings,
+                totalRevenue, lowStockCount, activeStaffCount, System.currentTimeMillis()
+            );
+            cachedSnapshot = snapshot;
+            return snapshot;
+
+        } catch (SQLException e) {
+            LOG.error("Error loading dashboard snapshot", e);
+        }
+
+        return cachedSnapshot;
+    }
+
+    /**
+     * Start refreshing the snapshot periodically in the background.
+     * Safe to call more than once; only one refresher is started.
+     */
+    public static synchronized void startBackgroundRefresh() {
+        if (refreshScheduler != null) return;
+
+        refreshScheduler = BackgroundExecutors.newScheduler("dashboard-snapshot-refresh");
+
+        refreshScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                new DashboardSnapshotService().refresh();
+            } catch (Exception e) {
+                // keep the refresher alive; the next run will retry
+                LOG.error("Dashboard snapshot refresh failed", e);
+            }
+        }, 0, REFRESH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+}
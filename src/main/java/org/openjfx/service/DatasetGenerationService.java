@@ -0,0 +1,977 @@
+package org.openjfx.service;
+
+import org.openjfx.util.Log;
+import org.openjfx.util.RowLabels;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates a synthetic stadium dataset for load and benchmark runs:
+ * sections with seats, events with EventSections, bookings with clustered seats
+ * (groups sitting together, centre and front rows first), cancellations,
+ * inventory purchases and event expenses. Stored counters (Events.BookedSeats,
+ * EventSections.AvailableCapacity) and DailyRollups are kept consistent.
+ *
+ * The same seed and config always produce the same data. Large tables are written
+ * with JDBC batches (bulk copy on a DatabaseUtil.getBulkInsertConnection connection)
+ * and committed per event, so a failed run keeps the events generated so far.
+ */
+public class DatasetGenerationService {
+
+    private static final Log LOG = Log.get(DatasetGenerationService.class);
+
+    private static final String[] FIRST_NAMES = {
+        "Andi", "Budi", "Citra", "Dewi", "Eko", "Fajar", "Gita", "Hadi", "Indah", "Joko",
+        "Kartika", "Lukman", "Maya", "Nanda", "Oki", "Putri", "Rizky", "Sari", "Teguh", "Wulan"
+    };
+    private static final String[] LAST_NAMES = {
+        "Pratama", "Saputra", "Wijaya", "Lestari", "Santoso", "Kusuma", "Hidayat", "Nugroho",
+        "Siregar", "Harahap", "Setiawan", "Rahmawati", "Gunawan", "Susanto"
+    };
+    private static final String[] CLUBS = {
+        "Persija", "Persib", "Arema", "Persebaya", "PSM", "Bali United", "PSIS", "Persik",
+        "Borneo FC", "Dewa United", "Madura United", "PSS Sleman"
+    };
+    private static final String[] ARTISTS = {
+        "Sheila on 7", "Dewa 19", "Noah", "Tulus", "Raisa", "Slank", "Padi Reborn", "Kotak"
+    };
+    private static final String[] SUPPLIERS = {
+        "CV Sumber Makmur", "PT Sinar Jaya", "UD Berkah Abadi", "PT Mitra Stadion"
+    };
+    private static final String[][] INVENTORY_ITEMS = {
+        // name, category, unit price
+        {"Football Ball", "Sports Equipment", "150000"},
+        {"Goal Net", "Sports Equipment", "250000"},
+        {"Mineral Water (carton)", "Food & Beverage", "45000"},
+        {"Beverage Cups (pack)", "Food & Beverage", "8000"},
+        {"Cleaning Liquid", "Cleaning Supplies", "35000"},
+        {"Medical Aid Kit", "Medical Supplies", "50000"},
+        {"Plastic Chair", "Furniture", "200000"},
+        {"Safety Barrier", "Safety Equipment", "400000"}
+    };
+    private static final String[] EXPENSE_TYPES = {"OPERATIONAL", "OPERATIONAL", "OPERATIONAL", "INVENTORY_DAMAGE"};
+
+    /** Booking group sizes and their weights: mostly pairs and families */
+    private static final int[] GROUP_SIZES = {1, 2, 3, 4, 5, 6};
+    private static final int[] GROUP_WEIGHTS = {15, 35, 15, 20, 8, 7};
+    private static final int GROUP_WEIGHT_TOTAL = 100;
+
+    /** Seats per row the generator accepts, so rows x seats of a section (seat positions) fits an int */
+    private static final int MAX_SEATS_PER_ROW = Integer.MAX_VALUE / RowLabels.MAX_ROW;
+
+    private static final String PURCHASE_SQL =
+        "INSERT INTO InventoryPurchases (ItemID, EventID, Quantity, UnitCost, TotalCost, PurchaseDate, " +
+        "Supplier, Notes, CreatedAt) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int MAX_PLACEMENT_FAILURES = 64;
+    private static final DateTimeFormatter NUMBER_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    /**
+     * Generator settings; the defaults give about 2 million BookingSeats
+     */
+    public static class Config {
+        private long seed = 42L;
+        private int tribuneSections = 24;
+        private int fieldSections = 4;
+        private int minRows = 20;
+        private int maxRows = 50;
+        private int minSeatsPerRow = 20;
+        private int maxSeatsPerRow = 50;
+        private int fieldCapacity = 2000;
+        private int events = 100;
+        private int historyDays = 365;
+        private int futureDays = 60;
+        private int salesWindowDays = 45;
+        private double minFill = 0.35;
+        private double maxFill = 0.95;
+        private double cancellationRate = 0.08;
+        private int purchasesPerEvent = 3;
+        private int expensesPerEvent = 4;
+        private int generalPurchases = 100;
+        private int batchSize = 5000;
+
+        public long getSeed() { return seed; }
+        public void setSeed(long seed) { this.seed = seed; }
+        public int getTribuneSections() { return tribuneSections; }
+        public void setTribuneSections(int tribuneSections) { this.tribuneSections = tribuneSections; }
+        public int getFieldSections() { return fieldSections; }
+        public void setFieldSections(int fieldSections) { this.fieldSections = fieldSections; }
+        public int getMinRows() { return minRows; }
+        public void setMinRows(int minRows) { this.minRows = minRows; }
+        public int getMaxRows() { return maxRows; }
+        public void setMaxRows(int maxRows) { this.maxRows = maxRows; }
+        public int getMinSeatsPerRow() { return minSeatsPerRow; }
+        public void setMinSeatsPerRow(int minSeatsPerRow) { this.minSeatsPerRow = minSeatsPerRow; }
+        public int getMaxSeatsPerRow() { return maxSeatsPerRow; }
+        public void setMaxSeatsPerRow(int maxSeatsPerRow) { this.maxSeatsPerRow = maxSeatsPerRow; }
+        public int getFieldCapacity() { return fieldCapacity; }
+        public void setFieldCapacity(int fieldCapacity) { this.fieldCapacity = fieldCapacity; }
+        public int getEvents() { return events; }
+        public void setEvents(int events) { this.events = events; }
+        public int getHistoryDays() { return historyDays; }
+        public void setHistoryDays(int historyDays) { this.historyDays = historyDays; }
+        public int getFutureDays() { return futureDays; }
+        public void setFutureDays(int futureDays) { this.futureDays = futureDays; }
+        public int getSalesWindowDays() { return salesWindowDays; }
+        public void setSalesWindowDays(int salesWindowDays) { this.salesWindowDays = salesWindowDays; }
+        public double getMinFill() { return minFill; }
+        public void setMinFill(double minFill) { this.minFill = minFill; }
+        public double getMaxFill() { return maxFill; }
+        public void setMaxFill(double maxFill) { this.maxFill = maxFill; }
+        public double getCancellationRate() { return cancellationRate; }
+        public void setCancellationRate(double cancellationRate) { this.cancellationRate = cancellationRate; }
+        public int getPurchasesPerEvent() { return purchasesPerEvent; }
+        public void setPurchasesPerEvent(int purchasesPerEvent) { this.purchasesPerEvent = purchasesPerEvent; }
+        public int getExpensesPerEvent() { return expensesPerEvent; }
+        public void setExpensesPerEvent(int expensesPerEvent) { this.expensesPerEvent = expensesPerEvent; }
+        public int getGeneralPurchases() { return generalPurchases; }
+        public void setGeneralPurchases(int generalPurchases) { this.generalPurchases = generalPurchases; }
+        public int getBatchSize() { return batchSize; }
+        public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+        /**
+         * Check the settings; returns an error message or null when valid
+         */
+        public String validate() {
+            if (tribuneSections < 0 || fieldSections < 0 || tribuneSections + fieldSections == 0) {
+                return "at least one section is required";
+            }
+            if (minRows < 1 || maxRows < minRows || minSeatsPerRow < 1 || maxSeatsPerRow < minSeatsPerRow) {
+                return "invalid row/seat ranges";
+            }
+            if (maxRows > RowLabels.MAX_ROW || maxSeatsPerRow > MAX_SEATS_PER_ROW) {
+                return "rows are limited to " + RowLabels.MAX_ROW + " and seats per row to " + MAX_SEATS_PER_ROW;
+            }
+            if (events < 1 || historyDays < 0 || futureDays < 0 || salesWindowDays < 1) {
+                return "invalid event count or date range";
+            }
+            if (minFill < 0 || maxFill > 1 || maxFill < minFill) {
+                return "fill ratios must satisfy 0 <= minFill <= maxFill <= 1";
+            }
+            if (cancellationRate < 0 || cancellationRate >= 1) {
+                return "cancellationRate must be in [0, 1)";
+            }
+            if (batchSize < 1) {
+                return "batchSize must be positive";
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Row counts written by one run
+     */
+    public static class Summary {
+        private int sections;
+        private int seats;
+        private int events;
+        private int eventSections;
+        private int bookings;
+        private int cancelledBookings;
+        private long bookingSeats;
+        private int purchases;
+        private int expenses;
+        private long millis;
+
+        public int getSections() { return sections; }
+        public int getSeats() { return seats; }
+        public int getEvents() { return events; }
+        public int getEventSections() { return eventSections; }
+        public int getBookings() { return bookings; }
+        public int getCancelledBookings() { return cancelledBookings; }
+        public long getBookingSeats() { return bookingSeats; }
+        public int getPurchases() { return purchases; }
+        public int getExpenses() { return expenses; }
+        public long getMillis() { return millis; }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "%,d sections, %,d seats, %,d events, %,d event sections, %,d bookings (%,d cancelled), " +
+                "%,d booking seats, %,d purchases, %,d expenses in %,d ms",
+                sections, seats, events, eventSections, bookings, cancelledBookings,
+                bookingSeats, purchases, expenses, millis);
+        }
+    }
+
+    /**
+     * A generated section: layout, popularity and seat IDs by position
+     */
+    private static class SectionPlan {
+        int sectionId;
+        final String name;
+        final boolean tribune;
+        final int rows;
+        final int seatsPerRow;
+        final int capacity;
+        final double demand;
+        final double priceFactor;
+        int[] seatIds;
+
+        SectionPlan(String name, boolean tribune, int rows, int seatsPerRow, int capacity,
+                    double demand, double priceFactor) {
+            this.name = name;
+            this.tribune = tribune;
+            this.rows = rows;
+            this.seatsPerRow = seatsPerRow;
+            this.capacity = capacity;
+            this.demand = demand;
+            this.priceFactor = priceFactor;
+        }
+    }
+
+    /**
+     * A generated event and its per-section prices
+     */
+    private static class EventPlan {
+        int eventId;
+        final LocalDateTime start;
+        final double fill;
+        final double basePrice;
+        final int[] eventSectionIds;
+        final double[] prices;
+
+        EventPlan(LocalDateTime start, double fill, double basePrice, int sectionCount) {
+            this.start = start;
+            this.fill = fill;
+            this.basePrice = basePrice;
+            this.eventSectionIds = new int[sectionCount];
+            this.prices = new double[sectionCount];
+        }
+    }
+
+    /**
+     * A booking of one event in one section; seats holds seat positions (tribunes)
+     */
+    private static class BookingDraft {
+        final String number;
+        final int section;
+        final int[] seats;
+        final int ticketCount;
+        final boolean cancelled;
+        final Timestamp bookedAt;
+        final String customerName;
+        final String customerEmail;
+        final String customerPhone;
+
+        BookingDraft(String number, int section, int[] seats, int ticketCount, boolean cancelled,
+                     Timestamp bookedAt, String customerName, String customerEmail, String customerPhone) {
+            this.number = number;
+            this.section = section;
+            this.seats = seats;
+            this.ticketCount = ticketCount;
+            this.cancelled = cancelled;
+            this.bookedAt = bookedAt;
+            this.customerName = customerName;
+            this.customerEmail = customerEmail;
+            this.customerPhone = customerPhone;
+        }
+    }
+
+    private final Config config;
+    private final LocalDateTime now;
+
+    public DatasetGenerationService(Config config) {
+        this(config, LocalDate.now().atTime(12, 0));
+    }
+
+    /**
+     * @param now reference time for "past" and "future" events; fix it to reproduce a dataset exactly
+     */
+    public DatasetGenerationService(Config config, LocalDateTime now) {
+        this.config = config;
+        this.now = now;
+    }
+
+    /**
+     * Generate the dataset on the given connection (SQL Server or EmbeddedDatabase).
+     * Auto-commit is switched off during the run and restored afterwards.
+     */
+    public Summary generate(Connection conn) throws SQLException {
+        String invalid = config.validate();
+        if (invalid != null) {
+            throw new IllegalArgumentException("Invalid dataset config: " + invalid);
+        }
+
+        long started = System.currentTimeMillis();
+        Summary summary = new Summary();
+        Random random = new Random(config.seed);
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+
+        try {
+            List<SectionPlan> sections = planSections(random);
+            insertSections(conn, sections, summary);
+            conn.commit();
+            LOG.info(summary.sections + " sections with " + summary.seats + " seats");
+
+            int[] itemIds = ensureInventoryItems(conn);
+            double[] itemPrices = loadItemPrices(conn, itemIds);
+            conn.commit();
+
+            List<EventPlan> events = planEvents(random, sections.size());
+            insertEvents(conn, events, sections, summary);
+            conn.commit();
+            LOG.info(summary.events + " events with " + summary.eventSections + " event sections");
+
+            Map<String, Integer> sequences = loadBookingSequences(conn);
+            for (int e = 0; e < events.size(); e++) {
+                EventPlan event = events.get(e);
+                generateBookings(conn, event, sections, sequences, random, summary);
+                insertEventCosts(conn, event, itemIds, itemPrices, random, summary);
+                conn.commit();
+                if ((e + 1) % 10 == 0 || e + 1 == events.size()) {
+                    LOG.info(String.format("%d/%d events, %,d bookings, %,d booking seats",
+                                           e + 1, events.size(), summary.bookings, summary.bookingSeats));
+                }
+            }
+
+            insertGeneralPurchases(conn, itemIds, itemPrices, random, summary);
+            conn.commit();
+
+            LocalDate first = now.toLocalDate().minusDays(config.historyDays + config.salesWindowDays);
+            new DailyRollupService().rebuild(conn, first, now.toLocalDate());
+            conn.commit();
+            LOG.info("Daily rollups rebuilt from " + first);
+
+        } catch (SQLException | RuntimeException e) {
+            try {
+                conn.rollback();
+            } catch (SQLException ex) {
+                LOG.error("Error rolling back transaction", ex);
+            }
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+
+        // New sections and seats replace whatever this process had cached
+        StadiumConfigCache.invalidateAll();
+        EventSectionCache.invalidateAll();
+        summary.millis = System.currentTimeMillis() - started;
+        return summary;
+    }
+
+    // ==================== Sections and seats ====================
+
+    private List<SectionPlan> planSections(Random random) {
+        List<SectionPlan> sections = new ArrayList<>();
+        int tribunes = config.tribuneSections;
+        for (int i = 0; i < tribunes; i++) {
+            int rows = between(random, config.minRows, config.maxRows);
+            int seatsPerRow = between(random, config.minSeatsPerRow, config.maxSeatsPerRow);
+            // Sections around the halfway line (middle of the list) sell first and cost more
+            double distance = tribunes == 1 ? 0 : Math.abs(i - (tribunes - 1) / 2.0) / ((tribunes - 1) / 2.0);
+            double demand = 1.1 - 0.5 * distance;
+            double priceFactor = 1.6 - 0.8 * distance;
+            sections.add(new SectionPlan(String.format("Tribune %02d", i + 1), true, rows, seatsPerRow,
+                                         rows * seatsPerRow, demand, priceFactor));
+        }
+        for (int i = 0; i < config.fieldSections; i++) {
+            sections.add(new SectionPlan("Field Zone " + (i + 1),
+                                         false, 0, 0, config.fieldCapacity, 0.9, 0.6));
+        }
+        return sections;
+    }
+
+    private void insertSections(Connection conn, List<SectionPlan> sections, Summary summary) throws SQLException {
+        Timestamp createdAt = Timestamp.valueOf(now.minusDays(config.historyDays + config.salesWindowDays + 30L));
+        String sql = "INSERT INTO Sections (SectionName, SectionType, TotalRows, SeatsPerRow, Description, " +
+                     "IsActive, CreatedAt, UpdatedAt) VALUES (?, ?, ?, ?, ?, 1, ?, ?)";
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            for (SectionPlan section : sections) {
+                stmt.setString(1, section.name);
+                stmt.setString(2, section.tribune ? "TRIBUNE" : "FIELD");
+                stmt.setInt(3, section.rows);
+                stmt.setInt(4, section.seatsPerRow);
+                stmt.setString(5, "Generated section");
+                stmt.setTimestamp(6, createdAt);
+                stmt.setTimestamp(7, createdAt);
+                stmt.executeUpdate();
+
+                try (ResultSet keys = stmt.getGeneratedKeys()) {
+                    if (!keys.next()) {
+                        throw new SQLException("No generated key for section " + section.name);
+                    }
+                    section.sectionId = keys.getInt(1);
+                }
+                summary.sections++;
+            }
+        }
+
+        String seatSql = "INSERT INTO Seats (SectionID, RowNumber, SeatNumber, IsActive, CreatedAt) VALUES (?, ?, ?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(seatSql)) {
+            int pending = 0;
+            for (SectionPlan section : sections) {
+                if (!section.tribune) continue;
+                for (int row = 1; row <= section.rows; row++) {
+                    String label = RowLabels.rowLabel(row);
+                    for (int seat = 1; seat <= section.seatsPerRow; seat++) {
+                        stmt.setInt(1, section.sectionId);
+                        stmt.setString(2, label);
+                        stmt.setInt(3, seat);
+                        stmt.setBoolean(4, true);
+                        stmt.setTimestamp(5, createdAt);
+                        stmt.addBatch();
+                        if (++pending == config.batchSize) {
+                            stmt.executeBatch();
+                            pending = 0;
+                        }
+                    }
+                }
+                summary.seats += section.capacity;
+            }
+            if (pending > 0) {
+                stmt.executeBatch();
+            }
+        }
+
+        for (SectionPlan section : sections) {
+            if (section.tribune) {
+                section.seatIds = loadSeatIds(conn, section);
+            }
+        }
+    }
+
+    /**
+     * Seat IDs of a section by position: index (row - 1) * seatsPerRow + (seat - 1)
+     */
+    private int[] loadSeatIds(Connection conn, SectionPlan section) throws SQLException {
+        int[] seatIds = new int[section.capacity];
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "SELECT SeatID, RowNumber, SeatNumber FROM Seats WHERE SectionID = ?")) {
+            stmt.setInt(1, section.sectionId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    int row = RowLabels.rowIndex(rs.getString(2));
+                    int seat = rs.getInt(3);
+                    if (row >= 1 && row <= section.rows && seat >= 1 && seat <= section.seatsPerRow) {
+                        seatIds[(row - 1) * section.seatsPerRow + seat - 1] = rs.getInt(1);
+                    }
+                }
+            }
+        }
+        return seatIds;
+    }
+
+    // ==================== Events ====================
+
+    private List<EventPlan> planEvents(Random random, int sectionCount) {
+        LocalDate first = now.toLocalDate().minusDays(config.historyDays);
+        int span = config.historyDays + config.futureDays;
+        List<EventPlan> events = new ArrayList<>(config.events);
+
+        for (int i = 0; i < config.events; i++) {
+            // Spread evenly over the range, jittered by a few days
+            long offset = span == 0 ? 0 : Math.round((double) span * i / Math.max(1, config.events - 1));
+            offset = Math.max(0, Math.min(span, offset + random.nextInt(5) - 2));
+            LocalTime time = random.nextInt(3) == 0 ? LocalTime.of(15, 30) : LocalTime.of(19, 30);
+            double fill = config.minFill + (config.maxFill - config.minFill) * random.nextDouble();
+            double basePrice = 50_000 + 10_000 * random.nextInt(16);
+            events.add(new EventPlan(first.plusDays(offset).atTime(time), fill, basePrice, sectionCount));
+        }
+        return events;
+    }
+
+    private void insertEvents(Connection conn, List<EventPlan> events, List<SectionPlan> sections,
+                              Summary summary) throws SQLException {
+        int totalSeats = 0;
+        for (SectionPlan section : sections) {
+            totalSeats += section.capacity;
+        }
+
+        String eventSql = "INSERT INTO Events (EventName, EventType, EventDate, EventTime, Description, Status, " +
+                          "TotalSeats, BookedSeats, CreatedAt, UpdatedAt) VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+        String sectionSql = "INSERT INTO EventSections (EventID, SectionID, SectionTitle, Price, TotalCapacity, " +
+                            "AvailableCapacity, IsActive, CreatedAt, UpdatedAt) VALUES (?, ?, ?, ?, ?, ?, 1, ?, ?)";
+
+        try (PreparedStatement eventStmt = conn.prepareStatement(eventSql, Statement.RETURN_GENERATED_KEYS);
+             PreparedStatement sectionStmt = conn.prepareStatement(sectionSql, Statement.RETURN_GENERATED_KEYS)) {
+
+            for (int i = 0; i < events.size(); i++) {
+                EventPlan event = events.get(i);
+                boolean football = i % 5 != 4;
+                String name = football
+                    ? "Liga 1: " + CLUBS[i % CLUBS.length] + " vs " + CLUBS[(i / CLUBS.length + i + 1) % CLUBS.length]
+                    : ARTISTS[i % ARTISTS.length] + " Live";
+                Timestamp createdAt = Timestamp.valueOf(event.start.minusDays(config.salesWindowDays + 1L));
+
+                eventStmt.setString(1, name + " #" + (i + 1));
+                eventStmt.setString(2, football ? "Football" : "Concert");
+                eventStmt.setDate(3, Date.valueOf(event.start.toLocalDate()));
+                eventStmt.setTime(4, Time.valueOf(event.start.toLocalTime()));
+                eventStmt.setString(5, "Generated event");
+                eventStmt.setString(6, event.start.isBefore(now) ? "Completed" : "Active");
+                eventStmt.setInt(7, totalSeats);
+                eventStmt.setTimestamp(8, createdAt);
+                eventStmt.setTimestamp(9, createdAt);
+                eventStmt.executeUpdate();
+                event.eventId = generatedKey(eventStmt);
+                summary.events++;
+
+                for (int s = 0; s < sections.size(); s++) {
+                    SectionPlan section = sections.get(s);
+                    // Prices rounded to Rp 5,000 like the ones entered in the event form
+                    event.prices[s] = Math.round(event.basePrice * section.priceFactor / 5_000) * 5_000.0;
+
+                    sectionStmt.setInt(1, event.eventId);
+                    sectionStmt.setInt(2, section.sectionId);
+                    sectionStmt.setString(3, section.name);
+                    sectionStmt.setDouble(4, event.prices[s]);
+                    sectionStmt.setInt(5, section.capacity);
+                    sectionStmt.setInt(6, section.capacity);
+                    sectionStmt.setTimestamp(7, createdAt);
+                    sectionStmt.setTimestamp(8, createdAt);
+                    sectionStmt.executeUpdate();
+                    event.eventSectionIds[s] = generatedKey(sectionStmt);
+                    summary.eventSections++;
+                }
+            }
+        }
+    }
+
+    private static int generatedKey(PreparedStatement stmt) throws SQLException {
+        try (ResultSet keys = stmt.getGeneratedKeys()) {
+            if (!keys.next()) {
+                throw new SQLException("No generated key returned");
+            }
+            return keys.getInt(1);
+        }
+    }
+
+    // ==================== Bookings ====================
+
+    /**
+     * Booking numbers already used per day (BK-yyyyMMdd-NNNN), so generated numbers
+     * continue each day's sequence the way BookingService.generateBookingNumber does
+     */
+    private Map<String, Integer> loadBookingSequences(Connection conn) throws SQLException {
+        Map<String, Integer> sequences = new HashMap<>();
+        String sql = "SELECT SUBSTRING(BookingNumber, 4, 8), COUNT(*) FROM Bookings " +
+                     "WHERE BookingNumber LIKE 'BK-%' GROUP BY SUBSTRING(BookingNumber, 4, 8)";
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                sequences.put(rs.getString(1), rs.getInt(2));
+            }
+        }
+        return sequences;
+    }
+
+    private void generateBookings(Connection conn, EventPlan event, List<SectionPlan> sections,
+                                  Map<String, Integer> sequences, Random random, Summary summary) throws SQLException {
+        // Future events have only sold the part of their sales window that has passed
+        LocalDateTime salesStart = event.start.minusDays(config.salesWindowDays);
+        LocalDateTime salesEnd = event.start.isBefore(now) ? event.start : now;
+        if (!salesEnd.isAfter(salesStart)) {
+            return;
+        }
+        double sold = event.start.isBefore(now) ? 1.0
+            : (double) Duration.between(salesStart, now).toMinutes()
+              / Duration.between(salesStart, event.start).toMinutes();
+
+        List<BookingDraft> drafts = new ArrayList<>();
+        int[] booked = new int[sections.size()];
+
+        for (int s = 0; s < sections.size(); s++) {
+            SectionPlan section = sections.get(s);
+            int target = (int) Math.min(section.capacity, Math.round(section.capacity * event.fill * section.demand * sold));
+            if (section.tribune) {
+                booked[s] = placeTribuneBookings(section, s, target, salesStart, salesEnd, sequences, random, drafts);
+            } else {
+                booked[s] = placeStandingBookings(s, target, salesStart, salesEnd, sequences, random, drafts);
+            }
+        }
+
+        if (drafts.isEmpty()) {
+            return;
+        }
+
+        insertBookingDrafts(conn, event, sections, drafts, summary);
+        updateCounters(conn, event, sections, booked);
+    }
+
+    /**
+     * Place groups in a tribune: each group sits together in one row, rows near the pitch
+     * and seats near the middle of the row first. Cancelled bookings free their seats again.
+     * Returns the number of seats left booked.
+     */
+    private int placeTribuneBookings(SectionPlan section, int sectionIndex, int target,
+                                     LocalDateTime salesStart, LocalDateTime salesEnd,
+                                     Map<String, Integer> sequences, Random random, List<BookingDraft> drafts) {
+        boolean[] taken = new boolean[section.capacity];
+        int booked = 0;
+        int failures = 0;
+
+        while (booked < target && failures < MAX_PLACEMENT_FAILURES) {
+            int size = Math.min(groupSize(random), target - booked);
+            int row = Math.min(section.rows - 1, (int) (section.rows * Math.pow(random.nextDouble(), 1.5)));
+            int start = findRun(taken, row * section.seatsPerRow, section.seatsPerRow, size);
+            if (start < 0) {
+                failures++;
+                continue;
+            }
+            failures = 0;
+
+            int[] seats = new int[size];
+            for (int k = 0; k < size; k++) {
+                seats[k] = start + k;
+            }
+            boolean cancelled = random.nextDouble() < config.cancellationRate;
+            if (!cancelled) {
+                for (int seat : seats) {
+                    taken[seat] = true;
+                }
+                booked += size;
+            }
+            drafts.add(newDraft(sectionIndex, seats, size, cancelled, salesStart, salesEnd, sequences, random));
+        }
+        return booked;
+    }
+
+    /**
+     * First free run of the given length in a row, searching outwards from the middle
+     */
+    private static int findRun(boolean[] taken, int rowStart, int seatsPerRow, int length) {
+        if (length > seatsPerRow) return -1;
+        int middle = (seatsPerRow - length) / 2;
+        for (int d = 0; d <= seatsPerRow; d++) {
+            int left = middle - d;
+            int right = middle + d;
+            if (left < 0 && right > seatsPerRow - length) break;
+            if (left >= 0 && isFree(taken, rowStart + left, length)) return rowStart + left;
+            if (d > 0 && right <= seatsPerRow - length && isFree(taken, rowStart + right, length)) return rowStart + right;
+        }
+        return -1;
+    }
+
+    private static boolean isFree(boolean[] taken, int from, int length) {
+        for (int i = from; i < from + length; i++) {
+            if (taken[i]) return false;
+        }
+        return true;
+    }
+
+    private int placeStandingBookings(int sectionIndex, int target, LocalDateTime salesStart, LocalDateTime salesEnd,
+                                      Map<String, Integer> sequences, Random random, List<BookingDraft> drafts) {
+        int booked = 0;
+        while (booked < target) {
+            int size = Math.min(groupSize(random), target - booked);
+            boolean cancelled = random.nextDouble() < config.cancellationRate;
+            if (!cancelled) {
+                booked += size;
+            }
+            drafts.add(newDraft(sectionIndex, null, size, cancelled, salesStart, salesEnd, sequences, random));
+        }
+        return booked;
+    }
+
+    private static int groupSize(Random random) {
+        int pick = random.nextInt(GROUP_WEIGHT_TOTAL);
+        for (int i = 0; i < GROUP_SIZES.length; i++) {
+            pick -= GROUP_WEIGHTS[i];
+            if (pick < 0) return GROUP_SIZES[i];
+        }
+        return 1;
+    }
+
+    private BookingDraft newDraft(int sectionIndex, int[] seats, int ticketCount, boolean cancelled,
+                                  LocalDateTime salesStart, LocalDateTime salesEnd,
+                                  Map<String, Integer> sequences, Random random) {
+        // Sales pick up towards the event: squaring the fraction skews bookings to the end of the window
+        long windowMinutes = Duration.between(salesStart, salesEnd).toMinutes();
+        double u = random.nextDouble();
+        LocalDateTime bookedAt = salesStart.plusMinutes((long) (windowMinutes * (1 - u * u)));
+        LocalDate day = bookedAt.toLocalDate();
+
+        int sequence = sequences.merge(day.format(NUMBER_DATE), 1, Integer::sum);
+        String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        String number = BookingService.formatBookingNumber(day, sequence);
+
+        return new BookingDraft(number, sectionIndex, seats, ticketCount, cancelled,
+                                Timestamp.valueOf(bookedAt), first + " " + last,
+                                (first + "." + last).toLowerCase() + random.nextInt(1000) + "@example.com",
+                                "08" + (1_000_000_000L + random.nextInt(1_000_000_000)));
+    }
+
+    private void insertBookingDrafts(Connection conn, EventPlan event, List<SectionPlan> sections,
+                                     List<BookingDraft> drafts, Summary summary) throws SQLException {
+        String bookingSql = "INSERT INTO Bookings (EventID, BookingNumber, CustomerName, CustomerEmail, CustomerPhone, " +
+                            "TotalSeats, TotalPrice, BookingStatus, PaymentStatus, BookingDate, CreatedAt, UpdatedAt) " +
+                            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        try (PreparedStatement stmt = conn.prepareStatement(bookingSql)) {
+            int pending = 0;
+            for (BookingDraft draft : drafts) {
+                double price = event.prices[draft.section];
+                stmt.setInt(1, event.eventId);
+                stmt.setString(2, draft.number);
+                stmt.setString(3, draft.customerName);
+                stmt.setString(4, draft.customerEmail);
+                stmt.setString(5, draft.customerPhone);
+                stmt.setInt(6, draft.ticketCount);
+                stmt.setDouble(7, price * draft.ticketCount);
+                stmt.setString(8, draft.cancelled ? "CANCELLED" : "CONFIRMED");
+                stmt.setString(9, draft.cancelled ? "Refunded" : "Paid");
+                stmt.setTimestamp(10, draft.bookedAt);
+                stmt.setTimestamp(11, draft.bookedAt);
+                stmt.setTimestamp(12, draft.bookedAt);
+                stmt.addBatch();
+                if (++pending == config.batchSize) {
+                    stmt.executeBatch();
+                    pending = 0;
+                }
+                summary.bookings++;
+                if (draft.cancelled) summary.cancelledBookings++;
+            }
+            if (pending > 0) {
+                stmt.executeBatch();
+            }
+        }
+
+        // Batched inserts return no keys: read the IDs back by booking number
+        Map<String, Integer> bookingIds = new HashMap<>(drafts.size() * 2);
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "SELECT BookingID, BookingNumber FROM Bookings WHERE EventID = ?")) {
+            stmt.setInt(1, event.eventId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    bookingIds.put(rs.getString(2), rs.getInt(1));
+                }
+            }
+        }
+
+        String seatSql = "INSERT INTO BookingSeats (BookingID, EventID, SectionID, SeatID, RowNumber, SeatNumber, " +
+                         "Price, Status, CreatedAt) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        try (PreparedStatement stmt = conn.prepareStatement(seatSql)) {
+            int pending = 0;
+            for (BookingDraft draft : drafts) {
+                Integer bookingId = bookingIds.get(draft.number);
+                if (bookingId == null) {
+                    throw new SQLException("Generated booking " + draft.number + " not found after insert");
+                }
+                SectionPlan section = sections.get(draft.section);
+
+                for (int k = 0; k < draft.ticketCount; k++) {
+                    stmt.setInt(1, bookingId);
+                    stmt.setInt(2, event.eventId);
+                    stmt.setInt(3, section.sectionId);
+                    if (draft.seats != null) {
+                        int position = draft.seats[k];
+                        stmt.setInt(4, section.seatIds[position]);
+                        stmt.setString(5, RowLabels.rowLabel(position / section.seatsPerRow + 1));
+                        stmt.setInt(6, position % section.seatsPerRow + 1);
+                    } else {
+                        stmt.setNull(4, Types.INTEGER);
+                        stmt.setNull(5, Types.NVARCHAR);
+                        stmt.setNull(6, Types.INTEGER);
+                    }
+                    stmt.setDouble(7, event.prices[draft.section]);
+                    stmt.setString(8, draft.cancelled ? "CANCELLED" : "BOOKED");
+                    stmt.setTimestamp(9, draft.bookedAt);
+                    stmt.addBatch();
+                    if (++pending == config.batchSize) {
+                        stmt.executeBatch();
+                        pending = 0;
+                    }
+                    summary.bookingSeats++;
+                }
+            }
+            if (pending > 0) {
+                stmt.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * Store the counters the booking transactions maintain (see migration 10)
+     */
+    private void updateCounters(Connection conn, EventPlan event, List<SectionPlan> sections,
+                                int[] booked) throws SQLException {
+        int total = Arrays.stream(booked).sum();
+        try (PreparedStatement stmt = conn.prepareStatement("UPDATE Events SET BookedSeats = ? WHERE EventID = ?")) {
+            stmt.setInt(1, total);
+            stmt.setInt(2, event.eventId);
+            stmt.executeUpdate();
+        }
+
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "UPDATE EventSections SET AvailableCapacity = ? WHERE EventSectionID = ?")) {
+            for (int s = 0; s < sections.size(); s++) {
+                if (booked[s] == 0) continue;
+                stmt.setInt(1, sections.get(s).capacity - booked[s]);
+                stmt.setInt(2, event.eventSectionIds[s]);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    // ==================== Inventory and expenses ====================
+
+    /**
+     * Inventory item IDs to buy from; the generator's items are added if the table is empty
+     */
+    private int[] ensureInventoryItems(Connection conn) throws SQLException {
+        int[] existing = loadItemIds(conn);
+        if (existing.length > 0) {
+            return existing;
+        }
+
+        String sql = "INSERT INTO InventoryItems (ItemName, Description, Category, Quantity, MinStockLevel, " +
+                     "UnitPrice, Location) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (String[] item : INVENTORY_ITEMS) {
+                stmt.setString(1, item[0]);
+                stmt.setString(2, "Generated item");
+                stmt.setString(3, item[1]);
+                stmt.setInt(4, 100);
+                stmt.setInt(5, 10);
+                stmt.setDouble(6, Double.parseDouble(item[2]));
+                stmt.setString(7, "Main Warehouse");
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+        return loadItemIds(conn);
+    }
+
+    private int[] loadItemIds(Connection conn) throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT ItemID FROM InventoryItems ORDER BY ItemID")) {
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+        }
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private double[] loadItemPrices(Connection conn, int[] itemIds) throws SQLException {
+        Map<Integer, Double> prices = new HashMap<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT ItemID, UnitPrice FROM InventoryItems")) {
+            while (rs.next()) {
+                prices.put(rs.getInt(1), rs.getDouble(2));
+            }
+        }
+
+        double[] result = new double[itemIds.length];
+        for (int i = 0; i < itemIds.length; i++) {
+            double price = prices.getOrDefault(itemIds[i], 0.0);
+            result[i] = price > 0 ? price : 10_000.0;
+        }
+        return result;
+    }
+
+    private void insertEventCosts(Connection conn, EventPlan event, int[] itemIds, double[] itemPrices,
+                                  Random random, Summary summary) throws SQLException {
+        LocalDateTime prepared = event.start.minusDays(7);
+        if (prepared.isAfter(now)) {
+            return;
+        }
+
+        try (PreparedStatement stmt = conn.prepareStatement(PURCHASE_SQL)) {
+            for (int i = 0; i < config.purchasesPerEvent; i++) {
+                int item = random.nextInt(itemIds.length);
+                addPurchase(stmt, event.eventId, itemIds[item], itemPrices[item],
+                            prepared.plusHours(random.nextInt(6 * 24)), random);
+                summary.purchases++;
+            }
+            stmt.executeBatch();
+        }
+
+        // Expenses are booked on the event day (EventExpenses.CreatedAt drives the rollups)
+        LocalDateTime spent = event.start.isBefore(now) ? event.start : now;
+        String sql = "INSERT INTO EventExpenses (EventID, ExpenseType, ItemID, Quantity, UnitCost, TotalCost, " +
+                     "Notes, CreatedAt) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < config.expensesPerEvent; i++) {
+                String type = EXPENSE_TYPES[random.nextInt(EXPENSE_TYPES.length)];
+                stmt.setInt(1, event.eventId);
+                stmt.setString(2, type);
+                if ("INVENTORY_DAMAGE".equals(type)) {
+                    int item = random.nextInt(itemIds.length);
+                    int quantity = 1 + random.nextInt(5);
+                    stmt.setInt(3, itemIds[item]);
+                    stmt.setInt(4, quantity);
+                    stmt.setDouble(5, itemPrices[item]);
+                    stmt.setDouble(6, itemPrices[item] * quantity);
+                    stmt.setString(7, "Damaged during event");
+                } else {
+                    double cost = 500_000 + 250_000 * random.nextInt(20);
+                    stmt.setNull(3, Types.INTEGER);
+                    stmt.setInt(4, 1);
+                    stmt.setDouble(5, cost);
+                    stmt.setDouble(6, cost);
+                    stmt.setString(7, random.nextBoolean() ? "Security staff" : "Cleaning crew");
+                }
+                stmt.setTimestamp(8, Timestamp.valueOf(spent));
+                stmt.addBatch();
+                summary.expenses++;
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    private void insertGeneralPurchases(Connection conn, int[] itemIds, double[] itemPrices,
+                                        Random random, Summary summary) throws SQLException {
+        LocalDateTime first = now.minusDays(config.historyDays);
+        long minutes = Duration.between(first, now).toMinutes();
+
+        try (PreparedStatement stmt = conn.prepareStatement(PURCHASE_SQL)) {
+            for (int i = 0; i < config.generalPurchases; i++) {
+                int item = random.nextInt(itemIds.length);
+                long at = minutes == 0 ? 0 : (long) (random.nextDouble() * minutes);
+                addPurchase(stmt, null, itemIds[item], itemPrices[item], first.plusMinutes(at), random);
+                summary.purchases++;
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    private void addPurchase(PreparedStatement stmt, Integer eventId, int itemId, double unitCost,
+                             LocalDateTime at, Random random) throws SQLException {
+        int quantity = 5 + random.nextInt(46);
+        Timestamp timestamp = Timestamp.valueOf(at);
+        stmt.setInt(1, itemId);
+        if (eventId != null) {
+            stmt.setInt(2, eventId);
+        } else {
+            stmt.setNull(2, Types.INTEGER);
+        }
+        stmt.setInt(3, quantity);
+        stmt.setDouble(4, unitCost);
+        stmt.setDouble(5, unitCost * quantity);
+        stmt.setTimestamp(6, timestamp);
+        stmt.setString(7, SUPPLIERS[random.nextInt(SUPPLIERS.length)]);
+        stmt.setString(8, eventId != null ? "Event preparation" : "Restock");
+        stmt.setTimestamp(9, timestamp);
+        stmt.addBatch();
+    }
+
+    private static int between(Random random, int min, int max) {
+        return min + random.nextInt(max - min + 1);
+    }
+}
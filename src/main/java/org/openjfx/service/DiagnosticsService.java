@@ -0,0 +1,222 @@
+package org.openjfx.service;
+
+import org.openjfx.model.DiagnosticsSnapshot;
+import org.openjfx.util.BackgroundExecutors;
+import org.openjfx.util.FxWatchdog;
+import org.openjfx.util.JfrRecording;
+import org.openjfx.util.Log;
+import org.openjfx.util.SqlMetrics;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service class for the Diagnostics page
+ * Collects in-memory performance counters (SQL, caches, executors, FX thread, JVM)
+ * into a DiagnosticsSnapshot without touching the database, and exports them to a file.
+ */
+public class DiagnosticsService {
+
+    private static final Log LOG = Log.get(DiagnosticsService.class);
+
+    /** Statements listed on the page and in the export summary */
+    private static final int TOP_STATEMENTS = 10;
+
+    private static final Path EXPORT_DIR = Paths.get("diagnostics");
+
+    private static ScheduledExecutorService refreshScheduler;
+
+    /**
+     * Collect the current numbers (cheap: counters and MXBeans only)
+     */
+    public DiagnosticsSnapshot capture() {
+        List<SqlMetrics.StatementStats> statements = SqlMetrics.getStatements();
+        List<SqlMetrics.StatementStats> top = new ArrayList<>(
+            statements.subList(0, Math.min(TOP_STATEMENTS, statements.size())));
+
+        List<DiagnosticsSnapshot.CacheStats> caches = new ArrayList<>();
+        ReportCache.Stats report = ReportService.getCacheStats();
+        caches.add(new DiagnosticsSnapshot.CacheStats("Report results", report.getHits(), report.getMisses(), report.getSize()));
+        ReportCache.Stats sections = StadiumConfigCache.getSectionStats();
+        caches.add(new DiagnosticsSnapshot.CacheStats("Stadium sections", sections.getHits(), sections.getMisses(), sections.getSize()));
+        ReportCache.Stats layouts = StadiumConfigCache.getLayoutStats();
+        caches.add(new DiagnosticsSnapshot.CacheStats("Seat layouts", layouts.getHits(), layouts.getMisses(), layouts.getSize()));
+        ReportCache.Stats eventSections = EventSectionCache.getStats();
+        caches.add(new DiagnosticsSnapshot.CacheStats("Event sections", eventSections.getHits(), eventSections.getMisses(), eventSections.getSize()));
+
+        // Read before listing the executors: the first call creates the email outbox
+        int emailBacklog = BookingService.getEmailBacklog();
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        MemoryUsage heap = memory.getHeapMemoryUsage();
+        List<DiagnosticsSnapshot.GcStats> gcs = new ArrayList<>();
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcs.add(new DiagnosticsSnapshot.GcStats(gc.getName(), gc.getCollectionCount(), gc.getCollectionTime()));
+        }
+
+        return new DiagnosticsSnapshot(
+            LocalDateTime.now(),
+            SqlMetrics.isEnabled(),
+            SqlMetrics.getConnectionsOpened(),
+            SqlMetrics.getConnectionsOpen(),
+            SqlMetrics.getConnectionFailures(),
+            SqlMetrics.getConnectHistogram().getPercentileMillis(95),
+            top,
+            SqlMetrics.getSlowQueries(),
+            caches,
+            BackgroundExecutors.getStats(),
+            emailBacklog,
+            DomainEventBus.getSubscriberCount(),
+            DomainEventBus.getPublishedCount(),
+            DomainEventBus.getDeliveredCount(),
+            DomainEventBus.getCoalescedCount(),
+            FxWatchdog.getStallCount(),
+            FxWatchdog.getMaxGapMillis(),
+            FxWatchdog.getJdbcViolations(),
+            heap.getUsed(),
+            heap.getCommitted(),
+            heap.getMax(),
+            memory.getNonHeapMemoryUsage().getUsed(),
+            ManagementFactory.getThreadMXBean().getThreadCount(),
+            ManagementFactory.getRuntimeMXBean().getUptime(),
+            gcs,
+            JfrRecording.isRunning()
+        );
+    }
+
+    /**
+     * Run a task periodically on the shared diagnostics thread (used by the page while it is shown)
+     * @return Future to cancel when the page goes away
+     */
+    public static synchronized ScheduledFuture<?> scheduleRefresh(Runnable task, long periodMillis) {
+        if (refreshScheduler == null) {
+            refreshScheduler = BackgroundExecutors.newScheduler("diagnostics-refresh");
+        }
+        return refreshScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                // keep refreshing; the next run will retry
+                LOG.error("Diagnostics refresh failed", e);
+            }
+        }, 0, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Write the snapshot plus the full SQL and FX thread reports to diagnostics/diagnostics-<timestamp>.txt,
+     * and save the flight recording next to it when one is running
+     * @return Path of the written file, or null on error
+     */
+    public Path export(DiagnosticsSnapshot snapshot) {
+        String stamp = snapshot.getCapturedAt().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path file = EXPORT_DIR.resolve("diagnostics-" + stamp + ".txt");
+
+        StringBuilder sb = new StringBuilder(format(snapshot));
+        if (snapshot.isFlightRecording()) {
+            Path recording = JfrRecording.dump();
+            sb.append("\nFlight recording: ").append(recording != null ? recording.toAbsolutePath() : "(failed)").append('\n');
+        }
+        sb.append("\n").append(SqlMetrics.report());
+        sb.append("\n").append(FxWatchdog.report());
+
+        try {
+            Files.createDirectories(EXPORT_DIR);
+            Files.write(file, sb.toString().getBytes(StandardCharsets.UTF_8));
+            return file;
+        } catch (IOException e) {
+            LOG.error("Error exporting diagnostics", e);
+            return null;
+        }
+    }
+
+    /**
+     * Plain-text summary of a snapshot
+     */
+    public String format(DiagnosticsSnapshot s) {
+        StringWriter out = new StringWriter();
+        PrintWriter pw = new PrintWriter(out);
+
+        pw.println("DIAGNOSTICS SNAPSHOT");
+        pw.println("Captured: " + s.getCapturedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        pw.println("Uptime: " + formatDuration(s.getUptimeMillis()));
+        pw.println();
+
+        pw.println("DATABASE CONNECTIONS (one per call, no pool)");
+        pw.println("Opened: " + s.getConnectionsOpened() + ", open now: " + s.getConnectionsOpen()
+            + ", failed: " + s.getConnectionFailures()
+            + String.format(", connect p95: %.1f ms", s.getConnectP95Millis())
+            + (s.isSqlMetricsEnabled() ? "" : " (SQL_METRICS=false)"));
+        pw.println();
+
+        pw.println("TOP STATEMENTS BY TOTAL TIME");
+        for (SqlMetrics.StatementStats st : s.getTopStatements()) {
+            pw.println(String.format("%10.1f ms  %8d calls  p95 %8.2f ms  %s",
+                st.getTotalMillis(), st.getCalls(), st.getExecute().getPercentileMillis(95), st.getSql()));
+        }
+        pw.println("Slow queries recorded: " + s.getSlowQueries().size());
+        pw.println();
+
+        pw.println("CACHES");
+        for (DiagnosticsSnapshot.CacheStats c : s.getCaches()) {
+            pw.println(String.format("%-24s hits %d, misses %d, hit ratio %.1f%%, entries %d",
+                c.getName(), c.getHits(), c.getMisses(), c.getHitRatio() * 100, c.getSize()));
+        }
+        pw.println();
+
+        pw.println("BACKGROUND EXECUTORS");
+        for (BackgroundExecutors.Stats e : s.getExecutors()) {
+            pw.println(String.format("%-28s queued %d, active %d, completed %d",
+                e.getName(), e.getQueued(), e.getActive(), e.getCompleted()));
+        }
+        pw.println("Email outbox backlog: " + s.getEmailBacklog());
+        pw.println();
+
+        pw.println("DOMAIN EVENTS");
+        pw.println("Live subscriptions: " + s.getEventSubscribers() + ", published: " + s.getEventsPublished()
+            + ", delivered: " + s.getEventsDelivered() + ", coalesced: " + s.getEventsCoalesced());
+        pw.println();
+
+        pw.println("FX THREAD");
+        pw.println("Stalls: " + s.getFxStalls() + ", longest gap: " + s.getFxMaxGapMillis() + " ms");
+        for (Map.Entry<String, Long> v : s.getFxJdbcViolations().entrySet()) {
+            pw.println(String.format("%8d database calls from %s", v.getValue(), v.getKey()));
+        }
+        pw.println();
+
+        pw.println("JVM");
+        pw.println("Heap: " + mb(s.getHeapUsed()) + " used, " + mb(s.getHeapCommitted()) + " committed, "
+            + (s.getHeapMax() > 0 ? mb(s.getHeapMax()) : "unlimited") + " max; non-heap " + mb(s.getNonHeapUsed()));
+        pw.println("Threads: " + s.getThreadCount() + ", flight recording: " + (s.isFlightRecording() ? "on" : "off"));
+        for (DiagnosticsSnapshot.GcStats gc : s.getGarbageCollectors()) {
+            pw.println(String.format("GC %-24s %d collections, %d ms", gc.getName(), gc.getCount(), gc.getTimeMillis()));
+        }
+        pw.flush();
+        return out.toString();
+    }
+
+    public static String mb(long bytes) {
+        return String.format("%.0f MB", bytes / (1024.0 * 1024.0));
+    }
+
+    public static String formatDuration(long millis) {
+        long minutes = millis / 60_000;
+        return String.format("%dh %02dm", minutes / 60, minutes % 60);
+    }
+}
@@ -0,0 +1,191 @@
+package org.openjfx.service;
+
+import org.openjfx.model.DomainEvent;
+import org.openjfx.util.BackgroundExecutors;
+import org.openjfx.util.Log;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * In-process bus for DomainEvents, published by the services after their transaction committed.
+ *
+ * Delivery is asynchronous: publish() only queues the event for each matching subscriber and
+ * returns. A subscriber's queued events are handed over as one list on its executor (the shared
+ * "domain-events" worker, or e.g. Platform::runLater for UI code), and events with the same
+ * coalesce key that are still queued are merged into the newest, so a burst of bookings costs
+ * a view one reload rather than one per booking.
+ *
+ * The bus holds subscribers' owners weakly: a view that is thrown away without cancelling its
+ * subscription is dropped on the next publish. For that to work the handler must not capture
+ * the owner; it receives it as its first argument instead:
+ *   DomainEventBus.subscribe(this, CapacityChanged.class, (grid, events) -> grid.onCapacityChanged(events));
+ */
+public final class DomainEventBus {
+
+    private static final Log LOG = Log.get(DomainEventBus.class);
+
+    /**
+     * Handle to stop receiving events
+     */
+    public interface Subscription {
+        void cancel();
+    }
+
+    private static final List<Subscriber<?, ?>> subscribers = new CopyOnWriteArrayList<>();
+
+    private static Executor defaultExecutor;
+
+    private static final AtomicLong published = new AtomicLong();
+    private static final AtomicLong delivered = new AtomicLong();
+    private static final AtomicLong coalesced = new AtomicLong();
+
+    private DomainEventBus() {}
+
+    /**
+     * Receive events of a type (and its subtypes) on the shared background worker
+     * @param owner Object the subscription belongs to; held weakly
+     * @param handler Called with the owner and the events queued since the last call; must not capture the owner
+     */
+    public static <O, E extends DomainEvent> Subscription subscribe(O owner, Class<E> type,
+                                                                  BiConsumer<O, List<E>> handler) {
+        return subscribe(owner, type, defaultExecutor(), handler);
+    }
+
+    /**
+     * Receive events of a type (and its subtypes) on the given executor
+     */
+    public static <O, E extends DomainEvent> Subscription subscribe(O owner, Class<E> type, Executor executor,
+                                                                  BiConsumer<O, List<E>> handler) {
+        Subscriber<O, E> subscriber = new Subscriber<>(owner, type, executor, handler);
+        subscribers.add(subscriber);
+        return subscriber;
+    }
+
+    /**
+     * Queue an event for every subscriber of its type (call after the change committed)
+     */
+    public static void publish(DomainEvent event) {
+        published.incrementAndGet();
+        for (Subscriber<?, ?> subscriber : subscribers) {
+            if (subscriber.isGone()) {
+                subscribers.remove(subscriber);
+            } else {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    /**
+     * Live subscriptions (owners not yet collected or cancelled)
+     */
+    public static int getSubscriberCount() {
+        int count = 0;
+        for (Subscriber<?, ?> subscriber : subscribers) {
+            if (!subscriber.isGone()) count++;
+        }
+        return count;
+    }
+
+    public static long getPublishedCount() {
+        return published.get();
+    }
+
+    /**
+     * Events handed to subscribers (an event counts once per subscriber)
+     */
+    public static long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    /**
+     * Events merged into a newer queued event with the same key
+     */
+    public static long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    private static synchronized Executor defaultExecutor() {
+        if (defaultExecutor == null) {
+            defaultExecutor = BackgroundExecutors.newWorker("domain-events");
+        }
+        return defaultExecutor;
+    }
+
+    private static final class Subscriber<O, E extends DomainEvent> implements Subscription {
+        private final WeakReference<O> owner;
+        private final Class<E> type;
+        private final Executor executor;
+        private final BiConsumer<O, List<E>> handler;
+        private volatile boolean cancelled;
+
+        // Guarded by this
+        private final Map<Object, E> pending = new LinkedHashMap<>();
+        private boolean scheduled;
+
+        Subscriber(O owner, Class<E> type, Executor executor, BiConsumer<O, List<E>> handler) {
+            this.owner = new WeakReference<>(owner);
+            this.type = type;
+            this.executor = executor;
+            this.handler = handler;
+        }
+
+        boolean isGone() {
+            return cancelled || owner.get() == null;
+        }
+
+        void offer(DomainEvent event) {
+            if (!type.isInstance(event)) return;
+            boolean schedule;
+            synchronized (this) {
+                if (pending.put(event.coalesceKey(), type.cast(event)) != null) {
+                    coalesced.incrementAndGet();
+                }
+                schedule = !scheduled;
+                scheduled = true;
+            }
+            if (schedule) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                List<E> batch;
+                synchronized (this) {
+                    if (pending.isEmpty()) {
+                        scheduled = false;
+                        return;
+                    }
+                    batch = new ArrayList<>(pending.values());
+                    pending.clear();
+                }
+
+                O o = owner.get();
+                if (o == null || cancelled) {
+                    subscribers.remove(this);
+                    continue; // empties the queue and ends the drain
+                }
+                delivered.addAndGet(batch.size());
+                try {
+                    handler.accept(o, batch);
+                } catch (Exception e) {
+                    LOG.error("Domain event handler failed for " + type.getSimpleName(), e);
+                }
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscribers.remove(this);
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package org.openjfx.service;
 
+import org.openjfx.model.DomainEvent;
 import org.openjfx.model.EventExpense;
 import org.openjfx.util.DatabaseUtil;
+import org.openjfx.util.Log;
 import org.openjfx.service.ReportService;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -18,34 +21,53 @@ import java.util.List;
  */
 public class EventExpenseService {
 
+    private static final Log LOG = Log.get(EventExpenseService.class);
+
+    /** Expenses recorded in [from, to) (parameters: two timestamps); public for QueryPlanCheck */
+    public static final String EXPENSES_IN_PERIOD_SQL =
+        "SELECT ISNULL(SUM(TotalCost), 0) FROM EventExpenses WHERE CreatedAt >= ? AND CreatedAt < ?";
+
+    private final DailyRollupService rollupService = new DailyRollupService();
+
     /**
      * Add a new expense record
      */
     public boolean addExpense(EventExpense e) {
         String sql = "INSERT INTO EventExpenses (EventID, ExpenseType, ItemID, Quantity, UnitCost, TotalCost, Notes, CreatedAt) " +
                      "VALUES (?, ?, ?, ?, ?, ?, ?, GETDATE())";
-        try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setInt(1, e.getEventId());
-            stmt.setString(2, e.getExpenseType());
-            if (e.getItemId() != null) stmt.setInt(3, e.getItemId()); else stmt.setNull(3, java.sql.Types.INTEGER);
-            if (e.getQuantity() != null) stmt.setInt(4, e.getQuantity()); else stmt.setNull(4, java.sql.Types.INTEGER);
-            if (e.getUnitCost() != null) stmt.setDouble(5, e.getUnitCost()); else stmt.setNull(5, java.sql.Types.DECIMAL);
-            stmt.setDouble(6, e.getTotalCost());
-            if (e.getNotes() != null) stmt.setString(7, e.getNotes()); else stmt.setNull(7, java.sql.Types.NVARCHAR);
-
-            int rows = stmt.executeUpdate();
-            if (rows > 0) {
-                // notify listeners so UI can refresh charts/reports
-                ReportService.notifyRefreshListeners();
-                return true;
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, e.getEventId());
+                stmt.setString(2, e.getExpenseType());
+                if (e.getItemId() != null) stmt.setInt(3, e.getItemId()); else stmt.setNull(3, java.sql.Types.INTEGER);
+                if (e.getQuantity() != null) stmt.setInt(4, e.getQuantity()); else stmt.setNull(4, java.sql.Types.INTEGER);
+                if (e.getUnitCost() != null) stmt.setDouble(5, e.getUnitCost()); else stmt.setNull(5, java.sql.Types.DECIMAL);
+                stmt.setDouble(6, e.getTotalCost());
+                if (e.getNotes() != null) stmt.setString(7, e.getNotes()); else stmt.setNull(7, java.sql.Types.NVARCHAR);
+
+                if (stmt.executeUpdate() == 0) {
+                    conn.rollback();
+                    return false;
+                }
+
+                // CreatedAt is GETDATE(), so bucket on the server's current date
+                rollupService.applyDelta(conn, null, e.getEventId(),
+                                         DailyRollupService.Category.EVENT_EXPENSES, e.getTotalCost());
+                conn.commit();
+            } catch (SQLException ex) {
+                conn.rollback();
+                throw ex;
             }
-            return false;
+
+            // drop affected report results; listeners are notified once per burst
+            ReportService.notifyDataChanged(e.getEventId(), LocalDate.now());
+            DomainEventBus.publish(new DomainEvent.ExpenseAdded(e.getEventId(), e.getTotalCost()));
+            return true;
 
         } catch (SQLException ex) {
-            System.err.println("Error adding event expense: " + ex.getMessage());
-            ex.printStackTrace();
+            LOG.error("Error adding event expense", ex);
             return false;
         }
     }
@@ -78,8 +100,7 @@ public class EventExpenseService {
             }
 
         } catch (SQLException ex) {
-            System.err.println("Error fetching event expenses: " + ex.getMessage());
-            ex.printStackTrace();
+            LOG.error("Error fetching event expenses", ex);
         }
         return list;
     }
@@ -97,28 +118,25 @@ public class EventExpenseService {
             if (rs.next()) return rs.getDouble(1);
 
         } catch (SQLException ex) {
-            System.err.println("Error summing event expenses: " + ex.getMessage());
-            ex.printStackTrace();
+            LOG.error("Error summing event expenses", ex);
         }
         return 0.0;
     }
 
     /**
-     * Sum expenses in a date range
+     * Sum expenses in a date range (inclusive)
      */
     public double getTotalExpensesInPeriod(LocalDate start, LocalDate end) {
-        String sql = "SELECT ISNULL(SUM(TotalCost), 0) FROM EventExpenses WHERE CAST(CreatedAt AS DATE) BETWEEN ? AND ?";
         try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(EXPENSES_IN_PERIOD_SQL)) {
 
-            stmt.setString(1, start.toString());
-            stmt.setString(2, end.toString());
+            stmt.setTimestamp(1, Timestamp.valueOf(start.atStartOfDay()));
+            stmt.setTimestamp(2, Timestamp.valueOf(end.plusDays(1).atStartOfDay()));
             ResultSet rs = stmt.executeQuery();
             if (rs.next()) return rs.getDouble(1);
 
         } catch (SQLException ex) {
-            System.err.println("Error summing event expenses in period: " + ex.getMessage());
-            ex.printStackTrace();
+            LOG.error("Error summing event expenses in period", ex);
         }
         return 0.0;
     }
@@ -127,19 +145,18 @@ public class EventExpenseService {
      * Sum total expenses for a specific event between dates (inclusive)
      */
     public double getTotalExpensesForEventInPeriod(LocalDate start, LocalDate end, int eventId) {
-        String sql = "SELECT ISNULL(SUM(TotalCost), 0) FROM EventExpenses WHERE EventID = ? AND CAST(CreatedAt AS DATE) BETWEEN ? AND ?";
+        String sql = "SELECT ISNULL(SUM(TotalCost), 0) FROM EventExpenses WHERE EventID = ? AND CreatedAt >= ? AND CreatedAt < ?";
         try (Connection conn = DatabaseUtil.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, eventId);
-            stmt.setString(2, start.toString());
-            stmt.setString(3, end.toString());
+            stmt.setTimestamp(2, Timestamp.valueOf(start.atStartOfDay()));
+            stmt.setTimestamp(3, Timestamp.valueOf(end.plusDays(1).atStartOfDay()));
             ResultSet rs = stmt.executeQuery();
             if (rs.next()) return rs.getDouble(1);
 
         } catch (SQLException ex) {
-            System.err.println("Error summing event expenses for event in period: " + ex.getMessage());
-            ex.printStackTrace();
+            LOG.error("Error summing event expenses for event in period", ex);
         }
         return 0.0;
     }
@@ -0,0 +1,125 @@
+package org.openjfx.service;
+
+import org.openjfx.model.EventReportSummary;
+import org.openjfx.util.DatabaseUtil;
+import org.openjfx.util.Log;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service that computes per-event report figures with grouped queries,
+ * so the cost of a report does not grow with the number of bookings
+ */
+public class EventReportService {
+
+    private static final Log LOG = Log.get(EventReportService.class);
+
+    /**
+     * Summarize tickets, revenue, expenses and the per-section breakdown for an event.
+     * Only CONFIRMED bookings are counted; ticket revenue is the sum of the booked seat prices.
+     *
+     * @param eventId Event to summarize
+     * @param start First day of the period (inclusive), or null for no lower bound
+     * @param end Last day of the period (inclusive), or null for no upper bound
+     * @return Summary, or null if the database could not be reached
+     */
+    public EventReportSummary summarize(int eventId, LocalDate start, LocalDate end) {
+        // 1. Tickets and revenue per section
+        String sectionQuery =
+            "SELECT bs.SectionID, s.SectionName, COUNT(*) AS Tickets, ISNULL(SUM(bs.Price), 0) AS Revenue " +
+            "FROM Bookings b " +
+            "INNER JOIN BookingSeats bs ON bs.BookingID = b.BookingID " +
+            "LEFT JOIN Sections s ON s.SectionID = bs.SectionID " +
+            "WHERE b.EventID = ? AND b.BookingStatus = 'CONFIRMED'" + periodFilter("b.BookingDate", start, end) + " " +
+            "GROUP BY bs.SectionID, s.SectionName " +
+            "ORDER BY s.SectionName";
+
+        // 2. Booking count and both kinds of expenses
+        String totalsQuery =
+            "SELECT " +
+            "(SELECT COUNT(*) FROM Bookings WHERE EventID = ? AND BookingStatus = 'CONFIRMED'" +
+                periodFilter("BookingDate", start, end) + ") AS TotalBookings, " +
+            "(SELECT ISNULL(SUM(TotalCost), 0) FROM InventoryPurchases WHERE EventID = ?" +
+                periodFilter("PurchaseDate", start, end) + ") AS PurchaseExpenses, " +
+            "(SELECT ISNULL(SUM(TotalCost), 0) FROM EventExpenses WHERE EventID = ?" +
+                periodFilter("CreatedAt", start, end) + ") AS EventExpenses";
+
+        List<EventReportSummary.SectionBreakdown> sections = new ArrayList<>();
+        int totalTickets = 0;
+        double totalRevenue = 0.0;
+
+        try (Connection conn = DatabaseUtil.getConnection()) {
+
+            try (PreparedStatement stmt = conn.prepareStatement(sectionQuery)) {
+                stmt.setInt(1, eventId);
+                bindPeriod(stmt, 2, start, end);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        int tickets = rs.getInt("Tickets");
+                        double revenue = rs.getDouble("Revenue");
+                        sections.add(new EventReportSummary.SectionBreakdown(
+                            rs.getInt("SectionID"), rs.getString("SectionName"), tickets, revenue));
+                        totalTickets += tickets;
+                        totalRevenue += revenue;
+                    }
+                }
+            }
+
+            int totalBookings = 0;
+            double purchaseExpenses = 0.0;
+            double eventExpenses = 0.0;
+
+            try (PreparedStatement stmt = conn.prepareStatement(totalsQuery)) {
+                int index = 1;
+                for (int i = 0; i < 3; i++) {
+                    stmt.setInt(index++, eventId);
+                    index = bindPeriod(stmt, index, start, end);
+                }
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        totalBookings = rs.getInt("TotalBookings");
+                        purchaseExpenses = rs.getDouble("PurchaseExpenses");
+                        eventExpenses = rs.getDouble("EventExpenses");
+                    }
+                }
+            }
+
+            return new EventReportSummary(eventId, totalBookings, totalTickets, totalRevenue,
+                                          purchaseExpenses, eventExpenses, sections);
+
+        } catch (SQLException e) {
+            LOG.error("Error summarizing event report", e);
+        }
+
+        return null;
+    }
+
+    /**
+     * Half-open date range predicate on a DATETIME column: column >= start AND column < end + 1 day
+     */
+    private static String periodFilter(String column, LocalDate start, LocalDate end) {
+        StringBuilder sb = new StringBuilder();
+        if (start != null) sb.append(" AND ").append(column).append(" >= ?");
+        if (end != null) sb.append(" AND ").append(column).append(" < ?");
+        return sb.toString();
+    }
+
+    /**
+     * Bind the parameters added by {@link #periodFilter}
+     * @return Next free parameter index
+     */
+    private static int bindPeriod(PreparedStatement stmt, int index, LocalDate start, LocalDate end) throws SQLException {
+        if (start != null) stmt.setTimestamp(index++, Timestamp.valueOf(start.atStartOfDay()));
+        if (end != null) stmt.setTimestamp(index++, Timestamp.valueOf(end.plusDays(1).atStartOfDay()));
+        return index;
+    }
+}
@@ -0,0 +1,196 @@
+package org.openjfx.service;
+
+import org.openjfx.model.EventSection;
+import org.openjfx.util.JfrEvents;
+import org.openjfx.util.Log;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-event cache of the active event sections (prices, capacities, available seats).
+ *
+ * Writes made by this terminal (capacity changes, booking commits, section creation and
+ * deletion) drop the event, so the next read loads it again. Changes made on another
+ * terminal are caught by a version check: once an entry is older than
+ * VERSION_CHECK_MILLIS the next read compares the row count, MAX(UpdatedAt) and the total
+ * available capacity of the event's sections (one indexed aggregate) and reloads on a
+ * mismatch. Every capacity write sets UpdatedAt, so staleness is bounded by that interval.
+ */
+public final class EventSectionCache {
+
+    private static final Log LOG = Log.get(EventSectionCache.class);
+
+    /** How long an entry is trusted before its version is checked again */
+    static final long VERSION_CHECK_MILLIS = 2000;
+
+    /** Entries kept before the cache is cleared (events are few; this only bounds a long session) */
+    private static final int MAX_EVENTS = 500;
+
+    /**
+     * What the version check compares: the same three numbers, computed in SQL or from a loaded list
+     */
+    public static final class Version {
+        private final int count;
+        private final Timestamp lastUpdated;
+        private final long available;
+
+        public Version(int count, Timestamp lastUpdated, long available) {
+            this.count = count;
+            this.lastUpdated = lastUpdated;
+            this.available = available;
+        }
+
+        static Version of(List<EventSection> sections) {
+            Timestamp last = null;
+            long available = 0;
+            for (EventSection es : sections) {
+                Timestamp t = es.getUpdatedAt();
+                if (t != null && (last == null || t.after(last))) last = t;
+                available += es.getAvailableSeats();
+            }
+            return new Version(sections.size(), last, available);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Version)) return false;
+            Version v = (Version) o;
+            return count == v.count && available == v.available && Objects.equals(lastUpdated, v.lastUpdated);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(count, lastUpdated, available);
+        }
+    }
+
+    private static final class Entry {
+        final List<EventSection> sections;
+        final Version version;
+        volatile long checkedAt;
+
+        Entry(List<EventSection> sections, Version version, long checkedAt) {
+            this.sections = Collections.unmodifiableList(sections);
+            this.version = version;
+            this.checkedAt = checkedAt;
+        }
+    }
+
+    private static final Map<Integer, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    // Bumped by every write, so a load that raced with one is not cached
+    private static final AtomicLong generation = new AtomicLong();
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong loadCount = new AtomicLong();
+    private static final AtomicLong loadNanos = new AtomicLong();
+    private static volatile long lastLoadNanos;
+
+    private EventSectionCache() {}
+
+    /**
+     * Copies of the cached sections of an event, loaded with loader on a miss or when
+     * versionReader reports that the event's sections changed since they were loaded
+     */
+    public static List<EventSection> get(int eventId,
+                                         StadiumConfigCache.Loader<List<EventSection>> loader,
+                                         StadiumConfigCache.Loader<Version> versionReader) throws SQLException {
+        Entry entry = ENTRIES.get(eventId);
+        if (entry != null) {
+            long now = System.nanoTime();
+            if (now - entry.checkedAt < TimeUnit.MILLISECONDS.toNanos(VERSION_CHECK_MILLIS)) {
+                record(eventId, true, 0);
+                return copies(entry.sections);
+            }
+            if (entry.version.equals(versionReader.load())) {
+                entry.checkedAt = now;
+                record(eventId, true, 0);
+                return copies(entry.sections);
+            }
+            LOG.debug("Event sections of event " + eventId + " changed elsewhere, reloading");
+        }
+
+        long gen = generation.get();
+        long start = System.nanoTime();
+        List<EventSection> loaded = loader.load();
+        long elapsed = System.nanoTime() - start;
+        record(eventId, false, elapsed);
+
+        if (generation.get() == gen) {
+            if (ENTRIES.size() >= MAX_EVENTS) ENTRIES.clear();
+            ENTRIES.put(eventId, new Entry(copies(loaded), Version.of(loaded), System.nanoTime()));
+        }
+        return loaded;
+    }
+
+    /**
+     * Drop the cached sections of an event (after its sections or their capacity changed)
+     */
+    public static void invalidate(int eventId) {
+        generation.incrementAndGet();
+        ENTRIES.remove(eventId);
+    }
+
+    /**
+     * Drop the event holding an event section, if it is cached
+     */
+    public static void invalidateSection(int eventSectionId) {
+        generation.incrementAndGet();
+        ENTRIES.values().removeIf(entry -> {
+            for (EventSection es : entry.sections) {
+                if (es.getEventSectionId() == eventSectionId) return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Drop everything (after changes this terminal cannot attribute to an event)
+     */
+    public static void invalidateAll() {
+        generation.incrementAndGet();
+        ENTRIES.clear();
+    }
+
+    public static ReportCache.Stats getStats() {
+        return new ReportCache.Stats(hits.get(), misses.get(), ENTRIES.size(),
+                                     loadCount.get(), loadNanos.get(), lastLoadNanos);
+    }
+
+    private static List<EventSection> copies(List<EventSection> sections) {
+        List<EventSection> list = new ArrayList<>(sections.size());
+        for (EventSection es : sections) {
+            list.add(es.copy());
+        }
+        return list;
+    }
+
+    private static void record(int eventId, boolean hit, long nanos) {
+        if (hit) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            loadCount.incrementAndGet();
+            loadNanos.addAndGet(nanos);
+            lastLoadNanos = nanos;
+        }
+
+        JfrEvents.CacheAccess event = new JfrEvents.CacheAccess();
+        if (event.shouldCommit()) {
+            event.cache = "event-sections";
+            event.key = "event " + eventId;
+            event.hit = hit;
+            event.commit();
+        }
+    }
+}
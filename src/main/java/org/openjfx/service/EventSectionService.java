@@ -1,7 +1,9 @@
 package org.openjfx.service;
 
+import org.openjfx.model.DomainEvent;
 import org.openjfx.model.EventSection;
 import org.openjfx.util.DatabaseUtil;
+import org.openjfx.util.Log;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -9,13 +11,25 @@ import java.util.List;
 
 /**
  * Service class for EventSection-related database operations
+ * getEventSections goes through EventSectionCache; writes update or invalidate it.
  */
 public class EventSectionService {
+
+    private static final Log LOG = Log.get(EventSectionService.class);
     
     /**
-     * Get all event sections for a specific event
+     * Get all event sections for a specific event (served from EventSectionCache)
      */
     public List<EventSection> getEventSections(int eventId) {
+        try {
+            return EventSectionCache.get(eventId, () -> loadEventSections(eventId), () -> loadVersion(eventId));
+        } catch (SQLException e) {
+            LOG.error("Error fetching event sections", e);
+            return new ArrayList<>();
+        }
+    }
+    
+    private List<EventSection> loadEventSections(int eventId) throws SQLException {
         List<EventSection> eventSections = new ArrayList<>();
         String query = "SELECT es.*, s.SectionName, s.SectionType " +
                       "FROM EventSections es " +
@@ -23,7 +37,7 @@ public class EventSectionService {
                       "WHERE es.EventID = ? AND es.IsActive = 1 " +
                       "ORDER BY es.SectionID";
         
-        System.out.println("DEBUG EventSectionService: Fetching sections for EventID=" + eventId);
+        LOG.debug("Fetching sections for EventID=" + eventId);
         
         try (Connection conn = DatabaseUtil.getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
@@ -36,7 +50,7 @@ public class EventSectionService {
                     eventSection.setSectionName(rs.getString("SectionName"));
                     eventSection.setSectionType(rs.getString("SectionType"));
                     
-                    System.out.println("DEBUG: Loaded EventSection - ID=" + eventSection.getEventSectionId() + 
+                    LOG.debug(() -> "Loaded EventSection - ID=" + eventSection.getEventSectionId() + 
                                      ", Title=" + eventSection.getSectionTitle() + 
                                      ", TotalCapacity=" + eventSection.getTotalCapacity() + 
                                      ", AvailableSeats=" + eventSection.getAvailableSeats());
@@ -44,15 +58,31 @@ public class EventSectionService {
                     eventSections.add(eventSection);
                 }
             }
-        } catch (SQLException e) {
-            System.err.println("Error fetching event sections: " + e.getMessage());
-            e.printStackTrace();
         }
         
-        System.out.println("DEBUG EventSectionService: Found " + eventSections.size() + " sections");
+        LOG.debug("Found " + eventSections.size() + " sections");
         return eventSections;
     }
     
+    /**
+     * Cheap change check for the cache: same rows as loadEventSections, aggregated
+     */
+    private EventSectionCache.Version loadVersion(int eventId) throws SQLException {
+        String query = "SELECT COUNT(*), MAX(UpdatedAt), SUM(AvailableCapacity) " +
+                      "FROM EventSections WHERE EventID = ? AND IsActive = 1";
+        
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+            
+            stmt.setInt(1, eventId);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                return new EventSectionCache.Version(rs.getInt(1), rs.getTimestamp(2), rs.getLong(3));
+            }
+        }
+    }
+    
     /**
      * Get a specific event section
      */
@@ -77,8 +107,7 @@ public class EventSectionService {
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Error fetching event section: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error fetching event section", e);
         }
         
         return null;
@@ -102,11 +131,16 @@ public class EventSectionService {
             stmt.setInt(5, eventSection.getTotalCapacity());
             stmt.setInt(6, eventSection.getAvailableSeats());
             
-            return stmt.executeUpdate() > 0;
+            boolean created = stmt.executeUpdate() > 0;
+            EventSectionCache.invalidate(eventSection.getEventId());
+            if (created) {
+                DomainEventBus.publish(new DomainEvent.CapacityChanged(
+                    eventSection.getEventId(), eventSection.getSectionId(), false));
+            }
+            return created;
             
         } catch (SQLException e) {
-            System.err.println("Error creating event section: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error creating event section", e);
             return false;
         }
     }
@@ -124,11 +158,12 @@ public class EventSectionService {
             stmt.setInt(1, newCapacity);
             stmt.setInt(2, eventSectionId);
             
-            return stmt.executeUpdate() > 0;
+            boolean updated = stmt.executeUpdate() > 0;
+            if (updated) EventSectionCache.invalidateSection(eventSectionId);
+            return updated;
             
         } catch (SQLException e) {
-            System.err.println("Error updating capacity: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error updating capacity", e);
             return false;
         }
     }
@@ -149,11 +184,15 @@ public class EventSectionService {
             stmt.setInt(3, sectionId);
             stmt.setInt(4, amount);
             
-            return stmt.executeUpdate() > 0;
+            boolean updated = stmt.executeUpdate() > 0;
+            if (updated) {
+                EventSectionCache.invalidate(eventId);
+                DomainEventBus.publish(new DomainEvent.CapacityChanged(eventId, sectionId, false));
+            }
+            return updated;
             
         } catch (SQLException e) {
-            System.err.println("Error decreasing capacity: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error decreasing capacity", e);
             return false;
         }
     }
@@ -173,15 +212,36 @@ public class EventSectionService {
             stmt.setInt(2, eventId);
             stmt.setInt(3, sectionId);
             
-            return stmt.executeUpdate() > 0;
+            boolean updated = stmt.executeUpdate() > 0;
+            if (updated) {
+                EventSectionCache.invalidate(eventId);
+                DomainEventBus.publish(new DomainEvent.CapacityChanged(eventId, sectionId, false));
+            }
+            return updated;
             
         } catch (SQLException e) {
-            System.err.println("Error increasing capacity: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error increasing capacity", e);
             return false;
         }
     }
     
+    /**
+     * Increase available capacity inside the caller's transaction
+     * (the caller updates EventSectionCache and publishes CapacityChanged after committing)
+     */
+    public void increaseCapacity(Connection conn, int eventId, int sectionId, int amount) throws SQLException {
+        String query = "UPDATE EventSections " +
+                      "SET AvailableCapacity = AvailableCapacity + ?, UpdatedAt = GETDATE() " +
+                      "WHERE EventID = ? AND SectionID = ?";
+        
+        try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            stmt.setInt(1, amount);
+            stmt.setInt(2, eventId);
+            stmt.setInt(3, sectionId);
+            stmt.executeUpdate();
+        }
+    }
+    
     /**
      * Check if event section exists for an event
      */
@@ -200,8 +260,7 @@ public class EventSectionService {
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Error checking event section: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error checking event section", e);
         }
         
         return false;
@@ -218,11 +277,11 @@ public class EventSectionService {
             
             stmt.setInt(1, eventSectionId);
             int rowsAffected = stmt.executeUpdate();
+            EventSectionCache.invalidateSection(eventSectionId);
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error deleting event section: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error deleting event section", e);
             return false;
         }
     }
@@ -1,35 +1,69 @@
 package org.openjfx.service;
 
+import org.openjfx.model.DomainEvent;
 import org.openjfx.model.Event;
 import org.openjfx.util.DatabaseUtil;
+import org.openjfx.util.Log;
+import org.openjfx.util.RowMappers;
 
 import java.sql.*;
-import java.time.LocalDate;
-import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 
 public class EventService {
 
+    private static final Log LOG = Log.get(EventService.class);
+
+    // Columns read by EVENT_MAPPER
+    private static final String EVENT_COLUMNS =
+        "EventID, EventName, EventType, EventDate, EventTime, Description, Status, " +
+        "TotalSeats, BookedSeats, CreatedAt, UpdatedAt";
+
+    // Map a row of Events to Event; column indexes are resolved once per query shape
+    public static final RowMappers.Factory<Event> EVENT_MAPPER = columns -> {
+        int id = columns.index("EventID");
+        int eventName = columns.index("EventName");
+        int eventType = columns.index("EventType");
+        int eventDate = columns.index("EventDate");
+        int eventTime = columns.index("EventTime");
+        int description = columns.index("Description");
+        int status = columns.index("Status");
+        int totalSeats = columns.index("TotalSeats");
+        // Maintained by BookingService and repaired by SeatCounterService
+        int bookedSeats = columns.index("BookedSeats");
+        int createdAt = columns.index("CreatedAt");
+        int updatedAt = columns.index("UpdatedAt");
+
+        return rs -> new Event(
+            rs.getInt(id),
+            rs.getString(eventName),
+            rs.getString(eventType),
+            rs.getDate(eventDate).toLocalDate(),
+            rs.getTime(eventTime).toLocalTime(),
+            rs.getString(description),
+            rs.getString(status),
+            rs.getInt(totalSeats),
+            rs.getInt(bookedSeats),
+            rs.getTimestamp(createdAt),
+            rs.getTimestamp(updatedAt)
+        );
+    };
+
     // Get all events
     public List<Event> getAllEvents() {
         List<Event> events = new ArrayList<>();
-        String sql = "SELECT e.*, " +
-                    "ISNULL((SELECT SUM(b.TotalSeats) FROM Bookings b " +
-                    "WHERE b.EventID = e.EventID AND b.BookingStatus = 'CONFIRMED'), 0) AS ActualBookedSeats " +
-                    "FROM Events e " +
-                    "ORDER BY e.EventDate DESC, e.EventTime DESC";
+        String sql = "SELECT " + EVENT_COLUMNS + " FROM Events ORDER BY EventDate DESC, EventTime DESC";
 
         try (Connection conn = DatabaseUtil.getConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
+            RowMappers.RowMapper<Event> mapper = RowMappers.forResultSet(rs, EVENT_MAPPER);
             while (rs.next()) {
-                events.add(mapResultSetToEvent(rs));
+                events.add(mapper.map(rs));
             }
         } catch (SQLException e) {
-            System.err.println("Error getting all events: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting all events", e);
         }
 
         return events;
@@ -37,11 +71,7 @@ public class EventService {
 
     // Get event by ID
     public Event getEventById(int id) {
-        String sql = "SELECT e.*, " +
-                    "ISNULL((SELECT SUM(b.TotalSeats) FROM Bookings b " +
-                    "WHERE b.EventID = e.EventID AND b.BookingStatus = 'CONFIRMED'), 0) AS ActualBookedSeats " +
-                    "FROM Events e " +
-                    "WHERE e.EventID = ?";
+        String sql = "SELECT " + EVENT_COLUMNS + " FROM Events WHERE EventID = ?";
 
         try (Connection conn = DatabaseUtil.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -50,11 +80,10 @@ public class EventService {
             ResultSet rs = pstmt.executeQuery();
 
             if (rs.next()) {
-                return mapResultSetToEvent(rs);
+                return RowMappers.forResultSet(rs, EVENT_MAPPER).map(rs);
             }
         } catch (SQLException e) {
-            System.err.println("Error getting event by ID: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting event by ID", e);
         }
 
         return null;
@@ -85,12 +114,12 @@ public class EventService {
                 if (generatedKeys.next()) {
                     event.setId(generatedKeys.getInt(1));
                 }
-                System.out.println("Event created successfully: " + event.getEventName());
+                DomainEventBus.publish(new DomainEvent.EventUpdated(event.getId(), false, false));
+                LOG.info("Event created successfully: " + event.getEventName());
                 return true;
             }
         } catch (SQLException e) {
-            System.err.println("Error creating event: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error creating event", e);
         }
 
         return false;
@@ -116,12 +145,12 @@ public class EventService {
             int affectedRows = pstmt.executeUpdate();
 
             if (affectedRows > 0) {
-                System.out.println("Event updated successfully: " + event.getEventName());
+                DomainEventBus.publish(new DomainEvent.EventUpdated(event.getId(), false, false));
+                LOG.info("Event updated successfully: " + event.getEventName());
                 return true;
             }
         } catch (SQLException e) {
-            System.err.println("Error updating event: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error updating event", e);
         }
 
         return false;
@@ -131,7 +160,7 @@ public class EventService {
     public boolean deleteEvent(int eventId) {
         // First check if there are bookings for this event
         if (hasBookings(eventId)) {
-            System.err.println("Cannot delete event with existing bookings");
+            LOG.warn("Cannot delete event with existing bookings");
             return false;
         }
 
@@ -148,7 +177,7 @@ public class EventService {
                 try (PreparedStatement pstmt = conn.prepareStatement(deleteEventSectionsSql)) {
                     pstmt.setInt(1, eventId);
                     int sectionsDeleted = pstmt.executeUpdate();
-                    System.out.println("Deleted " + sectionsDeleted + " event sections");
+                    LOG.debug("Deleted " + sectionsDeleted + " event sections");
                 }
                 
                 // Then delete the Event
@@ -158,7 +187,9 @@ public class EventService {
                     
                     if (affectedRows > 0) {
                         conn.commit();
-                        System.out.println("Event deleted successfully");
+                        EventSectionCache.invalidate(eventId);
+                        DomainEventBus.publish(new DomainEvent.EventUpdated(eventId, true, false));
+                        LOG.info("Event deleted successfully");
                         return true;
                     }
                 }
@@ -169,8 +200,7 @@ public class EventService {
                 throw e;
             }
         } catch (SQLException e) {
-            System.err.println("Error deleting event: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error deleting event", e);
         }
 
         return false;
@@ -179,7 +209,7 @@ public class EventService {
     // Search events by name or type
     public List<Event> searchEvents(String searchTerm) {
         List<Event> events = new ArrayList<>();
-        String sql = "SELECT * FROM Events WHERE EventName LIKE ? OR EventType LIKE ? " +
+        String sql = "SELECT " + EVENT_COLUMNS + " FROM Events WHERE EventName LIKE ? OR EventType LIKE ? " +
                      "ORDER BY EventDate DESC, EventTime DESC";
 
         try (Connection conn = DatabaseUtil.getConnection();
@@ -191,12 +221,12 @@ public class EventService {
 
             ResultSet rs = pstmt.executeQuery();
 
+            RowMappers.RowMapper<Event> mapper = RowMappers.forResultSet(rs, EVENT_MAPPER);
             while (rs.next()) {
-                events.add(mapResultSetToEvent(rs));
+                events.add(mapper.map(rs));
             }
         } catch (SQLException e) {
-            System.err.println("Error searching events: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error searching events", e);
         }
 
         return events;
@@ -205,7 +235,7 @@ public class EventService {
     // Filter events by type
     public List<Event> filterEventsByType(String eventType) {
         List<Event> events = new ArrayList<>();
-        String sql = "SELECT * FROM Events WHERE EventType = ? ORDER BY EventDate DESC, EventTime DESC";
+        String sql = "SELECT " + EVENT_COLUMNS + " FROM Events WHERE EventType = ? ORDER BY EventDate DESC, EventTime DESC";
 
         try (Connection conn = DatabaseUtil.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -213,12 +243,12 @@ public class EventService {
             pstmt.setString(1, eventType);
             ResultSet rs = pstmt.executeQuery();
 
+            RowMappers.RowMapper<Event> mapper = RowMappers.forResultSet(rs, EVENT_MAPPER);
             while (rs.next()) {
-                events.add(mapResultSetToEvent(rs));
+                events.add(mapper.map(rs));
             }
         } catch (SQLException e) {
-            System.err.println("Error filtering events: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error filtering events", e);
         }
 
         return events;
@@ -227,7 +257,7 @@ public class EventService {
     // Filter events by status
     public List<Event> filterEventsByStatus(String status) {
         List<Event> events = new ArrayList<>();
-        String sql = "SELECT * FROM Events WHERE Status = ? ORDER BY EventDate DESC, EventTime DESC";
+        String sql = "SELECT " + EVENT_COLUMNS + " FROM Events WHERE Status = ? ORDER BY EventDate DESC, EventTime DESC";
 
         try (Connection conn = DatabaseUtil.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -235,12 +265,12 @@ public class EventService {
             pstmt.setString(1, status);
             ResultSet rs = pstmt.executeQuery();
 
+            RowMappers.RowMapper<Event> mapper = RowMappers.forResultSet(rs, EVENT_MAPPER);
             while (rs.next()) {
-                events.add(mapResultSetToEvent(rs));
+                events.add(mapper.map(rs));
             }
         } catch (SQLException e) {
-            System.err.println("Error filtering events by status: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error filtering events by status", e);
         }
 
         return events;
@@ -249,19 +279,19 @@ public class EventService {
     // Get upcoming events
     public List<Event> getUpcomingEvents() {
         List<Event> events = new ArrayList<>();
-        String sql = "SELECT * FROM Events WHERE EventDate >= CAST(GETDATE() AS DATE) AND Status = 'UPCOMING' " +
+        String sql = "SELECT " + EVENT_COLUMNS + " FROM Events WHERE EventDate >= CAST(GETDATE() AS DATE) AND Status = 'UPCOMING' " +
                      "ORDER BY EventDate ASC, EventTime ASC";
 
         try (Connection conn = DatabaseUtil.getConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
+            RowMappers.RowMapper<Event> mapper = RowMappers.forResultSet(rs, EVENT_MAPPER);
             while (rs.next()) {
-                events.add(mapResultSetToEvent(rs));
+                events.add(mapper.map(rs));
             }
         } catch (SQLException e) {
-            System.err.println("Error getting upcoming events: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting upcoming events", e);
         }
 
         return events;
@@ -279,8 +309,7 @@ public class EventService {
                 return rs.getInt(1);
             }
         } catch (SQLException e) {
-            System.err.println("Error getting event count: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting event count", e);
         }
 
         return 0;
@@ -300,8 +329,7 @@ public class EventService {
                 return rs.getInt(1) > 0;
             }
         } catch (SQLException e) {
-            System.err.println("Error checking bookings: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error checking bookings", e);
         }
 
         return false;
@@ -320,13 +348,23 @@ public class EventService {
             int affectedRows = pstmt.executeUpdate();
             return affectedRows > 0;
         } catch (SQLException e) {
-            System.err.println("Error updating booked seats: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error updating booked seats", e);
         }
 
         return false;
     }
 
+    // Adjust the booked seats counter inside the caller's booking transaction
+    public void adjustBookedSeats(Connection conn, int eventId, int delta) throws SQLException {
+        String sql = "UPDATE Events SET BookedSeats = ISNULL(BookedSeats, 0) + ?, UpdatedAt = GETDATE() WHERE EventID = ?";
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, delta);
+            pstmt.setInt(2, eventId);
+            pstmt.executeUpdate();
+        }
+    }
+
     // Get available event types
     public List<String> getEventTypes() {
         List<String> types = new ArrayList<>();
@@ -340,37 +378,9 @@ public class EventService {
                 types.add(rs.getString("EventType"));
             }
         } catch (SQLException e) {
-            System.err.println("Error getting event types: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting event types", e);
         }
 
         return types;
     }
-
-    // Helper method to map ResultSet to Event object
-    private Event mapResultSetToEvent(ResultSet rs) throws SQLException {
-        int id = rs.getInt("EventID");
-        String eventName = rs.getString("EventName");
-        String eventType = rs.getString("EventType");
-        LocalDate eventDate = rs.getDate("EventDate").toLocalDate();
-        LocalTime eventTime = rs.getTime("EventTime").toLocalTime();
-        String description = rs.getString("Description");
-        String status = rs.getString("Status");
-        int totalSeats = rs.getInt("TotalSeats");
-        
-        // Try to get ActualBookedSeats (from JOIN query), fallback to BookedSeats
-        int bookedSeats;
-        try {
-            bookedSeats = rs.getInt("ActualBookedSeats");
-        } catch (SQLException e) {
-            // If ActualBookedSeats doesn't exist (old queries), use BookedSeats
-            bookedSeats = rs.getInt("BookedSeats");
-        }
-        
-        Timestamp createdAt = rs.getTimestamp("CreatedAt");
-        Timestamp updatedAt = rs.getTimestamp("UpdatedAt");
-
-        return new Event(id, eventName, eventType, eventDate, eventTime, description,
-                        status, totalSeats, bookedSeats, createdAt, updatedAt);
-    }
 }
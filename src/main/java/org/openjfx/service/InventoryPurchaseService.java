@@ -2,6 +2,7 @@ package org.openjfx.service;
 
 import org.openjfx.model.InventoryPurchase;
 import org.openjfx.util.DatabaseUtil;
+import org.openjfx.util.Log;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -10,7 +11,6 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -19,38 +19,60 @@ import java.util.List;
  */
 public class InventoryPurchaseService {
 
+    private static final Log LOG = Log.get(InventoryPurchaseService.class);
+
+    /** Purchases made in [from, to) (parameters: two timestamps); public for QueryPlanCheck */
+    public static final String PURCHASES_IN_PERIOD_SQL =
+        "SELECT ISNULL(SUM(TotalCost),0) as Total FROM InventoryPurchases WHERE PurchaseDate >= ? AND PurchaseDate < ?";
+
+    private final DailyRollupService rollupService = new DailyRollupService();
+
     public InventoryPurchaseService() {}
 
     public boolean addPurchase(InventoryPurchase p) {
         String sql = "INSERT INTO InventoryPurchases (ItemID, EventID, Quantity, UnitCost, TotalCost, PurchaseDate, Supplier, Notes) " +
                      "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-        try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                if (p.getItemId() != null) stmt.setInt(1, p.getItemId()); else stmt.setNull(1, java.sql.Types.INTEGER);
+                if (p.getEventId() != null) stmt.setInt(2, p.getEventId()); else stmt.setNull(2, java.sql.Types.INTEGER);
+                stmt.setInt(3, p.getQuantity());
+                stmt.setDouble(4, p.getUnitCost());
+                stmt.setDouble(5, p.getTotalCost());
+                Timestamp ts = p.getPurchaseDate() != null ? Timestamp.valueOf(p.getPurchaseDate()) : Timestamp.valueOf(LocalDateTime.now());
+                stmt.setTimestamp(6, ts);
+                stmt.setString(7, p.getSupplier());
+                stmt.setString(8, p.getNotes());
+
+                if (stmt.executeUpdate() == 0) {
+                    conn.rollback();
+                    return false;
+                }
 
-            if (p.getItemId() != null) stmt.setInt(1, p.getItemId()); else stmt.setNull(1, java.sql.Types.INTEGER);
-            if (p.getEventId() != null) stmt.setInt(2, p.getEventId()); else stmt.setNull(2, java.sql.Types.INTEGER);
-            stmt.setInt(3, p.getQuantity());
-            stmt.setDouble(4, p.getUnitCost());
-            stmt.setDouble(5, p.getTotalCost());
-            Timestamp ts = p.getPurchaseDate() != null ? Timestamp.valueOf(p.getPurchaseDate()) : Timestamp.valueOf(LocalDateTime.now());
-            stmt.setTimestamp(6, ts);
-            stmt.setString(7, p.getSupplier());
-            stmt.setString(8, p.getNotes());
-
-            int updated = stmt.executeUpdate();
-            return updated > 0;
+                int eventId = p.getEventId() != null ? p.getEventId() : DailyRollupService.NO_EVENT;
+                rollupService.applyDelta(conn, ts.toLocalDateTime().toLocalDate(), eventId,
+                                         DailyRollupService.Category.PURCHASES, p.getTotalCost());
+                conn.commit();
+                ReportService.notifyDataChanged(eventId, ts.toLocalDateTime().toLocalDate());
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
         } catch (SQLException e) {
-            System.err.println("Error inserting inventory purchase: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error inserting inventory purchase", e);
             return false;
         }
     }
 
     public List<InventoryPurchase> getPurchasesInPeriod(LocalDate start, LocalDate end) {
         List<InventoryPurchase> list = new ArrayList<>();
-        String sql = "SELECT * FROM InventoryPurchases WHERE PurchaseDate BETWEEN ? AND ? ORDER BY PurchaseDate DESC";
-        Timestamp tsStart = Timestamp.valueOf(LocalDateTime.of(start, LocalTime.MIN));
-        Timestamp tsEnd = Timestamp.valueOf(LocalDateTime.of(end, LocalTime.MAX));
+        String sql = "SELECT * FROM InventoryPurchases WHERE PurchaseDate >= ? AND PurchaseDate < ? ORDER BY PurchaseDate DESC";
+        // half-open range [start, end + 1 day) keeps the predicate sargable and exact for DATETIME
+        Timestamp tsStart = Timestamp.valueOf(start.atStartOfDay());
+        Timestamp tsEnd = Timestamp.valueOf(end.plusDays(1).atStartOfDay());
 
         try (Connection conn = DatabaseUtil.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -66,20 +88,19 @@ public class InventoryPurchaseService {
             }
 
         } catch (SQLException e) {
-            System.err.println("Error fetching purchases in period: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error fetching purchases in period", e);
         }
 
         return list;
     }
 
     public double getTotalExpensesInPeriod(LocalDate start, LocalDate end) {
-        String sql = "SELECT ISNULL(SUM(TotalCost),0) as Total FROM InventoryPurchases WHERE PurchaseDate BETWEEN ? AND ?";
-        Timestamp tsStart = Timestamp.valueOf(LocalDateTime.of(start, LocalTime.MIN));
-        Timestamp tsEnd = Timestamp.valueOf(LocalDateTime.of(end, LocalTime.MAX));
+        // half-open range [start, end + 1 day) keeps the predicate sargable and exact for DATETIME
+        Timestamp tsStart = Timestamp.valueOf(start.atStartOfDay());
+        Timestamp tsEnd = Timestamp.valueOf(end.plusDays(1).atStartOfDay());
 
         try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(PURCHASES_IN_PERIOD_SQL)) {
 
             stmt.setTimestamp(1, tsStart);
             stmt.setTimestamp(2, tsEnd);
@@ -89,8 +110,7 @@ public class InventoryPurchaseService {
             }
 
         } catch (SQLException e) {
-            System.err.println("Error getting total expenses in period: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting total expenses in period", e);
         }
         return 0.0;
     }
@@ -106,8 +126,7 @@ public class InventoryPurchaseService {
             }
 
         } catch (SQLException e) {
-            System.err.println("Error getting total expenses for event: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting total expenses for event", e);
         }
         return 0.0;
     }
@@ -1,12 +1,15 @@
 package org.openjfx.service;
 
+import org.openjfx.model.DomainEvent;
 import org.openjfx.model.InventoryItem;
 import org.openjfx.util.DatabaseUtil;
+import org.openjfx.util.Log;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,6 +18,8 @@ import java.util.List;
  * Handles CRUD operations for inventory items
  */
 public class InventoryService {
+
+    private static final Log LOG = Log.get(InventoryService.class);
     
     /**
      * Get all inventory items
@@ -44,8 +49,7 @@ public class InventoryService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error getting inventory items!");
-            e.printStackTrace();
+            LOG.error("Error getting inventory items!", e);
         }
         
         return items;
@@ -77,8 +81,7 @@ public class InventoryService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error getting low stock items!");
-            e.printStackTrace();
+            LOG.error("Error getting low stock items!", e);
         }
         
         return items;
@@ -112,8 +115,7 @@ public class InventoryService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error getting items by location!");
-            e.printStackTrace();
+            LOG.error("Error getting items by location!", e);
         }
         
         return items;
@@ -129,7 +131,7 @@ public class InventoryService {
                       "VALUES (?, ?, ?, ?, ?, ?, ?)";
         
         try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query)) {
+             PreparedStatement stmt = conn.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
             
             stmt.setString(1, item.getItemName());
             stmt.setString(2, item.getDescription());
@@ -140,11 +142,16 @@ public class InventoryService {
             stmt.setString(7, item.getLocation());
             
             int rowsAffected = stmt.executeUpdate();
+            if (rowsAffected > 0) {
+                try (ResultSet keys = stmt.getGeneratedKeys()) {
+                    if (keys.next()) item.setItemId(keys.getInt(1));
+                }
+                DomainEventBus.publish(new DomainEvent.StockChanged(item.getItemId(), false, false));
+            }
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error adding inventory item!");
-            e.printStackTrace();
+            LOG.error("Error adding inventory item!", e);
             return false;
         }
     }
@@ -171,11 +178,13 @@ public class InventoryService {
             stmt.setInt(8, item.getItemId());
             
             int rowsAffected = stmt.executeUpdate();
+            if (rowsAffected > 0) {
+                DomainEventBus.publish(new DomainEvent.StockChanged(item.getItemId(), false, false));
+            }
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error updating inventory item!");
-            e.printStackTrace();
+            LOG.error("Error updating inventory item!", e);
             return false;
         }
     }
@@ -196,11 +205,13 @@ public class InventoryService {
             stmt.setInt(2, itemId);
             
             int rowsAffected = stmt.executeUpdate();
+            if (rowsAffected > 0) {
+                DomainEventBus.publish(new DomainEvent.StockChanged(itemId, false, false));
+            }
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error updating item quantity!");
-            e.printStackTrace();
+            LOG.error("Error updating item quantity!", e);
             return false;
         }
     }
@@ -221,11 +232,13 @@ public class InventoryService {
             stmt.setInt(2, itemId);
             
             int rowsAffected = stmt.executeUpdate();
+            if (rowsAffected > 0) {
+                DomainEventBus.publish(new DomainEvent.StockChanged(itemId, false, false));
+            }
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error increasing item quantity!");
-            e.printStackTrace();
+            LOG.error("Error increasing item quantity!", e);
             return false;
         }
     }
@@ -248,11 +261,13 @@ public class InventoryService {
             stmt.setInt(3, amount); // Prevent negative quantities
             
             int rowsAffected = stmt.executeUpdate();
+            if (rowsAffected > 0) {
+                DomainEventBus.publish(new DomainEvent.StockChanged(itemId, false, false));
+            }
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error decreasing item quantity!");
-            e.printStackTrace();
+            LOG.error("Error decreasing item quantity!", e);
             return false;
         }
     }
@@ -271,11 +286,13 @@ public class InventoryService {
             stmt.setInt(1, itemId);
             
             int rowsAffected = stmt.executeUpdate();
+            if (rowsAffected > 0) {
+                DomainEventBus.publish(new DomainEvent.StockChanged(itemId, true, false));
+            }
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error deleting inventory item!");
-            e.printStackTrace();
+            LOG.error("Error deleting inventory item!", e);
             return false;
         }
     }
@@ -297,8 +314,7 @@ public class InventoryService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error counting low stock items!");
-            e.printStackTrace();
+            LOG.error("Error counting low stock items!", e);
         }
         
         return 0;
@@ -321,8 +337,7 @@ public class InventoryService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error counting total items!");
-            e.printStackTrace();
+            LOG.error("Error counting total items!", e);
         }
         
         return 0;
@@ -0,0 +1,235 @@
+package org.openjfx.service;
+
+import org.openjfx.util.JfrEvents;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Result cache for report queries.
+ *
+ * Entries are keyed by method name and arguments, expire after a TTL and
+ * carry a scope (event ID and/or date range) so a data change only drops the
+ * entries it can affect. Concurrent requests for the same key share a single
+ * computation instead of each hitting the database.
+ */
+public class ReportCache {
+
+    private final String name;
+    private final long ttlMillis;
+    private final ConcurrentHashMap<List<Object>, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong recomputeCount = new AtomicLong();
+    private final AtomicLong recomputeNanos = new AtomicLong();
+    private volatile long lastRecomputeNanos;
+
+    public ReportCache(long ttlMillis) {
+        this("report", ttlMillis);
+    }
+
+    /**
+     * @param name Cache name in JFR cache access events
+     */
+    public ReportCache(String name, long ttlMillis) {
+        this.name = name;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * Scope of a cached result, used for targeted invalidation.
+     * A null event ID means the result spans all events; null dates mean all dates.
+     */
+    public static final class Scope {
+        public static final Scope ALL = new Scope(null, null, null);
+
+        private final Integer eventId;
+        private final LocalDate start;
+        private final LocalDate end;
+
+        private Scope(Integer eventId, LocalDate start, LocalDate end) {
+            this.eventId = eventId;
+            this.start = start;
+            this.end = end;
+        }
+
+        public static Scope event(int eventId) {
+            return new Scope(eventId, null, null);
+        }
+
+        public static Scope period(LocalDate start, LocalDate end) {
+            return new Scope(null, start, end);
+        }
+
+        boolean isAffectedBy(Integer changedEventId, LocalDate changedDate) {
+            boolean eventMatches = eventId == null || changedEventId == null || eventId.equals(changedEventId);
+            boolean dateMatches = changedDate == null || start == null
+                || (!changedDate.isBefore(start) && (end == null || !changedDate.isAfter(end)));
+            return eventMatches && dateMatches;
+        }
+    }
+
+    private static final class Entry {
+        final FutureTask<Object> task;
+        final Scope scope;
+        volatile long expiresAt = Long.MAX_VALUE; // set once the value is computed
+
+        Entry(FutureTask<Object> task, Scope scope) {
+            this.task = task;
+            this.scope = scope;
+        }
+    }
+
+    /**
+     * Get a cached result or compute it with the loader
+     *
+     * @param scope Data the result depends on
+     * @param loader Computes the result on a miss
+     * @param method Name of the report method (part of the key)
+     * @param args Arguments of the report method (part of the key)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Scope scope, Supplier<T> loader, String method, Object... args) {
+        Object[] keyParts = new Object[args.length + 1];
+        keyParts[0] = method;
+        System.arraycopy(args, 0, keyParts, 1, args.length);
+        List<Object> key = Arrays.asList(keyParts);
+
+        while (true) {
+            Entry entry = entries.get(key);
+            if (entry != null && System.currentTimeMillis() > entry.expiresAt) {
+                entries.remove(key, entry);
+                entry = null;
+            }
+
+            boolean owner = false;
+            if (entry == null) {
+                Entry created = new Entry(new FutureTask<>(() -> timed(loader)), scope);
+                entry = entries.putIfAbsent(key, created);
+                if (entry == null) {
+                    entry = created;
+                    owner = true;
+                }
+            }
+
+            JfrEvents.CacheAccess event = new JfrEvents.CacheAccess();
+            event.begin();
+            if (owner) {
+                misses.incrementAndGet();
+                entry.task.run();
+                entry.expiresAt = System.currentTimeMillis() + ttlMillis;
+            } else {
+                hits.incrementAndGet();
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.cache = name;
+                event.key = method;
+                event.hit = !owner;
+                event.commit();
+            }
+
+            try {
+                return (T) entry.task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return loader.get();
+            } catch (ExecutionException e) {
+                // don't cache failures; retry with a fresh entry
+                entries.remove(key, entry);
+                if (owner) throw new RuntimeException(e.getCause());
+            }
+        }
+    }
+
+    private Object timed(Supplier<?> loader) {
+        long start = System.nanoTime();
+        try {
+            return loader.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            lastRecomputeNanos = elapsed;
+            recomputeNanos.addAndGet(elapsed);
+            recomputeCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Drop entries that may depend on a change to the given event and/or date
+     *
+     * @param eventId Changed event, or null if unknown / not event specific
+     * @param date Day the change is counted on, or null if unknown
+     */
+    public void invalidate(Integer eventId, LocalDate date) {
+        entries.entrySet().removeIf(e -> e.getValue().scope.isAffectedBy(eventId, date));
+    }
+
+    /**
+     * Drop every cached entry
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Snapshot of cache statistics
+     */
+    public Stats getStats() {
+        return new Stats(hits.get(), misses.get(), entries.size(),
+                         recomputeCount.get(), recomputeNanos.get(), lastRecomputeNanos);
+    }
+
+    /**
+     * Immutable cache statistics
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final int size;
+        private final long recomputeCount;
+        private final long totalRecomputeNanos;
+        private final long lastRecomputeNanos;
+
+        Stats(long hits, long misses, int size, long recomputeCount,
+              long totalRecomputeNanos, long lastRecomputeNanos) {
+            this.hits = hits;
+            this.misses = misses;
+            this.size = size;
+            this.recomputeCount = recomputeCount;
+            this.totalRecomputeNanos = totalRecomputeNanos;
+            this.lastRecomputeNanos = lastRecomputeNanos;
+        }
+
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+        public int getSize() { return size; }
+        public long getRecomputeCount() { return recomputeCount; }
+
+        public double getHitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+
+        public double getAverageRecomputeMillis() {
+            return recomputeCount == 0 ? 0.0 : totalRecomputeNanos / 1_000_000.0 / recomputeCount;
+        }
+
+        public double getLastRecomputeMillis() {
+            return lastRecomputeNanos / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%d misses=%d hitRatio=%.1f%% size=%d avgRecompute=%.1fms lastRecompute=%.1fms",
+                                 hits, misses, getHitRatio() * 100, size,
+                                 getAverageRecomputeMillis(), getLastRecomputeMillis());
+        }
+    }
+}
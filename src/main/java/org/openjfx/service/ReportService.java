@@ -1,82 +1,164 @@
 package org.openjfx.service;
 
+import org.openjfx.model.DomainEvent;
 import org.openjfx.model.InventoryItem;
+import org.openjfx.util.BackgroundExecutors;
 import org.openjfx.util.DatabaseUtil;
+import org.openjfx.util.Log;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Service class for generating reports and analytics
  * Provides data for charts and statistics
+ *
+ * Results are served from a shared {@link ReportCache}; write paths call
+ * {@link #notifyDataChanged(Integer, LocalDate)} to drop the affected entries.
+ * Views refresh on {@link DomainEvent.ReportsChanged}, published once per burst of changes,
+ * not once per change.
  */
 public class ReportService {
+
+    private static final Log LOG = Log.get(ReportService.class);
+
+    /** How long a cached report result is served */
+    private static final long CACHE_TTL_MILLIS = 60_000;
+
+    /** Quiet period after the last change before ReportsChanged is published */
+    private static final long REFRESH_DEBOUNCE_MILLIS = 300;
+
+    /** Upper bound on how long a steady stream of changes can delay ReportsChanged */
+    private static final long REFRESH_MAX_DELAY_MILLIS = 2_000;
+
+    private static final ReportCache cache = new ReportCache(CACHE_TTL_MILLIS);
+
+    /** Confirmed revenue of an event (parameter: EventID); public for QueryPlanCheck */
+    public static final String EVENT_REVENUE_SQL =
+        "SELECT ISNULL(SUM(TotalPrice),0) FROM Bookings WHERE BookingStatus = 'CONFIRMED' AND EventID = ?";
     
     private final InventoryService inventoryService;
-    private final InventoryPurchaseService purchaseService;
-    private final EventExpenseService eventExpenseService;
+    private final DailyRollupService rollupService;
     
     public ReportService() {
         this.inventoryService = new InventoryService();
-        this.purchaseService = new InventoryPurchaseService();
-        this.eventExpenseService = new EventExpenseService();
+        this.rollupService = new DailyRollupService();
     }
 
-    // Simple refresh listener support so UI components can refresh when underlying data changes
-    private static final java.util.List<Runnable> refreshListeners = new java.util.ArrayList<>();
+    private static ScheduledExecutorService refreshScheduler;
+    private static long refreshGeneration;
+    private static long pendingSince = -1;
+    private static final AtomicLong refreshRequests = new AtomicLong();
+    private static final AtomicLong refreshesDelivered = new AtomicLong();
 
-    public static void addRefreshListener(Runnable r) {
-        synchronized (refreshListeners) { refreshListeners.add(r); }
+    /**
+     * Drop all cached results and schedule a (coalesced) ReportsChanged
+     */
+    public static void notifyRefreshListeners() {
+        cache.invalidateAll();
+        scheduleRefresh();
     }
 
-    public static void removeRefreshListener(Runnable r) {
-        synchronized (refreshListeners) { refreshListeners.remove(r); }
+    /**
+     * Drop the cached results affected by a change and schedule a (coalesced) ReportsChanged
+     *
+     * @param eventId Event the change belongs to, or null if unknown
+     * @param date Day the change is counted on, or null if unknown
+     */
+    public static void notifyDataChanged(Integer eventId, LocalDate date) {
+        cache.invalidate(eventId, date);
+        scheduleRefresh();
     }
 
-    public static void notifyRefreshListeners() {
-        java.util.List<Runnable> copy;
-        synchronized (refreshListeners) { copy = new java.util.ArrayList<>(refreshListeners); }
-        for (Runnable r : copy) {
-            try { r.run(); } catch (Exception ignored) {}
+    /**
+     * Debounce ReportsChanged: each request pushes the notification back by
+     * REFRESH_DEBOUNCE_MILLIS, but never more than REFRESH_MAX_DELAY_MILLIS past the first one
+     */
+    private static synchronized void scheduleRefresh() {
+        refreshRequests.incrementAndGet();
+        long now = System.currentTimeMillis();
+
+        if (pendingSince < 0) {
+            pendingSince = now;
+        } else if (now - pendingSince >= REFRESH_MAX_DELAY_MILLIS) {
+            return; // the pending notification fires soon and covers this change
         }
+
+        if (refreshScheduler == null) {
+            refreshScheduler = BackgroundExecutors.newScheduler("report-refresh");
+        }
+
+        // superseded notifications see a newer generation and do nothing
+        long generation = ++refreshGeneration;
+        refreshScheduler.schedule(() -> publishRefresh(generation),
+                                  REFRESH_DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private static void publishRefresh(long generation) {
+        synchronized (ReportService.class) {
+            if (generation != refreshGeneration) return;
+            pendingSince = -1;
+        }
+        refreshesDelivered.incrementAndGet();
+        DomainEventBus.publish(new DomainEvent.ReportsChanged());
+    }
+
+    /**
+     * Get report cache statistics (hit ratio, recompute time)
+     */
+    public static ReportCache.Stats getCacheStats() {
+        return cache.getStats();
+    }
+
+    /**
+     * Number of change notifications received since startup
+     */
+    public static long getRefreshRequestCount() {
+        return refreshRequests.get();
+    }
+
+    /**
+     * Number of ReportsChanged events published since startup (after coalescing)
+     */
+    public static long getRefreshDeliveredCount() {
+        return refreshesDelivered.get();
     }
 
     /**
      * Get total revenue between two dates (inclusive)
+     * Answered from the daily rollups
      */
     public double getRevenueForPeriod(LocalDate start, LocalDate end) {
-        String query = "SELECT ISNULL(SUM(TotalPrice),0) FROM Bookings WHERE BookingStatus = 'CONFIRMED' " +
-                       "AND CAST(BookingDate AS DATE) BETWEEN ? AND ?";
-        try (java.sql.Connection conn = DatabaseUtil.getConnection();
-             java.sql.PreparedStatement stmt = conn.prepareStatement(query)) {
-
-            stmt.setString(1, start.toString());
-            stmt.setString(2, end.toString());
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) return rs.getDouble(1);
-            }
+        return cache.get(ReportCache.Scope.period(start, end),
+                         () -> loadRevenueForPeriod(start, end), "getRevenueForPeriod", start, end);
+    }
 
-        } catch (SQLException e) {
-            System.err.println("Error getting revenue for period: " + e.getMessage());
-            e.printStackTrace();
-        }
-        return 0.0;
+    private double loadRevenueForPeriod(LocalDate start, LocalDate end) {
+        return rollupService.getTotal(DailyRollupService.Category.REVENUE, start, end);
     }
 
     /**
      * Get total revenue for a single event
      */
     public double getRevenueForEvent(int eventId) {
-        String query = "SELECT ISNULL(SUM(TotalPrice),0) FROM Bookings WHERE BookingStatus = 'CONFIRMED' AND EventID = ?";
+        return cache.get(ReportCache.Scope.event(eventId),
+                         () -> loadRevenueForEvent(eventId), "getRevenueForEvent", eventId);
+    }
+
+    private double loadRevenueForEvent(int eventId) {
         try (java.sql.Connection conn = DatabaseUtil.getConnection();
-             java.sql.PreparedStatement stmt = conn.prepareStatement(query)) {
+             java.sql.PreparedStatement stmt = conn.prepareStatement(EVENT_REVENUE_SQL)) {
 
             stmt.setInt(1, eventId);
             try (ResultSet rs = stmt.executeQuery()) {
@@ -84,18 +166,23 @@ public class ReportService {
             }
 
         } catch (SQLException e) {
-            System.err.println("Error getting revenue for event: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting revenue for event", e);
         }
         return 0.0;
     }
 
     /**
-     * Total expenses (purchases) in a period
+     * Total expenses (purchases + event expenses) in a period
+     * Answered from the daily rollups
      */
     public double getTotalExpenses(LocalDate start, LocalDate end) {
-        double purchases = purchaseService.getTotalExpensesInPeriod(start, end);
-        double eventExpenses = eventExpenseService.getTotalExpensesInPeriod(start, end);
+        return cache.get(ReportCache.Scope.period(start, end),
+                         () -> loadTotalExpenses(start, end), "getTotalExpenses", start, end);
+    }
+
+    private double loadTotalExpenses(LocalDate start, LocalDate end) {
+        double purchases = rollupService.getTotal(DailyRollupService.Category.PURCHASES, start, end);
+        double eventExpenses = rollupService.getTotal(DailyRollupService.Category.EVENT_EXPENSES, start, end);
         return purchases + eventExpenses;
     }
 
@@ -110,20 +197,66 @@ public class ReportService {
 
     /**
      * Profit for an event (event revenue - expenses attributed to event)
+     * Answered from the daily rollups in a single query
      */
     public double getProfitForEvent(int eventId) {
-        double revenue = getRevenueForEvent(eventId);
-        double purchases = purchaseService.getTotalExpensesForEvent(eventId);
-        double eventExpenses = eventExpenseService.getTotalExpensesForEvent(eventId);
-        double expenses = purchases + eventExpenses;
+        return cache.get(ReportCache.Scope.event(eventId),
+                         () -> loadProfitForEvent(eventId), "getProfitForEvent", eventId);
+    }
+
+    private double loadProfitForEvent(int eventId) {
+        Map<DailyRollupService.Category, Double> totals = rollupService.getEventTotals(eventId);
+        double revenue = totals.get(DailyRollupService.Category.REVENUE);
+        double expenses = totals.get(DailyRollupService.Category.PURCHASES)
+                        + totals.get(DailyRollupService.Category.EVENT_EXPENSES);
         return revenue - expenses;
     }
+
+    /**
+     * Revenue trend between two dates, bucketed by day, week or month
+     * @return Map of bucket label to revenue, in chronological order
+     */
+    public Map<String, Double> getRevenueTrend(DailyRollupService.Granularity granularity,
+                                               LocalDate start, LocalDate end) {
+        return cache.get(ReportCache.Scope.period(start, end),
+                         () -> Collections.unmodifiableMap(loadRevenueTrend(granularity, start, end)),
+                         "getRevenueTrend", granularity, start, end);
+    }
+
+    private Map<String, Double> loadRevenueTrend(DailyRollupService.Granularity granularity,
+                                                 LocalDate start, LocalDate end) {
+        return rollupService.getTrend(DailyRollupService.Category.REVENUE, granularity, start, end);
+    }
+
+    /**
+     * Expense trend (purchases + event expenses) between two dates, bucketed by day, week or month
+     * @return Map of bucket label to expenses, in chronological order
+     */
+    public Map<String, Double> getExpenseTrend(DailyRollupService.Granularity granularity,
+                                               LocalDate start, LocalDate end) {
+        return cache.get(ReportCache.Scope.period(start, end),
+                         () -> Collections.unmodifiableMap(loadExpenseTrend(granularity, start, end)),
+                         "getExpenseTrend", granularity, start, end);
+    }
+
+    private Map<String, Double> loadExpenseTrend(DailyRollupService.Granularity granularity,
+                                                 LocalDate start, LocalDate end) {
+        Map<String, Double> trend = rollupService.getTrend(DailyRollupService.Category.PURCHASES, granularity, start, end);
+        rollupService.getTrend(DailyRollupService.Category.EVENT_EXPENSES, granularity, start, end)
+            .forEach((bucket, amount) -> trend.merge(bucket, amount, Double::sum));
+        return trend;
+    }
     
     /**
      * Get sales revenue per event
      * @return Map of Event Name to Total Revenue
      */
     public Map<String, Double> getSalesPerEvent() {
+        return cache.get(ReportCache.Scope.ALL,
+                         () -> Collections.unmodifiableMap(loadSalesPerEvent()), "getSalesPerEvent");
+    }
+
+    private Map<String, Double> loadSalesPerEvent() {
         Map<String, Double> salesData = new LinkedHashMap<>();
         String query = "SELECT EventName, ISNULL(TotalRevenue, 0) as Revenue " +
                       "FROM vw_SalesPerEvent " +
@@ -141,8 +274,7 @@ public class ReportService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error getting sales per event!");
-            e.printStackTrace();
+            LOG.error("Error getting sales per event!", e);
         }
         
         return salesData;
@@ -153,6 +285,11 @@ public class ReportService {
      * @return Map of Event Name to Tickets Sold Count
      */
     public Map<String, Integer> getTicketsSoldPerEvent() {
+        return cache.get(ReportCache.Scope.ALL,
+                         () -> Collections.unmodifiableMap(loadTicketsSoldPerEvent()), "getTicketsSoldPerEvent");
+    }
+
+    private Map<String, Integer> loadTicketsSoldPerEvent() {
         Map<String, Integer> ticketsData = new LinkedHashMap<>();
         String query = "SELECT EventName, ISNULL(TotalTicketsSold, 0) as TicketsSold " +
                       "FROM vw_SalesPerEvent " +
@@ -170,8 +307,7 @@ public class ReportService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error getting tickets sold per event!");
-            e.printStackTrace();
+            LOG.error("Error getting tickets sold per event!", e);
         }
         
         return ticketsData;
@@ -182,6 +318,11 @@ public class ReportService {
      * @return Map of Event Name to Booking Count
      */
     public Map<String, Integer> getBookingsPerEvent() {
+        return cache.get(ReportCache.Scope.ALL,
+                         () -> Collections.unmodifiableMap(loadBookingsPerEvent()), "getBookingsPerEvent");
+    }
+
+    private Map<String, Integer> loadBookingsPerEvent() {
         Map<String, Integer> bookingsData = new LinkedHashMap<>();
         String query = "SELECT EventName, ISNULL(TotalBookings, 0) as BookingCount " +
                       "FROM vw_SalesPerEvent " +
@@ -199,8 +340,7 @@ public class ReportService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error getting bookings per event!");
-            e.printStackTrace();
+            LOG.error("Error getting bookings per event!", e);
         }
         
         return bookingsData;
@@ -219,6 +359,11 @@ public class ReportService {
      * @return Total revenue amount
      */
     public double getTotalRevenue() {
+        return cache.get(ReportCache.Scope.ALL,
+                         this::loadTotalRevenue, "getTotalRevenue");
+    }
+
+    private double loadTotalRevenue() {
         String query = "SELECT ISNULL(SUM(TotalRevenue), 0) as GrandTotal FROM vw_SalesPerEvent";
         
         try (Connection conn = DatabaseUtil.getConnection();
@@ -231,8 +376,7 @@ public class ReportService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error getting total revenue!");
-            e.printStackTrace();
+            LOG.error("Error getting total revenue!", e);
         }
         
         return 0.0;
@@ -243,6 +387,11 @@ public class ReportService {
      * @return Total tickets sold count
      */
     public int getTotalTicketsSold() {
+        return cache.get(ReportCache.Scope.ALL,
+                         this::loadTotalTicketsSold, "getTotalTicketsSold");
+    }
+
+    private int loadTotalTicketsSold() {
         String query = "SELECT ISNULL(SUM(TotalTicketsSold), 0) as GrandTotal FROM vw_SalesPerEvent";
         
         try (Connection conn = DatabaseUtil.getConnection();
@@ -255,8 +404,7 @@ public class ReportService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error getting total tickets sold!");
-            e.printStackTrace();
+            LOG.error("Error getting total tickets sold!", e);
         }
         
         return 0;
@@ -264,36 +412,16 @@ public class ReportService {
     
     /**
      * Get monthly revenue trend
+     * Answered from the daily rollups (revenue by booking month)
      * @return Map of Month-Year to Revenue
      */
     public Map<String, Double> getMonthlyRevenueTrend() {
-        Map<String, Double> monthlyData = new LinkedHashMap<>();
-        String query = "SELECT FORMAT(e.EventDate, 'MMM yyyy') as Month, " +
-                      "ISNULL(SUM(es.Price), 0) as Revenue " +
-                      "FROM Events e " +
-                      "LEFT JOIN EventSections es ON e.EventID = es.EventID " +
-                      "LEFT JOIN Bookings b ON e.EventID = b.EventID " +
-                      "LEFT JOIN BookingSeats bs ON b.BookingID = bs.BookingID AND bs.SectionID = es.SectionID " +
-                      "GROUP BY FORMAT(e.EventDate, 'MMM yyyy'), YEAR(e.EventDate), MONTH(e.EventDate) " +
-                      "ORDER BY YEAR(e.EventDate), MONTH(e.EventDate)";
-        
-        try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query)) {
-            
-            ResultSet rs = stmt.executeQuery();
-            
-            while (rs.next()) {
-                String month = rs.getString("Month");
-                double revenue = rs.getDouble("Revenue");
-                monthlyData.put(month, revenue);
-            }
-            
-        } catch (SQLException e) {
-            System.err.println("Error getting monthly revenue trend!");
-            e.printStackTrace();
-        }
-        
-        return monthlyData;
+        return cache.get(ReportCache.Scope.ALL,
+                         () -> Collections.unmodifiableMap(loadMonthlyRevenueTrend()), "getMonthlyRevenueTrend");
+    }
+
+    private Map<String, Double> loadMonthlyRevenueTrend() {
+        return rollupService.getMonthlyTotals(DailyRollupService.Category.REVENUE);
     }
     
     /**
@@ -301,6 +429,11 @@ public class ReportService {
      * @return Map with various event statistics
      */
     public Map<String, Object> getEventStatistics() {
+        return cache.get(ReportCache.Scope.ALL,
+                         () -> Collections.unmodifiableMap(loadEventStatistics()), "getEventStatistics");
+    }
+
+    private Map<String, Object> loadEventStatistics() {
         Map<String, Object> stats = new HashMap<>();
         
         String query = "SELECT " +
@@ -328,8 +461,7 @@ public class ReportService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error getting event statistics!");
-            e.printStackTrace();
+            LOG.error("Error getting event statistics!", e);
         }
         
         return stats;
@@ -340,6 +472,11 @@ public class ReportService {
      * @return Map of Section Name to Tickets Sold
      */
     public Map<String, Integer> getSectionPopularity() {
+        return cache.get(ReportCache.Scope.ALL,
+                         () -> Collections.unmodifiableMap(loadSectionPopularity()), "getSectionPopularity");
+    }
+
+    private Map<String, Integer> loadSectionPopularity() {
         Map<String, Integer> sectionData = new LinkedHashMap<>();
         String query = "SELECT s.SectionName, COUNT(bs.SeatID) as TicketsSold " +
                       "FROM Sections s " +
@@ -359,8 +496,7 @@ public class ReportService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error getting section popularity!");
-            e.printStackTrace();
+            LOG.error("Error getting section popularity!", e);
         }
         
         return sectionData;
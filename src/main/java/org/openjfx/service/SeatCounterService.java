@@ -0,0 +1,157 @@
+package org.openjfx.service;
+
+import org.openjfx.util.BackgroundExecutors;
+import org.openjfx.util.DatabaseUtil;
+import org.openjfx.util.Log;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service that keeps the stored seat counters honest.
+ *
+ * Events.BookedSeats and EventSections.AvailableCapacity are maintained by
+ * BookingService inside each booking transaction. This service recomputes
+ * them from BookingSeats of CONFIRMED bookings and repairs any row that drifted
+ * (manual edits, scripts, older app versions).
+ */
+public class SeatCounterService {
+
+    private static final Log LOG = Log.get(SeatCounterService.class);
+
+    /** How often the background reconciler runs */
+    private static final long RECONCILE_INTERVAL_MINUTES = 10;
+
+    private static final String CONFIRMED_SEATS_PER_EVENT =
+        "SELECT bs.EventID, COUNT(*) AS Booked " +
+        "FROM BookingSeats bs " +
+        "INNER JOIN Bookings b ON b.BookingID = bs.BookingID " +
+        "WHERE b.BookingStatus = 'CONFIRMED' " +
+        "GROUP BY bs.EventID";
+
+    private static final String CONFIRMED_SEATS_PER_SECTION =
+        "SELECT bs.EventID, bs.SectionID, COUNT(*) AS Booked " +
+        "FROM BookingSeats bs " +
+        "INNER JOIN Bookings b ON b.BookingID = bs.BookingID " +
+        "WHERE b.BookingStatus = 'CONFIRMED' " +
+        "GROUP BY bs.EventID, bs.SectionID";
+
+    /** sp_getapplock resource that lets one terminal at a time reconcile */
+    private static final String RECONCILE_LOCK = "StadiumSeatCounterReconcile";
+
+    private static ScheduledExecutorService reconcileScheduler;
+
+    /**
+     * Detect and repair drift in the event and section seat counters
+     * Both updates run in one SERIALIZABLE transaction, so a booking cannot commit between the
+     * count and the counter write; only one terminal at a time reconciles (the others skip).
+     * @return Number of rows repaired, or -1 if reconciliation failed
+     */
+    public int reconcile() {
+        String eventsSql =
+            "UPDATE e SET BookedSeats = ISNULL(c.Booked, 0), UpdatedAt = GETDATE() " +
+            "FROM Events e " +
+            "LEFT JOIN (" + CONFIRMED_SEATS_PER_EVENT + ") c ON c.EventID = e.EventID " +
+            "WHERE ISNULL(e.BookedSeats, -1) <> ISNULL(c.Booked, 0)";
+
+        String sectionsSql =
+            "UPDATE es SET AvailableCapacity = es.TotalCapacity - ISNULL(c.Booked, 0), UpdatedAt = GETDATE() " +
+            "FROM EventSections es " +
+            "LEFT JOIN (" + CONFIRMED_SEATS_PER_SECTION + ") c " +
+            "ON c.EventID = es.EventID AND c.SectionID = es.SectionID " +
+            "WHERE es.AvailableCapacity <> es.TotalCapacity - ISNULL(c.Booked, 0)";
+
+        Connection conn = null;
+        try {
+            conn = DatabaseUtil.getConnection();
+            conn.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+            conn.setAutoCommit(false);
+
+            if (!acquireReconcileLock(conn)) {
+                conn.rollback();
+                LOG.debug("Seat counters are being reconciled by another terminal; skipped");
+                return 0;
+            }
+
+            int events;
+            int sections;
+            try (Statement stmt = conn.createStatement()) {
+                // a booking blocked by the range locks wins a deadlock; the next run retries
+                stmt.execute("SET DEADLOCK_PRIORITY LOW");
+                events = stmt.executeUpdate(eventsSql);
+                sections = stmt.executeUpdate(sectionsSql);
+            }
+            conn.commit();
+
+            if (sections > 0) {
+                EventSectionCache.invalidateAll();
+            }
+            if (events > 0 || sections > 0) {
+                LOG.warn("Seat counters drifted; repaired " + events + " event(s) and " +
+                                   sections + " event section(s)");
+            }
+            return events + sections;
+
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException ex) {
+                    LOG.error("Error rolling back transaction", ex);
+                }
+            }
+            LOG.error("Error reconciling seat counters", e);
+            return -1;
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                    conn.close();
+                } catch (SQLException e) {
+                    LOG.error("Error closing connection", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Take the reconciler's application lock for the current transaction without waiting
+     * @return false if another terminal holds it
+     */
+    private boolean acquireReconcileLock(Connection conn) throws SQLException {
+        try (CallableStatement stmt = conn.prepareCall("{? = call sp_getapplock(?, ?, ?, ?)}")) {
+            stmt.registerOutParameter(1, Types.INTEGER);
+            stmt.setString(2, RECONCILE_LOCK);
+            stmt.setString(3, "Exclusive");
+            stmt.setString(4, "Transaction");
+            stmt.setInt(5, 0);
+            stmt.execute();
+            // 0 or 1 = granted, -1 = timed out (held elsewhere), lower = error
+            return stmt.getInt(1) >= 0;
+        }
+    }
+
+    /**
+     * Start reconciling the seat counters periodically in the background.
+     * Safe to call more than once; only one reconciler is started.
+     */
+    public static synchronized void startReconciler() {
+        if (reconcileScheduler != null) return;
+
+        reconcileScheduler = BackgroundExecutors.newScheduler("seat-counter-reconciler");
+
+        reconcileScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                new SeatCounterService().reconcile();
+            } catch (Exception e) {
+                // keep the reconciler alive; the next run will retry
+                LOG.error("Seat counter reconciliation failed", e);
+            }
+        }, 1, RECONCILE_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+}
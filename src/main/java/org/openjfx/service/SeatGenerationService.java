@@ -1,24 +1,151 @@
 package org.openjfx.service;
 
 import org.openjfx.model.Section;
+import org.openjfx.util.BackgroundExecutors;
 import org.openjfx.util.DatabaseUtil;
+import org.openjfx.util.Log;
+import org.openjfx.util.RowLabels;
 
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Collectors;
 
 /**
  * Service for automatically generating and managing seat records
  * based on section configuration
  */
 public class SeatGenerationService {
+
+    private static final Log LOG = Log.get(SeatGenerationService.class);
+    
+    /** Default number of sections regenerated at the same time (one connection each) */
+    public static final int DEFAULT_PARALLELISM = 4;
+    
+    /** Largest row count / seats per row the numbers table below can generate */
+    private static final int MAX_SEATS_PER_DIMENSION = 10000;
+    
+    /** SQL Server error code for a deadlock victim; the section is retried */
+    private static final int DEADLOCK_ERROR_CODE = 1205;
+    private static final int MAX_ATTEMPTS = 3;
+    
+    /** Inline numbers table 1..10000, used to generate seats set-based */
+    private static final String NUMBERS_CTE =
+        "WITH Digits AS (SELECT n FROM (VALUES (0),(1),(2),(3),(4),(5),(6),(7),(8),(9)) AS d(n)), " +
+        "Numbers AS (SELECT a.n + 10 * b.n + 100 * c.n + 1000 * d.n + 1 AS n " +
+        "            FROM Digits a CROSS JOIN Digits b CROSS JOIN Digits c CROSS JOIN Digits d) ";
+    
+    /** Row label for row number r.n, matching RowLabels.rowLabel() (A..Z, AA..ZZ, AAA..) */
+    private static final String ROW_LABEL_EXPR =
+        "CASE WHEN r.n <= 26 THEN CHAR(64 + r.n) " +
+        "     WHEN r.n <= 702 THEN CHAR(65 + (r.n - 27) / 26) + CHAR(65 + (r.n - 27) % 26) " +
+        "     ELSE CHAR(65 + (r.n - 703) / 676) + CHAR(65 + ((r.n - 703) / 26) % 26) + CHAR(65 + (r.n - 703) % 26) END";
+    
+    /**
+     * Set-based seat generation: one INSERT ... SELECT over the numbers table
+     * cross joined rows x seats
+     */
+    private static final String GENERATE_SEATS_SQL =
+        NUMBERS_CTE +
+        "INSERT INTO Seats (SectionID, RowNumber, SeatNumber, IsActive) " +
+        "SELECT ?, " + ROW_LABEL_EXPR + ", s.n, 1 " +
+        "FROM Numbers r CROSS JOIN Numbers s " +
+        "WHERE r.n <= ? AND s.n <= ?";
+    
+    /** Seat se is held by a booking that has not been cancelled */
+    private static final String SEAT_IS_BOOKED =
+        "EXISTS (SELECT 1 FROM BookingSeats bs " +
+        "        INNER JOIN Bookings b ON bs.BookingID = b.BookingID " +
+        "        WHERE bs.SeatID = se.SeatID AND bs.Status = 'BOOKED' AND b.BookingStatus != 'CANCELLED')";
+    
+    /** Seat se is part of the target layout in #Layout */
+    private static final String SEAT_IN_LAYOUT =
+        "EXISTS (SELECT 1 FROM #Layout l WHERE l.RowNumber = se.RowNumber AND l.SeatNumber = se.SeatNumber)";
+    
+    /**
+     * Result of regenerating one section
+     */
+    public static class SectionResult {
+        private final int sectionId;
+        private final String sectionName;
+        private final int seatsCreated;
+        private final long millis;
+        private final SQLException error;
+        
+        public SectionResult(int sectionId, String sectionName, int seatsCreated, long millis, SQLException error) {
+            this.sectionId = sectionId;
+            this.sectionName = sectionName;
+            this.seatsCreated = seatsCreated;
+            this.millis = millis;
+            this.error = error;
+        }
+        
+        public int getSectionId() { return sectionId; }
+        public String getSectionName() { return sectionName; }
+        public int getSeatsCreated() { return seatsCreated; }
+        public long getMillis() { return millis; }
+        public SQLException getError() { return error; }
+        public boolean isSuccess() { return error == null; }
+    }
+    
+    /**
+     * Outcome of applying a section's configured layout to its existing seats
+     */
+    public static class LayoutChange {
+        private final int inserted;
+        private final int reactivated;
+        private final int deactivated;
+        private final int keptBooked;
+        
+        public LayoutChange(int inserted, int reactivated, int deactivated, int keptBooked) {
+            this.inserted = inserted;
+            this.reactivated = reactivated;
+            this.deactivated = deactivated;
+            this.keptBooked = keptBooked;
+        }
+        
+        /** New seats created for rows/seats that did not exist before */
+        public int getInserted() { return inserted; }
+        /** Previously deactivated seats that are back inside the layout */
+        public int getReactivated() { return reactivated; }
+        /** Unbooked seats outside the new layout, now IsActive = 0 */
+        public int getDeactivated() { return deactivated; }
+        /** Booked seats outside the new layout, left active until their bookings end */
+        public int getKeptBooked() { return keptBooked; }
+        
+        public boolean hasChanges() {
+            return inserted > 0 || reactivated > 0 || deactivated > 0;
+        }
+        
+        @Override
+        public String toString() {
+            return inserted + " added, " + reactivated + " reactivated, " + deactivated + " deactivated" +
+                   (keptBooked > 0 ? ", " + keptBooked + " booked seats kept" : "");
+        }
+    }
+    
+    /**
+     * Receives per-section progress while sections are regenerated in parallel.
+     * Called from the thread that started the regeneration, once per finished section.
+     */
+    public interface ProgressListener {
+        void sectionFinished(SectionResult result, int sectionsDone, int sectionsTotal);
+    }
     
     /**
      * Regenerates all seats for a section based on its current configuration
      * Deletes existing seats and creates new ones according to TotalRows and SeatsPerRow
      * 
      * @param sectionId The section to regenerate seats for
+     * @return Number of seats created (0 for non-TRIBUNE sections)
      * @throws SQLException If database operation fails
      */
-    public void regenerateSeatsForSection(int sectionId) throws SQLException {
+    public int regenerateSeatsForSection(int sectionId) throws SQLException {
         Connection conn = null;
         try {
             conn = DatabaseUtil.getConnection();
@@ -32,11 +159,11 @@ public class SeatGenerationService {
             
             // Only generate seats for TRIBUNE sections (seated)
             if (!"TRIBUNE".equals(section.getSectionType())) {
-                System.out.println("Skipping seat generation for non-TRIBUNE section: " + section.getSectionName());
-                return;
+                LOG.debug("Skipping seat generation for non-TRIBUNE section: " + section.getSectionName());
+                return 0;
             }
             
-            System.out.println("Regenerating seats for section: " + section.getSectionName() + 
+            LOG.debug(() -> "Regenerating seats for section: " + section.getSectionName() + 
                              " (" + section.getTotalRows() + " rows × " + 
                              section.getSeatsPerRow() + " seats = " + 
                              section.getTotalCapacity() + " total)");
@@ -45,19 +172,21 @@ public class SeatGenerationService {
             deleteSeatsForSection(sectionId, conn);
             
             // Generate new seats
-            generateSeatsForSection(section, conn);
+            int created = generateSeatsForSection(section, conn);
             
             conn.commit();
-            System.out.println("✓ Successfully regenerated " + section.getTotalCapacity() + 
+            StadiumConfigCache.invalidateLayout(sectionId);
+            LOG.debug("Regenerated " + created + 
                              " seats for " + section.getSectionName());
+            return created;
             
         } catch (SQLException e) {
             if (conn != null) {
                 try {
                     conn.rollback();
-                    System.err.println("✗ Rolled back seat regeneration due to error");
+                    LOG.warn("Rolled back seat regeneration due to error");
                 } catch (SQLException ex) {
-                    ex.printStackTrace();
+                    LOG.error("Error rolling back transaction", ex);
                 }
             }
             throw e;
@@ -67,46 +196,284 @@ public class SeatGenerationService {
                     conn.setAutoCommit(true);
                     conn.close();
                 } catch (SQLException e) {
-                    e.printStackTrace();
+                    LOG.error("Error closing connection", e);
                 }
             }
         }
     }
     
     /**
-     * Generates seats for all tribune sections in the database
-     * Useful for initial setup or complete regeneration
+     * Applies a section's configured TotalRows x SeatsPerRow to its existing seats
+     * without deleting anything, all in one transaction:
+     * - seats inside the layout that do not exist yet are inserted
+     * - deactivated seats inside the layout are reactivated
+     * - unbooked seats outside the layout are deactivated (IsActive = 0)
+     * - booked seats are never touched
+     * 
+     * @param sectionId The section whose layout changed
+     * @return Summary of the changes made
+     * @throws SQLException If the section does not exist or a database operation fails
      */
-    public void regenerateAllSeats() throws SQLException {
+    public LayoutChange applyLayoutChange(int sectionId) throws SQLException {
         Connection conn = null;
         try {
             conn = DatabaseUtil.getConnection();
-            String query = "SELECT SectionID FROM Sections WHERE SectionType = 'TRIBUNE'";
+            conn.setAutoCommit(false);
             
-            PreparedStatement stmt = conn.prepareStatement(query);
-            ResultSet rs = stmt.executeQuery();
+            // Lock the section row so concurrent layout changes of the same section serialize
+            int totalRows;
+            int seatsPerRow;
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "SELECT TotalRows, SeatsPerRow FROM Sections WITH (UPDLOCK, HOLDLOCK) WHERE SectionID = ?")) {
+                stmt.setInt(1, sectionId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (!rs.next()) {
+                        throw new SQLException("Section not found: " + sectionId);
+                    }
+                    totalRows = rs.getInt("TotalRows");
+                    seatsPerRow = rs.getInt("SeatsPerRow");
+                }
+            }
             
-            int sectionsProcessed = 0;
-            while (rs.next()) {
-                int sectionId = rs.getInt("SectionID");
+            if (totalRows > MAX_SEATS_PER_DIMENSION || seatsPerRow > MAX_SEATS_PER_DIMENSION) {
+                throw new SQLException("Section " + sectionId + " is too large to generate (max " +
+                                     MAX_SEATS_PER_DIMENSION + " rows and seats per row)");
+            }
+            
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("IF OBJECT_ID('tempdb..#Layout') IS NOT NULL DROP TABLE #Layout");
+                stmt.execute("CREATE TABLE #Layout (" +
+                             "RowNumber NVARCHAR(10) COLLATE DATABASE_DEFAULT NOT NULL, " +
+                             "SeatNumber INT NOT NULL, " +
+                             "PRIMARY KEY (RowNumber, SeatNumber))");
+            }
+            
+            // 1. Target layout
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    NUMBERS_CTE +
+                    "INSERT INTO #Layout (RowNumber, SeatNumber) " +
+                    "SELECT " + ROW_LABEL_EXPR + ", s.n " +
+                    "FROM Numbers r CROSS JOIN Numbers s " +
+                    "WHERE r.n <= ? AND s.n <= ?")) {
+                stmt.setInt(1, totalRows);
+                stmt.setInt(2, seatsPerRow);
+                stmt.executeUpdate();
+            }
+            
+            // 2. Reactivate seats that are back inside the layout
+            int reactivated;
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "UPDATE se SET IsActive = 1 FROM Seats se " +
+                    "WHERE se.SectionID = ? AND ISNULL(se.IsActive, 0) = 0 AND " + SEAT_IN_LAYOUT)) {
+                stmt.setInt(1, sectionId);
+                reactivated = stmt.executeUpdate();
+            }
+            
+            // 3. Insert only the seats that do not exist yet
+            int inserted;
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO Seats (SectionID, RowNumber, SeatNumber, IsActive) " +
+                    "SELECT ?, l.RowNumber, l.SeatNumber, 1 FROM #Layout l " +
+                    "WHERE NOT EXISTS (SELECT 1 FROM Seats se WHERE se.SectionID = ? " +
+                    "                  AND se.RowNumber = l.RowNumber AND se.SeatNumber = l.SeatNumber)")) {
+                stmt.setInt(1, sectionId);
+                stmt.setInt(2, sectionId);
+                inserted = stmt.executeUpdate();
+            }
+            
+            // 4. Deactivate removed seats that nobody holds
+            int deactivated;
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "UPDATE se SET IsActive = 0 FROM Seats se " +
+                    "WHERE se.SectionID = ? AND se.IsActive = 1 " +
+                    "AND NOT " + SEAT_IN_LAYOUT + " AND NOT " + SEAT_IS_BOOKED)) {
+                stmt.setInt(1, sectionId);
+                deactivated = stmt.executeUpdate();
+            }
+            
+            // 5. Removed seats that stay because they are booked
+            int keptBooked = 0;
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "SELECT COUNT(*) FROM Seats se " +
+                    "WHERE se.SectionID = ? AND se.IsActive = 1 " +
+                    "AND NOT " + SEAT_IN_LAYOUT + " AND " + SEAT_IS_BOOKED)) {
+                stmt.setInt(1, sectionId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) keptBooked = rs.getInt(1);
+                }
+            }
+            
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("DROP TABLE #Layout");
+            }
+            
+            conn.commit();
+            StadiumConfigCache.invalidateLayout(sectionId);
+            
+            LayoutChange change = new LayoutChange(inserted, reactivated, deactivated, keptBooked);
+            LOG.info("Applied layout for section " + sectionId + " (" + totalRows + " rows × " +
+                             seatsPerRow + " seats): " + change);
+            return change;
+            
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                    LOG.warn("Rolled back layout change due to error");
+                } catch (SQLException ex) {
+                    LOG.error("Error rolling back transaction", ex);
+                }
+            }
+            throw e;
+        } finally {
+            if (conn != null) {
                 try {
-                    regenerateSeatsForSection(sectionId);
-                    sectionsProcessed++;
+                    conn.setAutoCommit(true);
+                    conn.close();
                 } catch (SQLException e) {
-                    System.err.println("Failed to regenerate seats for section " + sectionId + ": " + e.getMessage());
+                    LOG.error("Error closing connection", e);
                 }
             }
+        }
+    }
+    
+    /**
+     * Generates seats for all tribune sections in the database
+     * Useful for initial setup or complete regeneration
+     */
+    public void regenerateAllSeats() throws SQLException {
+        regenerateAllSeats(DEFAULT_PARALLELISM, (result, done, total) -> {
+            if (result.isSuccess()) {
+                LOG.debug(() -> "[" + done + "/" + total + "] " + result.getSectionName() + ": " +
+                                 result.getSeatsCreated() + " seats in " + result.getMillis() + " ms");
+            } else {
+                LOG.error("[" + done + "/" + total + "] Failed to regenerate seats for section " +
+                                 result.getSectionId() + ": " + result.getError().getMessage());
+            }
+        });
+    }
+    
+    /**
+     * Generates seats for all tribune sections, several sections at a time
+     * 
+     * @param parallelism Maximum number of sections regenerated concurrently
+     * @param listener Receives a result for every section as it finishes
+     * @return Total number of seats created
+     */
+    public int regenerateAllSeats(int parallelism, ProgressListener listener) throws SQLException {
+        Map<Integer, String> sections = loadSectionNames("WHERE SectionType = 'TRIBUNE'");
+        
+        long start = System.nanoTime();
+        List<SectionResult> results = regenerateSections(sections, parallelism, listener);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        
+        int sectionsProcessed = 0;
+        int totalSeats = 0;
+        for (SectionResult result : results) {
+            if (result.isSuccess()) sectionsProcessed++;
+            totalSeats += result.getSeatsCreated();
+        }
+        
+        LOG.info("Seat regeneration complete: " + sectionsProcessed + " of " + results.size()
+                 + " tribune sections, " + totalSeats + " seats in " + millis + " ms"
+                 + (millis > 0 ? " (" + (totalSeats * 1000L / millis) + " seats/sec)" : ""));
+        
+        return totalSeats;
+    }
+    
+    /**
+     * Regenerates the given sections with bounded concurrency.
+     * Each section runs in its own connection and transaction, so a failing section
+     * does not affect the others. Deadlock victims are retried.
+     * 
+     * @param sectionIds Sections to regenerate
+     * @param parallelism Maximum number of sections regenerated concurrently
+     * @param listener Receives a result for every section as it finishes (may be null)
+     * @return One result per section, in completion order
+     */
+    public List<SectionResult> regenerateSections(List<Integer> sectionIds, int parallelism,
+                                                  ProgressListener listener) throws SQLException {
+        if (sectionIds.isEmpty()) return new ArrayList<>();
+        
+        String ids = sectionIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        Map<Integer, String> names = loadSectionNames("WHERE SectionID IN (" + ids + ")");
+        Map<Integer, String> sections = new LinkedHashMap<>();
+        for (int sectionId : sectionIds) {
+            sections.put(sectionId, names.getOrDefault(sectionId, "Section " + sectionId));
+        }
+        return regenerateSections(sections, parallelism, listener);
+    }
+    
+    /**
+     * Section IDs and names of the sections matching a WHERE clause (one query)
+     */
+    private Map<Integer, String> loadSectionNames(String where) throws SQLException {
+        Map<Integer, String> sections = new LinkedHashMap<>();
+        String query = "SELECT SectionID, SectionName FROM Sections " + where + " ORDER BY SectionID";
+        
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query);
+             ResultSet rs = stmt.executeQuery()) {
             
-            System.out.println("\n========================================");
-            System.out.println("Seat regeneration complete!");
-            System.out.println("Processed " + sectionsProcessed + " tribune sections");
-            System.out.println("========================================\n");
+            while (rs.next()) {
+                sections.put(rs.getInt("SectionID"), rs.getString("SectionName"));
+            }
+        }
+        return sections;
+    }
+    
+    private List<SectionResult> regenerateSections(Map<Integer, String> sections, int parallelism,
+                                                   ProgressListener listener) throws SQLException {
+        List<SectionResult> results = new ArrayList<>();
+        if (sections.isEmpty()) return results;
+        
+        // Registered so the Diagnostics page shows the queue while a regeneration runs
+        ThreadPoolExecutor pool = BackgroundExecutors.newPool("seat-generation",
+                                                              Math.max(1, Math.min(parallelism, sections.size())));
+        
+        try {
+            ExecutorCompletionService<SectionResult> completion = new ExecutorCompletionService<>(pool);
+            for (Map.Entry<Integer, String> section : sections.entrySet()) {
+                completion.submit(() -> regenerateWithRetry(section.getKey(), section.getValue()));
+            }
             
+            for (int done = 1; done <= sections.size(); done++) {
+                SectionResult result = completion.take().get();
+                results.add(result);
+                if (listener != null) {
+                    listener.sectionFinished(result, done, sections.size());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Seat regeneration interrupted", e);
+        } catch (ExecutionException e) {
+            throw new SQLException("Seat regeneration failed: " + e.getCause().getMessage(), e.getCause());
         } finally {
-            if (conn != null) {
-                conn.close();
+            pool.shutdownNow();
+        }
+        
+        return results;
+    }
+    
+    private SectionResult regenerateWithRetry(int sectionId, String sectionName) {
+        long start = System.nanoTime();
+        SQLException lastError = null;
+        
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                int created = regenerateSeatsForSection(sectionId);
+                return new SectionResult(sectionId, sectionName, created,
+                                         (System.nanoTime() - start) / 1_000_000, null);
+            } catch (SQLException e) {
+                lastError = e;
+                if (e.getErrorCode() != DEADLOCK_ERROR_CODE) break;
+                LOG.warn("Deadlock regenerating section " + sectionId + ", retrying (" + attempt + ")");
             }
         }
+        
+        return new SectionResult(sectionId, sectionName, 0,
+                                 (System.nanoTime() - start) / 1_000_000, lastError);
     }
     
     /**
@@ -132,55 +499,37 @@ public class SeatGenerationService {
         PreparedStatement deleteStmt = conn.prepareStatement(deleteQuery);
         deleteStmt.setInt(1, sectionId);
         int deleted = deleteStmt.executeUpdate();
-        System.out.println("  - Deleted " + deleted + " existing seats");
+        LOG.debug("Deleted " + deleted + " existing seats");
     }
     
     /**
      * Generates seat records based on section configuration
+     * Uses a single set-based INSERT instead of one row per seat
+     * 
+     * @return Number of seats created
      */
-    private void generateSeatsForSection(Section section, Connection conn) throws SQLException {
-        String insertQuery = "INSERT INTO Seats (SectionID, RowNumber, SeatNumber) VALUES (?, ?, ?)";
-        PreparedStatement stmt = conn.prepareStatement(insertQuery);
-        
-        int seatsCreated = 0;
-        
-        // Generate seats row by row
-        for (int rowNum = 1; rowNum <= section.getTotalRows(); rowNum++) {
-            String rowLabel = generateRowLabel(rowNum);
-            
-            for (int seatNum = 1; seatNum <= section.getSeatsPerRow(); seatNum++) {
-                stmt.setInt(1, section.getSectionId());
-                stmt.setString(2, rowLabel);
-                stmt.setInt(3, seatNum);
-                stmt.addBatch();
-                seatsCreated++;
-                
-                // Execute batch every 500 inserts for performance
-                if (seatsCreated % 500 == 0) {
-                    stmt.executeBatch();
-                    System.out.println("  - Created " + seatsCreated + " seats...");
-                }
-            }
+    private int generateSeatsForSection(Section section, Connection conn) throws SQLException {
+        if (section.getTotalRows() > MAX_SEATS_PER_DIMENSION || section.getSeatsPerRow() > MAX_SEATS_PER_DIMENSION) {
+            throw new SQLException("Section " + section.getSectionName() + " is too large to generate (max " +
+                                 MAX_SEATS_PER_DIMENSION + " rows and seats per row)");
         }
         
-        // Execute remaining batch
-        stmt.executeBatch();
-        System.out.println("  - Created " + seatsCreated + " seats total");
+        try (PreparedStatement stmt = conn.prepareStatement(GENERATE_SEATS_SQL)) {
+            stmt.setInt(1, section.getSectionId());
+            stmt.setInt(2, section.getTotalRows());
+            stmt.setInt(3, section.getSeatsPerRow());
+            
+            int seatsCreated = stmt.executeUpdate();
+            LOG.debug("Created " + seatsCreated + " seats total");
+            return seatsCreated;
+        }
     }
     
     /**
      * Generates row label (A-Z, then AA-AZ, BA-BZ, etc.)
      */
-    private String generateRowLabel(int rowNum) {
-        if (rowNum <= 26) {
-            // A-Z
-            return String.valueOf((char) ('A' + rowNum - 1));
-        } else {
-            // AA, AB, AC, ... (for rows beyond Z)
-            int firstChar = (rowNum - 27) / 26;
-            int secondChar = (rowNum - 27) % 26;
-            return String.valueOf((char) ('A' + firstChar)) + (char) ('A' + secondChar);
-        }
+    public static String generateRowLabel(int rowNum) {
+        return RowLabels.rowLabel(rowNum);
     }
     
     /**
@@ -1,7 +1,13 @@
 package org.openjfx.service;
 
 import org.openjfx.model.Seat;
+import org.openjfx.model.SeatTable;
 import org.openjfx.util.DatabaseUtil;
+import org.openjfx.util.IntSet;
+import org.openjfx.util.JfrEvents;
+import org.openjfx.util.Log;
+import org.openjfx.util.RowLabels;
+import org.openjfx.util.RowMappers;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -11,13 +17,51 @@ import java.util.List;
  * Service class for Seat-related database operations
  */
 public class SeatService {
+
+    private static final Log LOG = Log.get(SeatService.class);
+    
+    /** Columns read by SEAT_MAPPER (Seats aliased as s) */
+    private static final String SEAT_COLUMNS = "s.SeatID, s.SectionID, s.RowNumber, s.SeatNumber";
+    
+    /** Seats booked for an event in a section (parameters: EventID, SectionID); public for QueryPlanCheck */
+    public static final String BOOKED_SEAT_IDS_SQL =
+        "SELECT bs.SeatID FROM BookingSeats bs " +
+        "INNER JOIN Bookings b ON bs.BookingID = b.BookingID " +
+        "WHERE bs.EventID = ? AND bs.SectionID = ? AND bs.SeatID IS NOT NULL " +
+        "AND bs.Status = 'BOOKED' AND b.BookingStatus != 'CANCELLED'";
+    
+    /** Bookings holding a seat for an event (parameters: EventID, SeatID) */
+    public static final String SEAT_BOOKED_COUNT_SQL =
+        "SELECT COUNT(*) FROM BookingSeats bs " +
+        "INNER JOIN Bookings b ON bs.BookingID = b.BookingID " +
+        "WHERE bs.EventID = ? AND bs.SeatID = ? " +
+        "AND bs.Status = 'BOOKED' AND b.BookingStatus != 'CANCELLED'";
+    
+    /**
+     * Map a row of Seats to Seat; column indexes are resolved once per query shape
+     */
+    public static final RowMappers.Factory<Seat> SEAT_MAPPER = columns -> {
+        int seatId = columns.index("SeatID");
+        int sectionId = columns.index("SectionID");
+        int rowNumber = columns.index("RowNumber");
+        int seatNumber = columns.index("SeatNumber");
+        
+        return rs -> new Seat(
+            rs.getInt(seatId),
+            rs.getInt(sectionId),
+            rs.getString(rowNumber),
+            rs.getInt(seatNumber),
+            "AVAILABLE" // Default status
+        );
+    };
     
     /**
      * Get all seats for a specific section
      */
     public List<Seat> getSeatsBySection(int sectionId) {
         List<Seat> seats = new ArrayList<>();
-        String query = "SELECT * FROM Seats WHERE SectionID = ? AND IsActive = 1 ORDER BY RowNumber, SeatNumber";
+        String query = "SELECT " + SEAT_COLUMNS + " FROM Seats s " +
+                      "WHERE SectionID = ? AND IsActive = 1 ORDER BY RowNumber, SeatNumber";
         
         try (Connection conn = DatabaseUtil.getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
@@ -25,13 +69,13 @@ public class SeatService {
             stmt.setInt(1, sectionId);
             
             try (ResultSet rs = stmt.executeQuery()) {
+                RowMappers.RowMapper<Seat> mapper = RowMappers.forResultSet(rs, SEAT_MAPPER);
                 while (rs.next()) {
-                    seats.add(mapResultSetToSeat(rs));
+                    seats.add(mapper.map(rs));
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Error fetching seats: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error fetching seats", e);
         }
         
         return seats;
@@ -42,7 +86,7 @@ public class SeatService {
      */
     public List<Seat> getAvailableSeats(int eventId, int sectionId) {
         List<Seat> seats = new ArrayList<>();
-        String query = "SELECT s.* FROM Seats s " +
+        String query = "SELECT " + SEAT_COLUMNS + " FROM Seats s " +
                       "WHERE s.SectionID = ? AND s.IsActive = 1 " +
                       "AND s.SeatID NOT IN (" +
                       "    SELECT bs.SeatID FROM BookingSeats bs " +
@@ -59,15 +103,15 @@ public class SeatService {
             stmt.setInt(2, eventId);
             
             try (ResultSet rs = stmt.executeQuery()) {
+                RowMappers.RowMapper<Seat> mapper = RowMappers.forResultSet(rs, SEAT_MAPPER);
                 while (rs.next()) {
-                    Seat seat = mapResultSetToSeat(rs);
+                    Seat seat = mapper.map(rs);
                     seat.setStatus("AVAILABLE");
                     seats.add(seat);
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Error fetching available seats: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error fetching available seats", e);
         }
         
         return seats;
@@ -78,7 +122,7 @@ public class SeatService {
      */
     public List<Seat> getBookedSeats(int eventId, int sectionId) {
         List<Seat> seats = new ArrayList<>();
-        String query = "SELECT s.* FROM Seats s " +
+        String query = "SELECT " + SEAT_COLUMNS + " FROM Seats s " +
                       "INNER JOIN BookingSeats bs ON s.SeatID = bs.SeatID " +
                       "INNER JOIN Bookings b ON bs.BookingID = b.BookingID " +
                       "WHERE bs.EventID = ? AND s.SectionID = ? " +
@@ -92,25 +136,107 @@ public class SeatService {
             stmt.setInt(2, sectionId);
             
             try (ResultSet rs = stmt.executeQuery()) {
+                RowMappers.RowMapper<Seat> mapper = RowMappers.forResultSet(rs, SEAT_MAPPER);
                 while (rs.next()) {
-                    Seat seat = mapResultSetToSeat(rs);
+                    Seat seat = mapper.map(rs);
                     seat.setStatus("BOOKED");
                     seats.add(seat);
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Error fetching booked seats: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error fetching booked seats", e);
         }
         
         return seats;
     }
     
+    /**
+     * Get the seat map of a section for an event: every active seat, with booked seats marked
+     * Loaded into primitive arrays, so no Seat objects are created per seat. The layout
+     * comes from StadiumConfigCache, so only the booked seats are read from the database.
+     * @return Seat table (empty if loading failed)
+     */
+    public SeatTable getSeatMap(int eventId, int sectionId) {
+        JfrEvents.SeatMapPhase event = new JfrEvents.SeatMapPhase();
+        event.begin();
+        SeatTable table;
+        
+        try {
+            table = StadiumConfigCache.getLayout(sectionId, () -> loadLayout(sectionId));
+            try (Connection conn = DatabaseUtil.getConnection()) {
+                table.markBooked(getBookedSeatIds(conn, eventId, sectionId));
+            }
+            
+        } catch (SQLException e) {
+            LOG.error("Error fetching seat map", e);
+            return new SeatTable(0);
+        }
+        
+        event.phase = "LOAD";
+        event.eventId = eventId;
+        event.sectionId = sectionId;
+        event.seats = table.size();
+        event.commit();
+        return table;
+    }
+    
+    /**
+     * Read the active seats of a section, all marked available (StadiumConfigCache loader)
+     */
+    private SeatTable loadLayout(int sectionId) throws SQLException {
+        SeatTable table = new SeatTable(256);
+        String query = "SELECT SeatID, SectionID, RowNumber, SeatNumber FROM Seats " +
+                      "WHERE SectionID = ? AND IsActive = 1";
+        
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+            stmt.setInt(1, sectionId);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    int row = RowLabels.rowIndex(rs.getString(3));
+                    if (row < 0) continue; // not a generated row label
+                    table.add(rs.getInt(1), rs.getInt(2), row, rs.getInt(4), SeatTable.STATUS_AVAILABLE);
+                }
+            }
+        }
+        return table;
+    }
+    
+    /**
+     * Get the IDs of the seats booked for an event in a section
+     * @return Seat IDs, or null if loading failed (so callers do not show every seat as free)
+     */
+    public IntSet getBookedSeatIds(int eventId, int sectionId) {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            return getBookedSeatIds(conn, eventId, sectionId);
+        } catch (SQLException e) {
+            LOG.error("Error fetching booked seat IDs", e);
+            return null;
+        }
+    }
+    
+    private IntSet getBookedSeatIds(Connection conn, int eventId, int sectionId) throws SQLException {
+        IntSet seatIds = new IntSet(64);
+        
+        try (PreparedStatement stmt = conn.prepareStatement(BOOKED_SEAT_IDS_SQL)) {
+            stmt.setInt(1, eventId);
+            stmt.setInt(2, sectionId);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    seatIds.add(rs.getInt(1));
+                }
+            }
+        }
+        return seatIds;
+    }
+    
     /**
      * Get seat by ID
      */
     public Seat getSeatById(int seatId) {
-        String query = "SELECT * FROM Seats WHERE SeatID = ?";
+        String query = "SELECT " + SEAT_COLUMNS + " FROM Seats s WHERE SeatID = ?";
         
         try (Connection conn = DatabaseUtil.getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
@@ -119,12 +245,11 @@ public class SeatService {
             
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToSeat(rs);
+                    return RowMappers.forResultSet(rs, SEAT_MAPPER).map(rs);
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Error fetching seat: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error fetching seat", e);
         }
         
         return null;
@@ -134,13 +259,8 @@ public class SeatService {
      * Check if a seat is available for booking
      */
     public boolean isSeatAvailable(int eventId, int seatId) {
-        String query = "SELECT COUNT(*) FROM BookingSeats bs " +
-                      "INNER JOIN Bookings b ON bs.BookingID = b.BookingID " +
-                      "WHERE bs.EventID = ? AND bs.SeatID = ? " +
-                      "AND bs.Status = 'BOOKED' AND b.BookingStatus != 'CANCELLED'";
-        
         try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query)) {
+             PreparedStatement stmt = conn.prepareStatement(SEAT_BOOKED_COUNT_SQL)) {
             
             stmt.setInt(1, eventId);
             stmt.setInt(2, seatId);
@@ -151,8 +271,7 @@ public class SeatService {
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Error checking seat availability: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error checking seat availability", e);
         }
         
         return false;
@@ -172,8 +291,7 @@ public class SeatService {
                 return rs.getInt(1);
             }
         } catch (SQLException e) {
-            System.err.println("Error getting total seats count: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting total seats count", e);
         }
         
         return 0;
@@ -203,23 +321,9 @@ public class SeatService {
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Error getting available seats count: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error getting available seats count", e);
         }
         
         return 0;
     }
-    
-    /**
-     * Map ResultSet to Seat object
-     */
-    private Seat mapResultSetToSeat(ResultSet rs) throws SQLException {
-        return new Seat(
-            rs.getInt("SeatID"),
-            rs.getInt("SectionID"),
-            rs.getString("RowNumber"),
-            rs.getInt("SeatNumber"),
-            "AVAILABLE" // Default status
-        );
-    }
 }
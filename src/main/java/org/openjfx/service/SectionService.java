@@ -2,104 +2,85 @@ package org.openjfx.service;
 
 import org.openjfx.model.Section;
 import org.openjfx.util.DatabaseUtil;
+import org.openjfx.util.Log;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service class for Section-related database operations
+ * Reads go through StadiumConfigCache; updateSection invalidates it.
  */
 public class SectionService {
+
+    private static final Log LOG = Log.get(SectionService.class);
     
     /**
-     * Get all sections from the database
+     * Get all active sections (from the stadium configuration cache)
      */
     public List<Section> getAllSections() {
-        List<Section> sections = new ArrayList<>();
-        String query = "SELECT * FROM Sections WHERE IsActive = 1 ORDER BY SectionID";
-        
-        try (Connection conn = DatabaseUtil.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(query)) {
-            
-            while (rs.next()) {
-                sections.add(mapResultSetToSection(rs));
-            }
-        } catch (SQLException e) {
-            System.err.println("Error fetching sections: " + e.getMessage());
-            e.printStackTrace();
-        }
-        
-        return sections;
+        StadiumConfigCache.Snapshot snapshot = getSnapshot("Error fetching sections");
+        return snapshot != null ? snapshot.getSections() : new ArrayList<>();
     }
     
     /**
-     * Get section by ID
+     * Get section by ID (from the stadium configuration cache)
      */
     public Section getSectionById(int sectionId) {
-        String query = "SELECT * FROM Sections WHERE SectionID = ?";
-        
-        try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query)) {
-            
-            stmt.setInt(1, sectionId);
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return mapResultSetToSection(rs);
-                }
-            }
-        } catch (SQLException e) {
-            System.err.println("Error fetching section: " + e.getMessage());
-            e.printStackTrace();
-        }
-        
-        return null;
+        StadiumConfigCache.Snapshot snapshot = getSnapshot("Error fetching section");
+        return snapshot != null ? snapshot.getSection(sectionId) : null;
     }
     
     /**
      * Get tribune sections only (with seats)
      */
     public List<Section> getTribuneSections() {
-        List<Section> sections = new ArrayList<>();
-        String query = "SELECT * FROM Sections WHERE SectionType = 'TRIBUNE' AND IsActive = 1 ORDER BY SectionID";
-        
-        try (Connection conn = DatabaseUtil.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(query)) {
-            
-            while (rs.next()) {
-                sections.add(mapResultSetToSection(rs));
-            }
-        } catch (SQLException e) {
-            System.err.println("Error fetching tribune sections: " + e.getMessage());
-            e.printStackTrace();
-        }
-        
-        return sections;
+        StadiumConfigCache.Snapshot snapshot = getSnapshot("Error fetching tribune sections");
+        return snapshot != null ? snapshot.getSections("TRIBUNE") : new ArrayList<>();
     }
     
     /**
      * Get field sections only (standing areas)
      */
     public List<Section> getFieldSections() {
-        List<Section> sections = new ArrayList<>();
-        String query = "SELECT * FROM Sections WHERE SectionType = 'FIELD' AND IsActive = 1 ORDER BY SectionID";
+        StadiumConfigCache.Snapshot snapshot = getSnapshot("Error fetching field sections");
+        return snapshot != null ? snapshot.getSections("FIELD") : new ArrayList<>();
+    }
+    
+    private StadiumConfigCache.Snapshot getSnapshot(String errorMessage) {
+        try {
+            return StadiumConfigCache.getSections(this::loadSnapshot);
+        } catch (SQLException e) {
+            LOG.error(errorMessage, e);
+            return null;
+        }
+    }
+    
+    /**
+     * Read every section from the database (cache loader)
+     */
+    private StadiumConfigCache.Snapshot loadSnapshot() throws SQLException {
+        List<Section> active = new ArrayList<>();
+        Map<Integer, Section> all = new HashMap<>();
+        String query = "SELECT * FROM Sections ORDER BY SectionID";
         
         try (Connection conn = DatabaseUtil.getConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(query)) {
             
             while (rs.next()) {
-                sections.add(mapResultSetToSection(rs));
+                Section section = mapResultSetToSection(rs);
+                all.put(section.getSectionId(), section);
+                if (rs.getBoolean("IsActive")) {
+                    active.add(section);
+                }
             }
-        } catch (SQLException e) {
-            System.err.println("Error fetching field sections: " + e.getMessage());
-            e.printStackTrace();
         }
         
-        return sections;
+        return new StadiumConfigCache.Snapshot(active, all);
     }
     
     /**
@@ -119,11 +100,12 @@ public class SectionService {
             stmt.setInt(5, section.getSectionId());
             
             int rowsAffected = stmt.executeUpdate();
+            StadiumConfigCache.invalidateSections();
+            EventSectionCache.invalidateAll(); // cached event sections carry the section name
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error updating section: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error updating section", e);
             return false;
         }
     }
@@ -134,18 +116,14 @@ public class SectionService {
      * For Concert/Other: All sections (tribune + field)
      */
     public int getTotalCapacityForEventType(String eventType) {
-        List<Section> sections;
-        if (eventType != null && eventType.toUpperCase().contains("FOOTBALL")) {
-            sections = getTribuneSections();
-        } else {
-            sections = getAllSections();
+        StadiumConfigCache.Snapshot snapshot = getSnapshot("Error fetching sections");
+        if (snapshot == null) {
+            return 0;
         }
-        
-        int total = 0;
-        for (Section section : sections) {
-            total += section.getTotalCapacity();
+        if (eventType != null && eventType.toUpperCase().contains("FOOTBALL")) {
+            return snapshot.getTribuneCapacity();
         }
-        return total;
+        return snapshot.getTotalCapacity();
     }
     
     /**
@@ -0,0 +1,237 @@
+package org.openjfx.service;
+
+import org.openjfx.model.SeatTable;
+import org.openjfx.model.Section;
+import org.openjfx.util.JfrEvents;
+import org.openjfx.util.Log;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Application-wide read-through cache of the stadium configuration: the sections and
+ * the seat layout of each section.
+ *
+ * Layouts change a few times a season, but every seat map, event form and section
+ * dialog reads them. Sections are loaded once (preloaded at login) into an immutable
+ * Snapshot. A section's seat layout is loaded the first time its seat map opens. Only
+ * SectionService.updateSection and seat regeneration / layout changes invalidate them,
+ * so changes made on another terminal are seen after that terminal's next restart.
+ */
+public final class StadiumConfigCache {
+
+    private static final Log LOG = Log.get(StadiumConfigCache.class);
+
+    /**
+     * Loads a value from the database on a miss
+     */
+    public interface Loader<T> {
+        T load() throws SQLException;
+    }
+
+    /**
+     * Immutable view of the sections. Getters return copies, so callers may modify what they get.
+     */
+    public static final class Snapshot {
+        private final List<Section> active;
+        private final Map<Integer, Section> byId;
+        private final int tribuneCapacity;
+        private final int totalCapacity;
+
+        /**
+         * @param active Active sections in display order
+         * @param all Every section by ID, including inactive ones
+         */
+        public Snapshot(List<Section> active, Map<Integer, Section> all) {
+            this.active = Collections.unmodifiableList(new ArrayList<>(active));
+            this.byId = Collections.unmodifiableMap(new HashMap<>(all));
+            int tribune = 0;
+            int total = 0;
+            for (Section section : active) {
+                total += section.getTotalCapacity();
+                if (section.isTribune()) tribune += section.getTotalCapacity();
+            }
+            this.tribuneCapacity = tribune;
+            this.totalCapacity = total;
+        }
+
+        /** Active sections */
+        public List<Section> getSections() {
+            return copies(null);
+        }
+
+        /** Active sections of one type (TRIBUNE or FIELD) */
+        public List<Section> getSections(String sectionType) {
+            return copies(sectionType);
+        }
+
+        /** Section by ID (active or not), or null */
+        public Section getSection(int sectionId) {
+            Section section = byId.get(sectionId);
+            return section != null ? copy(section) : null;
+        }
+
+        public int getTribuneCapacity() { return tribuneCapacity; }
+        public int getTotalCapacity() { return totalCapacity; }
+        public int size() { return byId.size(); }
+
+        private List<Section> copies(String sectionType) {
+            List<Section> list = new ArrayList<>(active.size());
+            for (Section section : active) {
+                if (sectionType == null || sectionType.equals(section.getSectionType())) {
+                    list.add(copy(section));
+                }
+            }
+            return list;
+        }
+
+        private static Section copy(Section s) {
+            return new Section(s.getSectionId(), s.getSectionName(), s.getSectionType(),
+                               s.getTotalRows(), s.getSeatsPerRow(), s.getTotalCapacity());
+        }
+    }
+
+    private static final Object SECTIONS_LOCK = new Object();
+    private static volatile Snapshot sections;
+    private static final Map<Integer, SeatTable> LAYOUTS = new ConcurrentHashMap<>();
+
+    // Bumped by every invalidation, so a load that raced with one is not cached
+    private static final AtomicLong generation = new AtomicLong();
+
+    private static final CacheCounters sectionCounters = new CacheCounters();
+    private static final CacheCounters layoutCounters = new CacheCounters();
+
+    private StadiumConfigCache() {}
+
+    /**
+     * Load the sections in the background so the first screen that needs them finds them cached
+     */
+    public static void preload() {
+        if (sections != null) return;
+        Thread loader = new Thread(() -> new SectionService().getAllSections(), "stadium-config-preload");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Cached sections, loaded with loader on a miss
+     */
+    public static Snapshot getSections(Loader<Snapshot> loader) throws SQLException {
+        Snapshot snapshot = sections;
+        if (snapshot != null) {
+            record(sectionCounters, "stadium-sections", -1, true, 0);
+            return snapshot;
+        }
+
+        synchronized (SECTIONS_LOCK) {
+            snapshot = sections;
+            if (snapshot != null) {
+                record(sectionCounters, "stadium-sections", -1, true, 0);
+                return snapshot;
+            }
+            long gen = generation.get();
+            long start = System.nanoTime();
+            snapshot = loader.load();
+            record(sectionCounters, "stadium-sections", -1, false, System.nanoTime() - start);
+            if (generation.get() == gen) {
+                sections = snapshot;
+                LOG.debug("Cached " + snapshot.size() + " sections");
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Copy of the cached seat layout of a section (every active seat, all available),
+     * loaded with loader on a miss
+     */
+    public static SeatTable getLayout(int sectionId, Loader<SeatTable> loader) throws SQLException {
+        SeatTable layout = LAYOUTS.get(sectionId);
+        if (layout != null) {
+            record(layoutCounters, "seat-layout", sectionId, true, 0);
+            return layout.copy();
+        }
+
+        long gen = generation.get();
+        long start = System.nanoTime();
+        layout = loader.load();
+        record(layoutCounters, "seat-layout", sectionId, false, System.nanoTime() - start);
+        if (generation.get() == gen) {
+            LAYOUTS.put(sectionId, layout.copy());
+        }
+        return layout;
+    }
+
+    /**
+     * Drop the cached sections (after a section was edited)
+     */
+    public static void invalidateSections() {
+        generation.incrementAndGet();
+        sections = null;
+    }
+
+    /**
+     * Drop the cached seat layout of a section (after its seats were regenerated or changed),
+     * and the sections, whose capacity follows the layout
+     */
+    public static void invalidateLayout(int sectionId) {
+        generation.incrementAndGet();
+        LAYOUTS.remove(sectionId);
+        sections = null;
+    }
+
+    /**
+     * Drop everything (after changes this terminal cannot attribute to a section)
+     */
+    public static void invalidateAll() {
+        generation.incrementAndGet();
+        LAYOUTS.clear();
+        sections = null;
+    }
+
+    public static ReportCache.Stats getSectionStats() {
+        return sectionCounters.toStats(sections != null ? 1 : 0);
+    }
+
+    public static ReportCache.Stats getLayoutStats() {
+        return layoutCounters.toStats(LAYOUTS.size());
+    }
+
+    private static void record(CacheCounters counters, String cache, int sectionId, boolean hit, long loadNanos) {
+        if (hit) {
+            counters.hits.incrementAndGet();
+        } else {
+            counters.misses.incrementAndGet();
+            counters.loadCount.incrementAndGet();
+            counters.loadNanos.addAndGet(loadNanos);
+            counters.lastLoadNanos = loadNanos;
+        }
+
+        JfrEvents.CacheAccess event = new JfrEvents.CacheAccess();
+        if (event.shouldCommit()) {
+            event.cache = cache;
+            event.key = sectionId < 0 ? "sections" : "section " + sectionId;
+            event.hit = hit;
+            event.commit();
+        }
+    }
+
+    private static final class CacheCounters {
+        final AtomicLong hits = new AtomicLong();
+        final AtomicLong misses = new AtomicLong();
+        final AtomicLong loadCount = new AtomicLong();
+        final AtomicLong loadNanos = new AtomicLong();
+        volatile long lastLoadNanos;
+
+        ReportCache.Stats toStats(int size) {
+            return new ReportCache.Stats(hits.get(), misses.get(), size,
+                                         loadCount.get(), loadNanos.get(), lastLoadNanos);
+        }
+    }
+}
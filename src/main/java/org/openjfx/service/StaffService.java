@@ -2,6 +2,7 @@ package org.openjfx.service;
 
 import org.openjfx.model.Staff;
 import org.openjfx.util.DatabaseUtil;
+import org.openjfx.util.Log;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -16,6 +17,8 @@ import java.util.List;
  * Handles CRUD operations for staff members
  */
 public class StaffService {
+
+    private static final Log LOG = Log.get(StaffService.class);
     
     /**
      * Get all active staff members
@@ -50,8 +53,7 @@ public class StaffService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error getting active staff!");
-            e.printStackTrace();
+            LOG.error("Error getting active staff!", e);
         }
         
         return staffList;
@@ -90,8 +92,7 @@ public class StaffService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error getting all staff!");
-            e.printStackTrace();
+            LOG.error("Error getting all staff!", e);
         }
         
         return staffList;
@@ -121,8 +122,7 @@ public class StaffService {
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error adding staff!");
-            e.printStackTrace();
+            LOG.error("Error adding staff!", e);
             return false;
         }
     }
@@ -153,8 +153,7 @@ public class StaffService {
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error updating staff!");
-            e.printStackTrace();
+            LOG.error("Error updating staff!", e);
             return false;
         }
     }
@@ -176,8 +175,7 @@ public class StaffService {
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error deactivating staff!");
-            e.printStackTrace();
+            LOG.error("Error deactivating staff!", e);
             return false;
         }
     }
@@ -199,8 +197,7 @@ public class StaffService {
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error activating staff!");
-            e.printStackTrace();
+            LOG.error("Error activating staff!", e);
             return false;
         }
     }
@@ -222,8 +219,7 @@ public class StaffService {
             return rowsAffected > 0;
             
         } catch (SQLException e) {
-            System.err.println("Error deleting staff!");
-            e.printStackTrace();
+            LOG.error("Error deleting staff!", e);
             return false;
         }
     }
@@ -245,8 +241,7 @@ public class StaffService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error calculating total salary!");
-            e.printStackTrace();
+            LOG.error("Error calculating total salary!", e);
         }
         
         return 0.0;
@@ -269,8 +264,7 @@ public class StaffService {
             }
             
         } catch (SQLException e) {
-            System.err.println("Error counting staff!");
-            e.printStackTrace();
+            LOG.error("Error counting staff!", e);
         }
         
         return 0;
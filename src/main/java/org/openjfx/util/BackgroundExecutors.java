@@ -0,0 +1,98 @@
+package org.openjfx.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Named background executors, registered so diagnostics can show their queues
+ *
+ * Replaces Executors.newSingleThreadScheduledExecutor for the app's schedulers: same
+ * one daemon thread named after the executor, but the concrete pool stays reachable
+ * for queue depth, active and completed task counts. Creating an executor under a
+ * name that is already registered replaces the entry.
+ */
+public class BackgroundExecutors {
+
+    private static final Map<String, ThreadPoolExecutor> EXECUTORS = new ConcurrentSkipListMap<>();
+
+    private BackgroundExecutors() {}
+
+    /**
+     * Queue and task counts of one executor
+     */
+    public static class Stats {
+        private final String name;
+        private final int queued;
+        private final int active;
+        private final long completed;
+
+        Stats(String name, int queued, int active, long completed) {
+            this.name = name;
+            this.queued = queued;
+            this.active = active;
+            this.completed = completed;
+        }
+
+        public String getName() { return name; }
+        /** Waiting tasks, including scheduled periodic tasks waiting for their next run */
+        public int getQueued() { return queued; }
+        public int getActive() { return active; }
+        public long getCompleted() { return completed; }
+    }
+
+    /**
+     * Single daemon thread scheduler named threadName
+     */
+    public static ScheduledExecutorService newScheduler(String threadName) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> newThread(r, threadName));
+        executor.setRemoveOnCancelPolicy(true);
+        EXECUTORS.put(threadName, executor);
+        return executor;
+    }
+
+    /**
+     * Single daemon thread worker with an unbounded FIFO queue, named threadName
+     */
+    public static ThreadPoolExecutor newWorker(String threadName) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), r -> newThread(r, threadName));
+        EXECUTORS.put(threadName, executor);
+        return executor;
+    }
+
+    /**
+     * Fixed pool of daemon threads named threadName-1 .. threadName-N with an unbounded FIFO queue,
+     * for short-lived parallel batches (shut it down when the batch is done)
+     */
+    public static ThreadPoolExecutor newPool(String threadName, int threads) {
+        AtomicInteger count = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), r -> newThread(r, threadName + "-" + count.incrementAndGet()));
+        EXECUTORS.put(threadName, executor);
+        return executor;
+    }
+
+    private static Thread newThread(Runnable r, String name) {
+        Thread t = new Thread(r, name);
+        t.setDaemon(true);
+        return t;
+    }
+
+    /**
+     * Stats of every registered executor, by name
+     */
+    public static List<Stats> getStats() {
+        List<Stats> stats = new ArrayList<>();
+        EXECUTORS.forEach((name, executor) -> stats.add(new Stats(name,
+            executor.getQueue().size(), executor.getActiveCount(), executor.getCompletedTaskCount())));
+        return stats;
+    }
+}
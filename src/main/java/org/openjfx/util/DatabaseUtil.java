@@ -17,6 +17,8 @@ import java.util.Map;
  * Uses environment variables from .env file for configuration
  */
 public class DatabaseUtil {
+
+    private static final Log LOG = Log.get(DatabaseUtil.class);
     
     // Environment variables loaded from .env file
     private static final Map<String, String> ENV_VARS = new HashMap<>();
@@ -25,10 +27,9 @@ public class DatabaseUtil {
         // Try to load .env file
         try {
             loadEnvFile();
-            System.out.println("✓ Environment variables loaded from .env file");
+            LOG.info("Environment variables loaded from .env file");
         } catch (IOException e) {
-            System.err.println("⚠ Warning: Could not load .env file: " + e.getMessage());
-            System.err.println("⚠ Make sure to create .env file with database credentials");
+            LOG.warn("Could not load .env file (" + e.getMessage() + "); create one with the database credentials");
         }
     }
     
@@ -53,7 +54,7 @@ public class DatabaseUtil {
             }
         }
         
-        System.out.println("Loading config from: " + envPath.toAbsolutePath());
+        LOG.info("Loading config from: " + envPath.toAbsolutePath());
         
         try (BufferedReader reader = new BufferedReader(new FileReader(envPath.toFile()))) {
             String line;
@@ -95,8 +96,61 @@ public class DatabaseUtil {
     private static final String DB_PASSWORD = getEnv("DB_PASSWORD", null);
     private static final String DB_ENCRYPT = getEnv("DB_ENCRYPT", "false");
     
+    // Sent as the session's application name, so ChangeLog rows (APP_NAME()) show which terminal wrote them
+    private static final String TERMINAL_ID = buildTerminalId();
+    
     // Build connection URL from environment variables
-    private static final String DB_URL = buildConnectionUrl();
+    private static final String DB_URL = buildConnectionUrl() + ";applicationName=" + TERMINAL_ID;
+    
+    // Logging (see Log): root level, per-package levels, console level and rolling files
+    static {
+        Log.Level root = parseLevel("LOG_LEVEL", Log.Level.INFO);
+        Log.Level console = parseLevel("LOG_CONSOLE_LEVEL", Log.Level.WARN);
+        long maxFileMb = 10;
+        int maxFiles = 5;
+        try {
+            maxFileMb = Long.parseLong(getEnv("LOG_MAX_FILE_MB", "10"));
+            maxFiles = Integer.parseInt(getEnv("LOG_MAX_FILES", "5"));
+        } catch (NumberFormatException e) {
+            LOG.warn("Invalid LOG_MAX_FILE_MB or LOG_MAX_FILES, using 10 MB and 5 files");
+        }
+        Log.configure(root, Log.parseLevels(getEnv("LOG_LEVELS", "")), console,
+            Paths.get(getEnv("LOG_DIR", "logs")), maxFileMb * 1024 * 1024, maxFiles);
+    }
+    
+    private static Log.Level parseLevel(String key, Log.Level defaultLevel) {
+        try {
+            return Log.Level.valueOf(getEnv(key, defaultLevel.name()).trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Invalid " + key + " (DEBUG, INFO, WARN, ERROR or OFF), using " + defaultLevel);
+            return defaultLevel;
+        }
+    }
+    
+    // SQL instrumentation (see SqlMetrics): on by default, slow threshold in milliseconds
+    static {
+        SqlMetrics.setEnabled(!"false".equalsIgnoreCase(getEnv("SQL_METRICS", "true")));
+        try {
+            SqlMetrics.setSlowThresholdMillis(Long.parseLong(getEnv("SQL_SLOW_QUERY_MS", "500")));
+        } catch (NumberFormatException e) {
+            LOG.warn("Invalid SQL_SLOW_QUERY_MS, using " + SqlMetrics.getSlowThresholdMillis() + " ms");
+        }
+    }
+    
+    // FX thread watchdog (see FxWatchdog): stall threshold in milliseconds, OFF/RECORD/THROW for JDBC on the FX thread
+    static {
+        try {
+            FxWatchdog.setStallThresholdMillis(Long.parseLong(getEnv("FX_STALL_THRESHOLD_MS", "250")));
+        } catch (NumberFormatException e) {
+            LOG.warn("Invalid FX_STALL_THRESHOLD_MS, using " + FxWatchdog.getStallThresholdMillis() + " ms");
+        }
+        try {
+            FxWatchdog.setJdbcGuardMode(FxWatchdog.JdbcGuardMode.valueOf(
+                getEnv("FX_JDBC_GUARD", "RECORD").trim().toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Invalid FX_JDBC_GUARD (OFF, RECORD or THROW), using RECORD");
+        }
+    }
     
     /**
      * Build connection URL based on whether using named instance or default instance
@@ -125,12 +179,45 @@ public class DatabaseUtil {
         }
     }
     
+    private static String buildTerminalId() {
+        String host = System.getenv("COMPUTERNAME");
+        if (host == null) host = System.getenv("HOSTNAME");
+        if (host == null) host = "terminal";
+        return "Stadium-" + host.replaceAll("[^A-Za-z0-9.-]", "") + "-" + ProcessHandle.current().pid();
+    }
+    
+    /**
+     * ID of this application instance, recorded as Origin in the ChangeLog
+     */
+    public static String getTerminalId() {
+        return TERMINAL_ID;
+    }
+    
     /**
      * Get a NEW database connection each time
      * This prevents issues with closed connections
+     * Statements run on it are recorded by SqlMetrics unless SQL_METRICS=false
      * @return Connection object
+     * @throws IllegalStateException if called on the FX application thread with FX_JDBC_GUARD=THROW
      */
     public static Connection getConnection() {
+        return connect(DB_URL);
+    }
+    
+    /**
+     * Get a new connection that sends batched INSERTs through the SQL Server bulk copy API
+     * (useBulkCopyForBatchInsert). Only for bulk loads: every inserted value must be a
+     * parameter, and statements the driver cannot bulk copy fall back to a normal batch.
+     * @return Connection object, or null if the connection failed
+     */
+    public static Connection getBulkInsertConnection() {
+        return connect(DB_URL + ";useBulkCopyForBatchInsert=true");
+    }
+    
+    private static Connection connect(String url) {
+        // Record (or reject) connections opened on the FX application thread
+        FxWatchdog.checkJdbcCall();
+        
         try {
             // Validate that required environment variables are set
             if (DB_USER == null || DB_USER.trim().isEmpty()) {
@@ -148,19 +235,22 @@ public class DatabaseUtil {
             }
             
             Class.forName("com.microsoft.sqlserver.jdbc.SQLServerDriver");
-            Connection connection = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
-            System.out.println("Database connection established successfully!");
-            return connection;
+            long start = System.nanoTime();
+            Connection connection;
+            try {
+                connection = DriverManager.getConnection(url, DB_USER, DB_PASSWORD);
+            } catch (SQLException e) {
+                SqlMetrics.recordConnectFailure();
+                throw e;
+            }
+            SqlMetrics.recordConnect(System.nanoTime() - start);
+            LOG.debug("Database connection established");
+            return SqlMetrics.isEnabled() ? InstrumentedConnection.wrap(connection) : connection;
             
         } catch (ClassNotFoundException e) {
-            System.err.println("❌ SQL Server JDBC Driver not found!");
-            e.printStackTrace();
+            LOG.error("SQL Server JDBC Driver not found!", e);
         } catch (SQLException e) {
-            System.err.println("❌ Failed to connect to the database!");
-            System.err.println("   URL: " + DB_URL);
-            System.err.println("   User: " + DB_USER);
-            System.err.println("   Error: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Failed to connect to the database (URL: " + url + ", user: " + DB_USER + ")", e);
         }
         return null;
     }
@@ -173,11 +263,10 @@ public class DatabaseUtil {
         try {
             if (connection != null && !connection.isClosed()) {
                 connection.close();
-                System.out.println("Database connection closed.");
+                LOG.debug("Database connection closed");
             }
         } catch (SQLException e) {
-            System.err.println("Error closing database connection!");
-            e.printStackTrace();
+            LOG.error("Error closing database connection!", e);
         }
     }
     
@@ -0,0 +1,89 @@
+package org.openjfx.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Local stand-in database for load and benchmark runs without SQL Server.
+ * An H2 file database in MSSQLServer compatibility mode with the schema of
+ * database/embedded/stadium_schema.sql. Plain queries and the generated data
+ * match SQL Server; T-SQL only statements (MERGE, table hints) do not run here.
+ */
+public class EmbeddedDatabase {
+
+    private static final String SCHEMA_RESOURCE = "/database/embedded/stadium_schema.sql";
+    private static final String URL_OPTIONS =
+        ";MODE=MSSQLServer;DATABASE_TO_UPPER=FALSE;CASE_INSENSITIVE_IDENTIFIERS=TRUE";
+
+    private EmbeddedDatabase() {}
+
+    /**
+     * JDBC URL of the stand-in database stored at the given path (without file extension)
+     */
+    public static String url(Path path) {
+        return "jdbc:h2:file:" + path.toAbsolutePath() + URL_OPTIONS;
+    }
+
+    /**
+     * Open the stand-in database, creating it and its tables if they do not exist yet
+     */
+    public static Connection open(Path path) throws SQLException {
+        try {
+            Class.forName("org.h2.Driver");
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("H2 driver not found (build with -P embedded-db to bundle com.h2database:h2)", e);
+        }
+
+        Connection conn = DriverManager.getConnection(url(path), "sa", "");
+        try {
+            createSchema(conn);
+        } catch (SQLException e) {
+            conn.close();
+            throw e;
+        }
+        return conn;
+    }
+
+    private static void createSchema(Connection conn) throws SQLException {
+        String script;
+        try {
+            script = readSchema();
+        } catch (IOException e) {
+            throw new SQLException("Could not read " + SCHEMA_RESOURCE, e);
+        }
+
+        try (Statement stmt = conn.createStatement()) {
+            for (String sql : script.split(";")) {
+                if (!sql.trim().isEmpty()) {
+                    stmt.execute(sql);
+                }
+            }
+        }
+    }
+
+    private static String readSchema() throws IOException {
+        InputStream is = EmbeddedDatabase.class.getResourceAsStream(SCHEMA_RESOURCE);
+        if (is == null) {
+            throw new IOException("Resource not found: " + SCHEMA_RESOURCE);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().startsWith("--")) {
+                    sb.append(line).append('\n');
+                }
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,301 @@
+package org.openjfx.util;
+
+import javafx.application.Platform;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Watchdog for the JavaFX application thread
+ *
+ * Stalls: a background thread posts a heartbeat with Platform.runLater every
+ * HEARTBEAT_MS and measures how long the FX thread takes to run it. While a
+ * heartbeat is overdue by more than the stall threshold, the FX thread's stack
+ * is sampled (up to MAX_SAMPLES per stall), so the report shows what it was busy with.
+ *
+ * JDBC guard: DatabaseUtil calls checkJdbcCall() for every connection. Calls made
+ * on the FX thread are counted per call site and logged once per site, or rejected
+ * with an IllegalStateException in THROW mode (for development). The guard knows
+ * the FX thread from start(), so utilities that never start the watchdog are not checked.
+ */
+public class FxWatchdog {
+
+    private static final Log LOG = Log.get(FxWatchdog.class);
+
+    /** What to do with JDBC calls made on the FX application thread */
+    public enum JdbcGuardMode { OFF, RECORD, THROW }
+
+    private static final long HEARTBEAT_MS = 50;
+    private static final int MAX_SAMPLES = 3;
+    private static final int MAX_STALLS = 20;
+    private static final int STACK_DEPTH = 40;
+
+    private static volatile long stallThresholdMillis = 250;
+    private static volatile JdbcGuardMode jdbcGuardMode = JdbcGuardMode.RECORD;
+    private static volatile Thread fxThread;
+    private static ScheduledExecutorService scheduler;
+
+    // Heartbeat state, written by the watchdog thread and the FX thread
+    private static volatile long heartbeatPostedAt;
+    private static volatile boolean heartbeatPending;
+    private static final List<String[]> currentSamples = Collections.synchronizedList(new ArrayList<>());
+
+    private static final LongAdder stallCount = new LongAdder();
+    private static final AtomicLong maxGapMillis = new AtomicLong();
+    private static final Deque<Stall> STALLS = new ArrayDeque<>();
+    private static final Map<String, LongAdder> JDBC_VIOLATIONS = new ConcurrentHashMap<>();
+
+    private FxWatchdog() {}
+
+    /**
+     * One FX thread stall with the stacks sampled while it lasted
+     */
+    public static class Stall {
+        private final LocalDateTime time;
+        private final long millis;
+        private final List<String[]> samples;
+
+        Stall(long millis, List<String[]> samples) {
+            this.time = LocalDateTime.now();
+            this.millis = millis;
+            this.samples = samples;
+        }
+
+        public LocalDateTime getTime() { return time; }
+        public long getMillis() { return millis; }
+        /** Sampled FX thread stacks, each innermost frame first */
+        public List<String[]> getSamples() { return samples; }
+    }
+
+    /**
+     * Start watching the FX thread (idempotent). Must be called on the FX application thread.
+     */
+    public static synchronized void start() {
+        if (scheduler != null) return;
+        if (!Platform.isFxApplicationThread()) {
+            throw new IllegalStateException("FxWatchdog.start() must be called on the FX application thread");
+        }
+        fxThread = Thread.currentThread();
+
+        scheduler = BackgroundExecutors.newScheduler("fx-watchdog");
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                tick();
+            } catch (Exception e) {
+                // keep the watchdog alive
+                LOG.error("FX watchdog tick failed", e);
+            }
+        }, HEARTBEAT_MS, HEARTBEAT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private static void tick() {
+        long now = System.nanoTime();
+        if (!heartbeatPending) {
+            heartbeatPending = true;
+            heartbeatPostedAt = now;
+            Platform.runLater(FxWatchdog::heartbeat);
+            return;
+        }
+
+        long overdueMillis = (now - heartbeatPostedAt) / 1_000_000L;
+        long threshold = stallThresholdMillis;
+        // Sample once the threshold is crossed, then once per threshold interval while it lasts
+        if (overdueMillis >= threshold * (currentSamples.size() + 1) && currentSamples.size() < MAX_SAMPLES) {
+            Thread thread = fxThread;
+            if (thread != null) {
+                currentSamples.add(format(thread.getStackTrace()));
+            }
+        }
+    }
+
+    /**
+     * Runs on the FX thread: the heartbeat got through
+     */
+    private static void heartbeat() {
+        long gapMillis = (System.nanoTime() - heartbeatPostedAt) / 1_000_000L;
+        maxGapMillis.accumulateAndGet(gapMillis, Math::max);
+
+        if (gapMillis >= stallThresholdMillis) {
+            List<String[]> samples;
+            synchronized (currentSamples) {
+                samples = new ArrayList<>(currentSamples);
+            }
+            Stall stall = new Stall(gapMillis, samples);
+            stallCount.increment();
+            synchronized (STALLS) {
+                if (STALLS.size() == MAX_STALLS) STALLS.removeFirst();
+                STALLS.addLast(stall);
+            }
+            String where = samples.isEmpty() || samples.get(0).length == 0 ? "?" : firstAppFrame(samples.get(0));
+            LOG.warn("FX thread stalled " + gapMillis + " ms at " + where);
+        }
+        currentSamples.clear();
+        heartbeatPending = false;
+    }
+
+    /**
+     * Called by DatabaseUtil before opening a connection
+     * @throws IllegalStateException in THROW mode when called on the FX application thread
+     */
+    public static void checkJdbcCall() {
+        JdbcGuardMode mode = jdbcGuardMode;
+        if (mode == JdbcGuardMode.OFF || Thread.currentThread() != fxThread) return;
+
+        String[] stack = format(new Throwable().getStackTrace());
+        String site = firstAppFrame(stack);
+        LongAdder count = JDBC_VIOLATIONS.get(site);
+        if (count == null) {
+            LongAdder created = new LongAdder();
+            count = JDBC_VIOLATIONS.putIfAbsent(site, created);
+            if (count == null) {
+                count = created;
+                LOG.warn("Database call on the FX application thread from " + site
+                    + " (the UI freezes until it returns)");
+            }
+        }
+        count.increment();
+
+        if (mode == JdbcGuardMode.THROW) {
+            throw new IllegalStateException("Database call on the FX application thread from " + site);
+        }
+    }
+
+    /**
+     * First frame outside this package and the JDK: the code that asked for the connection
+     */
+    private static String firstAppFrame(String[] stack) {
+        for (String frame : stack) {
+            if (frame.startsWith("org.openjfx.") && !frame.startsWith("org.openjfx.util.")) {
+                return frame;
+            }
+        }
+        return stack.length > 0 ? stack[0] : "?";
+    }
+
+    private static String[] format(StackTraceElement[] stack) {
+        int skip = 0;
+        // Drop the getStackTrace / checkJdbcCall frames themselves
+        while (skip < stack.length && (stack[skip].getClassName().equals(FxWatchdog.class.getName())
+                || stack[skip].getClassName().equals(Thread.class.getName()))) {
+            skip++;
+        }
+        int depth = Math.min(stack.length - skip, STACK_DEPTH);
+        String[] frames = new String[Math.max(0, depth)];
+        for (int i = 0; i < frames.length; i++) {
+            StackTraceElement e = stack[skip + i];
+            frames[i] = e.getClassName() + "." + e.getMethodName() + ":" + e.getLineNumber();
+        }
+        return frames;
+    }
+
+    public static long getStallThresholdMillis() {
+        return stallThresholdMillis;
+    }
+
+    public static void setStallThresholdMillis(long millis) {
+        stallThresholdMillis = Math.max(HEARTBEAT_MS, millis);
+    }
+
+    public static JdbcGuardMode getJdbcGuardMode() {
+        return jdbcGuardMode;
+    }
+
+    public static void setJdbcGuardMode(JdbcGuardMode mode) {
+        jdbcGuardMode = mode;
+    }
+
+    public static long getStallCount() {
+        return stallCount.sum();
+    }
+
+    public static long getMaxGapMillis() {
+        return maxGapMillis.get();
+    }
+
+    /**
+     * Recent stalls, newest first
+     */
+    public static List<Stall> getStalls() {
+        List<Stall> list;
+        synchronized (STALLS) {
+            list = new ArrayList<>(STALLS);
+        }
+        Collections.reverse(list);
+        return list;
+    }
+
+    /**
+     * JDBC calls made on the FX thread: call site -> count
+     */
+    public static Map<String, Long> getJdbcViolations() {
+        Map<String, Long> result = new TreeMap<>();
+        JDBC_VIOLATIONS.forEach((site, count) -> result.put(site, count.sum()));
+        return result;
+    }
+
+    /**
+     * Plain-text summary of stalls and JDBC-on-FX-thread violations
+     */
+    public static String report() {
+        StringWriter out = new StringWriter();
+        PrintWriter pw = new PrintWriter(out);
+        DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+        pw.println("FX THREAD");
+        pw.println("Watchdog: " + (scheduler != null ? "running" : "not started")
+            + ", stall threshold " + stallThresholdMillis + " ms, JDBC guard " + jdbcGuardMode);
+        pw.println("Stalls: " + getStallCount() + ", longest gap " + getMaxGapMillis() + " ms");
+        pw.println();
+
+        pw.println("DATABASE CALLS ON THE FX THREAD");
+        Map<String, Long> violations = getJdbcViolations();
+        if (violations.isEmpty()) pw.println("(none)");
+        violations.forEach((site, count) -> pw.println(String.format("%8d  %s", count, site)));
+        pw.println();
+
+        pw.println("RECENT STALLS");
+        for (Stall stall : getStalls()) {
+            pw.println(stall.time.format(fmt) + "  " + stall.millis + " ms");
+            for (int i = 0; i < stall.samples.size(); i++) {
+                pw.println("  sample " + (i + 1) + ":");
+                for (String frame : stall.samples.get(i)) {
+                    pw.println("    at " + frame);
+                }
+            }
+        }
+        pw.flush();
+        return out.toString();
+    }
+
+    /**
+     * Write the report to a file
+     * @return true if written, false on error
+     */
+    public static boolean dump(Path file) {
+        try {
+            Files.write(file, report().getBytes(StandardCharsets.UTF_8));
+            return true;
+        } catch (IOException e) {
+            LOG.error("Error writing FX watchdog report to " + file, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package org.openjfx.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Wraps a JDBC connection so every statement it creates reports to SqlMetrics
+ *
+ * Uses java.lang.reflect.Proxy over the JDBC interfaces, so the services keep working
+ * against plain Connection/PreparedStatement/ResultSet. Execute time is measured around
+ * the execute* calls; fetch time is the time spent in ResultSet.next() until the result
+ * set is exhausted or closed (or its statement is closed or re-executed).
+ * Both phases are also emitted as JfrEvents.SqlExecution / SqlFetch.
+ */
+public class InstrumentedConnection {
+
+    private InstrumentedConnection() {}
+
+    /**
+     * Instrumenting proxy of a connection (null stays null)
+     */
+    public static Connection wrap(Connection connection) {
+        if (connection == null || Proxy.isProxyClass(connection.getClass())) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+        private boolean closed;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+            SqlMetrics.connectionWrapped();
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "prepareStatement":
+                    return wrapStatement(PreparedStatement.class, proxy,
+                        (Statement) InstrumentedConnection.invoke(target, method, args), (String) args[0]);
+                case "prepareCall":
+                    return wrapStatement(CallableStatement.class, proxy,
+                        (Statement) InstrumentedConnection.invoke(target, method, args), (String) args[0]);
+                case "createStatement":
+                    return wrapStatement(Statement.class, proxy,
+                        (Statement) InstrumentedConnection.invoke(target, method, args), null);
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        SqlMetrics.connectionClosed();
+                    }
+                    return InstrumentedConnection.invoke(target, method, args);
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Instrumented[" + target + "]";
+                default:
+                    return InstrumentedConnection.invoke(target, method, args);
+            }
+        }
+    }
+
+    private static Statement wrapStatement(Class<? extends Statement> type, Object connection,
+                                           Statement statement, String sql) {
+        return (Statement) Proxy.newProxyInstance(
+            Statement.class.getClassLoader(),
+            new Class<?>[] { type },
+            new StatementHandler(statement, (Connection) connection, sql));
+    }
+
+    private static class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final Connection connection;
+        /** Stats of the prepared SQL; null for plain Statements until execute(sql) */
+        private SqlMetrics.StatementStats stats;
+        private ResultSetHandler openResult;
+
+        StatementHandler(Statement target, Connection connection, String sql) {
+            this.target = target;
+            this.connection = connection;
+            this.stats = sql != null ? SqlMetrics.statsFor(sql) : null;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "executeQuery":
+                case "executeUpdate":
+                case "executeLargeUpdate":
+                case "execute":
+                case "executeBatch":
+                case "executeLargeBatch":
+                    return execute(proxy, method, args, name);
+                case "getResultSet": {
+                    ResultSet rs = (ResultSet) InstrumentedConnection.invoke(target, method, args);
+                    // Already wrapped by execute() when it returned a result set
+                    return openResult != null && openResult.target == rs ? openResult.proxy : rs;
+                }
+                case "close":
+                    finishResult();
+                    return InstrumentedConnection.invoke(target, method, args);
+                case "getConnection":
+                    return connection;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Instrumented[" + target + "]";
+                default:
+                    return InstrumentedConnection.invoke(target, method, args);
+            }
+        }
+
+        private Object execute(Object proxy, Method method, Object[] args, String name) throws Throwable {
+            finishResult();
+            SqlMetrics.StatementStats current = args != null && args.length > 0 && args[0] instanceof String
+                ? SqlMetrics.statsFor((String) args[0])
+                : stats;
+            if (current == null) {
+                current = SqlMetrics.statsFor(null);
+            }
+
+            JfrEvents.SqlExecution event = new JfrEvents.SqlExecution();
+            event.begin();
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = InstrumentedConnection.invoke(target, method, args);
+            } catch (Throwable t) {
+                SqlMetrics.recordExecute(current, System.nanoTime() - start, true);
+                commit(event, current, -1, true);
+                throw t;
+            }
+            long executeNanos = System.nanoTime() - start;
+            SqlMetrics.recordExecute(current, executeNanos, false);
+            boolean query = result instanceof ResultSet || Boolean.TRUE.equals(result);
+            commit(event, current, query ? -1 : affectedRows(result), false);
+
+            if (result instanceof ResultSet) {
+                openResult = new ResultSetHandler((ResultSet) result, (Statement) proxy, current, executeNanos);
+                return openResult.proxy;
+            }
+            if (name.equals("execute") && Boolean.TRUE.equals(result)) {
+                // The rows are read through getResultSet(); wrap it now so fetch time is counted
+                ResultSet rs = target.getResultSet();
+                if (rs != null) {
+                    openResult = new ResultSetHandler(rs, (Statement) proxy, current, executeNanos);
+                    return result;
+                }
+            }
+            SqlMetrics.recordUpdate(current, executeNanos, affectedRows(result));
+            return result;
+        }
+
+        private void commit(JfrEvents.SqlExecution event, SqlMetrics.StatementStats stats, long rows, boolean failed) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.sql = stats.getSql();
+                event.rowsAffected = rows;
+                event.failed = failed;
+                event.commit();
+            }
+        }
+
+        private void finishResult() {
+            if (openResult != null) {
+                openResult.finish();
+                openResult = null;
+            }
+        }
+    }
+
+    private static long affectedRows(Object result) {
+        if (result instanceof Integer) return Math.max(0, (Integer) result);
+        if (result instanceof Long) return Math.max(0, (Long) result);
+        long rows = 0;
+        if (result instanceof int[]) {
+            for (int count : (int[]) result) rows += Math.max(0, count);
+        } else if (result instanceof long[]) {
+            for (long count : (long[]) result) rows += Math.max(0, count);
+        }
+        return rows;
+    }
+
+    private static class ResultSetHandler implements InvocationHandler {
+        private final ResultSet target;
+        private final ResultSet proxy;
+        private final Statement statement;
+        private final SqlMetrics.StatementStats stats;
+        private final long executeNanos;
+        private final JfrEvents.SqlFetch event = new JfrEvents.SqlFetch();
+        private long fetchNanos;
+        private long rows;
+        private boolean finished;
+
+        ResultSetHandler(ResultSet target, Statement statement, SqlMetrics.StatementStats stats, long executeNanos) {
+            this.target = target;
+            this.statement = statement;
+            this.stats = stats;
+            this.executeNanos = executeNanos;
+            event.begin();
+            this.proxy = (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class }, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "next": {
+                    long start = System.nanoTime();
+                    boolean hasRow = target.next();
+                    fetchNanos += System.nanoTime() - start;
+                    if (hasRow) {
+                        rows++;
+                    } else {
+                        finish();
+                    }
+                    return hasRow;
+                }
+                case "close":
+                    finish();
+                    return InstrumentedConnection.invoke(target, method, args);
+                case "getStatement":
+                    return statement;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Instrumented[" + target + "]";
+                default:
+                    return InstrumentedConnection.invoke(target, method, args);
+            }
+        }
+
+        void finish() {
+            if (finished) return;
+            finished = true;
+            SqlMetrics.recordFetch(stats, executeNanos, fetchNanos, rows);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.sql = stats.getSql();
+                event.rows = rows;
+                event.fetchTime = fetchNanos;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.openjfx.util;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from int keys to int values
+ *
+ * Keys and values live in two parallel int arrays (linear probing), so lookups
+ * do not box and a map of n entries costs about 16-32 bytes per entry instead of
+ * the ~60+ bytes of a HashMap<Integer, Integer>. Not thread-safe.
+ */
+public class IntIntMap {
+
+    /** Marks an empty slot in the key array; this key cannot be stored */
+    private static final int FREE = Integer.MIN_VALUE;
+
+    private int[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    public IntIntMap() {
+        this(16);
+    }
+
+    public IntIntMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Store a value for a key
+     * @return Previous value, or missingValue if the key was not present
+     */
+    public int put(int key, int value, int missingValue) {
+        checkKey(key);
+        int i = indexOf(key);
+        if (keys[i] == key) {
+            int previous = values[i];
+            values[i] = value;
+            return previous;
+        }
+
+        keys[i] = key;
+        values[i] = value;
+        if (++size > resizeAt) {
+            rehash(keys.length * 2);
+        }
+        return missingValue;
+    }
+
+    public void put(int key, int value) {
+        put(key, value, 0);
+    }
+
+    /**
+     * Get the value of a key
+     * @return Value, or missingValue if the key is not present
+     */
+    public int get(int key, int missingValue) {
+        if (key == FREE) return missingValue;
+        int i = indexOf(key);
+        return keys[i] == key ? values[i] : missingValue;
+    }
+
+    public boolean containsKey(int key) {
+        return key != FREE && keys[indexOf(key)] == key;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        size = 0;
+    }
+
+    /**
+     * Slot of key, or the free slot where it would be inserted
+     */
+    private int indexOf(int key) {
+        int i = IntSet.mix(key) & mask;
+        while (keys[i] != FREE && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int slot = indexOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, FREE);
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * IntSet.LOAD_FACTOR);
+    }
+
+    private static void checkKey(int key) {
+        if (key == FREE) {
+            throw new IllegalArgumentException("Key " + key + " is reserved");
+        }
+    }
+
+    static int capacityFor(int expectedSize) {
+        int needed = (int) Math.ceil(Math.max(expectedSize, 4) / IntSet.LOAD_FACTOR);
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+}
@@ -0,0 +1,108 @@
+package org.openjfx.util;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash set of int values (e.g. booked seat IDs)
+ *
+ * Values are stored in a single int array with linear probing, so membership
+ * checks do not box. Not thread-safe.
+ */
+public class IntSet {
+
+    static final float LOAD_FACTOR = 0.6f;
+
+    /** Marks an empty slot; this value cannot be stored */
+    private static final int FREE = Integer.MIN_VALUE;
+
+    private int[] values;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    public IntSet() {
+        this(16);
+    }
+
+    public IntSet(int expectedSize) {
+        allocate(IntIntMap.capacityFor(expectedSize));
+    }
+
+    /**
+     * Add a value
+     * @return true if the value was not already present
+     */
+    public boolean add(int value) {
+        if (value == FREE) {
+            throw new IllegalArgumentException("Value " + value + " is reserved");
+        }
+        int i = indexOf(value);
+        if (values[i] == value) return false;
+
+        values[i] = value;
+        if (++size > resizeAt) {
+            rehash(values.length * 2);
+        }
+        return true;
+    }
+
+    public boolean contains(int value) {
+        return value != FREE && values[indexOf(value)] == value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(values, FREE);
+        size = 0;
+    }
+
+    /**
+     * Copy of the values, in no particular order
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        int n = 0;
+        for (int value : values) {
+            if (value != FREE) result[n++] = value;
+        }
+        return result;
+    }
+
+    private int indexOf(int value) {
+        int i = mix(value) & mask;
+        while (values[i] != FREE && values[i] != value) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void rehash(int newCapacity) {
+        int[] old = values;
+        allocate(newCapacity);
+        for (int value : old) {
+            if (value != FREE) values[indexOf(value)] = value;
+        }
+    }
+
+    private void allocate(int capacity) {
+        values = new int[capacity];
+        Arrays.fill(values, FREE);
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Spread sequential IDs over the table (they are mostly consecutive identity values)
+     */
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
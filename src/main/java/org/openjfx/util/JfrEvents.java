@@ -0,0 +1,141 @@
+package org.openjfx.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder event types of the application
+ *
+ * They show up under "Stadium Management" in JDK Mission Control and in
+ * `jfr print --categories "Stadium Management"`. Events cost next to nothing
+ * while no recording is running (see JfrRecording for the --jfr startup option).
+ *
+ * Usage:
+ *   JfrEvents.EmailSend event = new JfrEvents.EmailSend();
+ *   event.begin();
+ *   ... work ...
+ *   event.kind = "CONFIRMATION";
+ *   event.commit();
+ */
+public class JfrEvents {
+
+    private static final String CATEGORY = "Stadium Management";
+
+    private JfrEvents() {}
+
+    @Name("org.openjfx.BookingCommit")
+    @Label("Booking Commit")
+    @Description("One createBooking call, including deadlock retries")
+    @Category({ CATEGORY, "Booking" })
+    public static class BookingCommit extends Event {
+        @Label("Event ID")
+        public int eventId;
+
+        @Label("Section ID")
+        @Description("Section of the first booked seat")
+        public int sectionId;
+
+        @Label("Seat Count")
+        public int seatCount;
+
+        @Label("Attempts")
+        public int attempts;
+
+        @Label("Outcome")
+        @Description("CONFIRMED, DEADLOCK, BOOKING_NUMBER_CONFLICT or FAILED")
+        public String outcome;
+    }
+
+    @Name("org.openjfx.SqlExecution")
+    @Label("SQL Execution")
+    @Description("One execute call on a connection from DatabaseUtil (normalized SQL, no parameters)")
+    @Category({ CATEGORY, "Database" })
+    @StackTrace(false)
+    public static class SqlExecution extends Event {
+        @Label("SQL")
+        public String sql;
+
+        @Label("Rows Affected")
+        @Description("Update count, or -1 for queries (see SQL Fetch)")
+        public long rowsAffected;
+
+        @Label("Failed")
+        public boolean failed;
+    }
+
+    @Name("org.openjfx.SqlFetch")
+    @Label("SQL Fetch")
+    @Description("Reading a result set, from the first to the last ResultSet.next call")
+    @Category({ CATEGORY, "Database" })
+    @StackTrace(false)
+    public static class SqlFetch extends Event {
+        @Label("SQL")
+        public String sql;
+
+        @Label("Rows")
+        public long rows;
+
+        @Label("Time in next()")
+        @Timespan(Timespan.NANOSECONDS)
+        public long fetchTime;
+    }
+
+    @Name("org.openjfx.SeatMapPhase")
+    @Label("Seat Map Phase")
+    @Description("Loading a section's seat map from the database (LOAD) or building its grid (RENDER)")
+    @Category({ CATEGORY, "Seat Map" })
+    public static class SeatMapPhase extends Event {
+        @Label("Phase")
+        public String phase;
+
+        @Label("Event ID")
+        public int eventId;
+
+        @Label("Section ID")
+        public int sectionId;
+
+        @Label("Seats")
+        public int seats;
+    }
+
+    @Name("org.openjfx.EmailSend")
+    @Label("Email Send")
+    @Category({ CATEGORY, "Email" })
+    @StackTrace(false)
+    public static class EmailSend extends Event {
+        @Label("Kind")
+        @Description("CONFIRMATION or CANCELLATION")
+        public String kind;
+
+        @Label("Content Length")
+        @Description("Length of the HTML body in characters")
+        public long size;
+
+        @Label("Delivered")
+        @Description("False when delivery is disabled (MailUtils.setDeliveryEnabled) or sending failed")
+        public boolean delivered;
+
+        @Label("Success")
+        public boolean success;
+    }
+
+    @Name("org.openjfx.CacheAccess")
+    @Label("Cache Access")
+    @Category({ CATEGORY, "Cache" })
+    @StackTrace(false)
+    public static class CacheAccess extends Event {
+        @Label("Cache")
+        public String cache;
+
+        @Label("Key")
+        public String key;
+
+        @Label("Hit")
+        public boolean hit;
+    }
+}
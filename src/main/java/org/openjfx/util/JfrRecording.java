@@ -0,0 +1,86 @@
+package org.openjfx.util;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Continuous Java Flight Recorder recording, started with the --jfr option (or JFR_RECORDING=true in .env)
+ *
+ * Keeps the last MAX_AGE (at most MAX_SIZE) of the "default" JFR settings plus the
+ * JfrEvents types in a disk buffer. dump() writes that window to recordings/ so it can
+ * be taken from a box-office PC after a slowdown and opened in JDK Mission Control or
+ * with the `jfr` tool; on exit the window is written to recordings/stadium-exit.jfr.
+ */
+public class JfrRecording {
+
+    private static final Log LOG = Log.get(JfrRecording.class);
+
+    private static final Path RECORDINGS_DIR = Paths.get("recordings");
+    private static final Duration MAX_AGE = Duration.ofMinutes(30);
+    private static final long MAX_SIZE = 250L * 1024 * 1024;
+
+    private static Recording recording;
+
+    private JfrRecording() {}
+
+    /**
+     * Start the continuous recording (idempotent)
+     * @return true if the recording is running
+     */
+    public static synchronized boolean start() {
+        if (recording != null) return true;
+
+        try {
+            Files.createDirectories(RECORDINGS_DIR);
+
+            Recording r = new Recording(Configuration.getConfiguration("default"));
+            r.setName("stadium-continuous");
+            r.setToDisk(true);
+            r.setMaxAge(MAX_AGE);
+            r.setMaxSize(MAX_SIZE);
+            r.setDumpOnExit(true);
+            r.setDestination(RECORDINGS_DIR.resolve("stadium-exit.jfr"));
+            r.start();
+
+            recording = r;
+            LOG.info("Flight recording started (last " + MAX_AGE.toMinutes()
+                + " minutes kept, dumps in " + RECORDINGS_DIR.toAbsolutePath() + ")");
+            return true;
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            LOG.error("Could not start flight recording", e);
+            return false;
+        }
+    }
+
+    public static synchronized boolean isRunning() {
+        return recording != null;
+    }
+
+    /**
+     * Write the recorded window to recordings/stadium-<timestamp>.jfr
+     * @return Path of the written file, or null if no recording is running or writing failed
+     */
+    public static synchronized Path dump() {
+        if (recording == null) return null;
+
+        Path file = RECORDINGS_DIR.resolve("stadium-"
+            + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".jfr");
+        try {
+            recording.dump(file);
+            LOG.info("Flight recording saved to " + file.toAbsolutePath());
+            return file;
+        } catch (IOException e) {
+            LOG.error("Error saving flight recording", e);
+            return null;
+        }
+    }
+}
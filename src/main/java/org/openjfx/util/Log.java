@@ -0,0 +1,358 @@
+package org.openjfx.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Levelled application logging with an asynchronous file appender
+ *
+ * Callers only check the level and put a record into a fixed-size ring buffer; the
+ * "log-writer" thread formats the records, appends them to logs/stadium.log (rolled
+ * to stadium.1.log ... stadium.N.log by size) and echoes records at or above the
+ * console level to stderr. When the buffer is full new records are dropped and
+ * counted rather than blocking a booking, and the writer notes the drop in the file.
+ *
+ * Levels are resolved per logger from the most specific configured package or class
+ * prefix (see configure(), called by DatabaseUtil with the LOG_* settings from .env).
+ */
+public final class Log {
+
+    public enum Level { DEBUG, INFO, WARN, ERROR, OFF }
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int BATCH_SIZE = 256;
+    private static final String FILE_NAME = "stadium";
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    private static final Map<String, Log> LOGGERS = new ConcurrentHashMap<>();
+    private static final BlockingQueue<Record> BUFFER = new ArrayBlockingQueue<>(BUFFER_SIZE);
+    private static final AtomicLong dropped = new AtomicLong();
+
+    // Configuration, replaced as a whole by configure()
+    private static volatile Level rootLevel = Level.INFO;
+    private static volatile Map<String, Level> packageLevels = new HashMap<>();
+    private static volatile Level consoleLevel = Level.WARN;
+    private static volatile Level consoleOverride;
+    private static volatile Path logDir = Paths.get("logs");
+    private static volatile long maxFileBytes = 10L * 1024 * 1024;
+    private static volatile int maxFiles = 5;
+
+    // Writer state, guarded by Log.class
+    private static BufferedWriter out;
+    private static long fileBytes;
+    private static long droppedReported;
+    private static boolean fileFailed;
+
+    static {
+        Thread writer = new Thread(Log::writeLoop, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(Log::flush, "log-flush"));
+    }
+
+    private final String name;
+    private final String shortName;
+    private volatile Level level;
+
+    private Log(String name) {
+        this.name = name;
+        this.shortName = name.substring(name.lastIndexOf('.') + 1);
+        this.level = resolve(name);
+    }
+
+    /**
+     * Logger named after a class (its package path is used for level configuration)
+     */
+    public static Log get(Class<?> type) {
+        return LOGGERS.computeIfAbsent(type.getName(), Log::new);
+    }
+
+    /**
+     * Apply new settings to every logger
+     * @param root Level for loggers without a more specific setting
+     * @param levels Package or class name prefix to level, e.g. "org.openjfx.component" -> DEBUG
+     * @param console Minimum level also written to stderr (OFF for file only)
+     * @param dir Directory of the rolling log files
+     * @param maxBytes Size at which the current file is rolled
+     * @param files Number of rolled files kept
+     */
+    public static void configure(Level root, Map<String, Level> levels, Level console,
+                                 Path dir, long maxBytes, int files) {
+        rootLevel = root;
+        packageLevels = new HashMap<>(levels);
+        consoleLevel = consoleOverride != null ? consoleOverride : console;
+        maxFileBytes = Math.max(64 * 1024, maxBytes);
+        maxFiles = Math.max(1, files);
+        for (Log log : LOGGERS.values()) {
+            log.level = resolve(log.name);
+        }
+        synchronized (Log.class) {
+            if (!dir.equals(logDir)) {
+                closeFile();
+                logDir = dir;
+                fileFailed = false;
+            }
+        }
+    }
+
+    /**
+     * Echo records at or above level to the console, regardless of later configure() calls
+     * (the command-line tools use this to show progress in the terminal)
+     */
+    public static void setConsoleLevel(Level level) {
+        consoleOverride = level;
+        consoleLevel = level;
+    }
+
+    /**
+     * Parse "org.openjfx.component=DEBUG, org.openjfx.service.BookingService=WARN"
+     * (unknown levels are skipped)
+     */
+    public static Map<String, Level> parseLevels(String spec) {
+        Map<String, Level> levels = new HashMap<>();
+        if (spec == null) return levels;
+        for (String part : spec.split(",")) {
+            int eq = part.indexOf('=');
+            if (eq <= 0) continue;
+            try {
+                levels.put(part.substring(0, eq).trim(), Level.valueOf(part.substring(eq + 1).trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                // skip; the rest still applies
+            }
+        }
+        return levels;
+    }
+
+    private static Level resolve(String name) {
+        Map<String, Level> levels = packageLevels;
+        String prefix = name;
+        while (true) {
+            Level l = levels.get(prefix);
+            if (l != null) return l;
+            int dot = prefix.lastIndexOf('.');
+            if (dot < 0) return rootLevel;
+            prefix = prefix.substring(0, dot);
+        }
+    }
+
+    public boolean isEnabled(Level l) {
+        return l.compareTo(level) >= 0 && l != Level.OFF;
+    }
+
+    public boolean isDebugEnabled() {
+        return isEnabled(Level.DEBUG);
+    }
+
+    public void debug(String message) {
+        if (isEnabled(Level.DEBUG)) enqueue(Level.DEBUG, message, null);
+    }
+
+    /**
+     * Debug message built only when DEBUG is enabled for this logger
+     */
+    public void debug(Supplier<String> message) {
+        if (isEnabled(Level.DEBUG)) enqueue(Level.DEBUG, message.get(), null);
+    }
+
+    public void info(String message) {
+        if (isEnabled(Level.INFO)) enqueue(Level.INFO, message, null);
+    }
+
+    public void warn(String message) {
+        if (isEnabled(Level.WARN)) enqueue(Level.WARN, message, null);
+    }
+
+    public void warn(String message, Throwable error) {
+        if (isEnabled(Level.WARN)) enqueue(Level.WARN, message, error);
+    }
+
+    public void error(String message) {
+        if (isEnabled(Level.ERROR)) enqueue(Level.ERROR, message, null);
+    }
+
+    public void error(String message, Throwable error) {
+        if (isEnabled(Level.ERROR)) enqueue(Level.ERROR, message, error);
+    }
+
+    private void enqueue(Level l, String message, Throwable error) {
+        Record r = new Record(System.currentTimeMillis(), l, shortName,
+            Thread.currentThread().getName(), message, error);
+        if (!BUFFER.offer(r)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Records dropped because the buffer was full
+     */
+    public static long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Write everything buffered so far (called on exit)
+     */
+    public static void flush() {
+        List<Record> batch = new ArrayList<>();
+        BUFFER.drainTo(batch);
+        synchronized (Log.class) {
+            write(batch);
+            try {
+                if (out != null) out.flush();
+            } catch (IOException e) {
+                fileFailed("flush", e);
+            }
+        }
+    }
+
+    private static void writeLoop() {
+        List<Record> batch = new ArrayList<>(BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(BUFFER.take());
+                BUFFER.drainTo(batch, BATCH_SIZE - 1);
+                synchronized (Log.class) {
+                    write(batch);
+                    // Flush when caught up so the file is current while the app is idle
+                    if (BUFFER.isEmpty() && out != null) out.flush();
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (IOException e) {
+                synchronized (Log.class) {
+                    fileFailed("flush", e);
+                }
+            } catch (RuntimeException e) {
+                // keep the writer alive
+                e.printStackTrace();
+            }
+            batch.clear();
+        }
+    }
+
+    // Caller holds Log.class
+    private static void write(List<Record> batch) {
+        long lost = dropped.get();
+        if (lost > droppedReported) {
+            writeLine(format(System.currentTimeMillis(), Level.WARN, "log-writer", "Log",
+                (lost - droppedReported) + " log messages dropped (buffer full)", null));
+            droppedReported = lost;
+        }
+        Level console = consoleLevel;
+        for (Record r : batch) {
+            String line = format(r.time, r.level, r.thread, r.logger, r.message, r.error);
+            writeLine(line);
+            if (r.level.compareTo(console) >= 0) {
+                PrintStream stream = r.level.compareTo(Level.WARN) >= 0 ? System.err : System.out;
+                stream.print(line);
+            }
+        }
+    }
+
+    private static String format(long time, Level level, String thread, String logger, String message, Throwable error) {
+        StringBuilder sb = new StringBuilder(64 + (message != null ? message.length() : 4));
+        sb.append(TIME_FORMAT.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault())))
+          .append(' ').append(String.format("%-5s", level))
+          .append(" [").append(thread).append("] ")
+          .append(logger).append(" - ").append(message)
+          .append(System.lineSeparator());
+        if (error != null) {
+            StringWriter trace = new StringWriter();
+            error.printStackTrace(new PrintWriter(trace));
+            sb.append(trace);
+        }
+        return sb.toString();
+    }
+
+    // Caller holds Log.class
+    private static void writeLine(String line) {
+        if (fileFailed) return;
+        try {
+            if (out == null) openFile();
+            out.write(line);
+            fileBytes += line.length();
+            if (fileBytes >= maxFileBytes) roll();
+        } catch (IOException e) {
+            fileFailed("write", e);
+        }
+    }
+
+    private static void openFile() throws IOException {
+        Files.createDirectories(logDir);
+        Path file = logDir.resolve(FILE_NAME + ".log");
+        fileBytes = Files.exists(file) ? Files.size(file) : 0;
+        out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static void roll() throws IOException {
+        closeFile();
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            Path from = logDir.resolve(FILE_NAME + "." + i + ".log");
+            if (Files.exists(from)) {
+                Files.move(from, logDir.resolve(FILE_NAME + "." + (i + 1) + ".log"), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(logDir.resolve(FILE_NAME + ".log"), logDir.resolve(FILE_NAME + ".1.log"), StandardCopyOption.REPLACE_EXISTING);
+        openFile();
+    }
+
+    private static void closeFile() {
+        if (out == null) return;
+        try {
+            out.close();
+        } catch (IOException e) {
+            // nothing left to do with this file
+        }
+        out = null;
+    }
+
+    // Fall back to the console only, so logging never takes the app down
+    private static void fileFailed(String action, IOException e) {
+        System.err.println("Log file " + action + " failed in " + logDir.toAbsolutePath()
+            + ", logging to console only: " + e.getMessage());
+        closeFile();
+        fileFailed = true;
+        consoleLevel = rootLevel;
+    }
+
+    private static class Record {
+        final long time;
+        final Level level;
+        final String logger;
+        final String thread;
+        final String message;
+        final Throwable error;
+
+        Record(long time, Level level, String logger, String thread, String message, Throwable error) {
+            this.time = time;
+            this.level = level;
+            this.logger = logger;
+            this.thread = thread;
+            this.message = message;
+            this.error = error;
+        }
+    }
+}
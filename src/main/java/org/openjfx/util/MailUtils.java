@@ -16,6 +16,8 @@ import java.util.Properties;
  * Handles booking confirmation emails and other email notifications
  */
 public class MailUtils {
+
+    private static final Log LOG = Log.get(MailUtils.class);
     
     // Load environment variables from .env file
     private static final Dotenv dotenv = Dotenv.configure()
@@ -31,10 +33,27 @@ public class MailUtils {
     private static final String FROM_EMAIL = dotenv.get("EMAIL_FROM", "noreply@stadiummanagement.com");
     private static final String FROM_NAME = "Stadium Management System";
     
+    /** When false, emails are still built but not sent (load tests, runs without SMTP) */
+    private static volatile boolean deliveryEnabled = true;
+    
+    /**
+     * Turn actual sending on or off; while off, the send methods return true without contacting SMTP
+     */
+    public static void setDeliveryEnabled(boolean enabled) {
+        deliveryEnabled = enabled;
+    }
+    
+    public static boolean isDeliveryEnabled() {
+        return deliveryEnabled;
+    }
+    
     /**
      * Send booking confirmation email to customer
      */
     public static boolean sendBookingConfirmation(Booking booking, Event event) {
+        JfrEvents.EmailSend jfrEvent = new JfrEvents.EmailSend();
+        jfrEvent.begin();
+        jfrEvent.kind = "CONFIRMATION";
         try {
             // Get email session
             Session session = getEmailSession();
@@ -47,17 +66,27 @@ public class MailUtils {
             
             // Create HTML email content
             String emailContent = buildBookingConfirmationEmail(booking, event);
+            jfrEvent.size = emailContent.length();
             message.setContent(emailContent, "text/html; charset=utf-8");
             
+            if (!deliveryEnabled) {
+                jfrEvent.success = true;
+                jfrEvent.commit();
+                return true;
+            }
+            
             // Send email
             Transport.send(message);
             
-            System.out.println("✓ Booking confirmation email sent to: " + booking.getCustomerEmail());
+            LOG.info("Booking confirmation email sent to: " + booking.getCustomerEmail());
+            jfrEvent.delivered = true;
+            jfrEvent.success = true;
+            jfrEvent.commit();
             return true;
             
         } catch (Exception e) {
-            System.err.println("✗ Failed to send booking confirmation email: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Failed to send booking confirmation email", e);
+            jfrEvent.commit();
             return false;
         }
     }
@@ -66,6 +95,9 @@ public class MailUtils {
      * Send booking cancellation email to customer
      */
     public static boolean sendBookingCancellation(Booking booking, Event event) {
+        JfrEvents.EmailSend jfrEvent = new JfrEvents.EmailSend();
+        jfrEvent.begin();
+        jfrEvent.kind = "CANCELLATION";
         try {
             Session session = getEmailSession();
             
@@ -75,16 +107,26 @@ public class MailUtils {
             message.setSubject("Booking Cancellation - " + event.getEventName());
             
             String emailContent = buildBookingCancellationEmail(booking, event);
+            jfrEvent.size = emailContent.length();
             message.setContent(emailContent, "text/html; charset=utf-8");
             
+            if (!deliveryEnabled) {
+                jfrEvent.success = true;
+                jfrEvent.commit();
+                return true;
+            }
+            
             Transport.send(message);
             
-            System.out.println("✓ Booking cancellation email sent to: " + booking.getCustomerEmail());
+            LOG.info("Booking cancellation email sent to: " + booking.getCustomerEmail());
+            jfrEvent.delivered = true;
+            jfrEvent.success = true;
+            jfrEvent.commit();
             return true;
             
         } catch (Exception e) {
-            System.err.println("✗ Failed to send booking cancellation email: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Failed to send booking cancellation email", e);
+            jfrEvent.commit();
             return false;
         }
     }
@@ -111,7 +153,7 @@ public class MailUtils {
     /**
      * Build HTML email for booking confirmation
      */
-    private static String buildBookingConfirmationEmail(Booking booking, Event event) {
+    public static String buildBookingConfirmationEmail(Booking booking, Event event) {
         DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("EEEE, MMMM dd, yyyy");
         DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
         
@@ -190,7 +232,7 @@ public class MailUtils {
     /**
      * Build HTML email for booking cancellation
      */
-    private static String buildBookingCancellationEmail(Booking booking, Event event) {
+    public static String buildBookingCancellationEmail(Booking booking, Event event) {
         DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("EEEE, MMMM dd, yyyy");
         
         StringBuilder html = new StringBuilder();
@@ -239,10 +281,10 @@ public class MailUtils {
             Transport transport = session.getTransport("smtp");
             transport.connect();
             transport.close();
-            System.out.println("✓ Email configuration is valid");
+            LOG.info("Email configuration is valid");
             return true;
         } catch (Exception e) {
-            System.err.println("✗ Email configuration failed: " + e.getMessage());
+            LOG.warn("Email configuration failed: " + e.getMessage());
             return false;
         }
     }
@@ -0,0 +1,93 @@
+package org.openjfx.util;
+
+/**
+ * Utility class for row labels
+ *
+ * Row labels follow A..Z, AA..ZZ, AAA.. (row 1 = "A", 27 = "AA", 703 = "AAA"),
+ * which is what seat generation writes to Seats.RowNumber.
+ */
+public class RowLabels {
+
+    /**
+     * Largest row number with a label. rowLabel keeps every label up to the highest row
+     * asked for, so this caps that shared table (about 3 MB when full); its labels are at
+     * most 4 letters, well within Seats.RowNumber NVARCHAR(10).
+     */
+    public static final int MAX_ROW = 65_535;
+
+    /** Labels precomputed up to ZZ; the table grows on demand beyond that */
+    private static final int INITIAL_LABELS = 702;
+
+    private static volatile String[] labels = buildLabels(INITIAL_LABELS);
+
+    private RowLabels() {}
+
+    /**
+     * Get the label of a 1-based row number
+     */
+    public static String rowLabel(int row) {
+        if (row < 1 || row > MAX_ROW) {
+            throw new IllegalArgumentException("Row out of range: " + row);
+        }
+        String[] table = labels;
+        if (row > table.length) {
+            table = growLabels(row);
+        }
+        return table[row - 1];
+    }
+
+    /**
+     * Get the labels of rows 1..rowCount, in order
+     */
+    public static String[] rowLabels(int rowCount) {
+        String[] result = new String[rowCount];
+        for (int row = 1; row <= rowCount; row++) {
+            result[row - 1] = rowLabel(row);
+        }
+        return result;
+    }
+
+    /**
+     * Get the 1-based row number of a label (inverse of {@link #rowLabel(int)})
+     * Decoded arithmetically, so no lookup table or allocation is needed.
+     * @return Row number, or -1 if the label is null, empty or not A-Z letters
+     */
+    public static int rowIndex(String label) {
+        if (label == null || label.isEmpty()) return -1;
+
+        int row = 0;
+        for (int i = 0; i < label.length(); i++) {
+            char c = label.charAt(i);
+            if (c < 'A' || c > 'Z') return -1;
+            row = row * 26 + (c - 'A' + 1);
+            if (row > MAX_ROW) return -1;
+        }
+        return row;
+    }
+
+    private static synchronized String[] growLabels(int row) {
+        String[] table = labels;
+        if (row > table.length) {
+            table = buildLabels(Math.min(MAX_ROW, Math.max(row, table.length * 2)));
+            labels = table;
+        }
+        return table;
+    }
+
+    private static String[] buildLabels(int count) {
+        String[] table = new String[count];
+        StringBuilder sb = new StringBuilder(4);
+        for (int row = 1; row <= count; row++) {
+            // bijective base-26: A..Z, AA..ZZ, AAA..
+            sb.setLength(0);
+            int n = row;
+            while (n > 0) {
+                n--;
+                sb.append((char) ('A' + n % 26));
+                n /= 26;
+            }
+            table[row - 1] = sb.reverse().toString();
+        }
+        return table;
+    }
+}
@@ -0,0 +1,128 @@
+package org.openjfx.util;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Utility class for mapping ResultSet rows to model objects by column index
+ *
+ * A Factory resolves the column indexes it needs once, from the ResultSet metadata,
+ * and returns a RowMapper that only uses those indexes. The mapper is cached per
+ * factory and metadata shape (the ordered column labels), so each query shape pays
+ * for the name lookups once instead of on every row.
+ *
+ * Usage:
+ *   RowMappers.RowMapper<Seat> mapper = RowMappers.forResultSet(rs, SEAT_MAPPER);
+ *   while (rs.next()) seats.add(mapper.map(rs));
+ */
+public class RowMappers {
+
+    /**
+     * Maps the current row of a ResultSet
+     */
+    public interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * Creates a RowMapper for one query shape from its resolved columns
+     */
+    public interface Factory<T> {
+        RowMapper<T> create(Columns columns) throws SQLException;
+    }
+
+    /**
+     * Column label -> 1-based index of a query shape (case-insensitive, first match wins like findColumn)
+     */
+    public static class Columns {
+        private final Map<String, Integer> indexes;
+        private final String shape;
+
+        Columns(ResultSetMetaData metaData) throws SQLException {
+            int count = metaData.getColumnCount();
+            Map<String, Integer> map = new HashMap<>(count * 2);
+            StringBuilder sb = new StringBuilder(count * 12);
+            for (int i = 1; i <= count; i++) {
+                String label = metaData.getColumnLabel(i).toUpperCase(Locale.ROOT);
+                map.putIfAbsent(label, i);
+                sb.append(label).append(',');
+            }
+            this.indexes = map;
+            this.shape = sb.toString();
+        }
+
+        /**
+         * Index of a required column
+         * @throws SQLException if the query does not return the column
+         */
+        public int index(String label) throws SQLException {
+            Integer index = indexes.get(label.toUpperCase(Locale.ROOT));
+            if (index == null) {
+                throw new SQLException("Column " + label + " not found in result (" + shape + ")");
+            }
+            return index;
+        }
+
+        /**
+         * Index of an optional column, or 0 if the query does not return it
+         */
+        public int optional(String label) {
+            Integer index = indexes.get(label.toUpperCase(Locale.ROOT));
+            return index != null ? index : 0;
+        }
+
+        String getShape() {
+            return shape;
+        }
+    }
+
+    private static final Map<Factory<?>, Map<String, RowMapper<?>>> CACHE = new ConcurrentHashMap<>();
+
+    private RowMappers() {}
+
+    /**
+     * Get the cached mapper of a factory for the shape of this ResultSet, creating it on first use
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RowMapper<T> forResultSet(ResultSet rs, Factory<T> factory) throws SQLException {
+        Columns columns = new Columns(rs.getMetaData());
+        Map<String, RowMapper<?>> shapes = CACHE.computeIfAbsent(factory, f -> new ConcurrentHashMap<>());
+
+        RowMapper<?> mapper = shapes.get(columns.getShape());
+        if (mapper == null) {
+            mapper = factory.create(columns);
+            shapes.putIfAbsent(columns.getShape(), mapper);
+        }
+        return (RowMapper<T>) mapper;
+    }
+
+    /**
+     * Map all remaining rows of a ResultSet
+     */
+    public static <T> List<T> mapAll(ResultSet rs, Factory<T> factory) throws SQLException {
+        RowMapper<T> mapper = forResultSet(rs, factory);
+        List<T> result = new ArrayList<>();
+        while (rs.next()) {
+            result.add(mapper.map(rs));
+        }
+        return result;
+    }
+
+    /**
+     * Number of cached mappers (factory x query shape)
+     */
+    public static int getCachedMapperCount() {
+        int count = 0;
+        for (Map<String, RowMapper<?>> shapes : CACHE.values()) {
+            count += shapes.size();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,469 @@
+package org.openjfx.util;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-statement SQL latency metrics, collected by InstrumentedConnection
+ *
+ * Statements are grouped by their normalized SQL text (literals replaced by ?,
+ * whitespace collapsed), so the same query with different values is one entry.
+ * Each entry keeps call/row/error counters and log2 latency histograms for the
+ * execute and fetch phases. Executions slower than the threshold are kept in a
+ * small ring with the calling service frames; bound parameters are never recorded.
+ *
+ * Recording is lock-free (LongAdder / AtomicLongArray), cheap enough to leave on.
+ */
+public class SqlMetrics {
+
+    private static final Log LOG = Log.get(SqlMetrics.class);
+
+    /** Most recent slow executions kept for the report */
+    private static final int MAX_SLOW_QUERIES = 50;
+    /** Distinct normalized statements kept; more are counted under OVERFLOW_SQL */
+    private static final int MAX_STATEMENTS = 500;
+    /** Raw SQL -> normalized SQL cache size; dynamic SQL beyond it is normalized on every call */
+    private static final int MAX_NORMALIZED_CACHE = 2048;
+    private static final int CALLER_FRAMES = 6;
+    private static final String OVERFLOW_SQL = "(other statements)";
+
+    private static volatile boolean enabled = true;
+    private static volatile long slowThresholdNanos = 500_000_000L;
+
+    private static final Map<String, StatementStats> STATEMENTS = new ConcurrentHashMap<>();
+    private static final Map<String, String> NORMALIZED = new ConcurrentHashMap<>();
+    private static final Deque<SlowQuery> SLOW_QUERIES = new ArrayDeque<>();
+    private static volatile long since = System.currentTimeMillis();
+
+    // Connections (DatabaseUtil opens a new one per call; there is no pool)
+    private static final LongAdder connectionsOpened = new LongAdder();
+    private static final LongAdder connectionFailures = new LongAdder();
+    private static final LongAdder connectionsOpen = new LongAdder();
+    private static final Histogram connect = new Histogram();
+
+    private SqlMetrics() {}
+
+    /**
+     * Latency histogram with power-of-two microsecond buckets (bucket i holds [2^i, 2^(i+1)) µs)
+     */
+    public static class Histogram {
+        private static final int BUCKETS = 32;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            long micros = nanos / 1_000;
+            int bucket = micros <= 0 ? 0 : Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros));
+            buckets.incrementAndGet(bucket);
+            totalNanos.add(nanos);
+            if (nanos > maxNanos.get()) {
+                maxNanos.accumulateAndGet(nanos, Math::max);
+            }
+        }
+
+        public long getCount() {
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                count += buckets.get(i);
+            }
+            return count;
+        }
+
+        public double getMeanMillis() {
+            long count = getCount();
+            return count == 0 ? 0 : totalNanos.sum() / 1e6 / count;
+        }
+
+        public double getMaxMillis() {
+            return maxNanos.get() / 1e6;
+        }
+
+        /**
+         * Upper bound of the bucket holding the given percentile (0-100), in milliseconds
+         */
+        public double getPercentileMillis(double percentile) {
+            long count = getCount();
+            if (count == 0) return 0;
+
+            long rank = (long) Math.ceil(count * percentile / 100.0);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) {
+                    return Math.min((1L << (i + 1)) / 1e3, getMaxMillis());
+                }
+            }
+            return getMaxMillis();
+        }
+    }
+
+    /**
+     * Counters and histograms of one normalized statement
+     */
+    public static class StatementStats {
+        private final String sql;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder slowCalls = new LongAdder();
+        private final Histogram execute = new Histogram();
+        private final Histogram fetch = new Histogram();
+
+        StatementStats(String sql) {
+            this.sql = sql;
+        }
+
+        public String getSql() { return sql; }
+        public long getCalls() { return calls.sum(); }
+        /** Rows read for queries, rows affected for updates */
+        public long getRows() { return rows.sum(); }
+        public long getErrors() { return errors.sum(); }
+        public long getSlowCalls() { return slowCalls.sum(); }
+        public Histogram getExecute() { return execute; }
+        public Histogram getFetch() { return fetch; }
+
+        /** Total time spent in this statement (execute + fetch), in milliseconds */
+        public double getTotalMillis() {
+            return (execute.totalNanos.sum() + fetch.totalNanos.sum()) / 1e6;
+        }
+    }
+
+    /**
+     * One execution that took longer than the slow threshold
+     */
+    public static class SlowQuery {
+        private final LocalDateTime time;
+        private final String sql;
+        private final double millis;
+        private final long rows;
+        private final String thread;
+        private final List<String> caller;
+
+        SlowQuery(String sql, double millis, long rows, List<String> caller) {
+            this.time = LocalDateTime.now();
+            this.sql = sql;
+            this.millis = millis;
+            this.rows = rows;
+            this.thread = Thread.currentThread().getName();
+            this.caller = caller;
+        }
+
+        public LocalDateTime getTime() { return time; }
+        public String getSql() { return sql; }
+        public double getMillis() { return millis; }
+        public long getRows() { return rows; }
+        public String getThread() { return thread; }
+        public List<String> getCaller() { return caller; }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turn instrumentation of new connections on or off (connections already handed out keep recording)
+     */
+    public static void setEnabled(boolean enabled) {
+        SqlMetrics.enabled = enabled;
+    }
+
+    public static long getSlowThresholdMillis() {
+        return slowThresholdNanos / 1_000_000L;
+    }
+
+    public static void setSlowThresholdMillis(long millis) {
+        slowThresholdNanos = Math.max(1, millis) * 1_000_000L;
+    }
+
+    /**
+     * Record a connection opened by DatabaseUtil and the time DriverManager took to open it
+     */
+    public static void recordConnect(long nanos) {
+        connectionsOpened.increment();
+        connect.record(nanos);
+    }
+
+    public static void recordConnectFailure() {
+        connectionFailures.increment();
+    }
+
+    static void connectionWrapped() {
+        connectionsOpen.increment();
+    }
+
+    static void connectionClosed() {
+        connectionsOpen.decrement();
+    }
+
+    public static long getConnectionsOpened() {
+        return connectionsOpened.sum();
+    }
+
+    public static long getConnectionFailures() {
+        return connectionFailures.sum();
+    }
+
+    /**
+     * Instrumented connections not closed yet (leaks show up as a number that keeps growing)
+     */
+    public static long getConnectionsOpen() {
+        return connectionsOpen.sum();
+    }
+
+    /**
+     * Time to open a connection (login round trips included)
+     */
+    public static Histogram getConnectHistogram() {
+        return connect;
+    }
+
+    /**
+     * Stats entry of a raw SQL text, created on first use
+     */
+    static StatementStats statsFor(String rawSql) {
+        String sql = normalize(rawSql);
+        StatementStats stats = STATEMENTS.get(sql);
+        if (stats == null) {
+            if (STATEMENTS.size() >= MAX_STATEMENTS) {
+                sql = OVERFLOW_SQL;
+            }
+            stats = STATEMENTS.computeIfAbsent(sql, StatementStats::new);
+        }
+        return stats;
+    }
+
+    /**
+     * Record one execute call; fetch time of a query is recorded separately by recordFetch
+     */
+    static void recordExecute(StatementStats stats, long nanos, boolean failed) {
+        stats.calls.increment();
+        stats.execute.record(nanos);
+        if (failed) stats.errors.increment();
+    }
+
+    /**
+     * Record rows affected by an update and check it against the slow threshold
+     */
+    static void recordUpdate(StatementStats stats, long executeNanos, long rows) {
+        stats.rows.add(rows);
+        checkSlow(stats, executeNanos, rows);
+    }
+
+    /**
+     * Record the time spent reading a result set and check execute + fetch against the slow threshold
+     */
+    static void recordFetch(StatementStats stats, long executeNanos, long fetchNanos, long rows) {
+        stats.fetch.record(fetchNanos);
+        stats.rows.add(rows);
+        checkSlow(stats, executeNanos + fetchNanos, rows);
+    }
+
+    private static void checkSlow(StatementStats stats, long nanos, long rows) {
+        if (nanos < slowThresholdNanos) return;
+
+        stats.slowCalls.increment();
+        SlowQuery slow = new SlowQuery(stats.sql, nanos / 1e6, rows, callerFrames());
+        synchronized (SLOW_QUERIES) {
+            if (SLOW_QUERIES.size() == MAX_SLOW_QUERIES) {
+                SLOW_QUERIES.removeFirst();
+            }
+            SLOW_QUERIES.addLast(slow);
+        }
+        LOG.warn(String.format("Slow SQL (%.1f ms, %d rows) on %s at %s: %s",
+            slow.millis, rows, slow.thread, slow.caller.isEmpty() ? "?" : slow.caller.get(0), stats.sql));
+    }
+
+    /**
+     * Application frames that led to the statement, skipping this package's plumbing and reflection
+     */
+    private static List<String> callerFrames() {
+        List<String> frames = new ArrayList<>(CALLER_FRAMES);
+        for (StackTraceElement frame : new Throwable().getStackTrace()) {
+            String className = frame.getClassName();
+            if (!className.startsWith("org.openjfx.")
+                    || className.equals(SqlMetrics.class.getName())
+                    || className.startsWith(InstrumentedConnection.class.getName())) {
+                continue;
+            }
+            frames.add(className.substring(className.lastIndexOf('.') + 1)
+                + "." + frame.getMethodName() + ":" + frame.getLineNumber());
+            if (frames.size() == CALLER_FRAMES) break;
+        }
+        return frames;
+    }
+
+    /**
+     * Statements ordered by total time spent, highest first
+     */
+    public static List<StatementStats> getStatements() {
+        List<StatementStats> list = new ArrayList<>(STATEMENTS.values());
+        list.sort(Comparator.comparingDouble(StatementStats::getTotalMillis).reversed());
+        return list;
+    }
+
+    /**
+     * Recent slow executions, newest first
+     */
+    public static List<SlowQuery> getSlowQueries() {
+        List<SlowQuery> list;
+        synchronized (SLOW_QUERIES) {
+            list = new ArrayList<>(SLOW_QUERIES);
+        }
+        Collections.reverse(list);
+        return list;
+    }
+
+    public static void reset() {
+        STATEMENTS.clear();
+        synchronized (SLOW_QUERIES) {
+            SLOW_QUERIES.clear();
+        }
+        since = System.currentTimeMillis();
+    }
+
+    /**
+     * Plain-text report of all statements and recent slow executions
+     */
+    public static String report() {
+        StringWriter out = new StringWriter();
+        PrintWriter pw = new PrintWriter(out);
+        DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+        pw.println("SQL METRICS");
+        pw.println("Generated: " + LocalDateTime.now().format(fmt));
+        pw.println("Collecting for: " + (System.currentTimeMillis() - since) / 1000 + " s");
+        pw.println("Slow threshold: " + getSlowThresholdMillis() + " ms");
+        pw.println(String.format("Connections: %d opened, %d open, %d failed, connect p50 %.1f ms, p95 %.1f ms, max %.1f ms",
+            getConnectionsOpened(), getConnectionsOpen(), getConnectionFailures(),
+            connect.getPercentileMillis(50), connect.getPercentileMillis(95), connect.getMaxMillis()));
+        pw.println();
+        pw.println(String.format("%8s %10s %6s %6s %10s %9s %9s %9s %9s %9s  %s",
+            "calls", "rows", "errors", "slow", "total ms", "exec p50", "exec p95", "exec p99", "exec max",
+            "fetch p95", "sql"));
+        for (StatementStats s : getStatements()) {
+            pw.println(String.format("%8d %10d %6d %6d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f  %s",
+                s.getCalls(), s.getRows(), s.getErrors(), s.getSlowCalls(), s.getTotalMillis(),
+                s.execute.getPercentileMillis(50), s.execute.getPercentileMillis(95),
+                s.execute.getPercentileMillis(99), s.execute.getMaxMillis(),
+                s.fetch.getPercentileMillis(95), s.sql));
+        }
+
+        pw.println();
+        pw.println("RECENT SLOW QUERIES");
+        for (SlowQuery q : getSlowQueries()) {
+            pw.println(String.format("%s  %.1f ms  %d rows  [%s]  %s",
+                q.time.format(fmt), q.millis, q.rows, q.thread, q.sql));
+            for (String frame : q.caller) {
+                pw.println("    at " + frame);
+            }
+        }
+        pw.flush();
+        return out.toString();
+    }
+
+    /**
+     * Write the report to a file
+     * @return true if written, false on error
+     */
+    public static boolean dump(Path file) {
+        try {
+            Files.write(file, report().getBytes(StandardCharsets.UTF_8));
+            return true;
+        } catch (IOException e) {
+            LOG.error("Error writing SQL metrics to " + file, e);
+            return false;
+        }
+    }
+
+    /**
+     * SQL text with string and number literals replaced by ?, value lists folded and whitespace collapsed
+     */
+    static String normalize(String sql) {
+        if (sql == null) return "(unknown)";
+
+        String normalized = NORMALIZED.get(sql);
+        if (normalized != null) return normalized;
+
+        normalized = foldValueLists(replaceLiterals(sql));
+        if (NORMALIZED.size() < MAX_NORMALIZED_CACHE) {
+            NORMALIZED.put(sql, normalized);
+        }
+        return normalized;
+    }
+
+    private static String replaceLiterals(String sql) {
+        StringBuilder sb = new StringBuilder(sql.length());
+        int n = sql.length();
+        int i = 0;
+        while (i < n) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                // String literal ('' is an escaped quote); an N prefix is dropped with it
+                i++;
+                while (i < n) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < n && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                i++;
+                int last = sb.length() - 1;
+                if (last >= 0 && (sb.charAt(last) == 'N' || sb.charAt(last) == 'n')
+                        && (last == 0 || !isIdentifierChar(sb.charAt(last - 1)))) {
+                    sb.setLength(last);
+                }
+                sb.append('?');
+            } else if (Character.isDigit(c) && (sb.length() == 0 || !isIdentifierChar(sb.charAt(sb.length() - 1)))) {
+                while (i < n && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                sb.append('?');
+            } else if (Character.isWhitespace(c)) {
+                while (i < n && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (sb.length() > 0) sb.append(' ');
+            } else {
+                sb.append(c);
+                i++;
+            }
+        }
+        return sb.toString().trim();
+    }
+
+    /**
+     * "(?, ?, ?)" -> "(?...)" so IN lists and multi-row VALUES of any length are one statement
+     */
+    private static String foldValueLists(String sql) {
+        if (sql.indexOf("?,") < 0 && sql.indexOf("? ,") < 0) return sql;
+        return sql.replaceAll("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)", "(?...)")
+                  .replaceAll("\\(\\?\\.\\.\\.\\)(\\s*,\\s*\\(\\?\\.\\.\\.\\))+", "(?...)");
+    }
+
+    private static boolean isIdentifierChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '@' || c == '#' || c == '$';
+    }
+}
@@ -29,70 +29,42 @@ END
 -- =============================================
 -- GENERATE SEATS FOR ALL TRIBUNE SECTIONS
 -- =============================================
+-- Set-based: one INSERT ... SELECT joining each section to an inline numbers
+-- table (1..10000) for its rows and seats, instead of a row-by-row cursor.
+-- Row labels: A-Z, then AA-AZ, BA-BZ, etc.
 
-DECLARE @SectionID INT;
-DECLARE @SectionName NVARCHAR(100);
-DECLARE @TotalRows INT;
-DECLARE @SeatsPerRow INT;
-DECLARE @RowNum INT;
-DECLARE @SeatNum INT;
-DECLARE @RowLabel NVARCHAR(10);
 DECLARE @TotalSeatsCreated INT = 0;
 
--- Cursor for tribune sections
-DECLARE section_cursor CURSOR FOR
-SELECT SectionID, SectionName, TotalRows, SeatsPerRow
+PRINT 'Generating seats for:';
+SELECT SectionName,
+       TotalRows,
+       SeatsPerRow,
+       TotalRows * SeatsPerRow AS TotalSeats
 FROM Sections
-WHERE SectionType = 'TRIBUNE' AND IsActive = 1;
+WHERE SectionType = 'TRIBUNE' AND IsActive = 1
+ORDER BY SectionID;
 
-OPEN section_cursor;
-FETCH NEXT FROM section_cursor INTO @SectionID, @SectionName, @TotalRows, @SeatsPerRow;
+;WITH Digits AS (
+    SELECT n FROM (VALUES (0),(1),(2),(3),(4),(5),(6),(7),(8),(9)) AS d(n)
+),
+Numbers AS (
+    SELECT a.n + 10 * b.n + 100 * c.n + 1000 * d.n + 1 AS n
+    FROM Digits a CROSS JOIN Digits b CROSS JOIN Digits c CROSS JOIN Digits d
+)
+INSERT INTO Seats (SectionID, RowNumber, SeatNumber, IsActive)
+SELECT sec.SectionID,
+       CASE WHEN r.n <= 26 THEN CHAR(64 + r.n)
+            WHEN r.n <= 702 THEN CHAR(65 + (r.n - 27) / 26) + CHAR(65 + (r.n - 27) % 26)
+            ELSE CHAR(65 + (r.n - 703) / 676) + CHAR(65 + ((r.n - 703) / 26) % 26) + CHAR(65 + (r.n - 703) % 26) END,
+       s.n,
+       1
+FROM Sections sec
+INNER JOIN Numbers r ON r.n <= sec.TotalRows
+INNER JOIN Numbers s ON s.n <= sec.SeatsPerRow
+WHERE sec.SectionType = 'TRIBUNE' AND sec.IsActive = 1;
 
-WHILE @@FETCH_STATUS = 0
-BEGIN
-    PRINT 'Generating seats for: ' + @SectionName;
-    PRINT '  Configuration: ' + CAST(@TotalRows AS NVARCHAR(10)) + ' rows × ' + 
-          CAST(@SeatsPerRow AS NVARCHAR(10)) + ' seats = ' + 
-          CAST(@TotalRows * @SeatsPerRow AS NVARCHAR(10)) + ' total seats';
-    
-    SET @RowNum = 1;
-    
-    -- Generate seats row by row
-    WHILE @RowNum <= @TotalRows
-    BEGIN
-        -- Generate row label (A-Z, then AA-AZ, BA-BZ, etc.)
-        IF @RowNum <= 26
-            SET @RowLabel = CHAR(64 + @RowNum); -- A, B, C, ..., Z
-        ELSE
-        BEGIN
-            DECLARE @FirstChar INT = (@RowNum - 27) / 26;
-            DECLARE @SecondChar INT = (@RowNum - 27) % 26;
-            SET @RowLabel = CHAR(65 + @FirstChar) + CHAR(65 + @SecondChar); -- AA, AB, AC, ...
-        END
-        
-        SET @SeatNum = 1;
-        
-        -- Generate all seats in this row
-        WHILE @SeatNum <= @SeatsPerRow
-        BEGIN
-            INSERT INTO Seats (SectionID, RowNumber, SeatNumber, IsActive)
-            VALUES (@SectionID, @RowLabel, @SeatNum, 1);
-            
-            SET @SeatNum = @SeatNum + 1;
-            SET @TotalSeatsCreated = @TotalSeatsCreated + 1;
-        END
-        
-        SET @RowNum = @RowNum + 1;
-    END
-    
-    PRINT '  ✓ Created ' + CAST(@TotalRows * @SeatsPerRow AS NVARCHAR(10)) + ' seats';
-    PRINT '';
-    
-    FETCH NEXT FROM section_cursor INTO @SectionID, @SectionName, @TotalRows, @SeatsPerRow;
-END
-
-CLOSE section_cursor;
-DEALLOCATE section_cursor;
+SET @TotalSeatsCreated = @@ROWCOUNT;
+PRINT '';
 
 PRINT '========================================';
 PRINT 'SEAT GENERATION COMPLETE!';
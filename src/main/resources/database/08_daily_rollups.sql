@@ -0,0 +1,78 @@
+-- ============================================================================
+-- Stadium Management System - Daily Rollups Migration
+-- Version: 1.3.0
+-- Description: Adds the DailyRollups table used by financial reports and trend
+--              charts, and backfills it from existing bookings and expenses
+-- ============================================================================
+
+USE StadiumDB;
+GO
+
+PRINT 'Creating DailyRollups table...';
+
+-- One row per (day, event, category). EventID = 0 holds amounts that are not
+-- attributed to an event (e.g. general inventory purchases).
+-- Categories: REVENUE, TICKETS, PURCHASES, EVENT_EXPENSES
+IF NOT EXISTS (SELECT * FROM sys.tables WHERE name = 'DailyRollups')
+BEGIN
+    CREATE TABLE DailyRollups (
+        RollupDate DATE NOT NULL,
+        EventID INT NOT NULL DEFAULT 0,
+        Category VARCHAR(20) NOT NULL,
+        Amount DECIMAL(18,2) NOT NULL DEFAULT 0,
+        UpdatedAt DATETIME NOT NULL DEFAULT GETDATE(),
+        CONSTRAINT PK_DailyRollups PRIMARY KEY (RollupDate, EventID, Category),
+        CONSTRAINT CHK_DailyRollups_Category
+            CHECK (Category IN ('REVENUE', 'TICKETS', 'PURCHASES', 'EVENT_EXPENSES'))
+    );
+
+    CREATE INDEX IX_DailyRollups_Category_Date ON DailyRollups(Category, RollupDate) INCLUDE (Amount);
+    CREATE INDEX IX_DailyRollups_EventID ON DailyRollups(EventID, Category) INCLUDE (Amount);
+    PRINT '✓ DailyRollups table created';
+END
+ELSE
+    PRINT '⚠ DailyRollups table already exists';
+GO
+
+-- ============================================================================
+-- Backfill from existing data (safe to re-run: rebuilds the whole table)
+-- ============================================================================
+PRINT 'Backfilling DailyRollups...';
+
+BEGIN TRANSACTION;
+
+DELETE FROM DailyRollups;
+
+INSERT INTO DailyRollups (RollupDate, EventID, Category, Amount)
+SELECT CAST(BookingDate AS DATE), EventID, 'REVENUE', SUM(TotalPrice)
+FROM Bookings
+WHERE BookingStatus = 'CONFIRMED'
+GROUP BY CAST(BookingDate AS DATE), EventID;
+
+INSERT INTO DailyRollups (RollupDate, EventID, Category, Amount)
+SELECT CAST(BookingDate AS DATE), EventID, 'TICKETS', SUM(TotalSeats)
+FROM Bookings
+WHERE BookingStatus = 'CONFIRMED'
+GROUP BY CAST(BookingDate AS DATE), EventID;
+
+INSERT INTO DailyRollups (RollupDate, EventID, Category, Amount)
+SELECT CAST(PurchaseDate AS DATE), ISNULL(EventID, 0), 'PURCHASES', SUM(TotalCost)
+FROM InventoryPurchases
+GROUP BY CAST(PurchaseDate AS DATE), ISNULL(EventID, 0);
+
+INSERT INTO DailyRollups (RollupDate, EventID, Category, Amount)
+SELECT CAST(CreatedAt AS DATE), EventID, 'EVENT_EXPENSES', SUM(TotalCost)
+FROM EventExpenses
+GROUP BY CAST(CreatedAt AS DATE), EventID;
+
+COMMIT TRANSACTION;
+GO
+
+PRINT '✓ DailyRollups backfilled';
+PRINT '';
+PRINT '============================================================';
+PRINT 'Migration completed! Summary:';
+PRINT '- Added DailyRollups table (per day / event / category)';
+PRINT '- Backfilled rollups from Bookings, InventoryPurchases, EventExpenses';
+PRINT '============================================================';
+GO
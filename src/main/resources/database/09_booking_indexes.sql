@@ -0,0 +1,105 @@
+-- ============================================================================
+-- Stadium Management System - Booking & Expense Indexes Migration
+-- Version: 1.4.0
+-- Description: Adds covering indexes for the booking, seat availability and
+--              period report queries so they can seek instead of scan.
+--              Date filters in the application use half-open ranges
+--              (col >= @start AND col < @end) to stay sargable.
+-- ============================================================================
+
+USE StadiumDB;
+GO
+
+PRINT 'Creating booking and expense indexes...';
+
+-- Bookings per event (revenue/ticket totals, booking lists)
+IF NOT EXISTS (SELECT * FROM sys.indexes WHERE name = 'IX_Bookings_EventID_Status' AND object_id = OBJECT_ID('Bookings'))
+BEGIN
+    CREATE INDEX IX_Bookings_EventID_Status
+        ON Bookings(EventID, BookingStatus)
+        INCLUDE (BookingDate, TotalSeats, TotalPrice);
+    PRINT '✓ IX_Bookings_EventID_Status created';
+END
+ELSE
+    PRINT '⚠ IX_Bookings_EventID_Status already exists';
+GO
+
+-- Bookings by date (today's bookings, rollup compaction)
+IF NOT EXISTS (SELECT * FROM sys.indexes WHERE name = 'IX_Bookings_BookingDate' AND object_id = OBJECT_ID('Bookings'))
+BEGIN
+    CREATE INDEX IX_Bookings_BookingDate
+        ON Bookings(BookingDate)
+        INCLUDE (EventID, BookingStatus, TotalSeats, TotalPrice);
+    PRINT '✓ IX_Bookings_BookingDate created';
+END
+ELSE
+    PRINT '⚠ IX_Bookings_BookingDate already exists';
+GO
+
+-- Booked seats per event and section (SeatService.getBookedSeatIds: seat maps,
+-- SeatService.isSeatAvailable seeks on the EventID prefix)
+IF NOT EXISTS (SELECT * FROM sys.indexes WHERE name = 'IX_BookingSeats_EventID_SectionID_SeatID' AND object_id = OBJECT_ID('BookingSeats'))
+BEGIN
+    CREATE INDEX IX_BookingSeats_EventID_SectionID_SeatID
+        ON BookingSeats(EventID, SectionID, SeatID)
+        INCLUDE (BookingID, Status);
+    PRINT '✓ IX_BookingSeats_EventID_SectionID_SeatID created';
+END
+ELSE
+    PRINT '⚠ IX_BookingSeats_EventID_SectionID_SeatID already exists';
+GO
+
+-- Seats of a booking (booking details, cancel/delete, event reports); includes every
+-- column BookingService.BOOKING_SEAT_COLUMNS reads (BookingSeatID is the clustered key)
+IF NOT EXISTS (SELECT * FROM sys.indexes WHERE name = 'IX_BookingSeats_BookingID' AND object_id = OBJECT_ID('BookingSeats'))
+BEGIN
+    CREATE INDEX IX_BookingSeats_BookingID
+        ON BookingSeats(BookingID)
+        INCLUDE (EventID, SectionID, SeatID, RowNumber, SeatNumber, Price, Status, CreatedAt);
+    PRINT '✓ IX_BookingSeats_BookingID created';
+END
+ELSE
+    PRINT '⚠ IX_BookingSeats_BookingID already exists';
+GO
+
+-- The covering index above replaces the narrower one from migration 07
+IF EXISTS (SELECT * FROM sys.indexes WHERE name = 'IX_BookingSeats_BookingID_SectionID' AND object_id = OBJECT_ID('BookingSeats'))
+BEGIN
+    DROP INDEX IX_BookingSeats_BookingID_SectionID ON BookingSeats;
+    PRINT '✓ IX_BookingSeats_BookingID_SectionID dropped (superseded)';
+END
+GO
+
+-- Event expenses by date (period reports, rollup compaction)
+IF NOT EXISTS (SELECT * FROM sys.indexes WHERE name = 'IX_EventExpenses_CreatedAt' AND object_id = OBJECT_ID('EventExpenses'))
+BEGIN
+    CREATE INDEX IX_EventExpenses_CreatedAt
+        ON EventExpenses(CreatedAt)
+        INCLUDE (EventID, TotalCost);
+    PRINT '✓ IX_EventExpenses_CreatedAt created';
+END
+ELSE
+    PRINT '⚠ IX_EventExpenses_CreatedAt already exists';
+GO
+
+-- Inventory purchases by date (period reports, rollup compaction)
+IF NOT EXISTS (SELECT * FROM sys.indexes WHERE name = 'IX_InventoryPurchases_PurchaseDate' AND object_id = OBJECT_ID('InventoryPurchases'))
+BEGIN
+    CREATE INDEX IX_InventoryPurchases_PurchaseDate
+        ON InventoryPurchases(PurchaseDate)
+        INCLUDE (EventID, TotalCost);
+    PRINT '✓ IX_InventoryPurchases_PurchaseDate created';
+END
+ELSE
+    PRINT '⚠ IX_InventoryPurchases_PurchaseDate already exists';
+GO
+
+PRINT '';
+PRINT '============================================================';
+PRINT 'Migration completed! Summary:';
+PRINT '- Bookings: (EventID, BookingStatus), (BookingDate)';
+PRINT '- BookingSeats: (EventID, SectionID, SeatID), (BookingID)';
+PRINT '- EventExpenses: (CreatedAt); InventoryPurchases: (PurchaseDate)';
+PRINT '- Verify with: java -cp target/stadium-management-*.jar org.openjfx.QueryPlanCheck';
+PRINT '============================================================';
+GO
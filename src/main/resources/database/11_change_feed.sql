@@ -0,0 +1,136 @@
+-- ============================================================================
+-- Stadium Management System - Change Feed Migration
+-- Version: 1.6.0
+-- Description: Adds the ChangeLog table and triggers that record every insert,
+--              update and delete on Bookings, BookingSeats, EventSections,
+--              Events and InventoryItems. Each box-office terminal polls the
+--              log for ChangeIDs above the last one it has seen and updates its
+--              caches and open screens instead of reloading everything.
+--              Origin is the APP_NAME() of the writing session, which the
+--              application sets to a per-process terminal ID.
+-- ============================================================================
+
+USE StadiumDB;
+GO
+
+PRINT 'Creating ChangeLog table...';
+
+IF NOT EXISTS (SELECT * FROM sys.tables WHERE name = 'ChangeLog')
+BEGIN
+    CREATE TABLE ChangeLog (
+        ChangeID BIGINT PRIMARY KEY IDENTITY(1,1),
+        TableName VARCHAR(32) NOT NULL,
+        ChangeType CHAR(1) NOT NULL CHECK (ChangeType IN ('I', 'U', 'D')),
+        RowID INT NOT NULL,
+        EventID INT NULL,
+        SectionID INT NULL,
+        Origin NVARCHAR(128) NULL DEFAULT APP_NAME(),
+        ChangedAt DATETIME NOT NULL DEFAULT GETDATE()
+    );
+    CREATE INDEX IX_ChangeLog_ChangedAt ON ChangeLog(ChangedAt);
+    PRINT '✓ ChangeLog created';
+END
+ELSE
+    PRINT '⚠ ChangeLog already exists';
+GO
+
+-- Bookings: one row per booking
+IF OBJECT_ID('TR_Bookings_ChangeLog', 'TR') IS NOT NULL DROP TRIGGER TR_Bookings_ChangeLog;
+GO
+CREATE TRIGGER TR_Bookings_ChangeLog ON Bookings
+AFTER INSERT, UPDATE, DELETE
+AS
+BEGIN
+    SET NOCOUNT ON;
+    INSERT INTO ChangeLog (TableName, ChangeType, RowID, EventID)
+    SELECT 'Bookings',
+           CASE WHEN d.BookingID IS NULL THEN 'I' WHEN i.BookingID IS NULL THEN 'D' ELSE 'U' END,
+           COALESCE(i.BookingID, d.BookingID),
+           COALESCE(i.EventID, d.EventID)
+    FROM inserted i
+    FULL OUTER JOIN deleted d ON d.BookingID = i.BookingID;
+END
+GO
+
+-- BookingSeats: one row per booking and section (RowID is the BookingID)
+IF OBJECT_ID('TR_BookingSeats_ChangeLog', 'TR') IS NOT NULL DROP TRIGGER TR_BookingSeats_ChangeLog;
+GO
+CREATE TRIGGER TR_BookingSeats_ChangeLog ON BookingSeats
+AFTER INSERT, UPDATE, DELETE
+AS
+BEGIN
+    SET NOCOUNT ON;
+    INSERT INTO ChangeLog (TableName, ChangeType, RowID, EventID, SectionID)
+    SELECT DISTINCT 'BookingSeats',
+           CASE WHEN d.BookingSeatID IS NULL THEN 'I' WHEN i.BookingSeatID IS NULL THEN 'D' ELSE 'U' END,
+           COALESCE(i.BookingID, d.BookingID),
+           COALESCE(i.EventID, d.EventID),
+           COALESCE(i.SectionID, d.SectionID)
+    FROM inserted i
+    FULL OUTER JOIN deleted d ON d.BookingSeatID = i.BookingSeatID;
+END
+GO
+
+-- EventSections: one row per event section
+IF OBJECT_ID('TR_EventSections_ChangeLog', 'TR') IS NOT NULL DROP TRIGGER TR_EventSections_ChangeLog;
+GO
+CREATE TRIGGER TR_EventSections_ChangeLog ON EventSections
+AFTER INSERT, UPDATE, DELETE
+AS
+BEGIN
+    SET NOCOUNT ON;
+    INSERT INTO ChangeLog (TableName, ChangeType, RowID, EventID, SectionID)
+    SELECT 'EventSections',
+           CASE WHEN d.EventSectionID IS NULL THEN 'I' WHEN i.EventSectionID IS NULL THEN 'D' ELSE 'U' END,
+           COALESCE(i.EventSectionID, d.EventSectionID),
+           COALESCE(i.EventID, d.EventID),
+           COALESCE(i.SectionID, d.SectionID)
+    FROM inserted i
+    FULL OUTER JOIN deleted d ON d.EventSectionID = i.EventSectionID;
+END
+GO
+
+-- Events: one row per event
+IF OBJECT_ID('TR_Events_ChangeLog', 'TR') IS NOT NULL DROP TRIGGER TR_Events_ChangeLog;
+GO
+CREATE TRIGGER TR_Events_ChangeLog ON Events
+AFTER INSERT, UPDATE, DELETE
+AS
+BEGIN
+    SET NOCOUNT ON;
+    INSERT INTO ChangeLog (TableName, ChangeType, RowID, EventID)
+    SELECT 'Events',
+           CASE WHEN d.EventID IS NULL THEN 'I' WHEN i.EventID IS NULL THEN 'D' ELSE 'U' END,
+           COALESCE(i.EventID, d.EventID),
+           COALESCE(i.EventID, d.EventID)
+    FROM inserted i
+    FULL OUTER JOIN deleted d ON d.EventID = i.EventID;
+END
+GO
+
+-- InventoryItems: one row per item
+IF OBJECT_ID('TR_InventoryItems_ChangeLog', 'TR') IS NOT NULL DROP TRIGGER TR_InventoryItems_ChangeLog;
+GO
+CREATE TRIGGER TR_InventoryItems_ChangeLog ON InventoryItems
+AFTER INSERT, UPDATE, DELETE
+AS
+BEGIN
+    SET NOCOUNT ON;
+    INSERT INTO ChangeLog (TableName, ChangeType, RowID)
+    SELECT 'InventoryItems',
+           CASE WHEN d.ItemID IS NULL THEN 'I' WHEN i.ItemID IS NULL THEN 'D' ELSE 'U' END,
+           COALESCE(i.ItemID, d.ItemID)
+    FROM inserted i
+    FULL OUTER JOIN deleted d ON d.ItemID = i.ItemID;
+END
+GO
+
+PRINT '';
+PRINT '============================================================';
+PRINT 'Migration completed! Summary:';
+PRINT '- ChangeLog records changes to Bookings, BookingSeats, EventSections,';
+PRINT '  Events and InventoryItems';
+PRINT '- Terminals poll it every CHANGE_FEED_POLL_MS (default 2000 ms)';
+PRINT '- Entries older than 24 hours are purged by the application';
+PRINT '============================================================';
+GO
@@ -0,0 +1,157 @@
+-- ============================================================================
+-- Stadium Management System - Embedded stand-in schema (H2, MSSQLServer mode)
+-- Description: The tables and indexes of migrations 01-10 that hold generated
+--              data, without the SQL Server only parts (GO batches, INCLUDE
+--              columns, sys.* checks). Used by EmbeddedDatabase for load and
+--              benchmark runs without a SQL Server instance.
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS Sections (
+    SectionID INT PRIMARY KEY IDENTITY(1,1),
+    SectionName NVARCHAR(100) NOT NULL,
+    SectionType NVARCHAR(20) NOT NULL CHECK (SectionType IN ('TRIBUNE', 'FIELD')),
+    TotalRows INT NOT NULL DEFAULT 0,
+    SeatsPerRow INT NOT NULL DEFAULT 0,
+    Description NVARCHAR(500),
+    IsActive BIT DEFAULT 1,
+    CreatedAt DATETIME DEFAULT GETDATE(),
+    UpdatedAt DATETIME DEFAULT GETDATE()
+);
+
+CREATE TABLE IF NOT EXISTS Seats (
+    SeatID INT PRIMARY KEY IDENTITY(1,1),
+    SectionID INT NOT NULL,
+    RowNumber NVARCHAR(10) NOT NULL,
+    SeatNumber INT NOT NULL,
+    IsActive BIT DEFAULT 1,
+    CreatedAt DATETIME DEFAULT GETDATE(),
+    FOREIGN KEY (SectionID) REFERENCES Sections(SectionID) ON DELETE CASCADE,
+    CONSTRAINT UQ_Seat UNIQUE (SectionID, RowNumber, SeatNumber)
+);
+
+CREATE TABLE IF NOT EXISTS Events (
+    EventID INT PRIMARY KEY IDENTITY(1,1),
+    EventName NVARCHAR(200) NOT NULL,
+    EventType NVARCHAR(50) NOT NULL CHECK (EventType IN ('Football', 'Concert')),
+    EventDate DATE NOT NULL,
+    EventTime TIME NOT NULL,
+    Description NVARCHAR(1000),
+    Status NVARCHAR(20) DEFAULT 'Active' CHECK (Status IN ('Active', 'Cancelled', 'Completed')),
+    TotalSeats INT DEFAULT 0,
+    BookedSeats INT DEFAULT 0,
+    CreatedAt DATETIME DEFAULT GETDATE(),
+    UpdatedAt DATETIME DEFAULT GETDATE()
+);
+
+CREATE TABLE IF NOT EXISTS EventSections (
+    EventSectionID INT PRIMARY KEY IDENTITY(1,1),
+    EventID INT NOT NULL,
+    SectionID INT NOT NULL,
+    SectionTitle NVARCHAR(100) NOT NULL,
+    Price DECIMAL(10,2) NOT NULL,
+    TotalCapacity INT NOT NULL,
+    AvailableCapacity INT NOT NULL,
+    IsActive BIT DEFAULT 1,
+    CreatedAt DATETIME DEFAULT GETDATE(),
+    UpdatedAt DATETIME DEFAULT GETDATE(),
+    FOREIGN KEY (EventID) REFERENCES Events(EventID) ON DELETE CASCADE,
+    FOREIGN KEY (SectionID) REFERENCES Sections(SectionID),
+    CONSTRAINT UQ_EventSection UNIQUE (EventID, SectionID)
+);
+
+CREATE TABLE IF NOT EXISTS Bookings (
+    BookingID INT PRIMARY KEY IDENTITY(1,1),
+    EventID INT NOT NULL,
+    BookingNumber NVARCHAR(50) NOT NULL UNIQUE,
+    CustomerName NVARCHAR(200) NOT NULL,
+    CustomerEmail NVARCHAR(200),
+    CustomerPhone NVARCHAR(20),
+    TotalSeats INT NOT NULL,
+    TotalPrice DECIMAL(10,2) NOT NULL,
+    BookingStatus NVARCHAR(20) DEFAULT 'Confirmed',
+    PaymentStatus NVARCHAR(20) DEFAULT 'Paid',
+    BookingDate DATETIME DEFAULT GETDATE(),
+    CreatedAt DATETIME DEFAULT GETDATE(),
+    UpdatedAt DATETIME DEFAULT GETDATE(),
+    FOREIGN KEY (EventID) REFERENCES Events(EventID)
+);
+
+-- SeatID/RowNumber/SeatNumber are NULL for standing areas (migration 07)
+CREATE TABLE IF NOT EXISTS BookingSeats (
+    BookingSeatID INT PRIMARY KEY IDENTITY(1,1),
+    BookingID INT NOT NULL,
+    EventID INT NOT NULL,
+    SectionID INT NOT NULL,
+    SeatID INT NULL,
+    RowNumber NVARCHAR(10) NULL,
+    SeatNumber INT NULL,
+    Price DECIMAL(10,2) NOT NULL,
+    Status NVARCHAR(20) DEFAULT 'Booked',
+    CreatedAt DATETIME DEFAULT GETDATE(),
+    FOREIGN KEY (BookingID) REFERENCES Bookings(BookingID) ON DELETE CASCADE,
+    FOREIGN KEY (EventID) REFERENCES Events(EventID),
+    FOREIGN KEY (SectionID) REFERENCES Sections(SectionID),
+    CONSTRAINT FK_BookingSeats_Seats FOREIGN KEY (SeatID) REFERENCES Seats(SeatID) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS InventoryItems (
+    ItemID INT PRIMARY KEY IDENTITY(1,1),
+    ItemName VARCHAR(255) NOT NULL,
+    Description VARCHAR(2000),
+    Quantity INT NOT NULL DEFAULT 0,
+    MinStockLevel INT NOT NULL DEFAULT 10,
+    Location VARCHAR(100),
+    Category VARCHAR(100) NULL,
+    UnitPrice DECIMAL(12, 2) NOT NULL DEFAULT 0.00,
+    CreatedAt DATETIME DEFAULT GETDATE(),
+    UpdatedAt DATETIME DEFAULT GETDATE()
+);
+
+CREATE TABLE IF NOT EXISTS EventExpenses (
+    ExpenseID INT IDENTITY(1,1) PRIMARY KEY,
+    EventID INT NOT NULL,
+    ExpenseType VARCHAR(50) NOT NULL,
+    ItemID INT NULL,
+    Quantity INT NULL,
+    UnitCost DECIMAL(18,2) NULL,
+    TotalCost DECIMAL(18,2) NOT NULL,
+    Notes NVARCHAR(1000) NULL,
+    CreatedAt DATETIME NOT NULL DEFAULT GETDATE(),
+    CONSTRAINT FK_EventExpenses_Event FOREIGN KEY (EventID) REFERENCES Events(EventID)
+);
+
+CREATE TABLE IF NOT EXISTS InventoryPurchases (
+    PurchaseID INT IDENTITY(1,1) PRIMARY KEY,
+    EventID INT NULL,
+    ItemID INT NOT NULL,
+    Quantity INT NOT NULL,
+    UnitCost DECIMAL(18,2) NOT NULL,
+    TotalCost DECIMAL(18,2) NOT NULL,
+    PurchaseDate DATETIME NOT NULL DEFAULT GETDATE(),
+    Supplier NVARCHAR(200) NULL,
+    Notes NVARCHAR(1000) NULL,
+    CreatedAt DATETIME NOT NULL DEFAULT GETDATE(),
+    CONSTRAINT FK_InventoryPurchases_Event FOREIGN KEY (EventID) REFERENCES Events(EventID),
+    CONSTRAINT FK_InventoryPurchases_Item FOREIGN KEY (ItemID) REFERENCES InventoryItems(ItemID)
+);
+
+CREATE TABLE IF NOT EXISTS DailyRollups (
+    RollupDate DATE NOT NULL,
+    EventID INT NOT NULL DEFAULT 0,
+    Category VARCHAR(20) NOT NULL,
+    Amount DECIMAL(18,2) NOT NULL DEFAULT 0,
+    UpdatedAt DATETIME NOT NULL DEFAULT GETDATE(),
+    CONSTRAINT PK_DailyRollups PRIMARY KEY (RollupDate, EventID, Category),
+    CONSTRAINT CHK_DailyRollups_Category
+        CHECK (Category IN ('REVENUE', 'TICKETS', 'PURCHASES', 'EVENT_EXPENSES'))
+);
+
+CREATE INDEX IF NOT EXISTS IX_BookingSeats_BookingID_SectionID ON BookingSeats(BookingID, SectionID);
+CREATE INDEX IF NOT EXISTS IX_Bookings_EventID_Status ON Bookings(EventID, BookingStatus);
+CREATE INDEX IF NOT EXISTS IX_Bookings_BookingDate ON Bookings(BookingDate);
+CREATE INDEX IF NOT EXISTS IX_BookingSeats_EventID_SectionID_SeatID ON BookingSeats(EventID, SectionID, SeatID);
+CREATE INDEX IF NOT EXISTS IX_BookingSeats_BookingID ON BookingSeats(BookingID);
+CREATE INDEX IF NOT EXISTS IX_EventExpenses_CreatedAt ON EventExpenses(CreatedAt);
+CREATE INDEX IF NOT EXISTS IX_InventoryPurchases_PurchaseDate ON InventoryPurchases(PurchaseDate);
+CREATE INDEX IF NOT EXISTS IX_DailyRollups_Category_Date ON DailyRollups(Category, RollupDate);
+CREATE INDEX IF NOT EXISTS IX_DailyRollups_EventID ON DailyRollups(EventID, Category);